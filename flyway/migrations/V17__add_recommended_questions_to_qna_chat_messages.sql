@@ -0,0 +1,2 @@
+ALTER TABLE app.qna_chat_messages
+    ADD COLUMN recommended_questions JSONB;
@@ -0,0 +1,15 @@
+ALTER TABLE app.lectures
+    ADD COLUMN embedding_status VARCHAR(20) DEFAULT 'not_started' NOT NULL;
+
+ALTER TABLE app.lectures
+    ADD CONSTRAINT chk_lecture_embedding_status
+    CHECK (embedding_status IN ('not_started', 'in_progress', 'completed', 'failed'));
+
+UPDATE app.lectures
+SET embedding_status = 'completed'
+WHERE is_vectorized = TRUE;
+
+-- 텍스트 추출은 끝났지만 아직 벡터화 요청이 나가지 않은 강의자료를 주기적으로 조회하기 위한 인덱스
+CREATE INDEX idx_lectures_embedding_pending
+    ON app.lectures (updated_at)
+    WHERE embedding_status = 'not_started' AND parsed_text IS NOT NULL AND deleted_at IS NULL;
@@ -0,0 +1,17 @@
+-- 퀴즈/시험 제출 트랜잭션과 함께 커밋되는 SQS 발행 대기 메시지 (transactional outbox)
+CREATE TABLE app.sqs_outbox_messages
+(
+    id               BIGSERIAL PRIMARY KEY,
+    message_type     VARCHAR(50)  NOT NULL,
+    message_group_id VARCHAR(100) NOT NULL,
+    payload          TEXT         NOT NULL,
+    attempts         INTEGER      NOT NULL DEFAULT 0,
+    last_error       TEXT,
+    created_at       TIMESTAMP    NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT chk_sqs_outbox_message_type
+        CHECK (message_type IN ('grade_quiz_essay', 'grade_exam_essay', 'generate_course_weakness_analysis'))
+);
+
+-- 릴레이가 (메시지 타입, 그룹)별로 가장 오래된 메시지를 찾기 위한 인덱스
+CREATE INDEX idx_sqs_outbox_messages_group
+    ON app.sqs_outbox_messages (message_type, message_group_id, id);
@@ -0,0 +1,44 @@
+-- 과목별 퀴즈/시험 점수 집계 (결과 생성, 서술형 채점 시 증분 갱신되고 정기 재집계 작업으로 보정됨)
+CREATE TABLE app.course_score_stats
+(
+    course_id           UUID             PRIMARY KEY REFERENCES app.courses (id) ON DELETE CASCADE,
+    quiz_result_count   INTEGER          NOT NULL DEFAULT 0,
+    quiz_percentage_sum DOUBLE PRECISION NOT NULL DEFAULT 0,
+    exam_result_count   INTEGER          NOT NULL DEFAULT 0,
+    exam_percentage_sum DOUBLE PRECISION NOT NULL DEFAULT 0,
+    updated_at          TIMESTAMP        NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- 기존 결과로 집계 초기화 (삭제된 강의/퀴즈/시험의 결과는 제외)
+INSERT INTO app.course_score_stats
+    (course_id, quiz_result_count, quiz_percentage_sum, exam_result_count, exam_percentage_sum)
+SELECT c.id,
+       (SELECT COUNT(*)
+        FROM app.quiz_results qr
+                 JOIN app.quizzes q ON q.id = qr.quiz_id
+                 JOIN app.lectures l ON l.id = q.lecture_id
+        WHERE l.course_id = c.id
+          AND qr.deleted_at IS NULL
+          AND q.deleted_at IS NULL
+          AND l.deleted_at IS NULL),
+       (SELECT COALESCE(SUM(CASE WHEN qr.max_score > 0 THEN qr.score * 100.0 / qr.max_score ELSE 0 END), 0)
+        FROM app.quiz_results qr
+                 JOIN app.quizzes q ON q.id = qr.quiz_id
+                 JOIN app.lectures l ON l.id = q.lecture_id
+        WHERE l.course_id = c.id
+          AND qr.deleted_at IS NULL
+          AND q.deleted_at IS NULL
+          AND l.deleted_at IS NULL),
+       (SELECT COUNT(*)
+        FROM app.exam_results er
+                 JOIN app.exams e ON e.id = er.exam_id
+        WHERE e.course_id = c.id
+          AND er.deleted_at IS NULL
+          AND e.deleted_at IS NULL),
+       (SELECT COALESCE(SUM(CASE WHEN er.max_score > 0 THEN er.score * 100.0 / er.max_score ELSE 0 END), 0)
+        FROM app.exam_results er
+                 JOIN app.exams e ON e.id = er.exam_id
+        WHERE e.course_id = c.id
+          AND er.deleted_at IS NULL
+          AND e.deleted_at IS NULL)
+FROM app.courses c;
@@ -0,0 +1,15 @@
+-- 좋아요 목록 조회(최신순 커서 페이지네이션)용 부분 인덱스. 좋아요한 행만 인덱싱하므로 크기가 작음
+CREATE INDEX CONCURRENTLY IF NOT EXISTS
+    idx_quiz_items_quiz_liked_created_at
+ON app.quiz_items (quiz_id, created_at DESC, id DESC)
+WHERE is_liked = true AND deleted_at IS NULL;
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS
+    idx_exam_items_exam_liked_created_at
+ON app.exam_items (exam_id, created_at DESC, id DESC)
+WHERE is_liked = true AND deleted_at IS NULL;
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS
+    idx_qna_chat_messages_qna_chat_liked_created_at
+ON app.qna_chat_messages (qna_chat_id, created_at DESC, id DESC)
+WHERE is_liked = true;
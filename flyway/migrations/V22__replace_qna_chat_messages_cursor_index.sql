@@ -0,0 +1,7 @@
+-- 메세지 목록의 (created_at, id) 커서 비교와 정렬을 인덱스 하나로 처리 (created_at이 같은 메세지도 id 순서로 이어서 조회)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS
+    idx_qna_chat_messages_qna_chat_created_at_id
+ON app.qna_chat_messages (qna_chat_id, created_at, id);
+
+-- 위 인덱스의 앞부분과 같으므로 제거
+DROP INDEX CONCURRENTLY IF EXISTS app.idx_qna_chat_messages_qna_chat_created_at;
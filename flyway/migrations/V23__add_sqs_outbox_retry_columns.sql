@@ -0,0 +1,10 @@
+-- 발행에 계속 실패하는 메시지가 매 주기 재시도되며 다른 그룹의 발행을 막지 않도록 재시도 시각과 격리(parked) 시각을 기록
+ALTER TABLE app.sqs_outbox_messages
+    ADD COLUMN next_attempt_at TIMESTAMP,
+    ADD COLUMN parked_at       TIMESTAMP;
+
+-- 릴레이는 격리되지 않은 메시지만 조회하므로 그룹 인덱스를 부분 인덱스로 교체
+DROP INDEX IF EXISTS app.idx_sqs_outbox_messages_group;
+CREATE INDEX idx_sqs_outbox_messages_group
+    ON app.sqs_outbox_messages (message_type, message_group_id, id)
+    WHERE parked_at IS NULL;
@@ -0,0 +1,8 @@
+-- 벡터화 요청 메시지가 소비되지 않은 채 in_progress로 남은 강의를 다시 요청할 수 있도록 요청 시각을 기록
+ALTER TABLE app.lectures
+    ADD COLUMN embedding_requested_at TIMESTAMP;
+
+-- 큐의 visibility timeout이 지나도록 완료되지 않은 요청을 주기적으로 조회하기 위한 인덱스
+CREATE INDEX idx_lectures_embedding_stale
+    ON app.lectures (embedding_requested_at)
+    WHERE embedding_status = 'in_progress' AND parsed_text IS NOT NULL AND deleted_at IS NULL;
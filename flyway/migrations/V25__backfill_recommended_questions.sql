@@ -0,0 +1,5 @@
+-- 추천 질문 컬럼 추가(V17) 이전의 AI 답변과 추천 질문 저장에 실패한 AI 답변은 NULL로 남아 계속 생성 중으로 조회되므로 빈 목록으로 채움
+UPDATE app.qna_chat_messages
+SET recommended_questions = '[]'::jsonb
+WHERE role = 'ASSISTANT'
+  AND recommended_questions IS NULL;
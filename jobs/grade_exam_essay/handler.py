@@ -224,6 +224,21 @@ def update_exam_result_score(exam_id, user_id, additional_score):
             else:
                 logger.info(f"Exam result score updated: exam_id={exam_id}, user_id={user_id}, added_score={additional_score}")
 
+                # 과목별 점수 집계(course_score_stats)의 백분율 합계에도 추가 점수를 같은 트랜잭션에서 반영
+                stats_query = """
+                    UPDATE app.course_score_stats AS s
+                    SET exam_percentage_sum = s.exam_percentage_sum + %s * 100.0 / r.max_score,
+                        updated_at = NOW()
+                    FROM app.exam_results r
+                    JOIN app.exams e ON e.id = r.exam_id
+                    WHERE r.exam_id = %s
+                      AND r.user_id = %s
+                      AND r.deleted_at IS NULL
+                      AND r.max_score > 0
+                      AND s.course_id = e.course_id
+                """
+                cursor.execute(stats_query, (additional_score, exam_id, user_id))
+
         conn.commit()
 
     except Exception as e:
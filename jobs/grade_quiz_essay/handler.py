@@ -224,6 +224,22 @@ def update_quiz_result_score(quiz_id, user_id, additional_score):
             else:
                 logger.info(f"Quiz result score updated: quiz_id={quiz_id}, user_id={user_id}, added_score={additional_score}")
 
+                # 과목별 점수 집계(course_score_stats)의 백분율 합계에도 추가 점수를 같은 트랜잭션에서 반영
+                stats_query = """
+                    UPDATE app.course_score_stats AS s
+                    SET quiz_percentage_sum = s.quiz_percentage_sum + %s * 100.0 / r.max_score,
+                        updated_at = NOW()
+                    FROM app.quiz_results r
+                    JOIN app.quizzes q ON q.id = r.quiz_id
+                    JOIN app.lectures l ON l.id = q.lecture_id
+                    WHERE r.quiz_id = %s
+                      AND r.user_id = %s
+                      AND r.deleted_at IS NULL
+                      AND r.max_score > 0
+                      AND s.course_id = l.course_id
+                """
+                cursor.execute(stats_query, (additional_score, quiz_id, user_id))
+
         conn.commit()
 
     except Exception as e:
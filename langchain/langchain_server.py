@@ -8,7 +8,9 @@ import os
 import re
 import time
 import json
+import gzip
 import shutil
+from collections import deque
 
 # 하이퍼 파라미터 chunk_size, chunk_overlap. 공백 포함 글자 수. 현재는 출처 페이지 제공을 위해 페이지별로 chunking합니다.
 """
@@ -23,6 +25,13 @@ import shutil
 
 app = Flask(__name__)
 
+# Spring 서버는 용량이 큰 요청 본문(강의자료 parsed_text)을 gzip으로 압축해 보냅니다 (Content-Encoding: gzip).
+# request.json이 압축 해제된 본문을 읽도록 캐시된 요청 데이터를 교체합니다.
+@app.before_request
+def decompress_gzip_request_body():
+    if request.headers.get("Content-Encoding", "").lower() == "gzip":
+        request._cached_data = gzip.decompress(request.get_data(cache=False))
+
 in_memory_lecture_embeddings_cache = {}
 VECTOR_DIR = "/app/chroma_db"
 embeddings = HuggingFaceEmbeddings(
@@ -261,7 +270,9 @@ def find_references_in_lecture(lecture_id):
 
     try:
         search_query = "query: " + question
-        docs_and_scores = vector_store.similarity_search_with_score(search_query, k=top_k)
+        # 질문 임베딩은 한 번만 계산하여 출처 검색과 유사 질문 매칭에 함께 사용
+        query_vector = embeddings.embed_query(search_query)
+        docs_and_scores = vector_store.similarity_search_by_vector_with_relevance_scores(query_vector, k=top_k)
     except Exception as e:
         print(f"[Langchain] 출처 검색 실패: {str(e)}", flush=True)
         return jsonify({"error": f"Search failed: {str(e)}"}), 500
@@ -293,10 +304,38 @@ def find_references_in_lecture(lecture_id):
     print(f"[Langchain] 결과 처리 시간: {timings['result_processing']:.4f}초", flush=True)
     print(f"[Langchain] 최종 결과 수: {len(results)}", flush=True)
 
-    return jsonify({
+    response = {
         "message": "References found successfully",
         "references": results
-    }), 200
+    }
+    # Spring 서버의 답변 캐시용: 같은 강의에서 이전에 들어온 질문 중 의미가 가장 비슷한 질문들을 함께 반환
+    if data.get("match_similar_questions"):
+        response["similar_questions"] = find_similar_questions(lecture_id, query_vector)
+        remember_question(lecture_id, question, query_vector)
+
+    return jsonify(response), 200
+
+# 강의별 최근 질문 임베딩 (유사 질문 매칭용). 정규화된 임베딩이므로 내적이 곧 코사인 유사도
+MAX_REMEMBERED_QUESTIONS = 1000
+MAX_SIMILAR_QUESTIONS = 3
+in_memory_lecture_questions = {}
+
+def find_similar_questions(lecture_id, query_vector):
+    remembered = in_memory_lecture_questions.get(lecture_id)
+    if not remembered:
+        return []
+    scored = []
+    for past_question, past_vector in remembered:
+        similarity = sum(a * b for a, b in zip(query_vector, past_vector))
+        scored.append({"question": past_question, "similarity": round(similarity, 4)})
+    scored.sort(key=lambda item: item["similarity"], reverse=True)
+    return scored[:MAX_SIMILAR_QUESTIONS]
+
+def remember_question(lecture_id, question, query_vector):
+    remembered = in_memory_lecture_questions.setdefault(lecture_id, deque(maxlen=MAX_REMEMBERED_QUESTIONS))
+    if any(past_question == question for past_question, _ in remembered):
+        return
+    remembered.append((question, query_vector))
 
 in_memory_chat_message_context = {}
 
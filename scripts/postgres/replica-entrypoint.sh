@@ -0,0 +1,21 @@
+#!/bin/sh
+# 로컬 읽기 전용 replica: 데이터 디렉터리가 비어 있으면 primary(postgres)에서 base backup을 받아 hot standby로 기동
+set -e
+
+PRIMARY_HOST="${PRIMARY_HOST:-postgres}"
+PRIMARY_PORT="${PRIMARY_PORT:-5432}"
+
+if [ ! -s "$PGDATA/PG_VERSION" ]; then
+  until pg_isready -h "$PRIMARY_HOST" -p "$PRIMARY_PORT" -U "$PGUSER"; do
+    echo "Waiting for primary ${PRIMARY_HOST}:${PRIMARY_PORT}..."
+    sleep 1
+  done
+
+  mkdir -p "$PGDATA"
+  # -R: standby.signal과 primary_conninfo를 생성하여 standby로 기동되도록 설정
+  pg_basebackup -h "$PRIMARY_HOST" -p "$PRIMARY_PORT" -U "$PGUSER" -D "$PGDATA" -R -X stream -P
+  chown -R postgres:postgres "$PGDATA"
+  chmod 700 "$PGDATA"
+fi
+
+exec su-exec postgres postgres -D "$PGDATA"
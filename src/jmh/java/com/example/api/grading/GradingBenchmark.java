@@ -0,0 +1,110 @@
+package com.example.api.grading;
+
+import com.example.api.entity.enums.QuestionType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 퀴즈/시험 채점 비용 측정: 50문항 정답 키로 풀이 10,000건을 채점 (기본 정책 vs 부분 점수 정책), 정답 키 생성 비용.
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GradingBenchmark {
+    private static final int ITEM_COUNT = 50;
+    private static final String[] WORDS = {"Process", "Thread", "Virtual Memory", "Deadlock", "Semaphore"};
+
+    @Param({"10000"})
+    private int responseCount;
+
+    private StandardScoringPolicy standardPolicy;
+    private GradingEngine standardEngine;
+    private GradingEngine partialCreditEngine;
+    private AnswerKey standardKey;
+    private AnswerKey partialCreditKey;
+    private UUID[] itemIds;
+    private QuestionType[] questionTypes;
+    private List<SubmittedAnswer> answers;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        itemIds = new UUID[ITEM_COUNT];
+        questionTypes = new QuestionType[ITEM_COUNT];
+        QuestionType[] types = {QuestionType.true_or_false, QuestionType.multiple_choice,
+                QuestionType.short_answer, QuestionType.essay};
+        for (int i = 0; i < ITEM_COUNT; i++) {
+            itemIds[i] = UUID.randomUUID();
+            questionTypes[i] = types[i % types.length];
+        }
+
+        standardPolicy = new StandardScoringPolicy();
+        PartialCreditScoringPolicy partialCreditPolicy = new PartialCreditScoringPolicy();
+        standardEngine = new GradingEngine(standardPolicy, 100, 10);
+        partialCreditEngine = new GradingEngine(partialCreditPolicy, 100, 10);
+        standardKey = buildKey(standardPolicy);
+        partialCreditKey = buildKey(partialCreditPolicy);
+
+        answers = new ArrayList<>(responseCount);
+        for (int i = 0; i < responseCount; i++) {
+            int item = i % ITEM_COUNT;
+            UUID responseId = UUID.randomUUID();
+            answers.add(switch (questionTypes[item]) {
+                case true_or_false -> new SubmittedAnswer(responseId, itemIds[item], random.nextBoolean(), null, null);
+                case multiple_choice -> new SubmittedAnswer(responseId, itemIds[item], null,
+                        random.nextBoolean() ? new Integer[]{0, 2} : new Integer[]{random.nextInt(5)}, null);
+                case short_answer -> new SubmittedAnswer(responseId, itemIds[item], null, null,
+                        "  " + WORDS[random.nextInt(WORDS.length)].toLowerCase() + " ");
+                default -> new SubmittedAnswer(responseId, itemIds[item], null, null, "서술형 답안");
+            });
+        }
+    }
+
+    @Benchmark
+    public void gradeStandard(Blackhole blackhole) {
+        blackhole.consume(standardEngine.grade(standardKey, answers));
+    }
+
+    @Benchmark
+    public void gradePartialCredit(Blackhole blackhole) {
+        blackhole.consume(partialCreditEngine.grade(partialCreditKey, answers));
+    }
+
+    @Benchmark
+    public void buildAnswerKey(Blackhole blackhole) {
+        blackhole.consume(buildKey(standardPolicy));
+    }
+
+    private AnswerKey buildKey(ScoringPolicy scoringPolicy) {
+        AnswerKey.Builder builder = new AnswerKey.Builder(ITEM_COUNT, scoringPolicy);
+        for (int i = 0; i < ITEM_COUNT; i++) {
+            switch (questionTypes[i]) {
+                case true_or_false -> builder.add(itemIds[i], questionTypes[i], i % 2 == 0, null, null);
+                case multiple_choice -> builder.add(itemIds[i], questionTypes[i], null, new Integer[]{0, 2}, null);
+                case short_answer -> builder.add(itemIds[i], questionTypes[i], null, null, WORDS[i % WORDS.length]);
+                default -> builder.add(itemIds[i], questionTypes[i], null, null, null);
+            }
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.api.promptsupport;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * QnA 답변 프롬프트 구성 비용 비교: 매 호출 YAML 로드 + String.replace (기존) vs PromptRegistry 사전 컴파일 렌더링.
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PromptRenderBenchmark {
+    private PromptRegistry promptRegistry;
+    private String question;
+    private String chunkBlock;
+
+    @Setup
+    public void setup() {
+        promptRegistry = new PromptRegistry(new StandardEnvironment());
+        question = "재귀 함수와 반복문의 차이점은 무엇인가요?";
+        chunkBlock = String.join("\n\n",
+                "재귀 함수(recursion)는 컴퓨터 과학에서 자기 자신을 호출하는 함수 또는 알고리즘을 말합니다. ".repeat(8),
+                "재귀 함수는 기저 사례(base case)가 필요합니다. 기저 사례는 재귀 호출을 멈추는 조건입니다. ".repeat(8),
+                "재귀 함수는 함수 호출 스택을 사용합니다. ".repeat(8));
+    }
+
+    @Benchmark
+    public void loaderWithReplace(Blackhole blackhole) {
+        PromptTemplate template = PromptLoader.load(PromptPaths.QNA_ANSWER_V1);
+        blackhole.consume(template.getSystem().replace("{{chunks}}", chunkBlock));
+        blackhole.consume(template.getUser().replace("{{question}}", question));
+    }
+
+    @Benchmark
+    public void registryRender(Blackhole blackhole) {
+        CompiledPrompt prompt = promptRegistry.get(PromptPaths.QNA_ANSWER);
+        blackhole.consume(prompt.renderSystem(Map.of("chunks", chunkBlock)));
+        blackhole.consume(prompt.renderUser(Map.of("question", question)));
+    }
+}
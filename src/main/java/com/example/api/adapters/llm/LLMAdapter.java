@@ -1,5 +1,7 @@
 package com.example.api.adapters.llm;
 
+import reactor.core.publisher.Flux;
+
 import java.util.List;
 
 /**
@@ -36,4 +38,22 @@ public interface LLMAdapter {
      * @return LLM의 응답 텍스트
      */
     String ask(String question, List<String> referenceChunks, List<ChatMessage> messageHistory);
+
+    /**
+     * LLM의 채팅 API를 스트리밍 모드로 호출합니다.
+     *
+     * @param messages 대화 메시지 리스트
+     * @return 생성되는 순서대로 전달되는 응답 토큰 스트림
+     */
+    Flux<String> streamChat(ChatMessage[] messages);
+
+    /**
+     * {@link #ask}의 스트리밍 버전입니다. 답변 전체를 기다리지 않고 토큰이 생성되는 대로 전달합니다.
+     *
+     * @param question 질문 텍스트
+     * @param referenceChunks 출처 청크 리스트
+     * @param messageHistory  대화 문맥 리스트
+     * @return 생성되는 순서대로 전달되는 응답 토큰 스트림
+     */
+    Flux<String> streamAsk(String question, List<String> referenceChunks, List<ChatMessage> messageHistory);
 }
@@ -1,8 +1,9 @@
 package com.example.api.adapters.llm;
 
-import com.example.api.promptsupport.PromptLoader;
-import com.example.api.promptsupport.PromptTemplate;
+import com.example.api.promptsupport.CompiledPrompt;
 import com.example.api.promptsupport.PromptPaths;
+import com.example.api.promptsupport.PromptRegistry;
+import org.springframework.ai.chat.ChatResponse;
 import org.springframework.ai.chat.messages.AssistantMessage;
 import org.springframework.ai.chat.messages.Message;
 import org.springframework.ai.chat.messages.SystemMessage;
@@ -12,10 +13,12 @@ import org.springframework.ai.openai.OpenAiChatClient;
 import org.springframework.stereotype.Component;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Flux;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
 @Component
 public class OpenAIAdapter implements LLMAdapter {
@@ -23,9 +26,11 @@ public class OpenAIAdapter implements LLMAdapter {
 
     private static final String PROVIDER_NAME = "OpenAI";
     private final OpenAiChatClient openAiChatClient;
+    private final PromptRegistry promptRegistry;
 
-    public OpenAIAdapter(OpenAiChatClient openAiChatClient) {
+    public OpenAIAdapter(OpenAiChatClient openAiChatClient, PromptRegistry promptRegistry) {
         this.openAiChatClient = openAiChatClient;
+        this.promptRegistry = promptRegistry;
     }
 
     @Override
@@ -52,6 +57,17 @@ public class OpenAIAdapter implements LLMAdapter {
                 getContent();
     }
 
+    @Override
+    public Flux<String> streamChat(ChatMessage[] messages) {
+        Prompt openAiPrompt = new Prompt(convertToSpringMessages(messages));
+
+        // 스트리밍 응답의 각 청크에서 새로 생성된 토큰만 추출 (마지막 청크 등 내용이 없는 청크는 제외)
+        return openAiChatClient.stream(openAiPrompt)
+                .flatMapIterable(ChatResponse::getResults)
+                .map(generation -> generation.getOutput().getContent())
+                .filter(content -> content != null && !content.isEmpty());
+    }
+
     @Override
     public String getProviderName() {
         return PROVIDER_NAME;
@@ -88,22 +104,7 @@ public class OpenAIAdapter implements LLMAdapter {
     public String ask(String question, List<String> referenceChunks, List<ChatMessage> messageHistory) {
         try {
             log.info("[OpenAIAdapter] GPT 요청 준비 시작");
-            PromptTemplate promptTemplate = PromptLoader.load(PromptPaths.QNA_ANSWER_V1);
-
-            String chunkBlock = String.join("\n\n", referenceChunks);
-            log.debug("[OpenAIAdapter] 출처 청크 블록 생성 완료: {} 자", chunkBlock.length());
-            String systemContent = promptTemplate.getSystem().replace("{{chunks}}", chunkBlock);
-            String userContent = promptTemplate.getUser().replace("{{question}}", question);
-
-            List<ChatMessage> allMessages = new ArrayList<>();
-            // 출처
-            allMessages.add(new ChatMessage("system", systemContent));
-            // 이전 대화 맥락
-            allMessages.addAll(messageHistory);
-            // 사용자 질문
-            allMessages.add(new ChatMessage("user", userContent));
-
-            ChatMessage[] allMessagesArray = allMessages.toArray(new ChatMessage[0]);
+            ChatMessage[] allMessagesArray = buildQnaMessages(question, referenceChunks, messageHistory);
 
             // 대략적인 토큰 수 추정
             int totalTokenEstimate = Arrays.stream(allMessagesArray)
@@ -155,4 +156,35 @@ public class OpenAIAdapter implements LLMAdapter {
             throw new RuntimeException("OpenAI API 호출 중 오류 발생: " + e.getMessage(), e);
         }
     }
+
+    @Override
+    public Flux<String> streamAsk(String question, List<String> referenceChunks, List<ChatMessage> messageHistory) {
+        return Flux.defer(() -> {
+                    log.info("[OpenAIAdapter] GPT 스트리밍 호출 시작");
+                    return streamChat(buildQnaMessages(question, referenceChunks, messageHistory));
+                })
+                .doOnError(e -> log.error("[OpenAIAdapter] GPT 스트리밍 호출 중 예외 발생: {}", e.getMessage(), e));
+    }
+
+    /**
+     * QnA 답변용 프롬프트(출처 → 이전 대화 맥락 → 사용자 질문 순)를 구성합니다.
+     */
+    private ChatMessage[] buildQnaMessages(String question, List<String> referenceChunks, List<ChatMessage> messageHistory) {
+        CompiledPrompt prompt = promptRegistry.get(PromptPaths.QNA_ANSWER);
+
+        String chunkBlock = String.join("\n\n", referenceChunks);
+        log.debug("[OpenAIAdapter] 출처 청크 블록 생성 완료: {} 자", chunkBlock.length());
+        String systemContent = prompt.renderSystem(Map.of("chunks", chunkBlock));
+        String userContent = prompt.renderUser(Map.of("question", question));
+
+        List<ChatMessage> allMessages = new ArrayList<>();
+        // 출처
+        allMessages.add(new ChatMessage("system", systemContent));
+        // 이전 대화 맥락
+        allMessages.addAll(messageHistory);
+        // 사용자 질문
+        allMessages.add(new ChatMessage("user", userContent));
+
+        return allMessages.toArray(new ChatMessage[0]);
+    }
 }
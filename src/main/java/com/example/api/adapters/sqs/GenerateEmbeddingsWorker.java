@@ -0,0 +1,101 @@
+package com.example.api.adapters.sqs;
+
+import com.example.api.config.SQSMessageConfig;
+import com.example.api.service.LectureEmbeddingService;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.services.sqs.SqsClient;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageRequest;
+import software.amazon.awssdk.services.sqs.model.Message;
+import software.amazon.awssdk.services.sqs.model.ReceiveMessageRequest;
+
+import java.util.List;
+
+/**
+ * 강의자료 벡터화 워커입니다.
+ * - dispatch: 텍스트 추출(parsed_text)이 끝난 강의를 주기적으로 찾아 GenerateEmbeddingsMessage를 발행합니다.
+ * - poll: 큐를 long polling으로 소비하여 Langchain 임베딩을 생성합니다. 처리에 실패한 메시지는 삭제하지 않아 visibility timeout 이후 재전달됩니다.
+ * 벡터화 큐 URL이 설정되어 있으면 기본으로 활성화되며, embedding-worker.enabled=false로 끌 수 있습니다.
+ */
+@Component
+@ConditionalOnExpression(GenerateEmbeddingsWorker.ENABLED_EXPRESSION)
+public class GenerateEmbeddingsWorker {
+    // 워커 활성화 조건. 요청을 발행하는 LectureEmbeddingServiceImpl도 같은 조건으로 소비자가 없는 요청을 발행하지 않음
+    public static final String ENABLED_EXPRESSION =
+            "${embedding-worker.enabled:true} and !'${sqs.generate-embeddings.queue-url:}'.isBlank()";
+
+    private static final Logger logger = LoggerFactory.getLogger(GenerateEmbeddingsWorker.class);
+
+    private final SqsClient sqsClient;
+    private final SQSMessageConfig sqsMessageConfig;
+    private final LectureEmbeddingService lectureEmbeddingService;
+    private final ObjectMapper mapper;
+
+    @Value("${embedding-worker.dispatch-batch-size:50}")
+    private int dispatchBatchSize;
+
+    @Value("${embedding-worker.max-messages:5}")
+    private int maxMessages;
+
+    @Value("${embedding-worker.wait-time-seconds:10}")
+    private int waitTimeSeconds;
+
+    public GenerateEmbeddingsWorker(SqsClient sqsClient,
+                                    SQSMessageConfig sqsMessageConfig,
+                                    LectureEmbeddingService lectureEmbeddingService) {
+        this.sqsClient = sqsClient;
+        this.sqsMessageConfig = sqsMessageConfig;
+        this.lectureEmbeddingService = lectureEmbeddingService;
+        this.mapper = new ObjectMapper();
+        this.mapper.registerModule(new JavaTimeModule());
+        this.mapper.setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE);
+        this.mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    }
+
+    @Scheduled(fixedDelayString = "${embedding-worker.dispatch-interval-ms:10000}")
+    public void dispatch() {
+        try {
+            lectureEmbeddingService.dispatchPendingEmbeddings(dispatchBatchSize);
+        } catch (Exception e) {
+            logger.error("Failed to dispatch pending embedding requests", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${embedding-worker.poll-interval-ms:1000}")
+    public void poll() {
+        String queueUrl = sqsMessageConfig.getGenerateEmbeddings().getQueueUrl();
+        List<Message> messages;
+        try {
+            messages = sqsClient.receiveMessage(ReceiveMessageRequest.builder()
+                            .queueUrl(queueUrl)
+                            .maxNumberOfMessages(maxMessages)
+                            .waitTimeSeconds(waitTimeSeconds)
+                            .build())
+                    .messages();
+        } catch (Exception e) {
+            logger.error("Failed to receive generate embeddings messages", e);
+            return;
+        }
+
+        for (Message message : messages) {
+            try {
+                GenerateEmbeddingsMessage payload = mapper.readValue(message.body(), GenerateEmbeddingsMessage.class);
+                lectureEmbeddingService.generateEmbeddings(payload);
+                sqsClient.deleteMessage(DeleteMessageRequest.builder()
+                        .queueUrl(queueUrl)
+                        .receiptHandle(message.receiptHandle())
+                        .build());
+            } catch (Exception e) {
+                logger.error("Failed to process generate embeddings message: messageId={}", message.messageId(), e);
+            }
+        }
+    }
+}
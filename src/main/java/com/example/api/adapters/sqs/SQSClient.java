@@ -1,15 +1,20 @@
 package com.example.api.adapters.sqs;
 
+import java.util.concurrent.CompletableFuture;
+
+// 메시지는 큐별로 모아 SendMessageBatch로 발행되며, 반환된 future는 발행 성공/실패 시 완료됩니다.
 public interface SQSClient {
-    void sendGenerateSummaryMessage(GenerateSummaryMessage message);
+    CompletableFuture<Void> sendGenerateSummaryMessage(GenerateSummaryMessage message);
     
-    void sendGenerateQuizMessage(GenerateQuizMessage message);
+    CompletableFuture<Void> sendGenerateQuizMessage(GenerateQuizMessage message);
+
+    CompletableFuture<Void> sendGenerateExamMessage(GenerateExamMessage message);
 
-    void sendGenerateExamMessage(GenerateExamMessage message);
+    CompletableFuture<Void> sendGradeQuizEssayMessage(GradeQuizEssayMessage message);
 
-    void sendGradeQuizEssayMessage(GradeQuizEssayMessage message);
+    CompletableFuture<Void> sendGradeExamEssayMessage(GradeExamEssayMessage message);
 
-    void sendGradeExamEssayMessage(GradeExamEssayMessage message);
+    CompletableFuture<Void> sendGenerateCourseWeaknessAnalysisMessage(GenerateCourseWeaknessAnalysisMessage message);
 
-    void sendGenerateCourseWeaknessAnalysisMessage(GenerateCourseWeaknessAnalysisMessage message);
+    CompletableFuture<Void> sendGenerateEmbeddingsMessage(GenerateEmbeddingsMessage message);
 }
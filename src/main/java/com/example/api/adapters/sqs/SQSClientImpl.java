@@ -2,185 +2,118 @@ package com.example.api.adapters.sqs;
 
 import com.example.api.config.SQSMessageConfig;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.PropertyNamingStrategies;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
-import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
-import software.amazon.awssdk.services.sqs.SqsClient;
-import software.amazon.awssdk.services.sqs.model.SendMessageRequest;
-import software.amazon.awssdk.services.sqs.model.SendMessageResponse;
+
+import java.util.concurrent.CompletableFuture;
 
 @Component
-@RequiredArgsConstructor
 public class SQSClientImpl implements SQSClient {
     private static final Logger logger = LoggerFactory.getLogger(SQSClientImpl.class);
 
-    private final SqsClient sqsClient;
+    // 메시지 타입별로 미리 만들어 둔 writer를 재사용 (ObjectMapper/ObjectWriter는 thread-safe)
+    static final ObjectMapper MAPPER = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE);
+    private static final ObjectWriter GENERATE_SUMMARY_WRITER = MAPPER.writerFor(GenerateSummaryMessage.class);
+    private static final ObjectWriter GENERATE_QUIZ_WRITER = MAPPER.writerFor(GenerateQuizMessage.class);
+    private static final ObjectWriter GENERATE_EXAM_WRITER = MAPPER.writerFor(GenerateExamMessage.class);
+    private static final ObjectWriter GRADE_QUIZ_ESSAY_WRITER = MAPPER.writerFor(GradeQuizEssayMessage.class);
+    private static final ObjectWriter GRADE_EXAM_ESSAY_WRITER = MAPPER.writerFor(GradeExamEssayMessage.class);
+    private static final ObjectWriter GENERATE_COURSE_WEAKNESS_ANALYSIS_WRITER =
+            MAPPER.writerFor(GenerateCourseWeaknessAnalysisMessage.class);
+    private static final ObjectWriter GENERATE_EMBEDDINGS_WRITER = MAPPER.writerFor(GenerateEmbeddingsMessage.class);
+
+    private final SqsBatchPublisher batchPublisher;
     private final SQSMessageConfig sqsMessageConfig;
 
-    @Async
-    @Override
-    public void sendGenerateSummaryMessage(GenerateSummaryMessage message) {
-        try {
-            ObjectMapper mapper = new ObjectMapper();
-            mapper.registerModule(new JavaTimeModule());
-            mapper.setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE);
-
-            String messageBody = mapper.writeValueAsString(message);
-
-            SendMessageRequest sendMessageRequest = SendMessageRequest.builder()
-                    .queueUrl(sqsMessageConfig.getGenerateSummary().getQueueUrl())
-                    .messageGroupId(message.getLectureId().toString())
-                    .messageBody(messageBody)
-                    .build();
-
-            SendMessageResponse response = sqsClient.sendMessage(sendMessageRequest);
-
-            logger.info("Successfully sent generate summary message with requestId: {} and messageId: {}",
-                    message.getRequestId(), response.messageId());
-
-        } catch (Exception e) {
-            logger.error("Failed to send generate summary message for lectureId: {}", message.getLectureId(), e);
-            throw new RuntimeException("Failed to send SQS message", e);
-        }
+    public SQSClientImpl(SqsBatchPublisher batchPublisher, SQSMessageConfig sqsMessageConfig) {
+        this.batchPublisher = batchPublisher;
+        this.sqsMessageConfig = sqsMessageConfig;
     }
 
-    @Async
     @Override
-    public void sendGenerateQuizMessage(GenerateQuizMessage message) {
-        try {
-            ObjectMapper mapper = new ObjectMapper();
-            mapper.registerModule(new JavaTimeModule());
-            mapper.setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE);
-
-            String messageBody = mapper.writeValueAsString(message);
-
-            SendMessageRequest sendMessageRequest = SendMessageRequest.builder()
-                    .queueUrl(sqsMessageConfig.getGenerateQuiz().getQueueUrl())
-                    .messageGroupId(message.getLectureId().toString())
-                    .messageBody(messageBody)
-                    .build();
-
-            SendMessageResponse response = sqsClient.sendMessage(sendMessageRequest);
-
-            logger.info("Successfully sent generate quiz message with requestId: {} and messageId: {}",
-                    message.getRequestId(), response.messageId());
-
-        } catch (Exception e) {
-            logger.error("Failed to send generate quiz message for lectureId: {}", message.getLectureId(), e);
-            throw new RuntimeException("Failed to send SQS message", e);
-        }
+    public CompletableFuture<Void> sendGenerateSummaryMessage(GenerateSummaryMessage message) {
+        return publish("generate summary", GENERATE_SUMMARY_WRITER, message,
+                sqsMessageConfig.getGenerateSummary().getQueueUrl(),
+                message.getLectureId().toString(), message.getRequestId().toString(),
+                "lectureId", message.getLectureId().toString());
     }
 
-    @Async
     @Override
-    public void sendGenerateExamMessage(GenerateExamMessage message) {
-        try {
-            ObjectMapper mapper = new ObjectMapper();
-            mapper.registerModule(new JavaTimeModule());
-            mapper.setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE);
-
-            String messageBody = mapper.writeValueAsString(message);
-
-            SendMessageRequest sendMessageRequest = SendMessageRequest.builder()
-                    .queueUrl(sqsMessageConfig.getGenerateExam().getQueueUrl())
-                    .messageGroupId(message.getExamId().toString())
-                    .messageBody(messageBody)
-                    .build();
-
-            SendMessageResponse response = sqsClient.sendMessage(sendMessageRequest);
-
-            logger.info("Successfully sent generate exam message with requestId: {} and messageId: {}",
-                    message.getRequestId(), response.messageId());
-
-        } catch (Exception e) {
-            logger.error("Failed to send generate exam message for courseId: {}", message.getCourseId(), e);
-            throw new RuntimeException("Failed to send SQS message", e);
-        }
+    public CompletableFuture<Void> sendGenerateQuizMessage(GenerateQuizMessage message) {
+        return publish("generate quiz", GENERATE_QUIZ_WRITER, message,
+                sqsMessageConfig.getGenerateQuiz().getQueueUrl(),
+                message.getLectureId().toString(), message.getRequestId().toString(),
+                "lectureId", message.getLectureId().toString());
     }
 
-    @Async
     @Override
-    public void sendGradeQuizEssayMessage(GradeQuizEssayMessage message) {
-        try {
-            ObjectMapper mapper = new ObjectMapper();
-            mapper.registerModule(new JavaTimeModule());
-            mapper.setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE);
-
-            String messageBody = mapper.writeValueAsString(message);
-
-            SendMessageRequest sendMessageRequest = SendMessageRequest.builder()
-                    .queueUrl(sqsMessageConfig.getGradeQuizEssay().getQueueUrl())
-                    .messageGroupId(message.getQuizId().toString())
-                    .messageBody(messageBody)
-                    .build();
-
-            SendMessageResponse response = sqsClient.sendMessage(sendMessageRequest);
-
-            logger.info("Successfully sent grade quiz essay message with requestId: {} and messageId: {}",
-                    message.getRequestId(), response.messageId());
-
-        } catch (Exception e) {
-            logger.error("Failed to send grade quiz essay message for quizId: {}", message.getQuizId(), e);
-            throw new RuntimeException("Failed to send SQS message", e);
-        }
+    public CompletableFuture<Void> sendGenerateExamMessage(GenerateExamMessage message) {
+        return publish("generate exam", GENERATE_EXAM_WRITER, message,
+                sqsMessageConfig.getGenerateExam().getQueueUrl(),
+                message.getExamId().toString(), message.getRequestId().toString(),
+                "courseId", String.valueOf(message.getCourseId()));
     }
 
-    @Async
     @Override
-    public void sendGradeExamEssayMessage(GradeExamEssayMessage message) {
-        try {
-            ObjectMapper mapper = new ObjectMapper();
-            mapper.registerModule(new JavaTimeModule());
-            mapper.setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE);
-
-            String messageBody = mapper.writeValueAsString(message);
-
-            SendMessageRequest sendMessageRequest = SendMessageRequest.builder()
-                    .queueUrl(sqsMessageConfig.getGradeExamEssay().getQueueUrl())
-                    .messageGroupId(message.getExamId().toString())
-                    .messageBody(messageBody)
-                    .build();
-
-            SendMessageResponse response = sqsClient.sendMessage(sendMessageRequest);
-
-            logger.info("Successfully sent grade exam essay message with requestId: {} and messageId: {}",
-                    message.getRequestId(), response.messageId());
-
-        } catch (Exception e) {
-            logger.error("Failed to send grade exam essay message for examId: {}", message.getExamId(), e);
-            throw new RuntimeException("Failed to send SQS message", e);
-        }
+    public CompletableFuture<Void> sendGradeQuizEssayMessage(GradeQuizEssayMessage message) {
+        return publish("grade quiz essay", GRADE_QUIZ_ESSAY_WRITER, message,
+                sqsMessageConfig.getGradeQuizEssay().getQueueUrl(),
+                message.getQuizId().toString(), message.getRequestId().toString(),
+                "quizId", message.getQuizId().toString());
     }
 
-    @Async
     @Override
-    public void sendGenerateCourseWeaknessAnalysisMessage(GenerateCourseWeaknessAnalysisMessage message) {
-        try {
-            ObjectMapper mapper = new ObjectMapper();
-            mapper.registerModule(new JavaTimeModule());
-            mapper.setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE);
-
-            String messageBody = mapper.writeValueAsString(message);
-
-            SendMessageRequest sendMessageRequest = SendMessageRequest.builder()
-                    .queueUrl(sqsMessageConfig.getGenerateCourseWeaknessAnalysis().getQueueUrl())
-                    .messageGroupId(message.getUserId().toString())
-                    .messageBody(messageBody)
-                    .build();
+    public CompletableFuture<Void> sendGradeExamEssayMessage(GradeExamEssayMessage message) {
+        return publish("grade exam essay", GRADE_EXAM_ESSAY_WRITER, message,
+                sqsMessageConfig.getGradeExamEssay().getQueueUrl(),
+                message.getExamId().toString(), message.getRequestId().toString(),
+                "examId", message.getExamId().toString());
+    }
 
-            SendMessageResponse response = sqsClient.sendMessage(sendMessageRequest);
+    @Override
+    public CompletableFuture<Void> sendGenerateCourseWeaknessAnalysisMessage(GenerateCourseWeaknessAnalysisMessage message) {
+        return publish("generate course weakness analysis", GENERATE_COURSE_WEAKNESS_ANALYSIS_WRITER, message,
+                sqsMessageConfig.getGenerateCourseWeaknessAnalysis().getQueueUrl(),
+                message.getUserId().toString(), message.getRequestId().toString(),
+                "userId", message.getUserId().toString());
+    }
 
-            logger.info("Successfully sent generate course weakness analysis message with requestId: {} and messageId: {}",
-                    message.getRequestId(), response.messageId());
+    @Override
+    public CompletableFuture<Void> sendGenerateEmbeddingsMessage(GenerateEmbeddingsMessage message) {
+        return publish("generate embeddings", GENERATE_EMBEDDINGS_WRITER, message,
+                sqsMessageConfig.getGenerateEmbeddings().getQueueUrl(),
+                message.getLectureId().toString(), message.getRequestId().toString(),
+                "lectureId", message.getLectureId().toString());
+    }
 
+    /**
+     * 메시지를 직렬화하여 배치 발행 대기열에 넣습니다. 직렬화 실패는 즉시 예외로, 발행 실패는 반환된 future로 전달됩니다.
+     */
+    private CompletableFuture<Void> publish(String messageType, ObjectWriter writer, Object message, String queueUrl,
+                                            String messageGroupId, String requestId, String keyName, String keyValue) {
+        String messageBody;
+        try {
+            messageBody = writer.writeValueAsString(message);
         } catch (Exception e) {
-            logger.error("Failed to send generate course weakness analysis message for userId: {}", message.getUserId(), e);
+            logger.error("Failed to serialize {} message for {}: {}", messageType, keyName, keyValue, e);
             throw new RuntimeException("Failed to send SQS message", e);
         }
-    }
 
+        return batchPublisher.publish(queueUrl, messageGroupId, messageBody)
+                .whenComplete((messageId, error) -> {
+                    if (error == null) {
+                        logger.info("Successfully sent {} message with requestId: {} and messageId: {}",
+                                messageType, requestId, messageId);
+                    } else {
+                        logger.error("Failed to send {} message for {}: {}", messageType, keyName, keyValue, error);
+                    }
+                })
+                .thenApply(messageId -> null);
+    }
 }
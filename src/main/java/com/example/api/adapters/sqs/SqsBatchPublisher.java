@@ -0,0 +1,191 @@
+package com.example.api.adapters.sqs;
+
+import com.example.api.config.SQSMessageConfig;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.services.sqs.SqsClient;
+import software.amazon.awssdk.services.sqs.model.BatchResultErrorEntry;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequest;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequestEntry;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchResponse;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchResultEntry;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 큐별로 메시지를 모아 SendMessageBatch(최대 10개)로 발행하는 퍼블리셔입니다.
+ * 10개가 모이거나 linger 시간이 지나면 즉시 발행하며, 배치 중 일부만 실패한 경우 SQS 측 오류(senderFault=false)인 메시지만 재시도합니다.
+ * 같은 messageGroupId의 메시지는 한 배치 안에서 요청 순서대로 전달되지만, 재시도된 메시지는 이후 배치보다 늦게 전달될 수 있습니다.
+ */
+@Component
+public class SqsBatchPublisher {
+    private static final Logger logger = LoggerFactory.getLogger(SqsBatchPublisher.class);
+
+    static final int MAX_BATCH_SIZE = 10;
+
+    private final SqsClient sqsClient;
+    private final long lingerMs;
+    private final int maxAttempts;
+    private final long retryBackoffMs;
+    private final ScheduledExecutorService scheduler;
+    private final Map<String, QueueBuffer> buffers = new ConcurrentHashMap<>();
+
+    public SqsBatchPublisher(SqsClient sqsClient, SQSMessageConfig sqsMessageConfig) {
+        SQSMessageConfig.Batch batch = sqsMessageConfig.getBatch();
+        this.sqsClient = sqsClient;
+        this.lingerMs = batch.getLingerMs();
+        this.maxAttempts = batch.getMaxAttempts();
+        this.retryBackoffMs = batch.getRetryBackoffMs();
+        this.scheduler = Executors.newScheduledThreadPool(batch.getSenderThreads(), new ThreadFactory() {
+            private final AtomicInteger count = new AtomicInteger();
+
+            @Override
+            public Thread newThread(Runnable runnable) {
+                Thread thread = new Thread(runnable, "sqs-batch-" + count.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+    }
+
+    /**
+     * 메시지를 발행 대기열에 추가합니다. 반환된 future는 발행이 성공하면 SQS messageId로 완료되고, 재시도 후에도 실패하면 예외로 완료됩니다.
+     */
+    public CompletableFuture<String> publish(String queueUrl, String messageGroupId, String messageBody) {
+        PendingMessage message = new PendingMessage(messageGroupId, messageBody, new CompletableFuture<>());
+        enqueue(queueUrl, message);
+        return message.result();
+    }
+
+    private void enqueue(String queueUrl, PendingMessage message) {
+        QueueBuffer buffer = buffers.computeIfAbsent(queueUrl, QueueBuffer::new);
+        List<PendingMessage> fullBatch = null;
+        boolean scheduleFlush = false;
+        synchronized (buffer) {
+            buffer.pending.add(message);
+            if (buffer.pending.size() >= MAX_BATCH_SIZE) {
+                fullBatch = buffer.drain();
+            } else if (buffer.pending.size() == 1) {
+                scheduleFlush = true;
+            }
+        }
+        if (fullBatch != null) {
+            List<PendingMessage> batch = fullBatch;
+            scheduler.execute(() -> send(queueUrl, batch));
+        } else if (scheduleFlush) {
+            scheduler.schedule(() -> flush(buffer), lingerMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void flush(QueueBuffer buffer) {
+        List<PendingMessage> batch;
+        synchronized (buffer) {
+            batch = buffer.drain();
+        }
+        if (!batch.isEmpty()) {
+            send(buffer.queueUrl, batch);
+        }
+    }
+
+    private void send(String queueUrl, List<PendingMessage> batch) {
+        List<SendMessageBatchRequestEntry> entries = new ArrayList<>(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            PendingMessage message = batch.get(i);
+            entries.add(SendMessageBatchRequestEntry.builder()
+                    .id(String.valueOf(i))
+                    .messageGroupId(message.messageGroupId())
+                    .messageBody(message.messageBody())
+                    .build());
+        }
+
+        SendMessageBatchResponse response;
+        try {
+            response = sqsClient.sendMessageBatch(SendMessageBatchRequest.builder()
+                    .queueUrl(queueUrl)
+                    .entries(entries)
+                    .build());
+        } catch (Exception e) {
+            logger.warn("Failed to send SQS message batch to {} ({} messages): {}", queueUrl, batch.size(), e.getMessage());
+            batch.forEach(message -> retryOrFail(queueUrl, message, e));
+            return;
+        }
+
+        for (SendMessageBatchResultEntry success : response.successful()) {
+            batch.get(Integer.parseInt(success.id())).result().complete(success.messageId());
+        }
+        for (BatchResultErrorEntry failure : response.failed()) {
+            PendingMessage message = batch.get(Integer.parseInt(failure.id()));
+            RuntimeException error = new RuntimeException(
+                    "Failed to send SQS message: " + failure.code() + " " + failure.message());
+            if (Boolean.TRUE.equals(failure.senderFault())) {
+                // 요청 자체가 잘못된 경우(메시지 크기 초과 등)는 재시도해도 실패하므로 바로 실패 처리
+                logger.error("SQS rejected message for queue {}: {} {}", queueUrl, failure.code(), failure.message());
+                message.result().completeExceptionally(error);
+            } else {
+                retryOrFail(queueUrl, message, error);
+            }
+        }
+        logger.debug("Sent SQS message batch to {}: {} succeeded, {} failed",
+                queueUrl, response.successful().size(), response.failed().size());
+    }
+
+    private void retryOrFail(String queueUrl, PendingMessage message, Exception error) {
+        if (message.attempt() >= maxAttempts) {
+            message.result().completeExceptionally(new RuntimeException("Failed to send SQS message", error));
+            return;
+        }
+        PendingMessage retry = message.nextAttempt();
+        long backoffMs = retryBackoffMs * (1L << (message.attempt() - 1));
+        scheduler.schedule(() -> enqueue(queueUrl, retry), backoffMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        buffers.values().forEach(this::flush);
+        scheduler.shutdown();
+        try {
+            if (!scheduler.awaitTermination(10, TimeUnit.SECONDS)) {
+                scheduler.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            scheduler.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static class QueueBuffer {
+        private final String queueUrl;
+        private List<PendingMessage> pending = new ArrayList<>(MAX_BATCH_SIZE);
+
+        private QueueBuffer(String queueUrl) {
+            this.queueUrl = queueUrl;
+        }
+
+        private List<PendingMessage> drain() {
+            List<PendingMessage> drained = pending;
+            pending = new ArrayList<>(MAX_BATCH_SIZE);
+            return drained;
+        }
+    }
+
+    private record PendingMessage(String messageGroupId, String messageBody, CompletableFuture<String> result, int attempt) {
+        private PendingMessage(String messageGroupId, String messageBody, CompletableFuture<String> result) {
+            this(messageGroupId, messageBody, result, 1);
+        }
+
+        private PendingMessage nextAttempt() {
+            return new PendingMessage(messageGroupId, messageBody, result, attempt + 1);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.api.adapters.sqs;
+
+import com.example.api.entity.SqsOutboxMessage;
+import com.example.api.entity.enums.SqsOutboxMessageType;
+import com.example.api.repository.SqsOutboxMessageRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.springframework.stereotype.Component;
+
+/**
+ * SQS 메시지를 바로 발행하지 않고 호출한 트랜잭션 안에서 outbox 테이블에 저장합니다.
+ * 트랜잭션이 롤백되면 메시지도 함께 사라지고, 커밋된 메시지는 {@link SqsOutboxRelay}가 발행합니다.
+ */
+@Component
+public class SqsOutbox {
+    private static final ObjectWriter GRADE_QUIZ_ESSAY_WRITER = SQSClientImpl.MAPPER.writerFor(GradeQuizEssayMessage.class);
+    private static final ObjectWriter GRADE_EXAM_ESSAY_WRITER = SQSClientImpl.MAPPER.writerFor(GradeExamEssayMessage.class);
+    private static final ObjectWriter GENERATE_COURSE_WEAKNESS_ANALYSIS_WRITER =
+            SQSClientImpl.MAPPER.writerFor(GenerateCourseWeaknessAnalysisMessage.class);
+
+    private final SqsOutboxMessageRepository outboxRepo;
+
+    public SqsOutbox(SqsOutboxMessageRepository outboxRepo) {
+        this.outboxRepo = outboxRepo;
+    }
+
+    public void enqueueGradeQuizEssayMessage(GradeQuizEssayMessage message) {
+        enqueue(SqsOutboxMessageType.grade_quiz_essay, message.getQuizId().toString(),
+                GRADE_QUIZ_ESSAY_WRITER, message);
+    }
+
+    public void enqueueGradeExamEssayMessage(GradeExamEssayMessage message) {
+        enqueue(SqsOutboxMessageType.grade_exam_essay, message.getExamId().toString(),
+                GRADE_EXAM_ESSAY_WRITER, message);
+    }
+
+    public void enqueueGenerateCourseWeaknessAnalysisMessage(GenerateCourseWeaknessAnalysisMessage message) {
+        enqueue(SqsOutboxMessageType.generate_course_weakness_analysis, message.getUserId().toString(),
+                GENERATE_COURSE_WEAKNESS_ANALYSIS_WRITER, message);
+    }
+
+    private void enqueue(SqsOutboxMessageType messageType, String messageGroupId, ObjectWriter writer, Object message) {
+        SqsOutboxMessage outboxMessage = new SqsOutboxMessage();
+        outboxMessage.setMessageType(messageType);
+        outboxMessage.setMessageGroupId(messageGroupId);
+        try {
+            outboxMessage.setPayload(writer.writeValueAsString(message));
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Failed to serialize " + messageType + " message", e);
+        }
+        outboxRepo.createOutboxMessage(outboxMessage);
+    }
+}
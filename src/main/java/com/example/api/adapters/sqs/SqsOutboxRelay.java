@@ -0,0 +1,138 @@
+package com.example.api.adapters.sqs;
+
+import com.example.api.config.SQSMessageConfig;
+import com.example.api.entity.SqsOutboxMessage;
+import com.example.api.entity.enums.SqsOutboxMessageType;
+import com.example.api.pipeline.StagedPipeline;
+import com.example.api.repository.SqsOutboxMessageRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * outbox 테이블에 쌓인 메시지를 주기적으로 SQS에 발행하는 릴레이입니다.
+ * (메시지 타입, 그룹)별로 가장 오래된 메시지만 발행하고, 발행이 확인된 메시지만 삭제하므로 그룹 내 순서가 유지됩니다.
+ * 배치마다 하나의 트랜잭션에서 메시지를 행 잠금(FOR UPDATE SKIP LOCKED)으로 조회하고, 발행 결과를 기록(삭제/실패/격리)한 뒤 커밋하므로
+ * 여러 인스턴스에서 릴레이가 실행되어도 같은 메시지를 동시에 발행하지 않습니다.
+ * 커밋 전에 장애가 나면 같은 메시지가 다시 발행될 수 있으며(at-least-once), 같은 본문은 FIFO 큐의 중복 제거로 걸러집니다.
+ * 발행에 실패한 메시지는 지수 백오프로 재시도하고, 최대 시도 횟수를 넘기면 격리하여 그룹의 다음 메시지부터 발행합니다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "sqs.outbox", name = "relay-enabled", havingValue = "true", matchIfMissing = true)
+public class SqsOutboxRelay {
+    private static final Logger logger = LoggerFactory.getLogger(SqsOutboxRelay.class);
+
+    private final SqsOutboxMessageRepository outboxRepo;
+    private final SqsBatchPublisher batchPublisher;
+    private final SQSMessageConfig sqsMessageConfig;
+    private final TransactionTemplate transactionTemplate;
+
+    public SqsOutboxRelay(SqsOutboxMessageRepository outboxRepo,
+                          SqsBatchPublisher batchPublisher,
+                          SQSMessageConfig sqsMessageConfig,
+                          TransactionTemplate transactionTemplate) {
+        this.outboxRepo = outboxRepo;
+        this.batchPublisher = batchPublisher;
+        this.sqsMessageConfig = sqsMessageConfig;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    @Scheduled(fixedDelayString = "${sqs.outbox.relay-interval-ms:500}")
+    public void relay() {
+        try {
+            // 한 번에 가득 찬 배치가 모두 발행되었다면 밀린 메시지가 더 있을 수 있으므로 바로 이어서 처리
+            // 발행 결과를 기록할 때까지 조회한 메시지의 행 잠금을 유지하도록 배치 단위로 트랜잭션을 묶음
+            while (Boolean.TRUE.equals(transactionTemplate.execute(status -> relayBatch()))) {
+                logger.debug("Outbox batch fully relayed, continuing with next batch");
+            }
+        } catch (Exception e) {
+            logger.error("Failed to relay SQS outbox messages", e);
+        }
+    }
+
+    /**
+     * 미발행 메시지를 한 배치 발행합니다. 트랜잭션 안에서 호출해야 합니다.
+     *
+     * @return 가득 찬 배치를 모두 발행하여 바로 다음 배치를 이어서 처리해도 되는 경우 true
+     */
+    boolean relayBatch() {
+        SQSMessageConfig.Outbox outbox = sqsMessageConfig.getOutbox();
+        List<SqsOutboxMessage> messages = outboxRepo.findPendingGroupHeads(LocalDateTime.now(), outbox.getBatchSize());
+        if (messages.isEmpty()) {
+            return false;
+        }
+
+        Map<SqsOutboxMessage, CompletableFuture<String>> results = new LinkedHashMap<>();
+        for (SqsOutboxMessage message : messages) {
+            results.put(message, batchPublisher.publish(
+                    resolveQueueUrl(message.getMessageType()), message.getMessageGroupId(), message.getPayload()));
+        }
+
+        try {
+            CompletableFuture.allOf(results.values().toArray(new CompletableFuture[0]))
+                    .get(outbox.getPublishTimeoutMs(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (TimeoutException e) {
+            logger.warn("Timed out waiting for SQS outbox publish results after {}ms", outbox.getPublishTimeoutMs());
+        } catch (Exception e) {
+            // 개별 메시지의 실패는 아래에서 메시지별로 기록
+        }
+
+        List<Long> sentIds = new ArrayList<>();
+        for (Map.Entry<SqsOutboxMessage, CompletableFuture<String>> entry : results.entrySet()) {
+            SqsOutboxMessage message = entry.getKey();
+            CompletableFuture<String> result = entry.getValue();
+            if (result.isDone() && !result.isCompletedExceptionally()) {
+                sentIds.add(message.getId());
+                continue;
+            }
+            // 아직 끝나지 않은 발행은 백오프 후 다시 발행됨 (FIFO 큐의 중복 제거로 걸러짐)
+            String error = result.isDone()
+                    ? StagedPipeline.unwrap(result.handle((id, e) -> e).join()).getMessage()
+                    : "Timed out waiting for publish result";
+            int attempts = message.getAttempts() + 1;
+            if (attempts >= outbox.getMaxAttempts()) {
+                logger.error("Parking SQS outbox message after {} attempts: id={}, type={}, group={}, error={}",
+                        attempts, message.getId(), message.getMessageType(), message.getMessageGroupId(), error);
+                outboxRepo.parkOutboxMessage(message.getId(), error, LocalDateTime.now());
+                continue;
+            }
+            logger.warn("Failed to relay SQS outbox message: id={}, type={}, attempts={}, error={}",
+                    message.getId(), message.getMessageType(), attempts, error);
+            outboxRepo.markOutboxMessageFailed(message.getId(), error,
+                    LocalDateTime.now().plus(retryBackoff(outbox, attempts), ChronoUnit.MILLIS));
+        }
+        outboxRepo.deleteOutboxMessages(sentIds);
+
+        logger.debug("Relayed SQS outbox messages: {} sent, {} failed", sentIds.size(), messages.size() - sentIds.size());
+        return sentIds.size() == outbox.getBatchSize();
+    }
+
+    // retry-backoff-ms * 2^(attempts - 1), 최대 max-retry-backoff-ms
+    static long retryBackoff(SQSMessageConfig.Outbox outbox, int attempts) {
+        long backoff = outbox.getRetryBackoffMs() << Math.min(attempts - 1, 20);
+        return Math.min(backoff, outbox.getMaxRetryBackoffMs());
+    }
+
+    private String resolveQueueUrl(SqsOutboxMessageType messageType) {
+        return switch (messageType) {
+            case grade_quiz_essay -> sqsMessageConfig.getGradeQuizEssay().getQueueUrl();
+            case grade_exam_essay -> sqsMessageConfig.getGradeExamEssay().getQueueUrl();
+            case generate_course_weakness_analysis -> sqsMessageConfig.getGenerateCourseWeaknessAnalysis().getQueueUrl();
+        };
+    }
+}
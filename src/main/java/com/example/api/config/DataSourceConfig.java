@@ -0,0 +1,61 @@
+package com.example.api.config;
+
+import com.example.api.datasource.ReadYourWritesPin;
+import com.example.api.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+// DB_REPLICA_HOST가 주어진 경우에만 primary/replica 커넥션 풀을 나누고, 없으면 기본 DataSource 하나를 사용합니다.
+// (replica 주소를 primary로 대신하면 같은 DB에 커넥션 풀만 하나 더 생기므로 replica 설정 자체를 사용하지 않음)
+@Configuration
+@ConditionalOnExpression("!'${DB_REPLICA_HOST:}'.isBlank()")
+public class DataSourceConfig {
+    @Value("${replica.read-your-writes-seconds:10}")
+    private long readYourWritesSeconds;
+
+    // read-your-writes 쿠키 서명 키 (별도로 지정하지 않으면 JWT 서명 키 사용)
+    @Value("${replica.read-your-writes-secret:${jwt.secret_key}}")
+    private String readYourWritesSecret;
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+    }
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.replica")
+    public HikariDataSource replicaDataSource() {
+        return new HikariDataSource();
+    }
+
+    @Bean
+    public ReadYourWritesPin readYourWritesPin() {
+        return new ReadYourWritesPin(readYourWritesSecret, Duration.ofSeconds(readYourWritesSeconds));
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                 @Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                 ReadYourWritesPin readYourWritesPin) {
+        ReplicaRoutingDataSource routingDataSource =
+                new ReplicaRoutingDataSource(primaryDataSource, replicaDataSource, readYourWritesPin);
+        routingDataSource.afterPropertiesSet();
+        // readOnly 여부는 트랜잭션 시작 후에 정해지므로 첫 쿼리 시점까지 실제 커넥션 획득을 미룸
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+}
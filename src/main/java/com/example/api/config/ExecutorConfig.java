@@ -0,0 +1,35 @@
+package com.example.api.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+// QnA 질문 처리처럼 여러 외부 호출(Langchain, OpenAI, DB)을 단계별로 병렬 실행하기 위한 스레드 풀입니다.
+@Configuration
+public class ExecutorConfig {
+    @Value("${pipeline.executor.core-pool-size:16}")
+    private int corePoolSize;
+
+    @Value("${pipeline.executor.max-pool-size:64}")
+    private int maxPoolSize;
+
+    @Value("${pipeline.executor.queue-capacity:256}")
+    private int queueCapacity;
+
+    @Bean(name = "pipelineExecutor")
+    public ThreadPoolTaskExecutor pipelineExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(corePoolSize);
+        executor.setMaxPoolSize(maxPoolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("pipeline-");
+        // 풀과 큐가 모두 찬 경우 요청 스레드에서 직접 실행하여 작업 유실 없이 자연스럽게 부하를 제한
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+}
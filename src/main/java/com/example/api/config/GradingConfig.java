@@ -0,0 +1,24 @@
+package com.example.api.config;
+
+import com.example.api.grading.PartialCreditScoringPolicy;
+import com.example.api.grading.ScoringPolicy;
+import com.example.api.grading.StandardScoringPolicy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// 퀴즈/시험 채점 규칙 설정 (standard: 객관식 전부 맞아야 점수, partial-credit: 객관식 부분 점수)
+@Configuration
+public class GradingConfig {
+    @Value("${grading.scoring-policy:standard}")
+    private String scoringPolicy;
+
+    @Bean
+    public ScoringPolicy scoringPolicy() {
+        return switch (scoringPolicy) {
+            case "standard" -> new StandardScoringPolicy();
+            case "partial-credit" -> new PartialCreditScoringPolicy();
+            default -> throw new IllegalArgumentException("Unknown grading.scoring-policy: " + scoringPolicy);
+        };
+    }
+}
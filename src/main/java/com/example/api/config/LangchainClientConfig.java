@@ -0,0 +1,103 @@
+package com.example.api.config;
+
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.ExchangeStrategies;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+
+// Langchain 서버 호출용 WebClient 설정입니다.
+// 벡터화(/embeddings)는 수십 초가 걸리는 무거운 요청이므로, 빠른 조회 요청(check, references, messages)과 커넥션 풀을 분리하여
+// 벡터화 요청이 몰려도 QnA 질문 처리에 필요한 커넥션이 고갈되지 않도록 합니다. 엔드포인트별 타임아웃은 LangchainClientImpl에서 적용합니다.
+@Configuration
+public class LangchainClientConfig {
+    @Value("${langchain.server.url:http://localhost:5000}")
+    private String langchainServerUrl;
+
+    @Value("${langchain.client.connect-timeout-ms:3000}")
+    private int connectTimeoutMs; // 3초
+
+    @Value("${langchain.client.max-in-memory-size:10485760}")
+    private int maxInMemorySize; // 10MB
+
+    @Value("${langchain.client.pool.max-connections:50}")
+    private int maxConnections;
+
+    @Value("${langchain.client.pool.pending-acquire-max-count:200}")
+    private int pendingAcquireMaxCount;
+
+    @Value("${langchain.client.embedding-pool.max-connections:4}")
+    private int embeddingMaxConnections;
+
+    @Value("${langchain.client.embedding-pool.pending-acquire-max-count:50}")
+    private int embeddingPendingAcquireMaxCount;
+
+    @Value("${langchain.client.pool.pending-acquire-timeout-ms:5000}")
+    private long pendingAcquireTimeoutMs; // 5초
+
+    // Langchain 서버(keep-alive 타임아웃)보다 먼저 유휴 커넥션을 정리하여 끊긴 커넥션 재사용을 방지
+    @Value("${langchain.client.pool.max-idle-time-ms:20000}")
+    private long maxIdleTimeMs; // 20초
+
+    @Value("${langchain.client.pool.max-life-time-ms:300000}")
+    private long maxLifeTimeMs; // 5분
+
+    @Bean(name = "langchainConnectionProvider", destroyMethod = "dispose")
+    public ConnectionProvider langchainConnectionProvider() {
+        return connectionProvider("langchain", maxConnections, pendingAcquireMaxCount);
+    }
+
+    @Bean(name = "langchainEmbeddingConnectionProvider", destroyMethod = "dispose")
+    public ConnectionProvider langchainEmbeddingConnectionProvider() {
+        return connectionProvider("langchain-embeddings", embeddingMaxConnections, embeddingPendingAcquireMaxCount);
+    }
+
+    @Bean(name = "langchainWebClient")
+    public WebClient langchainWebClient(@Qualifier("langchainConnectionProvider") ConnectionProvider connectionProvider) {
+        return webClient(connectionProvider);
+    }
+
+    @Bean(name = "langchainEmbeddingWebClient")
+    public WebClient langchainEmbeddingWebClient(
+            @Qualifier("langchainEmbeddingConnectionProvider") ConnectionProvider connectionProvider) {
+        return webClient(connectionProvider);
+    }
+
+    private ConnectionProvider connectionProvider(String name, int maxConnections, int pendingAcquireMaxCount) {
+        return ConnectionProvider.builder(name)
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(pendingAcquireMaxCount)
+                .pendingAcquireTimeout(Duration.ofMillis(pendingAcquireTimeoutMs))
+                .maxIdleTime(Duration.ofMillis(maxIdleTimeMs))
+                .maxLifeTime(Duration.ofMillis(maxLifeTimeMs))
+                .evictInBackground(Duration.ofSeconds(30))
+                .build();
+    }
+
+    // WebClientConfig의 WebClient.Builder 빈은 OpenAI용 baseUrl이 설정된 공유 빌더이므로 사용하지 않고 새로 생성
+    private WebClient webClient(ConnectionProvider connectionProvider) {
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMs)
+                .option(ChannelOption.SO_KEEPALIVE, true)
+                .keepAlive(true)
+                .compress(true);
+
+        return WebClient.builder()
+                .baseUrl(langchainServerUrl)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .exchangeStrategies(ExchangeStrategies.builder()
+                        .codecs(configurer -> configurer
+                                .defaultCodecs()
+                                .maxInMemorySize(maxInMemorySize))
+                        .build()
+                )
+                .build();
+    }
+}
@@ -16,6 +16,9 @@ public class SQSMessageConfig {
     private GradeQuizEssay gradeQuizEssay = new GradeQuizEssay();
     private GradeExamEssay gradeExamEssay = new GradeExamEssay();
     private GenerateCourseWeaknessAnalysis generateCourseWeaknessAnalysis = new GenerateCourseWeaknessAnalysis();
+    private GenerateEmbeddings generateEmbeddings = new GenerateEmbeddings();
+    private Batch batch = new Batch();
+    private Outbox outbox = new Outbox();
 
     @Getter
     @Setter
@@ -52,4 +55,33 @@ public class SQSMessageConfig {
     public static class GenerateCourseWeaknessAnalysis {
         private String queueUrl;
     }
+
+    @Getter
+    @Setter
+    public static class GenerateEmbeddings {
+        private String queueUrl;
+    }
+
+    // SendMessageBatch 발행 설정
+    @Getter
+    @Setter
+    public static class Batch {
+        private long lingerMs = 20;
+        private int maxAttempts = 3;
+        private long retryBackoffMs = 200;
+        private int senderThreads = 2;
+    }
+
+    // outbox 릴레이 설정 (relay-enabled, relay-interval-ms는 스케줄러에서 직접 참조)
+    @Getter
+    @Setter
+    public static class Outbox {
+        private boolean relayEnabled = true;
+        private long relayIntervalMs = 500;
+        private int batchSize = 50;
+        private long publishTimeoutMs = 10000;
+        private int maxAttempts = 10;
+        private long retryBackoffMs = 1000;
+        private long maxRetryBackoffMs = 300000;
+    }
 }
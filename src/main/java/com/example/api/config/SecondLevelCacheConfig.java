@@ -0,0 +1,159 @@
+package com.example.api.config;
+
+import com.example.api.datasource.SecondLevelCacheEvictions;
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import java.net.URI;
+import java.time.Duration;
+import java.util.OptionalLong;
+import java.util.function.Function;
+
+/**
+ * Hibernate 2차 캐시(JCache + Caffeine)의 region을 명시적으로 생성합니다.
+ * Caffeine 캐시는 인스턴스(JVM)마다 따로 있으므로, 사용자가 변경하는 문항(quiz_item, exam_item)은 변경 후
+ * {@link SecondLevelCacheEvictions}가 Redis pub/sub으로 모든 인스턴스에서 제거합니다.
+ * 애플리케이션 밖(jobs/*의 Lambda)에서 직접 갱신되는 테이블(courses, quizzes, exams)과 학기는 캐싱하지 않습니다.
+ * 정의되지 않은 region을 사용하면 기동 시 실패하도록 hibernate.javax.cache.missing_cache_strategy=fail로 설정되어 있습니다.
+ */
+@Configuration
+public class SecondLevelCacheConfig {
+    public static final String SCHOOL_REGION = "school";
+    public static final String SCHOOL_CALENDAR_REGION = "school_calendar";
+    public static final String QUIZ_ITEM_REGION = "quiz_item";
+    public static final String EXAM_ITEM_REGION = "exam_item";
+    public static final String QUERY_RESULTS_REGION = "default-query-results-region";
+    public static final String UPDATE_TIMESTAMPS_REGION = "default-update-timestamps-region";
+
+    private static final String HIT_RATIO_METRIC = "hibernate.second.level.cache.hit.ratio";
+    private static final String REQUESTS_METRIC = "hibernate.second.level.cache.requests";
+
+    @Value("${second-level-cache.entity-ttl-minutes:60}")
+    private long entityTtlMinutes;
+
+    @Value("${second-level-cache.reference-ttl-hours:24}")
+    private long referenceTtlHours;
+
+    @Value("${second-level-cache.query-ttl-minutes:10}")
+    private long queryTtlMinutes;
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager() {
+        CachingProvider provider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+        CacheManager cacheManager = provider.getCacheManager(
+                URI.create("hibernate-second-level-cache"), getClass().getClassLoader());
+
+        // 변경 시 모든 인스턴스에서 제거되며, TTL은 제거 메시지가 유실된 경우의 상한
+        Duration entityTtl = Duration.ofMinutes(entityTtlMinutes);
+        createRegion(cacheManager, QUIZ_ITEM_REGION, 50_000, entityTtl);
+        createRegion(cacheManager, EXAM_ITEM_REGION, 50_000, entityTtl);
+        // 학교/학사일정은 마이그레이션으로만 추가되는 참조 데이터
+        Duration referenceTtl = Duration.ofHours(referenceTtlHours);
+        createRegion(cacheManager, SCHOOL_REGION, 1_000, referenceTtl);
+        createRegion(cacheManager, SCHOOL_CALENDAR_REGION, 5_000, referenceTtl);
+        createRegion(cacheManager, QUERY_RESULTS_REGION, 10_000, Duration.ofMinutes(queryTtlMinutes));
+        // 테이블별 마지막 변경 시각이므로 쿼리 결과보다 먼저 사라지면 안 됨 (테이블 수만큼만 저장됨)
+        createRegion(cacheManager, UPDATE_TIMESTAMPS_REGION, null, null);
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+    }
+
+    /**
+     * 다른 인스턴스가 발행한 2차 캐시 제거 메시지를 구독합니다.
+     */
+    @Bean
+    public RedisMessageListenerContainer secondLevelCacheEvictionListener(RedisConnectionFactory redisConnectionFactory,
+                                                                          SecondLevelCacheEvictions secondLevelCacheEvictions) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(secondLevelCacheEvictions, new ChannelTopic(SecondLevelCacheEvictions.CHANNEL));
+        return container;
+    }
+
+    /**
+     * region별 캐시 hit/miss 횟수와 hit ratio(기동 이후 누적)를 기록합니다. hibernate.generate_statistics가 켜져 있어야 합니다.
+     */
+    @Bean
+    public MeterBinder secondLevelCacheMetrics(EntityManagerFactory entityManagerFactory) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        return registry -> {
+            for (String region : new String[]{SCHOOL_REGION, SCHOOL_CALENDAR_REGION, QUIZ_ITEM_REGION, EXAM_ITEM_REGION}) {
+                bindRegion(registry, region, statistics, s -> s.getDomainDataRegionStatistics(region));
+            }
+            bindRegion(registry, QUERY_RESULTS_REGION, statistics, s -> s.getQueryRegionStatistics(QUERY_RESULTS_REGION));
+        };
+    }
+
+    private void bindRegion(MeterRegistry registry, String region, Statistics statistics,
+                            Function<Statistics, CacheRegionStatistics> regionStatistics) {
+        Gauge.builder(HIT_RATIO_METRIC, statistics, s -> hitRatio(regionStatistics.apply(s)))
+                .description("Second-level cache hit ratio since startup")
+                .tag("region", region)
+                .register(registry);
+        FunctionCounter.builder(REQUESTS_METRIC, statistics, s -> count(regionStatistics.apply(s), true))
+                .description("Second-level cache requests")
+                .tag("region", region)
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder(REQUESTS_METRIC, statistics, s -> count(regionStatistics.apply(s), false))
+                .description("Second-level cache requests")
+                .tag("region", region)
+                .tag("result", "miss")
+                .register(registry);
+    }
+
+    private double hitRatio(CacheRegionStatistics regionStatistics) {
+        if (regionStatistics == null) {
+            return Double.NaN;
+        }
+        long hits = regionStatistics.getHitCount();
+        long requests = hits + regionStatistics.getMissCount();
+        return requests > 0 ? (double) hits / requests : Double.NaN;
+    }
+
+    private double count(CacheRegionStatistics regionStatistics, boolean hit) {
+        if (regionStatistics == null) {
+            return 0;
+        }
+        return hit ? regionStatistics.getHitCount() : regionStatistics.getMissCount();
+    }
+
+    private void createRegion(CacheManager cacheManager, String region, Integer maxSize, Duration ttl) {
+        if (cacheManager.getCache(region) != null) {
+            return;
+        }
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        // Hibernate가 캐시 항목을 분해된(disassembled) 상태로 저장하므로 직렬화 복사가 필요 없음
+        configuration.setStoreByValue(false);
+        if (maxSize != null) {
+            configuration.setMaximumSize(OptionalLong.of(maxSize));
+        }
+        if (ttl != null) {
+            configuration.setExpireAfterWrite(OptionalLong.of(ttl.toNanos()));
+        }
+        cacheManager.createCache(region, configuration);
+    }
+}
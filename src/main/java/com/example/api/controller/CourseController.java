@@ -2,6 +2,8 @@ package com.example.api.controller;
 
 import com.example.api.controller.dto.course.*;
 import com.example.api.entity.CourseWeaknessAnalysis;
+import com.example.api.security.ownership.OwnedResource;
+import com.example.api.security.ownership.RequireOwner;
 import com.example.api.service.CourseService;
 import com.example.api.service.SemesterService;
 import com.example.api.service.dto.course.*;
@@ -33,6 +35,7 @@ public class CourseController extends BaseController {
     }
 
     @GetMapping("/semester/{semesterId}")
+    @RequireOwner(value = OwnedResource.semester, pathVariable = "semesterId")
     @Operation(
             summary = "Get all courses for a specific semester",
             description = "Retrieves a list of all courses for a specific semester",
@@ -64,17 +67,7 @@ public class CourseController extends BaseController {
             }
     )
     public ResponseEntity<CourseListResponse> getCoursesBySemester(@PathVariable UUID semesterId) {
-        UUID userId = getAuthenticatedUserId();
-
-        // Check if semester exists and user owns it.
-        var semesterOutput = semesterService.findSemesterById(semesterId);
-        if (semesterOutput.isEmpty()) {
-            return ResponseEntity.notFound().build();
-        }
-        if (!semesterOutput.get().getUserId().equals(userId)) {
-            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
-        }
-
+        // 학기 존재 여부와 소유자는 @RequireOwner에서 확인
         CourseListOutput courseListOutput = courseService.findCoursesBySemesterId(semesterId);
         List<CourseResponse> courseListResponse = courseListOutput.getCourses().stream().map(
                 CourseResponse::fromServiceDto).toList();
@@ -448,6 +441,7 @@ public class CourseController extends BaseController {
     }
 
     @DeleteMapping("/{id}")
+    @RequireOwner(OwnedResource.course)
     @Operation(
             summary = "Delete a course",
             description = "Deletes an existing course by id",
@@ -478,18 +472,8 @@ public class CourseController extends BaseController {
             }
     )
     public ResponseEntity<Void> deleteCourse(@PathVariable UUID id) {
-        UUID userId = getAuthenticatedUserId();
-
         try {
-            // Check course exists and user owns it.
-            Optional<CourseOutput> existingCourseOutput = courseService.findCourseById(id);
-            if (existingCourseOutput.isEmpty()) {
-                return ResponseEntity.notFound().build();
-            }
-            if (!existingCourseOutput.get().getUserId().equals(userId)) {
-                return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
-            }
-
+            // 과목 존재 여부와 소유자는 @RequireOwner에서 확인
             courseService.deleteCourse(id);
             return ResponseEntity.noContent().build();
         } catch (EntityNotFoundException e) {
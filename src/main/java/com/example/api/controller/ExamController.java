@@ -31,6 +31,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 
 
 
@@ -606,19 +607,32 @@ public class ExamController extends BaseController {
     @GetMapping("/course/{courseId}/items/liked")
     @Operation(
             summary = "Get liked exam items by course ID",
-            description = "Retrieve a list of liked exam items associated with a specific course ID.",
+            description = "Retrieve liked exam items associated with a specific course ID, newest first. " +
+                    "Pass nextCursor from the previous response as cursor to fetch the next page.",
             parameters = {
                     @Parameter(
                         name = "courseId",
                         description = "ID of the course to retrieve liked exam items for",
                         required = true
+                    ),
+                    @Parameter(
+                        name = "cursor",
+                        description = "Opaque cursor (nextCursor of the previous page)"
+                    ),
+                    @Parameter(
+                        name = "limit",
+                        description = "Maximum number of exam items to return (default 20)"
                     )
             },
             responses = {
                     @ApiResponse(
                         responseCode = "200",
                         description = "Liked exam items found",
-                        content = @Content(schema = @Schema(implementation = ExamItemListResponse.class))
+                        content = @Content(schema = @Schema(implementation = LikedExamItemListResponse.class))
+                    ),
+                    @ApiResponse(
+                        responseCode = "400",
+                        description = "Invalid cursor"
                     ),
                     @ApiResponse(
                         responseCode = "403",
@@ -634,8 +648,10 @@ public class ExamController extends BaseController {
                     )
             }
     )
-    public ResponseEntity<ExamItemListResponse> getLikedExamItemsByCourseId(
-            @PathVariable UUID courseId
+    public ResponseEntity<LikedExamItemListResponse> getLikedExamItemsByCourseId(
+            @PathVariable UUID courseId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int limit
     ) {
         UUID userId = getAuthenticatedUserId();
 
@@ -650,17 +666,13 @@ public class ExamController extends BaseController {
         }
 
         // Retrieve the liked exam items associated with the course
-        ExamItemListOutput examItemListOutput = examService.findLikedExamItemByCourseId(courseId);
+        LikedExamItemListOutput likedExamItemListOutput = examService.findLikedExamItemByCourseId(courseId, cursor, limit);
 
-        if (examItemListOutput == null || examItemListOutput.getExamItems().isEmpty()) {
-            return ResponseEntity.ok(new ExamItemListResponse(List.of()));
+        if (likedExamItemListOutput == null) {
+            return ResponseEntity.ok(new LikedExamItemListResponse(List.of(), false, null));
         }
 
-        List<ExamItemResponse> likedExamItems = examItemListOutput.getExamItems().stream()
-                .map(ExamItemResponse::fromServiceDto)
-                .toList();
-
-        return ResponseEntity.ok(new ExamItemListResponse(likedExamItems));
+        return ResponseEntity.ok(LikedExamItemListResponse.fromServiceDto(likedExamItemListOutput));
     }
 
     @PostMapping("/{id}/items/{examItemId}/toggle-like")
@@ -4,10 +4,16 @@ import com.example.api.adapters.sqs.GenerateSummaryMessage;
 import com.example.api.adapters.sqs.SQSClient;
 import com.example.api.config.StorageConfig;
 import com.example.api.controller.dto.lecture.*;
+import com.example.api.entity.ParsedPage;
+import com.example.api.entity.ParsedText;
+import com.example.api.security.ownership.OwnedResource;
+import com.example.api.security.ownership.RequireOwner;
 import com.example.api.service.CourseService;
 import com.example.api.service.LectureService;
 import com.example.api.service.StorageService;
 import com.example.api.service.dto.lecture.*;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -21,11 +27,14 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
 import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 @RestController
@@ -38,27 +47,39 @@ public class LectureController extends BaseController {
     private final StorageService storageService;
     private final SQSClient sqsClient;
     private final StorageConfig storageConfig;
+    private final ObjectMapper objectMapper;
+
+    // 한 번에 요청할 수 있는 최대 페이지 수
+    private static final int MAX_PAGE_RANGE = 50;
 
     public LectureController(
             LectureService lectureService, CourseService courseService, StorageService storageService, 
-            SQSClient sqsClient, StorageConfig storageConfig
+            SQSClient sqsClient, StorageConfig storageConfig, ObjectMapper objectMapper
     ) {
         this.lectureService = lectureService;
         this.courseService = courseService;
         this.storageService = storageService;
         this.sqsClient = sqsClient;
         this.storageConfig = storageConfig;
+        this.objectMapper = objectMapper;
     }
 
     @GetMapping("/course/{courseId}")
+    @RequireOwner(value = OwnedResource.course, pathVariable = "courseId")
     @Operation(
             summary = "Get all lectures for a specific course",
-            description = "Retrieves a list of all lectures for a specific course",
+            description = "Retrieves a list of all lectures for a specific course. " +
+                    "Only metadata is returned unless heavy fields are requested via the fields parameter",
             parameters = {
                     @Parameter(
                             name = "courseId",
                             description = "ID of the course",
                             required = true
+                    ),
+                    @Parameter(
+                            name = "fields",
+                            description = "Optional heavy fields to include (comma separated): summary, parsedText, note",
+                            required = false
                     )
             },
             responses = {
@@ -81,20 +102,14 @@ public class LectureController extends BaseController {
                     )
             }
     )
-    public ResponseEntity<LectureListResponse> getLecturesByCourse(@PathVariable UUID courseId) {
-        UUID userId = getAuthenticatedUserId();
-
-        // Check if the course exists
-        var courseOutput = courseService.findCourseById(courseId);
-        if (courseOutput.isEmpty()) {
-            return ResponseEntity.notFound().build();
-        }
-        // Check if the user is same as the course owner
-        if (!courseOutput.get().getUserId().equals(userId)) {
-            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
-        }
-
-        LectureListOutput lectureListOutput = lectureService.findLecturesByCourseId(courseId);
+    public ResponseEntity<LectureListResponse> getLecturesByCourse(
+            @PathVariable UUID courseId,
+            @RequestParam(required = false) Set<LectureField> fields) {
+        // 과목 존재 여부와 소유자는 @RequireOwner에서 확인
+
+        // 목록에는 메타데이터만 포함하고, summary/parsedText/note는 fields로 요청한 경우에만 포함
+        LectureListOutput lectureListOutput = lectureService.findLecturesByCourseId(
+                courseId, fields != null ? fields : Set.of());
         List<LectureResponse> lectureListResponse = lectureListOutput.getLectures().stream()
                 .map(lecture -> LectureResponse.fromServiceDto(lecture, storageConfig))
                 .toList();
@@ -186,19 +201,102 @@ public class LectureController extends BaseController {
 
         try {
             // Check if the lecture exists
-            Optional<LectureOutput> lectureOutput = lectureService.findLectureById(id);
-            if (lectureOutput.isEmpty()) {
+            Optional<LecturePreviewOutput> lecturePreview = lectureService.findLecturePreviewById(id);
+            if (lecturePreview.isEmpty()) {
                 return ResponseEntity.notFound().build();
             }
-            if (!lectureOutput.get().getUserId().equals(userId)) {
+            if (!lecturePreview.get().getUserId().equals(userId)) {
                 return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
             }
-            return ResponseEntity.ok(LecturePreviewResponse.fromServiceDto(lectureOutput.get(), storageConfig));
+            return ResponseEntity.ok(LecturePreviewResponse.fromServiceDto(lecturePreview.get()));
         } catch (Exception e) {
             return ResponseEntity.internalServerError().build();
         }
     }
 
+    @GetMapping("/{id}/pages")
+    @RequireOwner(OwnedResource.lecture)
+    @Operation(
+            summary = "Get a page range of the lecture parsed text",
+            description = "Streams only the requested pages of the parsed text. " +
+                    "The response has the same shape as parsedText ({total_pages, pages}) but pages contains only the requested range",
+            parameters = {
+                    @Parameter(
+                            name = "id",
+                            description = "ID of the lecture",
+                            required = true
+                    ),
+                    @Parameter(
+                            name = "from",
+                            description = "First page number to include (1-based, default 1)",
+                            required = false
+                    ),
+                    @Parameter(
+                            name = "to",
+                            description = "Last page number to include (inclusive, default from + " + (MAX_PAGE_RANGE - 1) + ")",
+                            required = false
+                    )
+            },
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Successfully retrieved lecture pages",
+                            content = @Content(schema = @Schema(implementation = ParsedText.class))
+                    ),
+                    @ApiResponse(
+                            responseCode = "400",
+                            description = "Invalid page range"
+                    ),
+                    @ApiResponse(
+                            responseCode = "403",
+                            description = "User does not have access to this lecture"
+                    ),
+                    @ApiResponse(
+                            responseCode = "404",
+                            description = "Lecture not found"
+                    ),
+                    @ApiResponse(
+                            responseCode = "500",
+                            description = "Internal server error"
+                    )
+            }
+    )
+    public ResponseEntity<StreamingResponseBody> getLecturePages(
+            @PathVariable UUID id,
+            @RequestParam(defaultValue = "1") int from,
+            @RequestParam(required = false) Integer to
+    ) {
+        // 강의 존재 여부와 소유자는 @RequireOwner에서 확인
+        int toPage = to == null ? from + MAX_PAGE_RANGE - 1 : to;
+        if (from < 1 || toPage < from || toPage - from + 1 > MAX_PAGE_RANGE) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        // 페이지를 모두 모은 뒤 직렬화하지 않고, DB에서 읽는 대로 응답에 바로 기록
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+                lectureService.streamLecturePages(id, from, toPage, new LecturePageSink() {
+                    @Override
+                    public void begin(int totalPages) throws IOException {
+                        generator.writeStartObject();
+                        generator.writeNumberField("total_pages", totalPages);
+                        generator.writeArrayFieldStart("pages");
+                    }
+
+                    @Override
+                    public void page(ParsedPage page) throws IOException {
+                        generator.writeObject(page);
+                    }
+                });
+                generator.writeEndArray();
+                generator.writeEndObject();
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+
     private String determineMaterialType(MultipartFile file) {
         String contentType = file.getContentType();
         String filename = file.getOriginalFilename();
@@ -379,11 +477,11 @@ public class LectureController extends BaseController {
             // 현재는 Controller에서 find하고 Service에서도 find하여 중복 조회가 발생하는 비효율적인 구조
             // Service DTO 구조 변경이 필요하여 일단 현재 구조 유지
             // Check if the lecture exists
-            Optional<LectureOutput> lectureOutput = lectureService.findLectureById(id);
-            if (lectureOutput.isEmpty()) {
+            Optional<LectureOwnershipOutput> lectureOwnership = lectureService.findLectureOwnershipById(id);
+            if (lectureOwnership.isEmpty()) {
                 return ResponseEntity.notFound().build();
             }
-            if (!lectureOutput.get().getUserId().equals(userId)) {
+            if (!lectureOwnership.get().getUserId().equals(userId)) {
                 return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
             }
 
@@ -458,11 +556,11 @@ public class LectureController extends BaseController {
             // 현재는 Controller에서 find하고 Service에서도 find하여 중복 조회가 발생하는 비효율적인 구조
             // Service DTO 구조 변경이 필요하여 일단 현재 구조 유지
             // Check if the lecture exists
-            Optional<LectureOutput> lectureOutput = lectureService.findLectureById(id);
-            if (lectureOutput.isEmpty()) {
+            Optional<LectureOwnershipOutput> lectureOwnership = lectureService.findLectureOwnershipById(id);
+            if (lectureOwnership.isEmpty()) {
                 return ResponseEntity.notFound().build();
             }
-            if (!lectureOutput.get().getUserId().equals(userId)) {
+            if (!lectureOwnership.get().getUserId().equals(userId)) {
                 return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
             }
 
@@ -487,6 +585,7 @@ public class LectureController extends BaseController {
     }
 
     @DeleteMapping("/{id}")
+    @RequireOwner(OwnedResource.lecture)
     @Operation(
             summary = "Delete a lecture",
             description = "Deletes a specific lecture by its ID",
@@ -517,18 +616,8 @@ public class LectureController extends BaseController {
             }
     )
     public ResponseEntity<Void> deleteLecture(@PathVariable UUID id) {
-        UUID userId = getAuthenticatedUserId();
-
         try {
-            // Check if the lecture exists
-            Optional<LectureOutput> lectureOutput = lectureService.findLectureById(id);
-            if (lectureOutput.isEmpty()) {
-                return ResponseEntity.notFound().build();
-            }
-            if (!lectureOutput.get().getUserId().equals(userId)) {
-                return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
-            }
-
+            // 강의 존재 여부와 소유자는 @RequireOwner에서 확인
             lectureService.deleteLecture(id);
             return ResponseEntity.noContent().build();
         } catch (EntityNotFoundException e) {
@@ -587,11 +676,11 @@ public class LectureController extends BaseController {
 
         try {
             // Check if the lecture exists
-            Optional<LectureOutput> lectureOutput = lectureService.findLectureById(id);
-            if (lectureOutput.isEmpty()) {
+            Optional<LectureOwnershipOutput> lectureOwnership = lectureService.findLectureOwnershipById(id);
+            if (lectureOwnership.isEmpty()) {
                 return ResponseEntity.notFound().build();
             }
-            if (!lectureOutput.get().getUserId().equals(userId)) {
+            if (!lectureOwnership.get().getUserId().equals(userId)) {
                 return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
             }
 
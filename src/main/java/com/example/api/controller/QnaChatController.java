@@ -3,9 +3,14 @@ package com.example.api.controller;
 import com.example.api.controller.dto.qna.*;
 import com.example.api.service.QnaChatService;
 import com.example.api.service.dto.qna.*;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -16,6 +21,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
+import reactor.core.publisher.Flux;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -28,6 +34,7 @@ import java.util.UUID;
 @Tag(name = "QnA Chat", description = "강의 자료 기반 QnA Chat API")
 public class QnaChatController {
     private final QnaChatService qnaChatService;
+    private final ObjectMapper objectMapper;
 
     private UUID getUserId() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication(); // 현재 인증된 사용자 정보 가져오기
@@ -150,7 +157,7 @@ public class QnaChatController {
                                                             "}" +
                                                             "]," +
                                                             "\"hasMore\": true, " +
-                                                            "\"nextCursor\": \"msg-550e8400-e29b-41d4-a716-446655440002\"" +
+                                                            "\"nextCursor\": \"AAYgd6G8UIBVDoQA4p1B1KcWRGZVRAAC\"" +
                                                             "}"
                                             )
                                     })
@@ -180,7 +187,7 @@ public class QnaChatController {
     @GetMapping(value = "/messages")
     public ResponseEntity<GetQnaChatMessagesResponse> getMessages(
             @PathVariable UUID lectureId,
-            @RequestParam(required = false) UUID cursor,
+            @RequestParam(required = false) String cursor,
             @RequestParam(defaultValue = "20") int limit) {
         UUID userId = getUserId();
         GetQnaChatMessagesInput input = new GetQnaChatMessagesInput(lectureId, userId, cursor, limit);
@@ -210,9 +217,93 @@ public class QnaChatController {
         return ResponseEntity.ok(response);
     }
 
+    @Operation(
+            summary = "QnA 채팅방 메시지 기록 스트리밍 조회",
+            description = "cursor 이전의 메시지를 오래된 순으로 모두 조회합니다. cursor가 없으면 전체 기록을 조회합니다. " +
+                    "메시지를 모두 모은 뒤 응답하지 않고 DB에서 읽는 대로 응답 본문에 기록하므로, 기록이 많아도 메모리 사용량이 일정합니다. " +
+                    "GET /messages로 최근 메시지를 받은 뒤 응답의 nextCursor를 cursor로 전달하면 나머지 기록을 한 번에 받을 수 있습니다.",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "메시지 기록 조회 성공",
+                            content = @Content(examples = {
+                                    @ExampleObject(
+                                            name = "example",
+                                            value = "{" +
+                                                    "\"chatId\": \"550e8400-e29b-41d4-a716-446655440000\", " +
+                                                    "\"messages\": [" +
+                                                    "{" +
+                                                    "\"messageId\": \"msg-550e8400-e29b-41d4-a716-446655440001\", " +
+                                                    "\"role\": \"user\", " +
+                                                    "\"content\": \"재귀 함수란 무엇인가요?\", " +
+                                                    "\"references\": null, " +
+                                                    "\"createdAt\": \"2025-05-28T04:15:00Z\", " +
+                                                    "\"isLiked\": false" +
+                                                    "}" +
+                                                    "]" +
+                                                    "}"
+                                    )
+                            })
+                    ),
+                    @ApiResponse(
+                            responseCode = "400",
+                            description = "잘못된 cursor",
+                            content = @Content(examples = {
+                                    @ExampleObject(
+                                            name = "example",
+                                            value = "{\"message\": \"잘못된 cursor입니다\", \"code\": \"BAD_REQUEST\", \"timestamp\": 1699541415123}"
+                                    )
+                            })
+                    ),
+                    @ApiResponse(
+                            responseCode = "404",
+                            description = "채팅방을 찾을 수 없음",
+                            content = @Content(examples = {
+                                    @ExampleObject(
+                                            name = "example",
+                                            value = "{\"message\": \"채팅방을 찾을 수 없습니다\", \"code\": \"NOT_FOUND\", \"timestamp\": 1699541415123}"
+                                    )
+                            })
+                    )
+            }
+    )
+    @GetMapping("/messages/history")
+    public ResponseEntity<StreamingResponseBody> streamMessageHistory(
+            @PathVariable UUID lectureId,
+            @RequestParam(required = false) String cursor) {
+        // 응답을 쓰기 시작한 뒤에는 상태 코드를 바꿀 수 없으므로 채팅방 확인과 cursor 검증을 먼저 수행
+        UUID userId = getUserId();
+        UUID chatId = qnaChatService.getQnaChatId(new GetQnaChatIdInput(lectureId, userId)).getChatId();
+        MessageCursor messageCursor = MessageCursor.decode(cursor);
+
+        // 메시지를 모두 모은 뒤 직렬화하지 않고, DB에서 읽는 대로 응답에 바로 기록
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+                generator.writeStartObject();
+                generator.writeStringField("chatId", chatId.toString());
+                generator.writeArrayFieldStart("messages");
+                qnaChatService.streamMessages(chatId, messageCursor, m -> generator.writeObject(
+                        new GetQnaChatMessagesResponse.MessageItem(
+                                m.getMessageId(),
+                                m.getRole(),
+                                m.getContent(),
+                                m.getReferences(),
+                                m.getCreatedAt(),
+                                m.isLiked()
+                        )));
+                generator.writeEndArray();
+                generator.writeEndObject();
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+
     @Operation(
             summary = "QnA 채팅방 좋아요한 메시지 조회",
-            description = "특정 강의의 QnA 채팅방에서 좋아요한 메시지들만 조회합니다.",
+            description = "특정 강의의 QnA 채팅방에서 좋아요한 메시지들만 최신순으로 조회합니다. " +
+                    "다음 페이지는 응답의 nextCursor를 cursor로 전달하여 조회합니다.",
             responses = {
                     @ApiResponse(
                             responseCode = "200",
@@ -236,7 +327,9 @@ public class QnaChatController {
                                                             "\"createdAt\": \"2025-05-28T04:15:30Z\", " +
                                                             "\"isLiked\": true" +
                                                             "}" +
-                                                            "]" +
+                                                            "]," +
+                                                            "\"hasMore\": false, " +
+                                                            "\"nextCursor\": null" +
                                                             "}"
                                             )
                                     })
@@ -244,9 +337,12 @@ public class QnaChatController {
             }
     )
     @GetMapping("/messages/liked")
-    public ResponseEntity<GetLikedMessagesResponse> getLikedMessages(@PathVariable UUID lectureId) {
+    public ResponseEntity<GetLikedMessagesResponse> getLikedMessages(
+            @PathVariable UUID lectureId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int limit) {
         UUID userId = getUserId();
-        GetLikedMessagesInput input = new GetLikedMessagesInput(lectureId, userId);
+        GetLikedMessagesInput input = new GetLikedMessagesInput(lectureId, userId, cursor, limit);
         GetLikedMessagesOutput output = qnaChatService.getLikedMessages(input);
 
         List<GetLikedMessagesResponse.LikedMessageItem> messages = output.getMessages().stream()
@@ -260,9 +356,11 @@ public class QnaChatController {
                 ))
                 .toList();
 
-        GetLikedMessagesResponse response = new GetLikedMessagesResponse (
+        GetLikedMessagesResponse response = new GetLikedMessagesResponse(
                 output.getChatId(),
-                messages
+                messages,
+                output.getHasMore(),
+                output.getNextCursor()
         );
 
         return ResponseEntity.ok(response);
@@ -270,7 +368,9 @@ public class QnaChatController {
 
     @Operation(
             summary = "특정 QnA 채팅방에 메세지 전송",
-            description = "QnA 채팅방에 질문을 하고 강의 자료를 기반으로 답변을 받습니다.",
+            description = "QnA 채팅방에 질문을 하고 강의 자료를 기반으로 답변을 받습니다. " +
+                    "추천 질문은 답변과 별도로 생성되며, 답변 시점에 준비되지 않았다면 빈 목록으로 반환되므로 " +
+                    "GET /messages/{messageId}/recommended-questions 로 조회합니다.",
             responses = {
                     @ApiResponse(
                             responseCode = "200",
@@ -348,6 +448,103 @@ public class QnaChatController {
         return ResponseEntity.ok(response);
     }
 
+    @Operation(
+            summary = "특정 QnA 채팅방에 메세지 전송 (SSE 스트리밍)",
+            description = "QnA 채팅방에 질문을 하고 답변을 Server-Sent Events로 스트리밍 받습니다. " +
+                    "이벤트는 references(출처 청크) → token(답변 토큰, 여러 번) → done(저장된 메시지 정보) → recommendations(추천 질문) 순서로 전달되며, " +
+                    "처리 중 오류가 발생하면 error 이벤트로 종료됩니다.",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "스트리밍 시작",
+                            content = @Content(mediaType = MediaType.TEXT_EVENT_STREAM_VALUE,
+                                    examples = {
+                                            @ExampleObject(
+                                                    name = "example",
+                                                    value = "event:references\n" +
+                                                            "data:[{\"text\":\"재귀 함수는 자기 자신을 호출하는 함수입니다.\",\"page\":42}]\n\n" +
+                                                            "event:token\n" +
+                                                            "data:{\"content\":\"재귀 함수는\"}\n\n" +
+                                                            "event:done\n" +
+                                                            "data:{\"messageId\":\"550e8400-e29b-41d4-a716-446655440003\",\"createdAt\":\"2025-05-28T04:15:30\"}\n\n" +
+                                                            "event:recommendations\n" +
+                                                            "data:[\"재귀 함수의 장단점은 무엇인가요?\"]\n\n"
+                                            )
+                                    })
+                    ),
+                    @ApiResponse(
+                            responseCode = "404",
+                            description = "채팅방을 찾을 수 없음",
+                            content = @Content(examples = {
+                                    @ExampleObject(
+                                            name = "example",
+                                            value = "{\"message\": \"채팅방을 찾을 수 없습니다\", \"code\": \"NOT_FOUND\", \"timestamp\": 1699541415123}"
+                                    )
+                            })
+                    )
+            }
+    )
+    @PostMapping(value = "/messages/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<Object>> streamMessage(
+            @PathVariable UUID lectureId,
+            @RequestBody QnaChatMessageRequest request) {
+        UUID userId = getUserId();
+        QnaChatMessageInput input = new QnaChatMessageInput(lectureId, userId, request.getQuestion());
+
+        // Flux를 반환하면 비동기로 처리되어 답변을 스트리밍하는 동안 Tomcat 요청 스레드를 점유하지 않음
+        return qnaChatService.askStream(input)
+                .map(event -> ServerSentEvent.builder(event.getData())
+                        .event(event.getType())
+                        .build());
+    }
+
+    @Operation(
+            summary = "AI 답변의 추천 질문 조회",
+            description = "AI 답변과 별도로 비동기 생성되는 추천 질문을 조회합니다. isReady가 false이면 아직 생성 중이므로 잠시 후 다시 조회합니다.",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "추천 질문 조회 성공",
+                            content = @Content(schema = @Schema(implementation = GetRecommendedQuestionsResponse.class),
+                                    examples = {
+                                            @ExampleObject(
+                                                    name = "example",
+                                                    value = "{" +
+                                                            "\"messageId\": \"550e8400-e29b-41d4-a716-446655440003\", " +
+                                                            "\"isReady\": true, " +
+                                                            "\"recommendedQuestions\": [\"재귀 함수의 장단점은 무엇인가요?\", \"재귀 함수와 반복문의 차이점은 무엇인가요?\"]" +
+                                                            "}"
+                                            )
+                                    })
+                    ),
+                    @ApiResponse(
+                            responseCode = "404",
+                            description = "메시지 또는 채팅방을 찾을 수 없음",
+                            content = @Content(examples = {
+                                    @ExampleObject(
+                                            name = "example",
+                                            value = "{\"message\": \"메시지를 찾을 수 없습니다\", \"code\": \"NOT_FOUND\", \"timestamp\": 1699541415123}"
+                                    )
+                            })
+                    )
+            }
+    )
+    @GetMapping("/messages/{messageId}/recommended-questions")
+    public ResponseEntity<GetRecommendedQuestionsResponse> getRecommendedQuestions(
+            @PathVariable UUID lectureId,
+            @PathVariable UUID messageId) {
+        UUID userId = getUserId();
+        GetRecommendedQuestionsInput input = new GetRecommendedQuestionsInput(lectureId, userId, messageId);
+        GetRecommendedQuestionsOutput output = qnaChatService.getRecommendedQuestions(input);
+
+        GetRecommendedQuestionsResponse response = new GetRecommendedQuestionsResponse(
+                output.getMessageId(),
+                output.isReady(),
+                output.getRecommendedQuestions()
+        );
+        return ResponseEntity.ok(response);
+    }
+
     @Operation(
             summary = "채팅 메시지 좋아요 토글",
             description = "AI 응답 메시지의 좋아요를 토글합니다. 좋아요가 있으면 제거하고, 없으면 추가합니다.",
@@ -34,6 +34,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 
 
 
@@ -97,13 +98,13 @@ public class QuizController extends BaseController {
         UUID userId = getAuthenticatedUserId();
         
         // Check if the lecture exists
-        var lectureOutput = lectureService.findLectureById(lectureId);
-        if (lectureOutput.isEmpty()) {
+        var lectureOwnership = lectureService.findLectureOwnershipById(lectureId);
+        if (lectureOwnership.isEmpty()) {
             return ResponseEntity.notFound().build();
         }
 
         // Check if the user is same as the quiz owner
-        if (!lectureOutput.get().getUserId().equals(userId)) {
+        if (!lectureOwnership.get().getUserId().equals(userId)) {
             return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
         }
 
@@ -233,13 +234,13 @@ public class QuizController extends BaseController {
 
         try {
             // Check if the lecture exists
-            var lectureOutput = lectureService.findLectureById(request.getLectureId());
-            if (lectureOutput.isEmpty()) {
+            var lectureOwnership = lectureService.findLectureOwnershipById(request.getLectureId());
+            if (lectureOwnership.isEmpty()) {
                 return ResponseEntity.notFound().build();
             }
 
             // Check if the user is same as the quiz owner
-            if (!lectureOutput.get().getUserId().equals(userId)) {
+            if (!lectureOwnership.get().getUserId().equals(userId)) {
                 return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
             }
 
@@ -263,7 +264,7 @@ public class QuizController extends BaseController {
             QuizOutput createdQuizOutput = quizService.createQuiz(createQuizInput);
 
             // Get the courseId from the lecture
-            UUID courseId = lectureOutput.get().getCourseId();
+            UUID courseId = lectureOwnership.get().getCourseId();
 
             // Send a message to SQS for quiz generation
             sendGenerateQuizMessage(
@@ -632,19 +633,32 @@ public class QuizController extends BaseController {
     @GetMapping("/lecture/{lectureId}/items/liked")
     @Operation(
             summary = "Get liked quiz items by lecture ID",
-            description = "Retrieve all liked quiz items associated with a specific lecture ID.",
+            description = "Retrieve liked quiz items associated with a specific lecture ID, newest first. " +
+                    "Pass nextCursor from the previous response as cursor to fetch the next page.",
             parameters = {
                     @Parameter(
                         name = "lectureId", 
                         description = "Lecture ID", 
                         required = true
+                    ),
+                    @Parameter(
+                        name = "cursor",
+                        description = "Opaque cursor (nextCursor of the previous page)"
+                    ),
+                    @Parameter(
+                        name = "limit",
+                        description = "Maximum number of quiz items to return (default 20)"
                     )
             },
             responses = {
                     @ApiResponse(
                         responseCode = "200", 
                         description = "Liked quiz items retrieved successfully",
-                        content = @Content(schema = @Schema(implementation = QuizItemListResponse.class))
+                        content = @Content(schema = @Schema(implementation = LikedQuizItemListResponse.class))
+                    ),
+                    @ApiResponse(
+                        responseCode = "400",
+                        description = "Invalid cursor"
                     ),
                     @ApiResponse(
                         responseCode = "403",
@@ -664,34 +678,32 @@ public class QuizController extends BaseController {
                     )
             }
     )
-    public ResponseEntity<QuizItemListResponse> getLikedQuizItemsByLecture(
-            @PathVariable UUID lectureId
+    public ResponseEntity<LikedQuizItemListResponse> getLikedQuizItemsByLecture(
+            @PathVariable UUID lectureId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int limit
     ) {
         UUID userId = getAuthenticatedUserId();
 
         // Check if the lecture exists
-        var lectureOutput = lectureService.findLectureById(lectureId);
-        if (lectureOutput.isEmpty()) {
+        var lectureOwnership = lectureService.findLectureOwnershipById(lectureId);
+        if (lectureOwnership.isEmpty()) {
             return ResponseEntity.notFound().build();
         }
 
         // Check if the user is same as the quiz owner
-        if (!lectureOutput.get().getUserId().equals(userId)) {
+        if (!lectureOwnership.get().getUserId().equals(userId)) {
             return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
         }
 
         // Retrieve liked quiz items associated with the lecture
-        QuizItemListOutput quizItemListOutput = quizService.findLikedQuizItemByLectureId(lectureId);
+        LikedQuizItemListOutput likedQuizItemListOutput = quizService.findLikedQuizItemByLectureId(lectureId, cursor, limit);
 
-        if (quizItemListOutput.getQuizItems().isEmpty() || quizItemListOutput == null) {
-            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(new QuizItemListResponse(List.of()));
+        if (likedQuizItemListOutput == null || likedQuizItemListOutput.getQuizItems().isEmpty()) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(new LikedQuizItemListResponse(List.of(), false, null));
         }
 
-        List<QuizItemResponse> quizItemListResponse = quizItemListOutput.getQuizItems().stream()
-                .map(quizItem -> QuizItemResponse.fromServiceDto(quizItem))
-                .toList();
-
-        return ResponseEntity.ok(new QuizItemListResponse(quizItemListResponse));
+        return ResponseEntity.ok(LikedQuizItemListResponse.fromServiceDto(likedQuizItemListOutput));
     }
 
     @PostMapping("/{id}/items/{quizItemId}/toggle-like")
@@ -2,6 +2,8 @@ package com.example.api.controller;
 
 import com.example.api.controller.dto.semester.*;
 import com.example.api.entity.enums.Season;
+import com.example.api.security.ownership.OwnedResource;
+import com.example.api.security.ownership.RequireOwner;
 import com.example.api.service.SemesterService;
 import com.example.api.service.dto.semester.*;
 import io.swagger.v3.oas.annotations.Operation;
@@ -501,6 +503,7 @@ public class SemesterController extends BaseController {
     }
 
     @DeleteMapping("/{id}")
+    @RequireOwner(OwnedResource.semester)
     @Operation(
             summary = "Delete a semester",
             description = "Deletes an existing semester by id",
@@ -531,18 +534,8 @@ public class SemesterController extends BaseController {
             }
     )
     public ResponseEntity<Void> deleteSemester(@PathVariable UUID id) {
-        UUID userId = getAuthenticatedUserId();
-
         try {
-            // Check semester exists and user owns it.
-            Optional<SemesterOutput> existingSemesterOutput = semesterService.findSemesterById(id);
-            if (existingSemesterOutput.isEmpty()) {
-                return ResponseEntity.notFound().build();
-            }
-            if (!existingSemesterOutput.get().getUserId().equals(userId)) {
-                return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
-            }
-
+            // 학기 존재 여부와 소유자는 @RequireOwner에서 확인
             semesterService.deleteSemester(id);
             return ResponseEntity.noContent().build();
         } catch (EntityNotFoundException e) {
@@ -0,0 +1,32 @@
+package com.example.api.controller.dto.exam;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+import com.example.api.service.dto.exam.LikedExamItemListOutput;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Schema(description = "Page of liked exam items response")
+public class LikedExamItemListResponse {
+    @Schema(description = "List of liked exam items, newest first")
+    private List<ExamItemResponse> examItems;
+
+    @Schema(description = "Whether more liked exam items exist after this page")
+    private boolean hasMore;
+
+    @Schema(description = "Cursor for the next page (null when hasMore is false)")
+    private String nextCursor;
+
+    public static LikedExamItemListResponse fromServiceDto(LikedExamItemListOutput output) {
+        List<ExamItemResponse> examItemResponses = output.getExamItems().stream()
+                .map(ExamItemResponse::fromServiceDto)
+                .toList();
+        return new LikedExamItemListResponse(examItemResponses, output.isHasMore(), output.getNextCursor());
+    }
+}
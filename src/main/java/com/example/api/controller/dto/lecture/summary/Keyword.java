@@ -1,10 +1,16 @@
 package com.example.api.controller.dto.lecture.summary;
 
+import com.example.api.entity.LectureSummary;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -21,4 +27,23 @@ public class Keyword {
     
     @Schema(description = "Page range where keyword appears")
     private PageRange pageRange;
-}
\ No newline at end of file
+
+    public static Keyword from(LectureSummary.Keyword keyword) {
+        return new Keyword(
+                keyword.keyword(),
+                keyword.description(),
+                keyword.relevance(),
+                PageRange.from(keyword.pageRange())
+        );
+    }
+
+    public static List<Keyword> fromList(List<LectureSummary.Keyword> keywords) {
+        if (keywords == null) {
+            return new ArrayList<>();
+        }
+        return keywords.stream()
+                .filter(Objects::nonNull)
+                .map(Keyword::from)
+                .collect(Collectors.toList());
+    }
+}
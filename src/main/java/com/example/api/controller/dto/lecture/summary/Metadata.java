@@ -1,5 +1,6 @@
 package com.example.api.controller.dto.lecture.summary;
 
+import com.example.api.entity.LectureSummary;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -15,4 +16,11 @@ public class Metadata {
     
     @Schema(description = "Creation timestamp")
     private String createdAt;
-}
\ No newline at end of file
+
+    public static Metadata from(LectureSummary.Metadata metadata) {
+        if (metadata == null) {
+            return null;
+        }
+        return new Metadata(metadata.model(), metadata.createdAt());
+    }
+}
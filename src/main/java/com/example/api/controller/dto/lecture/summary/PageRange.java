@@ -1,5 +1,6 @@
 package com.example.api.controller.dto.lecture.summary;
 
+import com.example.api.entity.LectureSummary;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -15,4 +16,11 @@ public class PageRange {
     
     @Schema(description = "Ending page number")
     private int endPage;
-}
\ No newline at end of file
+
+    public static PageRange from(LectureSummary.PageRange pageRange) {
+        if (pageRange == null) {
+            return null;
+        }
+        return new PageRange(pageRange.startPage(), pageRange.endPage());
+    }
+}
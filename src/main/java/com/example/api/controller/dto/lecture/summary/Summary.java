@@ -1,10 +1,12 @@
 package com.example.api.controller.dto.lecture.summary;
 
+import com.example.api.entity.LectureSummary;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.util.ArrayList;
 import java.util.List;
 
 @Data
@@ -26,4 +28,17 @@ public class Summary {
     
     @Schema(description = "Additional references mentioned in the lecture")
     private List<String> additionalReferences;
-}
\ No newline at end of file
+
+    public static Summary from(LectureSummary summary) {
+        if (summary == null) {
+            return null;
+        }
+        return new Summary(
+                Metadata.from(summary.metadata()),
+                summary.overview(),
+                Keyword.fromList(summary.keywords()),
+                TopicDetails.fromList(summary.topics()),
+                summary.additionalReferences() != null ? summary.additionalReferences() : new ArrayList<>()
+        );
+    }
+}
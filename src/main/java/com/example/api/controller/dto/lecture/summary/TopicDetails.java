@@ -1,11 +1,15 @@
 package com.example.api.controller.dto.lecture.summary;
 
+import com.example.api.entity.LectureSummary;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
 
 @Data
 @NoArgsConstructor
@@ -26,4 +30,25 @@ public class TopicDetails {
     
     @Schema(description = "Sub-topics under this topic")
     private List<TopicDetails> subTopics;
-}
\ No newline at end of file
+
+    // sub_topics는 재귀적으로 변환
+    public static TopicDetails from(LectureSummary.TopicDetails topic) {
+        return new TopicDetails(
+                topic.title(),
+                topic.description(),
+                PageRange.from(topic.pageRange()),
+                topic.additionalDetails() != null ? topic.additionalDetails() : new ArrayList<>(),
+                fromList(topic.subTopics())
+        );
+    }
+
+    public static List<TopicDetails> fromList(List<LectureSummary.TopicDetails> topics) {
+        if (topics == null) {
+            return new ArrayList<>();
+        }
+        return topics.stream()
+                .filter(Objects::nonNull)
+                .map(TopicDetails::from)
+                .collect(Collectors.toList());
+    }
+}
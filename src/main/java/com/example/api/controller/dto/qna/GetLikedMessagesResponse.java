@@ -3,6 +3,7 @@ package com.example.api.controller.dto.qna;
 import com.example.api.external.dto.langchain.ReferenceResponse;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.annotation.Nullable;
 import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -18,6 +19,10 @@ public class GetLikedMessagesResponse {
     private UUID chatId;
     @NotNull
     private List<LikedMessageItem> messages;
+    @NotNull
+    private boolean hasMore;
+    @Nullable
+    private String nextCursor; // 더 가져올 좋아요 메세지가 없는 경우 (hasMore가 false인 경우) Null
 
     @Getter
     @AllArgsConstructor
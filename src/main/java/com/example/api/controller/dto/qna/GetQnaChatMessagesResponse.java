@@ -22,7 +22,7 @@ public class GetQnaChatMessagesResponse {
     @NotNull
     private boolean hasMore;
     @Nullable
-    private UUID nextCursor; // 메세지가 아예 없거나, 더 가져올 메세지가 없는 경우 (hasMore가 false인 경우) Null일 수 있음
+    private String nextCursor; // 메세지가 아예 없거나, 더 가져올 메세지가 없는 경우 (hasMore가 false인 경우) Null일 수 있음
 
     @Getter
     @AllArgsConstructor
@@ -0,0 +1,23 @@
+package com.example.api.controller.dto.qna;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.UUID;
+
+@Getter
+@AllArgsConstructor
+@JsonIgnoreProperties({"ready"}) // getter 메소드 isReady()를 보고 Jackson이 JSON에 자동 생성하는 ready 필드는 무시
+public class GetRecommendedQuestionsResponse {
+    @NotNull
+    private UUID messageId;
+    @NotNull
+    @JsonProperty("isReady") // false이면 추천 질문 생성 중이므로 잠시 후 다시 조회
+    private boolean isReady;
+    @NotNull
+    private List<String> recommendedQuestions;
+}
@@ -0,0 +1,32 @@
+package com.example.api.controller.dto.quiz;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+import com.example.api.service.dto.quiz.LikedQuizItemListOutput;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Schema(description = "Page of liked quiz items response")
+public class LikedQuizItemListResponse {
+    @Schema(description = "List of liked quiz items, newest first")
+    private List<QuizItemResponse> quizItems;
+
+    @Schema(description = "Whether more liked quiz items exist after this page")
+    private boolean hasMore;
+
+    @Schema(description = "Cursor for the next page (null when hasMore is false)")
+    private String nextCursor;
+
+    public static LikedQuizItemListResponse fromServiceDto(LikedQuizItemListOutput output) {
+        List<QuizItemResponse> quizItemResponses = output.getQuizItems().stream()
+                .map(QuizItemResponse::fromServiceDto)
+                .toList();
+        return new LikedQuizItemListResponse(quizItemResponses, output.isHasMore(), output.getNextCursor());
+    }
+}
@@ -0,0 +1,159 @@
+package com.example.api.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * 쓰기 트랜잭션을 커밋한 사용자를 일정 시간 동안 primary에 고정합니다.
+ * replica의 복제 지연 때문에 방금 저장한 데이터(퀴즈 제출 직후 결과 조회, 좋아요 토글 직후 목록 조회 등)가 보이지 않는 것을 막습니다.
+ * 1. 애플리케이션 메모리 캐시 (같은 인스턴스로 들어온 요청)
+ * 2. 서명된 쿠키 (다른 인스턴스로 들어온 요청). 쓰기를 커밋한 요청의 응답에 사용자 ID와 만료 시각을 담아 내려보냄
+ * 읽기마다 외부 저장소를 조회하지 않으므로, 고정되지 않은 사용자의 읽기 전용 트랜잭션에는 네트워크 왕복이 추가되지 않습니다.
+ */
+public class ReadYourWritesPin {
+    public static final String COOKIE_NAME = "rw_pin";
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final String PINNED_UNTIL_ATTRIBUTE = ReadYourWritesPin.class.getName() + ".pinnedUntil";
+    private static final String ISSUED_UNTIL_ATTRIBUTE = ReadYourWritesPin.class.getName() + ".issuedUntil";
+
+    private final Cache<UUID, Boolean> pinnedUsers;
+    private final Duration window;
+    private final SecretKeySpec signingKey;
+
+    public ReadYourWritesPin(String secret, Duration window) {
+        this.window = window;
+        this.signingKey = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), HMAC_ALGORITHM);
+        this.pinnedUsers = Caffeine.newBuilder()
+                .maximumSize(10_000)
+                .expireAfterWrite(window)
+                .build();
+    }
+
+    /**
+     * 요청 스레드에서 호출되면 응답에 쿠키도 함께 내려보냅니다.
+     * QnA 파이프라인처럼 SecurityContext가 없는 비동기 단계의 쓰기는 사용자 ID를 직접 넘겨 호출해야 합니다. (이 경우 메모리 캐시에만 고정)
+     */
+    public void pin(UUID userId) {
+        pin(userId, Duration.ZERO);
+    }
+
+    /**
+     * 응답을 먼저 보내기 시작한 뒤에 쓰기가 이어지는 경우(SSE 스트리밍 등) 응답 헤더를 보내기 전에 extra만큼 더 길게 고정합니다.
+     */
+    public void pin(UUID userId, Duration extra) {
+        pinnedUsers.put(userId, Boolean.TRUE);
+
+        ServletRequestAttributes attributes = currentRequest();
+        if (attributes == null) {
+            return;
+        }
+        HttpServletResponse response = attributes.getResponse();
+        if (response == null || response.isCommitted()) {
+            return;
+        }
+        Duration duration = window.plus(extra);
+        long pinnedUntil = System.currentTimeMillis() + duration.toMillis();
+        // 한 요청에서 쓰기 트랜잭션이 여러 번 커밋되어도 쿠키는 더 긴 만료 시각이 필요할 때만 다시 내려보냄
+        HttpServletRequest request = attributes.getRequest();
+        if (request.getAttribute(ISSUED_UNTIL_ATTRIBUTE) instanceof Long issuedUntil
+                && issuedUntil >= pinnedUntil - duration.toMillis() / 2) {
+            return;
+        }
+        request.setAttribute(ISSUED_UNTIL_ATTRIBUTE, pinnedUntil);
+        ResponseCookie cookie = ResponseCookie.from(COOKIE_NAME, token(userId, pinnedUntil))
+                .httpOnly(true)
+                .secure(true)
+                .sameSite("Lax")
+                .path("/")
+                .maxAge(duration)
+                .build();
+        response.addHeader(HttpHeaders.SET_COOKIE, cookie.toString());
+    }
+
+    public boolean isPinned(UUID userId) {
+        if (pinnedUsers.getIfPresent(userId) != null) {
+            return true;
+        }
+        ServletRequestAttributes attributes = currentRequest();
+        if (attributes == null) {
+            return false;
+        }
+        return requestPinnedUntil(attributes.getRequest(), userId) > System.currentTimeMillis();
+    }
+
+    // 요청당 한 번만 쿠키를 검증하고 결과(만료 시각, 없으면 0)를 요청 속성에 저장
+    private long requestPinnedUntil(HttpServletRequest request, UUID userId) {
+        Object cached = request.getAttribute(PINNED_UNTIL_ATTRIBUTE);
+        if (cached instanceof Long pinnedUntil) {
+            return pinnedUntil;
+        }
+        long pinnedUntil = parse(request.getCookies(), userId);
+        request.setAttribute(PINNED_UNTIL_ATTRIBUTE, pinnedUntil);
+        return pinnedUntil;
+    }
+
+    private long parse(Cookie[] cookies, UUID userId) {
+        if (cookies == null) {
+            return 0L;
+        }
+        for (Cookie cookie : cookies) {
+            if (!COOKIE_NAME.equals(cookie.getName()) || cookie.getValue() == null) {
+                continue;
+            }
+            // {userId}.{pinnedUntil}.{signature}
+            String[] parts = cookie.getValue().split("\\.");
+            if (parts.length != 3 || !parts[0].equals(userId.toString())) {
+                continue;
+            }
+            try {
+                long pinnedUntil = Long.parseLong(parts[1]);
+                byte[] expected = sign(parts[0] + "." + parts[1]);
+                byte[] actual = Base64.getUrlDecoder().decode(parts[2]);
+                if (MessageDigest.isEqual(expected, actual)) {
+                    return pinnedUntil;
+                }
+            } catch (IllegalArgumentException e) {
+                // 형식이 잘못된 쿠키는 무시
+            }
+        }
+        return 0L;
+    }
+
+    private String token(UUID userId, long pinnedUntil) {
+        String payload = userId + "." + pinnedUntil;
+        return payload + "." + Base64.getUrlEncoder().withoutPadding().encodeToString(sign(payload));
+    }
+
+    private byte[] sign(String payload) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(signingKey);
+            return mac.doFinal(payload.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("read-your-writes 쿠키 서명 실패", e);
+        }
+    }
+
+    private ServletRequestAttributes currentRequest() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        return attributes instanceof ServletRequestAttributes servletAttributes ? servletAttributes : null;
+    }
+}
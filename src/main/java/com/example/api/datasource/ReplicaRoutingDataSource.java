@@ -0,0 +1,84 @@
+package com.example.api.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 서비스 계층의 {@code @Transactional(readOnly = true)} 메서드는 replica로, 그 외에는 primary로 보내는 DataSource입니다.
+ * 트랜잭션의 readOnly 여부가 정해진 뒤에 커넥션을 얻어야 하므로 LazyConnectionDataSourceProxy로 감싸서 사용합니다.
+ * <ul>
+ *     <li>Spring Data 리포지토리의 기본 readOnly 트랜잭션(findById 등)은 primary에서 읽습니다.
+ *     인증 필터처럼 가입/로그인 직후의 데이터를 바로 읽어야 하는 호출이 많기 때문입니다.</li>
+ *     <li>쓰기 트랜잭션을 커밋한 사용자는 {@link ReadYourWritesPin}에 의해 잠시 동안 primary에서 읽습니다.</li>
+ * </ul>
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+    public static final String PRIMARY = "primary";
+    public static final String REPLICA = "replica";
+
+    private static final String SERVICE_PACKAGE = "com.example.api.service.";
+
+    private final ReadYourWritesPin readYourWritesPin;
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica, ReadYourWritesPin readYourWritesPin) {
+        this.readYourWritesPin = readYourWritesPin;
+        setTargetDataSources(Map.of(PRIMARY, primary, REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return PRIMARY;
+        }
+
+        UUID userId = currentUserId();
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (userId != null) {
+                pinAfterCommit(userId);
+            }
+            return PRIMARY;
+        }
+
+        if (!isServiceTransaction() || (userId != null && readYourWritesPin.isPinned(userId))) {
+            return PRIMARY;
+        }
+        return REPLICA;
+    }
+
+    // 트랜잭션 이름은 @Transactional이 선언된 메서드의 전체 이름 (e.g., com.example.api.service.QuizServiceImpl.findQuizById)
+    private boolean isServiceTransaction() {
+        String name = TransactionSynchronizationManager.getCurrentTransactionName();
+        return name != null && name.startsWith(SERVICE_PACKAGE);
+    }
+
+    private void pinAfterCommit(UUID userId) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                readYourWritesPin.pin(userId);
+            }
+        });
+    }
+
+    private UUID currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || authentication instanceof AnonymousAuthenticationToken
+                || !(authentication.getPrincipal() instanceof String principal)) {
+            return null;
+        }
+        try {
+            return UUID.fromString(principal);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.api.datasource;
+
+import com.example.api.entity.ExamItem;
+import com.example.api.entity.QuizItem;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Hibernate 2차 캐시(인스턴스별 Caffeine region)의 엔티티 변경을 Redis pub/sub으로 다른 인스턴스에 전파합니다.
+ * 문항의 좋아요/배점처럼 사용자가 변경하는 캐시 엔티티는 변경 후 {@link #evict}를 호출하며,
+ * 커밋 후 모든 인스턴스(자신 포함)가 해당 엔티티를 2차 캐시에서 제거합니다.
+ * Redis 장애로 메시지가 전달되지 않으면 다른 인스턴스에는 region TTL(second-level-cache.entity-ttl-minutes)까지 이전 값이 남을 수 있습니다.
+ */
+@Component
+public class SecondLevelCacheEvictions implements MessageListener {
+    private static final Logger log = LoggerFactory.getLogger(SecondLevelCacheEvictions.class);
+
+    public static final String CHANNEL = "second-level-cache:evict";
+
+    // 메시지로 받은 엔티티 이름은 이 목록에 있는 경우에만 제거
+    private static final Map<String, Class<?>> ENTITIES = Map.of(
+            QuizItem.class.getSimpleName(), QuizItem.class,
+            ExamItem.class.getSimpleName(), ExamItem.class);
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final StringRedisTemplate redisTemplate;
+
+    public SecondLevelCacheEvictions(EntityManagerFactory entityManagerFactory, StringRedisTemplate redisTemplate) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.redisTemplate = redisTemplate;
+    }
+
+    /**
+     * 엔티티를 바로 제거하고, 커밋 후(트랜잭션 밖이면 바로) 다른 인스턴스에 제거 메시지를 발행합니다.
+     * 커밋 전에 다른 요청이 이전 값을 다시 캐싱할 수 있으므로 커밋 후에 자신의 캐시에서도 한 번 더 제거합니다.
+     */
+    public void evict(Class<?> entityClass, Collection<UUID> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        List<UUID> evictedIds = List.copyOf(ids);
+        evictLocal(entityClass, evictedIds);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictLocal(entityClass, evictedIds);
+                    publish(entityClass, evictedIds);
+                }
+            });
+        } else {
+            publish(entityClass, evictedIds);
+        }
+    }
+
+    // 메시지 형식: {엔티티 이름}:{id},{id},...
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.indexOf(':');
+        Class<?> entityClass = separator > 0 ? ENTITIES.get(body.substring(0, separator)) : null;
+        if (entityClass == null) {
+            log.warn("[SecondLevelCacheEvictions] 알 수 없는 제거 메시지: {}", body);
+            return;
+        }
+        try {
+            List<UUID> ids = Arrays.stream(body.substring(separator + 1).split(","))
+                    .map(UUID::fromString)
+                    .toList();
+            evictLocal(entityClass, ids);
+        } catch (IllegalArgumentException e) {
+            log.warn("[SecondLevelCacheEvictions] 잘못된 제거 메시지: {}", body, e);
+        }
+    }
+
+    private void evictLocal(Class<?> entityClass, Collection<UUID> ids) {
+        Cache cache = entityManagerFactory.getCache();
+        ids.forEach(id -> cache.evict(entityClass, id));
+    }
+
+    private void publish(Class<?> entityClass, Collection<UUID> ids) {
+        String message = entityClass.getSimpleName() + ":" + ids.stream()
+                .map(UUID::toString)
+                .collect(Collectors.joining(","));
+        try {
+            redisTemplate.convertAndSend(CHANNEL, message);
+        } catch (RuntimeException e) {
+            log.warn("[SecondLevelCacheEvictions] 제거 메시지 발행 실패: {}", message, e);
+        }
+    }
+}
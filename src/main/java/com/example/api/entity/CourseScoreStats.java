@@ -0,0 +1,50 @@
+package com.example.api.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// 과목별 퀴즈/시험 평균 점수를 한 행으로 조회하기 위한 집계 (결과 수와 백분율 점수 합계)
+@Getter
+@Setter
+@NoArgsConstructor
+@Entity
+@Table(name = "course_score_stats", schema = "app")
+public class CourseScoreStats {
+    @Id
+    @Column(name = "course_id")
+    private UUID courseId;
+
+    @Column(name = "quiz_result_count", nullable = false)
+    private Integer quizResultCount = 0;
+
+    @Column(name = "quiz_percentage_sum", nullable = false)
+    private Double quizPercentageSum = 0.0;
+
+    @Column(name = "exam_result_count", nullable = false)
+    private Integer examResultCount = 0;
+
+    @Column(name = "exam_percentage_sum", nullable = false)
+    private Double examPercentageSum = 0.0;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    @PreUpdate
+    public void touch() {
+        updatedAt = LocalDateTime.now();
+    }
+
+    public float getQuizAverage() {
+        return quizResultCount > 0 ? (float) (quizPercentageSum / quizResultCount) : 0f;
+    }
+
+    public float getExamAverage() {
+        return examResultCount > 0 ? (float) (examPercentageSum / examResultCount) : 0f;
+    }
+}
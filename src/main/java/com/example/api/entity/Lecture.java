@@ -1,5 +1,6 @@
 package com.example.api.entity;
 
+import com.example.api.entity.enums.EmbeddingStatus;
 import com.example.api.entity.enums.SummaryStatus;
 import jakarta.persistence.*;
 import lombok.Getter;
@@ -7,6 +8,7 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 import org.hibernate.annotations.Check;
 import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.annotations.LazyGroup;
 import org.hibernate.type.SqlTypes;
 
 
@@ -53,17 +55,25 @@ public class Lecture {
     @Column(name = "display_order_lex", nullable = false, length = 255)
     private String displayOrderLex;
 
+    // 용량이 큰 jsonb 컬럼은 실제로 접근할 때 컬럼별로 따로 조회 (Hibernate bytecode enhancement 필요, build.gradle 참고)
+    // 권한 확인, 퀴즈/QnA 처리 등에서 강의 엔티티를 로드해도 parsed_text를 읽지 않음
+    @Basic(fetch = FetchType.LAZY)
+    @LazyGroup("parsedText")
     @JdbcTypeCode(SqlTypes.JSON)
     @Column(name = "parsed_text", columnDefinition = "jsonb")
     private ParsedText parsedText;
 
+    @Basic(fetch = FetchType.LAZY)
+    @LazyGroup("note")
     @JdbcTypeCode(SqlTypes.JSON)
     @Column(columnDefinition = "jsonb")
     private Map<String, Object> note;
 
+    @Basic(fetch = FetchType.LAZY)
+    @LazyGroup("summary")
     @JdbcTypeCode(SqlTypes.JSON)
     @Column(columnDefinition = "jsonb")
-    private Map<String, Object> summary;
+    private LectureSummary summary;
 
     @Enumerated(EnumType.STRING)
     @Column(name = "summary_status", nullable = false, length = 20)
@@ -72,6 +82,14 @@ public class Lecture {
     @Column(name = "is_vectorized", nullable = false)
     private Boolean isVectorized = false;
 
+    @Enumerated(EnumType.STRING)
+    @Column(name = "embedding_status", nullable = false, length = 20)
+    private EmbeddingStatus embeddingStatus = EmbeddingStatus.not_started;
+
+    // 마지막으로 벡터화 요청을 발행한 시각 (in_progress로 오래 남은 요청을 다시 발행하기 위해 사용)
+    @Column(name = "embedding_requested_at")
+    private LocalDateTime embeddingRequestedAt;
+
     @Column(name = "created_at", nullable = false)
     private LocalDateTime createdAt;
 
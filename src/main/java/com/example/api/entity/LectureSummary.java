@@ -0,0 +1,50 @@
+package com.example.api.entity;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+// lectures.summary jsonb 컬럼의 구조 (summarize_lecture 작업의 summary_models.py와 동일한 snake_case 형식)
+// 청크별 metadata.chunk_info처럼 API에서 사용하지 않는 필드는 무시
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record LectureSummary(
+        Metadata metadata,
+        String overview,
+        List<Keyword> keywords,
+        List<TopicDetails> topics,
+        @JsonProperty("additional_references") List<String> additionalReferences
+) {
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Metadata(
+            String model,
+            @JsonProperty("created_at") String createdAt
+    ) {
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Keyword(
+            String keyword,
+            String description,
+            float relevance,
+            @JsonProperty("page_range") PageRange pageRange
+    ) {
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record TopicDetails(
+            String title,
+            String description,
+            @JsonProperty("page_range") PageRange pageRange,
+            @JsonProperty("additional_details") List<String> additionalDetails,
+            @JsonProperty("sub_topics") List<TopicDetails> subTopics
+    ) {
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record PageRange(
+            @JsonProperty("start_page") int startPage,
+            @JsonProperty("end_page") int endPage
+    ) {
+    }
+}
@@ -21,7 +21,7 @@ import java.util.UUID;
         name = "qna_chat_messages",
         schema = "app",
         indexes = {
-                @Index(name = "idx_qna_chat_messages_qna_chat_created_at", columnList = "qna_chat_id, created_at")
+                @Index(name = "idx_qna_chat_messages_qna_chat_created_at_id", columnList = "qna_chat_id, created_at, id")
         }
 )
 public class QnaChatMessage {
@@ -48,6 +48,10 @@ public class QnaChatMessage {
     @Column(name = "reference_chunks", columnDefinition = "jsonb") // references가 postgres 예약어라서 db에서는 reference_chunks로 저장
     private List<ReferenceResponse.ReferenceChunkResponse> references;
 
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "recommended_questions", columnDefinition = "jsonb") // AI 답변 저장 이후 비동기로 채워짐 (null이면 생성 중)
+    private List<String> recommendedQuestions;
+
     @Column(name = "is_liked", nullable = false)
     private Boolean isLiked;
 
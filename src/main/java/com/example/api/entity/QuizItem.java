@@ -1,10 +1,13 @@
 package com.example.api.entity;
 
+import com.example.api.config.SecondLevelCacheConfig;
 import com.example.api.entity.enums.QuestionType;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.Check;
 
 import java.time.LocalDateTime;
@@ -14,6 +17,8 @@ import java.util.UUID;
 @Setter
 @NoArgsConstructor
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SecondLevelCacheConfig.QUIZ_ITEM_REGION)
 @Table(
         name = "quiz_items",
         schema = "app",
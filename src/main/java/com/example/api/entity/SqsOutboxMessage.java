@@ -0,0 +1,61 @@
+package com.example.api.entity;
+
+import com.example.api.entity.enums.SqsOutboxMessageType;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@Entity
+@Table(
+        name = "sqs_outbox_messages",
+        schema = "app",
+        indexes = {
+                @Index(name = "idx_sqs_outbox_messages_group", columnList = "message_type, message_group_id, id")
+        }
+)
+public class SqsOutboxMessage {
+    // 같은 그룹 안에서의 발행 순서를 id 순서로 보장하기 위해 UUID 대신 증가하는 id를 사용
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "message_type", nullable = false, length = 50)
+    private SqsOutboxMessageType messageType;
+
+    @Column(name = "message_group_id", nullable = false, length = 100)
+    private String messageGroupId;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Column(nullable = false)
+    private Integer attempts = 0;
+
+    @Column(name = "last_error", columnDefinition = "TEXT")
+    private String lastError;
+
+    // 실패한 메시지는 이 시각 이후에 다시 발행 (null이면 바로 발행)
+    @Column(name = "next_attempt_at")
+    private LocalDateTime nextAttemptAt;
+
+    // 최대 시도 횟수를 넘겨 더 이상 발행하지 않는 메시지 (수동 확인 후 재처리)
+    @Column(name = "parked_at")
+    private LocalDateTime parkedAt;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    public void prePersist() {
+        if (createdAt == null) {
+            createdAt = LocalDateTime.now();
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package com.example.api.entity.enums;
+
+// 강의자료 벡터화(Langchain 임베딩 생성) 진행 상태
+public enum EmbeddingStatus {
+    not_started, in_progress, completed, failed
+}
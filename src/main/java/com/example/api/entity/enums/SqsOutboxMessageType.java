@@ -0,0 +1,6 @@
+package com.example.api.entity.enums;
+
+// outbox를 통해 발행되는 SQS 메시지 종류 (발행 대상 큐를 결정)
+public enum SqsOutboxMessageType {
+    grade_quiz_essay, grade_exam_essay, generate_course_weakness_analysis
+}
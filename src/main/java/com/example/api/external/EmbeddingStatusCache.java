@@ -0,0 +1,91 @@
+package com.example.api.external;
+
+import com.example.api.entity.Lecture;
+import com.example.api.entity.enums.EmbeddingStatus;
+import com.example.api.external.dto.langchain.EmbeddingCheckResponse;
+import com.example.api.repository.LectureRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * 강의자료 벡터화 상태를 단계적으로 확인하는 캐시입니다. LangChain 서버 확인(원격 호출)은 앞 단계가 모두 miss인 경우에만 수행합니다.
+ * 1. 애플리케이션 메모리 캐시 (최대 크기/만료 시간 제한)
+ * 2. lectures.is_vectorized 컬럼
+ * 3. LangChain 서버 /embeddings/check
+ * 재벡터화가 필요하거나 벡터화에 실패한 경우, 또는 레퍼런스 검색이 404를 반환한 경우 {@link #invalidate}로 1, 2단계를 모두 무효화합니다.
+ */
+@Component
+public class EmbeddingStatusCache {
+    private static final Logger log = LoggerFactory.getLogger(EmbeddingStatusCache.class);
+
+    private final LangchainClient langchainClient;
+    private final LectureRepository lectureRepository;
+    // 벡터화 완료된 강의만 저장 (미완료 상태는 캐싱하지 않음)
+    private final Cache<UUID, Boolean> vectorizedLectures;
+
+    public EmbeddingStatusCache(LangchainClient langchainClient,
+                                LectureRepository lectureRepository,
+                                @Value("${embedding-status-cache.max-size:10000}") long maxSize,
+                                @Value("${embedding-status-cache.ttl-minutes:60}") long ttlMinutes) {
+        this.langchainClient = langchainClient;
+        this.lectureRepository = lectureRepository;
+        this.vectorizedLectures = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .build();
+    }
+
+    public boolean isVectorized(Lecture lecture) {
+        UUID lectureId = lecture.getId();
+        if (vectorizedLectures.getIfPresent(lectureId) != null) {
+            return true;
+        }
+
+        if (Boolean.TRUE.equals(lecture.getIsVectorized())) {
+            vectorizedLectures.put(lectureId, Boolean.TRUE);
+            return true;
+        }
+
+        log.info("[EmbeddingStatusCache] 캐시 miss, LangChain 서버에서 벡터화 상태 확인: lectureId={}", lectureId);
+        EmbeddingCheckResponse checkResponse = langchainClient.checkEmbeddingStatus(lectureId);
+        if (checkResponse != null && checkResponse.isVectorized()) {
+            markVectorized(lecture);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * 벡터화 완료를 is_vectorized, embedding_status 컬럼과 메모리 캐시에 반영합니다.
+     * 전달받은 강의는 LangChain 호출 전에 조회한 엔티티이므로 save하지 않고 두 컬럼만 갱신합니다.
+     */
+    public void markVectorized(Lecture lecture) {
+        if (!Boolean.TRUE.equals(lecture.getIsVectorized())
+                || lecture.getEmbeddingStatus() != EmbeddingStatus.completed) {
+            lectureRepository.markVectorized(lecture.getId());
+            lecture.setIsVectorized(true);
+            lecture.setEmbeddingStatus(EmbeddingStatus.completed);
+        }
+        vectorizedLectures.put(lecture.getId(), Boolean.TRUE);
+    }
+
+    /**
+     * 벡터화 상태를 무효화합니다. 다음 확인 시 LangChain 서버에서 상태를 다시 확인합니다.
+     * 완료 상태였던 강의는 embedding_status를 not_started로 되돌려 벡터화 워커가 다시 요청하도록 합니다.
+     * 엔티티의 값과 관계없이 DB의 현재 상태를 기준으로 조건부 UPDATE를 수행합니다.
+     */
+    public void invalidate(Lecture lecture) {
+        vectorizedLectures.invalidate(lecture.getId());
+        if (lectureRepository.resetVectorized(lecture.getId())) {
+            lecture.setIsVectorized(false);
+            lecture.setEmbeddingStatus(EmbeddingStatus.not_started);
+        }
+    }
+}
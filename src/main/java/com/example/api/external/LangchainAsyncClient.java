@@ -0,0 +1,24 @@
+package com.example.api.external;
+
+import com.example.api.adapters.llm.ChatMessage;
+import com.example.api.entity.ParsedText;
+import com.example.api.external.dto.langchain.EmbeddingCheckResponse;
+import com.example.api.external.dto.langchain.LectureEmbeddingResponse;
+import com.example.api.external.dto.langchain.MessageContextResponse;
+import com.example.api.external.dto.langchain.ReferenceResponse;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.UUID;
+
+// LangchainClient의 논블로킹 버전입니다. 실패 시 동작(예외 종류, 빈 응답 처리)은 블로킹 버전과 동일합니다.
+public interface LangchainAsyncClient {
+    Mono<LectureEmbeddingResponse> generateLectureEmbeddingsAsync(UUID lectureId, ParsedText parsedText);
+    // 확인 실패 시 에러 대신 빈 Mono를 반환합니다.
+    Mono<EmbeddingCheckResponse> checkEmbeddingStatusAsync(UUID lectureId);
+    Mono<ReferenceResponse> findReferencesInLectureAsync(UUID lectureId, String question, int maxNumReferences, double minSimilarity);
+    // matchSimilarQuestions가 true이면 같은 강의의 이전 질문 중 유사한 질문(similarQuestions)도 함께 반환합니다.
+    Mono<ReferenceResponse> findReferencesInLectureAsync(UUID lectureId, String question, int maxNumReferences, double minSimilarity, boolean matchSimilarQuestions);
+    Mono<MessageContextResponse> appendMessagesAsync(UUID chatId, List<ChatMessage> messages);
+    Mono<MessageContextResponse> getMessageContextAsync(UUID chatId);
+}
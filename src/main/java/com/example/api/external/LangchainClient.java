@@ -14,6 +14,7 @@ public interface LangchainClient {
     LectureEmbeddingResponse generateLectureEmbeddings(UUID lectureId, ParsedText parsedText);
     EmbeddingCheckResponse checkEmbeddingStatus(UUID lectureId);
     ReferenceResponse findReferencesInLecture(UUID lectureId, String question, int maxNumReferences, double minSimilarity);
+    ReferenceResponse findReferencesInLecture(UUID lectureId, String question, int maxNumReferences, double minSimilarity, boolean matchSimilarQuestions);
     MessageContextResponse appendMessages(UUID chatId, List<ChatMessage> messages);
     MessageContextResponse getMessageContext(UUID chatId);
 }
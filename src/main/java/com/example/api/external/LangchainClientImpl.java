@@ -5,175 +5,240 @@ import com.example.api.entity.ParsedText;
 import com.example.api.exception.InternalServerErrorException;
 import com.example.api.exception.NotFoundException;
 import com.example.api.external.dto.langchain.*;
-import lombok.RequiredArgsConstructor;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.*;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
-import org.springframework.web.client.HttpClientErrorException;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Duration;
 import java.util.List;
 import java.util.UUID;
+import java.util.zip.GZIPOutputStream;
 
-@RequiredArgsConstructor
+/**
+ * Langchain 서버 클라이언트입니다. 모든 호출은 커넥션 풀이 설정된 WebClient({@link com.example.api.config.LangchainClientConfig})로 수행되며,
+ * 블로킹 메서드는 논블로킹 메서드의 결과를 기다려 반환합니다.
+ */
 @Component
-public class LangchainClientImpl implements LangchainClient {
+public class LangchainClientImpl implements LangchainClient, LangchainAsyncClient {
 
     private static final Logger log = LoggerFactory.getLogger(LangchainClientImpl.class);
 
-    private final RestTemplate restTemplate;
+    private final WebClient webClient;
+    private final WebClient embeddingWebClient;
+    private final ObjectMapper objectMapper;
 
-    @Value("${langchain.server.url}")
-    private String langchainServerUrl;
+    @Value("${langchain.client.timeouts.embeddings-ms:120000}")
+    private long embeddingsTimeoutMs; // 2분
+
+    @Value("${langchain.client.timeouts.embeddings-check-ms:3000}")
+    private long embeddingsCheckTimeoutMs; // 3초
+
+    @Value("${langchain.client.timeouts.references-ms:10000}")
+    private long referencesTimeoutMs; // 10초
+
+    @Value("${langchain.client.timeouts.messages-ms:5000}")
+    private long messagesTimeoutMs; // 5초
+
+    // parsed_text는 수 MB까지 커질 수 있으므로 gzip으로 압축하여 전송 (Content-Encoding: gzip)
+    @Value("${langchain.client.gzip-embedding-request:true}")
+    private boolean gzipEmbeddingRequest;
+
+    public LangchainClientImpl(@Qualifier("langchainWebClient") WebClient webClient,
+                               @Qualifier("langchainEmbeddingWebClient") WebClient embeddingWebClient,
+                               ObjectMapper objectMapper) {
+        this.webClient = webClient;
+        this.embeddingWebClient = embeddingWebClient;
+        this.objectMapper = objectMapper;
+    }
 
     @Override
     public LectureEmbeddingResponse generateLectureEmbeddings(UUID lectureId, ParsedText parsedText) {
-        log.info("[LangchainClient] 호출: generateLectureEmbeddings(lectureId={})", lectureId);
-
-        LectureEmbeddingRequest body = new LectureEmbeddingRequest(parsedText);
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
-        HttpEntity<LectureEmbeddingRequest> request = new HttpEntity<>(body, headers);
-
-        try {ResponseEntity<LectureEmbeddingResponse> response = restTemplate.exchange(
-                langchainServerUrl + "/lectures/" + lectureId + "/embeddings",
-                    HttpMethod.POST,
-                    request,
-                    LectureEmbeddingResponse.class
-            );
-
-            if (response.getBody() == null) {
-                throw new InternalServerErrorException("Langchain 벡터화 응답이 비었습니다.");
-            }
-
-            log.info("[LangchainClient] 벡터화 완료: {} chunks 생성됨", response.getBody().getTotalChunks());
-            return response.getBody();
-
-        } catch (HttpClientErrorException e) {
-            log.error("Langchain 벡터화 요청 실패: {}", e.getMessage(), e);
-            throw new InternalServerErrorException("Langchain 벡터화 요청 실패: " + e.getStatusCode());
-        } catch (Exception e) {
-            log.error("Langchain 벡터화 중 알 수 없는 예외 발생: {}", e.getMessage(), e);
-            throw new InternalServerErrorException("Langchain 벡터화 중 서버 오류가 발생했습니다.");
-        }
+        return generateLectureEmbeddingsAsync(lectureId, parsedText).block();
     }
 
     @Override
     public EmbeddingCheckResponse checkEmbeddingStatus(UUID lectureId) {
-        String url = langchainServerUrl + "/lectures/" + lectureId + "/embeddings/check";
-        try {
-            ResponseEntity<EmbeddingCheckResponse> response = restTemplate.exchange(
-                    url,
-                    HttpMethod.GET,
-                    null,
-                    EmbeddingCheckResponse.class
-            );
-            return response.getBody();
-        } catch (Exception e) {
-            log.warn("[Langchain] 벡터 스토어 체크 실패: {}", e.getMessage());
-            return null;
-        }
+        return checkEmbeddingStatusAsync(lectureId).block();
     }
 
     @Override
     public ReferenceResponse findReferencesInLecture(UUID lectureId, String question, int maxNumReferences, double minSimilarity) {
-        try {log.info("[LangchainClient] 호출: findReferencesInLecture(lectureId={}, question={}, maxNumReferences={}, minSimilarity={})", lectureId, question, maxNumReferences, minSimilarity);
-
-            ReferenceRequest requestDto = new ReferenceRequest(question, maxNumReferences, minSimilarity);
-
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-            HttpEntity<ReferenceRequest> request = new HttpEntity<>(requestDto, headers);
-
-            ResponseEntity<ReferenceResponse> response = restTemplate.exchange(
-                    langchainServerUrl + "/lectures/" + lectureId + "/references",
-                    HttpMethod.POST,
-                    request,
-                    ReferenceResponse.class
-            );
-
-            log.info("[LangchainClient] 성공: 출처 {}개 반환됨", response.getBody().getReferences().size());
-            return response.getBody();
-
-        } catch (HttpClientErrorException e) {
-            if (e.getStatusCode() == HttpStatus.NOT_FOUND) {
-                log.warn("Langchain 서버에서 lecture index 없음 (404)");
-                throw new NotFoundException("강의자료 벡터 인덱스가 존재하지 않습니다.");
-            }
-            log.error("Langchain 4xx 응답: {}", e.getMessage(), e);
-            throw new InternalServerErrorException("Langchain 서버에서 4xx 에러가 발생했습니다.");
-        } catch (Exception e) {
-            log.error("Langchain references API 실패: {}", e.getMessage(), e);
-            throw new InternalServerErrorException("Langchain 서버 호출 중 에러 발생");
-        }
+        return findReferencesInLectureAsync(lectureId, question, maxNumReferences, minSimilarity).block();
+    }
+
+    @Override
+    public ReferenceResponse findReferencesInLecture(UUID lectureId, String question, int maxNumReferences, double minSimilarity, boolean matchSimilarQuestions) {
+        return findReferencesInLectureAsync(lectureId, question, maxNumReferences, minSimilarity, matchSimilarQuestions).block();
     }
 
     @Override
     public MessageContextResponse appendMessages(UUID chatId, List<ChatMessage> messages) {
+        return appendMessagesAsync(chatId, messages).block();
+    }
+
+    @Override
+    public MessageContextResponse getMessageContext(UUID chatId) {
+        return getMessageContextAsync(chatId).block();
+    }
+
+    @Override
+    public Mono<LectureEmbeddingResponse> generateLectureEmbeddingsAsync(UUID lectureId, ParsedText parsedText) {
+        log.info("[LangchainClient] 호출: generateLectureEmbeddings(lectureId={})", lectureId);
+
+        LectureEmbeddingRequest body = new LectureEmbeddingRequest(parsedText);
+        WebClient.RequestBodySpec request = embeddingWebClient.post()
+                .uri("/lectures/{lectureId}/embeddings", lectureId)
+                .contentType(MediaType.APPLICATION_JSON);
+
+        Mono<WebClient.RequestHeadersSpec<?>> requestWithBody = gzipEmbeddingRequest
+                ? Mono.fromCallable(() -> request
+                        .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                        .bodyValue(gzip(body)))
+                : Mono.just(request.bodyValue(body));
+
+        return requestWithBody
+                .flatMap(spec -> spec.retrieve().bodyToMono(LectureEmbeddingResponse.class))
+                .timeout(Duration.ofMillis(embeddingsTimeoutMs))
+                .onErrorMap(e -> !(e instanceof InternalServerErrorException), e -> {
+                    if (e instanceof WebClientResponseException responseException
+                            && responseException.getStatusCode().is4xxClientError()) {
+                        log.error("Langchain 벡터화 요청 실패: {}", e.getMessage(), e);
+                        return new InternalServerErrorException("Langchain 벡터화 요청 실패: " + responseException.getStatusCode());
+                    }
+                    log.error("Langchain 벡터화 중 알 수 없는 예외 발생: {}", e.getMessage(), e);
+                    return new InternalServerErrorException("Langchain 벡터화 중 서버 오류가 발생했습니다.");
+                })
+                .switchIfEmpty(Mono.error(() -> new InternalServerErrorException("Langchain 벡터화 응답이 비었습니다.")))
+                .doOnNext(response -> log.info("[LangchainClient] 벡터화 완료: {} chunks 생성됨", response.getTotalChunks()));
+    }
+
+    @Override
+    public Mono<EmbeddingCheckResponse> checkEmbeddingStatusAsync(UUID lectureId) {
+        return webClient.get()
+                .uri("/lectures/{lectureId}/embeddings/check", lectureId)
+                .retrieve()
+                .bodyToMono(EmbeddingCheckResponse.class)
+                .timeout(Duration.ofMillis(embeddingsCheckTimeoutMs))
+                .onErrorResume(e -> {
+                    log.warn("[Langchain] 벡터 스토어 체크 실패: {}", e.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    @Override
+    public Mono<ReferenceResponse> findReferencesInLectureAsync(UUID lectureId, String question, int maxNumReferences, double minSimilarity) {
+        return findReferencesInLectureAsync(lectureId, question, maxNumReferences, minSimilarity, false);
+    }
+
+    @Override
+    public Mono<ReferenceResponse> findReferencesInLectureAsync(UUID lectureId, String question, int maxNumReferences, double minSimilarity, boolean matchSimilarQuestions) {
+        log.info("[LangchainClient] 호출: findReferencesInLecture(lectureId={}, question={}, maxNumReferences={}, minSimilarity={}, matchSimilarQuestions={})", lectureId, question, maxNumReferences, minSimilarity, matchSimilarQuestions);
+
+        ReferenceRequest requestDto = matchSimilarQuestions
+                ? new ReferenceRequest(question, maxNumReferences, minSimilarity, true)
+                : new ReferenceRequest(question, maxNumReferences, minSimilarity);
+
+        return webClient.post()
+                .uri("/lectures/{lectureId}/references", lectureId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(requestDto)
+                .retrieve()
+                .bodyToMono(ReferenceResponse.class)
+                .timeout(Duration.ofMillis(referencesTimeoutMs))
+                .doOnNext(response -> log.info("[LangchainClient] 성공: 출처 {}개 반환됨",
+                        response.getReferences() != null ? response.getReferences().size() : 0))
+                .onErrorMap(e -> {
+                    if (e instanceof WebClientResponseException responseException
+                            && responseException.getStatusCode().is4xxClientError()) {
+                        if (responseException instanceof WebClientResponseException.NotFound) {
+                            log.warn("Langchain 서버에서 lecture index 없음 (404)");
+                            return new NotFoundException("강의자료 벡터 인덱스가 존재하지 않습니다.");
+                        }
+                        log.error("Langchain 4xx 응답: {}", e.getMessage(), e);
+                        return new InternalServerErrorException("Langchain 서버에서 4xx 에러가 발생했습니다.");
+                    }
+                    log.error("Langchain references API 실패: {}", e.getMessage(), e);
+                    return new InternalServerErrorException("Langchain 서버 호출 중 에러 발생");
+                })
+                .switchIfEmpty(Mono.error(() -> new InternalServerErrorException("Langchain 서버 호출 중 에러 발생")));
+    }
+
+    @Override
+    public Mono<MessageContextResponse> appendMessagesAsync(UUID chatId, List<ChatMessage> messages) {
         log.info("[LangchainClient] 호출: appendMessages(chatId={}, messageCount={})", chatId, messages.size());
 
         MessageContextRequest requestDto = new MessageContextRequest(chatId, messages);
 
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
-        HttpEntity<MessageContextRequest> request = new HttpEntity<>(requestDto, headers);
-
-        try {ResponseEntity<MessageContextResponse> response = restTemplate.exchange(
-                    langchainServerUrl + "/messages",
-                    HttpMethod.POST,
-                    request,
-                    MessageContextResponse.class
-            );
-
-            if (response.getStatusCode() == HttpStatus.OK && response.getBody() != null) {
-                List<ChatMessage> messageContext = response.getBody().getLangchainChatContext();
-                log.info("[LangchainClient] appendMessages 성공: message count = {}", messageContext != null ? messageContext.size() : 0);
-                return new MessageContextResponse(messageContext != null ? messageContext : List.of());
-            } else {
-                log.warn("[LangchainClient] appendMessages 응답 없음 또는 바디 null");
-                return new MessageContextResponse(List.of());
-            }
-        } catch (HttpClientErrorException e) {
-            log.error("Langchain appendMessages 4xx 응답: {}", e.getMessage(), e);
-            throw new InternalServerErrorException("Langchain appendMessages 요청 실패: " + e.getStatusCode());
-        } catch (Exception e) {
-            log.error("Langchain appendMessages 호출 실패: {}", e.getMessage(), e);
-            throw new InternalServerErrorException("Langchain appendMessages 중 서버 오류가 발생했습니다.");
-        }
+        return webClient.post()
+                .uri("/messages")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(requestDto)
+                .retrieve()
+                .bodyToMono(MessageContextResponse.class)
+                .timeout(Duration.ofMillis(messagesTimeoutMs))
+                .map(response -> {
+                    List<ChatMessage> messageContext = response.getLangchainChatContext();
+                    log.info("[LangchainClient] appendMessages 성공: message count = {}", messageContext != null ? messageContext.size() : 0);
+                    return new MessageContextResponse(messageContext != null ? messageContext : List.of());
+                })
+                .switchIfEmpty(Mono.fromSupplier(() -> {
+                    log.warn("[LangchainClient] appendMessages 응답 없음 또는 바디 null");
+                    return new MessageContextResponse(List.of());
+                }))
+                .onErrorMap(e -> {
+                    if (e instanceof WebClientResponseException responseException
+                            && responseException.getStatusCode().is4xxClientError()) {
+                        log.error("Langchain appendMessages 4xx 응답: {}", e.getMessage(), e);
+                        return new InternalServerErrorException("Langchain appendMessages 요청 실패: " + responseException.getStatusCode());
+                    }
+                    log.error("Langchain appendMessages 호출 실패: {}", e.getMessage(), e);
+                    return new InternalServerErrorException("Langchain appendMessages 중 서버 오류가 발생했습니다.");
+                });
     }
 
-
     @Override
-    public MessageContextResponse getMessageContext(UUID chatId) {
+    public Mono<MessageContextResponse> getMessageContextAsync(UUID chatId) {
         log.info("[LangchainClient] 호출: getMessageContext(chatId={})", chatId);
 
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
-        HttpEntity<Void> request = new HttpEntity<>(headers);
-
-        try {ResponseEntity<MessageContextResponse> response = restTemplate.exchange(
-                    langchainServerUrl + "/messages-context?chat_id=" + chatId,
-                    HttpMethod.GET,
-                    request,
-                    MessageContextResponse.class
-            );
-
-            if (response.getStatusCode() == HttpStatus.OK && response.getBody() != null) {
-                List<ChatMessage> messageContext = response.getBody().getLangchainChatContext();
-                log.info("[LangchainClient] getMessageContext 응답 수신 완료: message count = {}", messageContext != null ? messageContext.size() : 0);
-                return new MessageContextResponse(messageContext != null ? messageContext : List.of());
-            } else {
-                log.warn("Langchain 서버에서 응답 없음 또는 바디 null");
-                return new MessageContextResponse(List.of());
-            }
-        } catch (HttpClientErrorException.NotFound e) {
-            log.warn("Langchain 서버에 해당 chat_id={} 없습니다. 새 대화 시작으로 간주합니다.", chatId);
-            return new MessageContextResponse(List.of());
-        } catch (Exception e) {
-            log.error("Langchain getMessageContext 호출 실패: {}", e.getMessage(), e);
-            throw new InternalServerErrorException("Langchain 서버 호출 중 에러 발생");
+        return webClient.get()
+                .uri(uriBuilder -> uriBuilder.path("/messages-context").queryParam("chat_id", chatId).build())
+                .retrieve()
+                .bodyToMono(MessageContextResponse.class)
+                .timeout(Duration.ofMillis(messagesTimeoutMs))
+                .map(response -> {
+                    List<ChatMessage> messageContext = response.getLangchainChatContext();
+                    log.info("[LangchainClient] getMessageContext 응답 수신 완료: message count = {}", messageContext != null ? messageContext.size() : 0);
+                    return new MessageContextResponse(messageContext != null ? messageContext : List.of());
+                })
+                .switchIfEmpty(Mono.fromSupplier(() -> {
+                    log.warn("Langchain 서버에서 응답 없음 또는 바디 null");
+                    return new MessageContextResponse(List.of());
+                }))
+                .onErrorResume(WebClientResponseException.NotFound.class, e -> {
+                    log.warn("Langchain 서버에 해당 chat_id={} 없습니다. 새 대화 시작으로 간주합니다.", chatId);
+                    return Mono.just(new MessageContextResponse(List.of()));
+                })
+                .onErrorMap(e -> {
+                    log.error("Langchain getMessageContext 호출 실패: {}", e.getMessage(), e);
+                    return new InternalServerErrorException("Langchain 서버 호출 중 에러 발생");
+                });
+    }
+
+    private byte[] gzip(Object body) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(buffer)) {
+            objectMapper.writeValue(gzip, body);
         }
+        return buffer.toByteArray();
     }
 }
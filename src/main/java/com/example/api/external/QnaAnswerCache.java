@@ -0,0 +1,191 @@
+package com.example.api.external;
+
+import com.example.api.external.dto.langchain.ReferenceResponse;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+
+/**
+ * 강의별 QnA 답변 캐시입니다 (Redis). 같은 강의에 대해 정규화된 질문이 같으면 출처 검색과 GPT 호출 없이 이전 답변을 재사용합니다.
+ * 1. 정확 매칭: 정규화된 질문 텍스트의 해시를 키로 조회
+ * 2. 유사 매칭(옵션): Langchain 출처 검색 응답의 similar_questions 중 유사도가 기준 이상인 질문의 답변을 조회
+ * 답변은 이전 대화 맥락에 따라 달라지므로, 대화 맥락이 비어있는 경우에만 캐시를 사용/저장해야 합니다.
+ * Redis 장애 시에는 캐시 miss로 처리하여 질문 처리를 막지 않습니다.
+ */
+@Component
+public class QnaAnswerCache {
+    private static final Logger log = LoggerFactory.getLogger(QnaAnswerCache.class);
+
+    private static final String KEY_FORMAT = "qna_answer:lecture:%s:question:%s";
+    private static final String METRIC = "qna.answer_cache";
+    public static final String MATCH_EXACT = "exact";
+    public static final String MATCH_SIMILAR = "similar";
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final Duration ttl;
+    private final boolean similarMatchEnabled;
+    private final double minQuestionSimilarity;
+
+    public QnaAnswerCache(StringRedisTemplate redisTemplate,
+                          ObjectMapper objectMapper,
+                          MeterRegistry meterRegistry,
+                          @Value("${qna.answer-cache.enabled:true}") boolean enabled,
+                          @Value("${qna.answer-cache.ttl-hours:24}") long ttlHours,
+                          @Value("${qna.answer-cache.similar-match.enabled:false}") boolean similarMatchEnabled,
+                          @Value("${qna.answer-cache.similar-match.min-similarity:0.93}") double minQuestionSimilarity) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.ttl = Duration.ofHours(ttlHours);
+        this.similarMatchEnabled = enabled && similarMatchEnabled;
+        this.minQuestionSimilarity = minQuestionSimilarity;
+    }
+
+    /**
+     * 출처 검색 시 유사 질문 매칭(similar_questions)을 함께 요청해야 하는지 여부
+     */
+    public boolean isSimilarMatchEnabled() {
+        return similarMatchEnabled;
+    }
+
+    /**
+     * 정규화된 질문이 같은 답변을 조회합니다. 없으면 null을 반환합니다.
+     */
+    public CachedAnswer findExact(UUID lectureId, String question) {
+        if (!enabled) {
+            return null;
+        }
+        CachedAnswer cached = get(lectureId, question);
+        if (cached != null) {
+            cached.setMatch(MATCH_EXACT);
+        }
+        return cached;
+    }
+
+    /**
+     * 유사도가 기준 이상인 이전 질문의 답변을 유사도 순으로 조회합니다. 없으면 null을 반환합니다.
+     */
+    public CachedAnswer findSimilar(UUID lectureId, List<ReferenceResponse.SimilarQuestionResponse> similarQuestions) {
+        if (!similarMatchEnabled || similarQuestions == null) {
+            return null;
+        }
+        for (ReferenceResponse.SimilarQuestionResponse similarQuestion : similarQuestions) {
+            if (similarQuestion.getSimilarity() < minQuestionSimilarity) {
+                break;
+            }
+            CachedAnswer cached = get(lectureId, similarQuestion.getQuestion());
+            if (cached != null) {
+                log.info("[QnaAnswerCache] 유사 질문 답변 재사용: lectureId={}, similarity={}", lectureId, similarQuestion.getSimilarity());
+                cached.setMatch(MATCH_SIMILAR);
+                return cached;
+            }
+        }
+        return null;
+    }
+
+    public void put(UUID lectureId, String question, String answer, List<ReferenceResponse.ReferenceChunkResponse> references) {
+        if (!enabled) {
+            return;
+        }
+        try {
+            CachedAnswer cached = new CachedAnswer(question, answer, references, LocalDateTime.now(), null);
+            redisTemplate.opsForValue().set(buildKey(lectureId, question), objectMapper.writeValueAsString(cached), ttl);
+        } catch (Exception e) {
+            log.warn("[QnaAnswerCache] 답변 캐시 저장 실패: lectureId={}, error={}", lectureId, e.getMessage());
+        }
+    }
+
+    public void recordHit(CachedAnswer cached) {
+        count("hit", cached.getMatch());
+    }
+
+    public void recordMiss() {
+        count("miss", "none");
+    }
+
+    // 이전 대화 맥락이 있어 캐시를 사용하지 않은 경우
+    public void recordSkip() {
+        count("skip", "none");
+    }
+
+    /**
+     * 질문 텍스트를 캐시 키 용도로 정규화합니다. (유니코드 호환 정규화, 소문자화, 문장부호 제거, 공백 정리)
+     * C#, C++ 처럼 의미가 있는 기호는 유지하고 물음표, 마침표 등 문장부호만 제거합니다.
+     */
+    static String normalize(String question) {
+        String normalized = Normalizer.normalize(question, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        normalized = normalized.replaceAll("[?!.,~…'\"“”‘’]", " ");
+        return normalized.trim().replaceAll("\\s+", " ");
+    }
+
+    private CachedAnswer get(UUID lectureId, String question) {
+        try {
+            String value = redisTemplate.opsForValue().get(buildKey(lectureId, question));
+            return value != null ? objectMapper.readValue(value, CachedAnswer.class) : null;
+        } catch (Exception e) {
+            log.warn("[QnaAnswerCache] 답변 캐시 조회 실패: lectureId={}, error={}", lectureId, e.getMessage());
+            return null;
+        }
+    }
+
+    private String buildKey(UUID lectureId, String question) {
+        return String.format(KEY_FORMAT, lectureId, sha256(normalize(question)));
+    }
+
+    private static String sha256(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void count(String result, String match) {
+        Counter.builder(METRIC)
+                .description("QnA answer cache lookups")
+                .tag("result", result)
+                .tag("match", match)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class CachedAnswer {
+        private String question;
+        private String answer;
+        private List<ReferenceResponse.ReferenceChunkResponse> references;
+        private LocalDateTime cachedAt;
+        // 조회 방식 (exact, similar), 저장하지 않음
+        @JsonIgnore
+        private String match;
+    }
+}
@@ -1,15 +1,24 @@
 package com.example.api.external.dto.langchain;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
 @Getter
 @AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class ReferenceRequest {
     private String question;
     @JsonProperty("max_num_references")
     private int maxNumReferences;
     @JsonProperty("min_similarity")
     private double minSimilarity;
-}
\ No newline at end of file
+    // true인 경우 같은 강의의 이전 질문 중 유사한 질문(similar_questions)도 함께 반환
+    @JsonProperty("match_similar_questions")
+    private Boolean matchSimilarQuestions;
+
+    public ReferenceRequest(String question, int maxNumReferences, double minSimilarity) {
+        this(question, maxNumReferences, minSimilarity, null);
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.api.external.dto.langchain;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.NoArgsConstructor;
@@ -12,6 +13,10 @@ import java.util.List;
 public class ReferenceResponse {
     private List<ReferenceChunkResponse> references;
 
+    // match_similar_questions 요청 시에만 채워지며, 유사도 내림차순으로 정렬되어 있음
+    @JsonProperty("similar_questions")
+    private List<SimilarQuestionResponse> similarQuestions;
+
     @Getter
     @Setter
     @NoArgsConstructor
@@ -20,4 +25,13 @@ public class ReferenceResponse {
         private String text;
         private int page;
     }
-}
\ No newline at end of file
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class SimilarQuestionResponse {
+        private String question;
+        private double similarity;
+    }
+}
@@ -0,0 +1,225 @@
+package com.example.api.grading;
+
+import com.example.api.entity.ExamItem;
+import com.example.api.entity.QuizItem;
+import com.example.api.entity.enums.QuestionType;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 퀴즈/시험 하나의 정답을 채점하기 쉬운 형태로 미리 변환해 둔 정답 키입니다.
+ * 문제별로 객관식 정답은 비트마스크(long), OX 정답은 byte, 단답형 정답은 정규화된 문자열로 보관하여
+ * 풀이마다 Set을 만들거나 엔티티를 다시 조회하지 않고 메모리에서 바로 채점합니다.
+ * 만들어진 뒤에는 변경되지 않으므로 여러 스레드에서 공유해도 안전합니다.
+ */
+public final class AnswerKey {
+    // 객관식 보기 인덱스는 0~62까지만 허용 (비트 63은 잘못된 선택을 나타내는 값으로 사용)
+    static final int MAX_CHOICE_INDEX = 62;
+    private static final long INVALID_SELECTION = -1L;
+
+    private static final byte NO_ANSWER = -1;
+    private static final byte FALSE_ANSWER = 0;
+    private static final byte TRUE_ANSWER = 1;
+
+    private final ScoringPolicy scoringPolicy;
+    private final Map<UUID, Integer> indexByItemId;
+    private final int size;
+    private final UUID[] itemIds;
+    private final QuestionType[] questionTypes;
+    private final float[] points;
+    private final byte[] trueAnswers;
+    private final long[] choiceMasks;
+    private final boolean[] hasChoiceAnswer;
+    private final String[] textAnswers;
+    private final float maxScore;
+
+    private AnswerKey(Builder builder) {
+        this.scoringPolicy = builder.scoringPolicy;
+        this.indexByItemId = builder.indexByItemId;
+        this.size = builder.size;
+        this.itemIds = builder.itemIds;
+        this.questionTypes = builder.questionTypes;
+        this.points = builder.points;
+        this.trueAnswers = builder.trueAnswers;
+        this.choiceMasks = builder.choiceMasks;
+        this.hasChoiceAnswer = builder.hasChoiceAnswer;
+        this.textAnswers = builder.textAnswers;
+
+        float total = 0f;
+        for (int i = 0; i < size; i++) {
+            total += points[i];
+        }
+        this.maxScore = total;
+    }
+
+    public static AnswerKey fromQuizItems(List<QuizItem> quizItems, ScoringPolicy scoringPolicy) {
+        Builder builder = new Builder(quizItems.size(), scoringPolicy);
+        for (QuizItem quizItem : quizItems) {
+            builder.add(quizItem.getId(), quizItem.getQuestionType(),
+                    quizItem.getIsTrueAnswer(), quizItem.getAnswerIndices(), quizItem.getTextAnswer());
+        }
+        return builder.build();
+    }
+
+    public static AnswerKey fromExamItems(List<ExamItem> examItems, ScoringPolicy scoringPolicy) {
+        Builder builder = new Builder(examItems.size(), scoringPolicy);
+        for (ExamItem examItem : examItems) {
+            builder.add(examItem.getId(), examItem.getQuestionType(),
+                    examItem.getIsTrueAnswer(), examItem.getAnswerIndices(), examItem.getTextAnswer());
+        }
+        return builder.build();
+    }
+
+    public boolean contains(UUID itemId) {
+        return indexByItemId.containsKey(itemId);
+    }
+
+    public QuestionType questionType(UUID itemId) {
+        return questionTypes[indexOf(itemId)];
+    }
+
+    public float points(UUID itemId) {
+        return points[indexOf(itemId)];
+    }
+
+    public float maxScore() {
+        return maxScore;
+    }
+
+    // 문제 ID별 배점 (문제 순서 유지)
+    public Map<UUID, Float> pointsByItemId() {
+        Map<UUID, Float> result = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+            result.put(itemIds[i], points[i]);
+        }
+        return result;
+    }
+
+    /**
+     * 서술형을 제외한 문제의 풀이 점수를 계산합니다. 답을 제출하지 않았거나 정답이 없는 문제는 0점입니다.
+     */
+    public float score(UUID itemId, Boolean selectedBool, Integer[] selectedIndices, String textAnswer) {
+        return score(indexOf(itemId), selectedBool, selectedIndices, textAnswer);
+    }
+
+    /**
+     * 배점을 모두 받은 경우에만 정답으로 봅니다.
+     */
+    public boolean isCorrect(UUID itemId, Boolean selectedBool, Integer[] selectedIndices, String textAnswer) {
+        int index = indexOf(itemId);
+        return score(index, selectedBool, selectedIndices, textAnswer) >= points[index];
+    }
+
+    float score(int index, Boolean selectedBool, Integer[] selectedIndices, String textAnswer) {
+        return switch (questionTypes[index]) {
+            case true_or_false -> selectedBool != null
+                    && trueAnswers[index] != NO_ANSWER
+                    && (selectedBool ? TRUE_ANSWER : FALSE_ANSWER) == trueAnswers[index]
+                    ? points[index] : 0f;
+            case multiple_choice -> {
+                if (selectedIndices == null || !hasChoiceAnswer[index]) {
+                    yield 0f;
+                }
+                long selectedMask = toChoiceMask(selectedIndices);
+                yield selectedMask == INVALID_SELECTION
+                        ? 0f
+                        : points[index] * scoringPolicy.multipleChoiceCredit(selectedMask, choiceMasks[index]);
+            }
+            case short_answer -> textAnswer != null
+                    && textAnswers[index] != null
+                    && textAnswers[index].equals(scoringPolicy.normalizeShortAnswer(textAnswer))
+                    ? points[index] : 0f;
+            default -> 0f;
+        };
+    }
+
+    // 정답 키에 없는 문제면 -1
+    int find(UUID itemId) {
+        Integer index = indexByItemId.get(itemId);
+        return index == null ? -1 : index;
+    }
+
+    QuestionType questionTypeAt(int index) {
+        return questionTypes[index];
+    }
+
+    float pointsAt(int index) {
+        return points[index];
+    }
+
+    private int indexOf(UUID itemId) {
+        int index = find(itemId);
+        if (index < 0) {
+            throw new IllegalArgumentException("Item not found in answer key: " + itemId);
+        }
+        return index;
+    }
+
+    // 보기 범위를 벗어난 인덱스를 선택한 경우 어떤 정답과도 일치하지 않는 값을 반환
+    static long toChoiceMask(Integer[] indices) {
+        long mask = 0L;
+        for (Integer index : indices) {
+            if (index == null || index < 0 || index > MAX_CHOICE_INDEX) {
+                return INVALID_SELECTION;
+            }
+            mask |= 1L << index;
+        }
+        return mask;
+    }
+
+    public static final class Builder {
+        private final ScoringPolicy scoringPolicy;
+        private final Map<UUID, Integer> indexByItemId;
+        private final UUID[] itemIds;
+        private final QuestionType[] questionTypes;
+        private final float[] points;
+        private final byte[] trueAnswers;
+        private final long[] choiceMasks;
+        private final boolean[] hasChoiceAnswer;
+        private final String[] textAnswers;
+        private int size;
+
+        public Builder(int capacity, ScoringPolicy scoringPolicy) {
+            this.scoringPolicy = scoringPolicy;
+            this.indexByItemId = new HashMap<>(capacity * 2);
+            this.itemIds = new UUID[capacity];
+            this.questionTypes = new QuestionType[capacity];
+            this.points = new float[capacity];
+            this.trueAnswers = new byte[capacity];
+            this.choiceMasks = new long[capacity];
+            this.hasChoiceAnswer = new boolean[capacity];
+            this.textAnswers = new String[capacity];
+        }
+
+        public Builder add(UUID itemId, QuestionType questionType,
+                           Boolean isTrueAnswer, Integer[] answerIndices, String textAnswer) {
+            if (size == itemIds.length) {
+                throw new IllegalStateException("Answer key capacity exceeded: " + itemIds.length);
+            }
+            int index = size++;
+            indexByItemId.put(itemId, index);
+            itemIds[index] = itemId;
+            questionTypes[index] = questionType;
+            points[index] = scoringPolicy.points(questionType);
+            trueAnswers[index] = isTrueAnswer == null ? NO_ANSWER : (isTrueAnswer ? TRUE_ANSWER : FALSE_ANSWER);
+            if (answerIndices != null) {
+                long mask = toChoiceMask(answerIndices);
+                if (mask == INVALID_SELECTION) {
+                    throw new IllegalArgumentException("Invalid answer indices for item: " + itemId);
+                }
+                choiceMasks[index] = mask;
+                hasChoiceAnswer[index] = true;
+            }
+            textAnswers[index] = textAnswer == null ? null : scoringPolicy.normalizeShortAnswer(textAnswer);
+            return this;
+        }
+
+        public AnswerKey build() {
+            return new AnswerKey(this);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.api.grading;
+
+import com.example.api.repository.CourseScoreStatsRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 과목별 점수 집계(course_score_stats) 재집계 작업입니다.
+ * 집계는 결과 생성과 서술형 채점 시 증분 갱신되므로, 이 작업은 집계 행이 없는 과목을 채우고
+ * 결과 테이블을 직접 수정한 경우 등으로 어긋난 값을 주기적으로 보정합니다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "course-score-stats", name = "rebuild-enabled", havingValue = "true", matchIfMissing = true)
+public class CourseScoreStatsRebuildJob {
+    private static final Logger logger = LoggerFactory.getLogger(CourseScoreStatsRebuildJob.class);
+
+    private final CourseScoreStatsRepository courseScoreStatsRepo;
+
+    public CourseScoreStatsRebuildJob(CourseScoreStatsRepository courseScoreStatsRepo) {
+        this.courseScoreStatsRepo = courseScoreStatsRepo;
+    }
+
+    @Scheduled(cron = "${course-score-stats.rebuild-cron:0 30 4 * * *}")
+    public void rebuild() {
+        try {
+            long start = System.currentTimeMillis();
+            int rebuilt = courseScoreStatsRepo.rebuildAll();
+            logger.info("[CourseScoreStats] 과목 점수 집계 재계산 완료: courses={}, 소요시간={}ms",
+                    rebuilt, System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            logger.error("[CourseScoreStats] 과목 점수 집계 재계산 실패", e);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.api.grading;
+
+import com.example.api.service.dto.exam.ExamResultOutput;
+import com.example.api.service.dto.quiz.QuizResultOutput;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 채점이 끝난 퀴즈/시험 결과 조회 응답을 퀴즈/시험별로 캐싱합니다.
+ * 서술형 채점까지 끝난(graded) 결과는 더 이상 바뀌지 않으므로 graded 상태의 결과만 저장하고,
+ * 재채점이나 퀴즈/시험 삭제 시에 evict합니다.
+ */
+@Component
+public class GradedResultCache {
+    private final Cache<UUID, QuizResultOutput> quizResults;
+    private final Cache<UUID, ExamResultOutput> examResults;
+
+    public GradedResultCache(@Value("${grading.result-cache.max-size:1000}") long maxSize,
+                             @Value("${grading.result-cache.ttl-minutes:60}") long ttlMinutes) {
+        this.quizResults = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .build();
+        this.examResults = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .build();
+    }
+
+    public Optional<QuizResultOutput> getQuizResult(UUID quizId) {
+        return Optional.ofNullable(quizResults.getIfPresent(quizId));
+    }
+
+    public void putQuizResult(UUID quizId, QuizResultOutput quizResult) {
+        quizResults.put(quizId, quizResult);
+    }
+
+    public void evictQuiz(UUID quizId) {
+        quizResults.invalidate(quizId);
+    }
+
+    public Optional<ExamResultOutput> getExamResult(UUID examId) {
+        return Optional.ofNullable(examResults.getIfPresent(examId));
+    }
+
+    public void putExamResult(UUID examId, ExamResultOutput examResult) {
+        examResults.put(examId, examResult);
+    }
+
+    public void evictExam(UUID examId) {
+        examResults.invalidate(examId);
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.api.grading;
+
+import com.example.api.entity.ExamItem;
+import com.example.api.entity.QuizItem;
+import com.example.api.entity.enums.QuestionType;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * 퀴즈와 시험이 함께 사용하는 채점 모듈입니다.
+ * 정답 키는 퀴즈/시험별로 한 번만 만들어 캐싱하고, 풀이는 정답 키와 {@link ScoringPolicy}로 메모리에서 채점합니다.
+ * 문제는 생성된 뒤 정답이 바뀌지 않으므로 만료 시간과 퀴즈/시험 삭제 시의 evict만으로 캐시를 관리합니다.
+ */
+@Component
+public class GradingEngine {
+    private static final Logger log = LoggerFactory.getLogger(GradingEngine.class);
+
+    private final ScoringPolicy scoringPolicy;
+    private final Cache<AnswerKeyId, AnswerKey> answerKeys;
+
+    public GradingEngine(ScoringPolicy scoringPolicy,
+                         @Value("${grading.answer-key-cache.max-size:1000}") long maxSize,
+                         @Value("${grading.answer-key-cache.ttl-minutes:30}") long ttlMinutes) {
+        this.scoringPolicy = scoringPolicy;
+        this.answerKeys = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .build();
+    }
+
+    public AnswerKey quizAnswerKey(UUID quizId, Supplier<List<QuizItem>> quizItems) {
+        return answerKeys.get(new AnswerKeyId(AssessmentType.quiz, quizId),
+                id -> AnswerKey.fromQuizItems(quizItems.get(), scoringPolicy));
+    }
+
+    public AnswerKey examAnswerKey(UUID examId, Supplier<List<ExamItem>> examItems) {
+        return answerKeys.get(new AnswerKeyId(AssessmentType.exam, examId),
+                id -> AnswerKey.fromExamItems(examItems.get(), scoringPolicy));
+    }
+
+    public void evictQuiz(UUID quizId) {
+        answerKeys.invalidate(new AnswerKeyId(AssessmentType.quiz, quizId));
+    }
+
+    public void evictExam(UUID examId) {
+        answerKeys.invalidate(new AnswerKeyId(AssessmentType.exam, examId));
+    }
+
+    /**
+     * 서술형을 제외한 풀이를 채점합니다. 정답 키에 없는 문제(삭제된 문제 등)의 풀이는 건너뜁니다.
+     */
+    public GradingResult grade(AnswerKey answerKey, List<SubmittedAnswer> answers) {
+        float totalScore = 0f;
+        List<ResponseGrade> grades = new ArrayList<>(answers.size());
+        for (SubmittedAnswer answer : answers) {
+            int index = answerKey.find(answer.itemId());
+            if (index < 0) {
+                log.warn("Skipping response for item not in answer key: responseId={}, itemId={}",
+                        answer.responseId(), answer.itemId());
+                continue;
+            }
+            // 서술형 문제는 여기서 채점하지 않음
+            if (answerKey.questionTypeAt(index) == QuestionType.essay) {
+                continue;
+            }
+            float score = answerKey.score(index, answer.selectedBool(), answer.selectedIndices(), answer.textAnswer());
+            totalScore += score;
+            grades.add(new ResponseGrade(answer.responseId(), score >= answerKey.pointsAt(index), score));
+        }
+        return new GradingResult(totalScore, answerKey.maxScore(), grades);
+    }
+
+    private enum AssessmentType {
+        quiz, exam
+    }
+
+    private record AnswerKeyId(AssessmentType type, UUID id) {
+    }
+}
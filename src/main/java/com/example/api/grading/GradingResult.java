@@ -0,0 +1,9 @@
+package com.example.api.grading;
+
+import java.util.List;
+
+/**
+ * 서술형을 제외한 문제의 채점 결과입니다. maxScore는 서술형을 포함한 전체 배점 합계입니다.
+ */
+public record GradingResult(float score, float maxScore, List<ResponseGrade> grades) {
+}
@@ -0,0 +1,20 @@
+package com.example.api.grading;
+
+/**
+ * 객관식 복수 정답 문제에 부분 점수를 주는 채점 규칙입니다.
+ * (맞게 고른 정답 수 - 잘못 고른 보기 수) / 정답 수 만큼 점수를 주며 0점 미만으로 내려가지 않습니다.
+ * 배점과 단답형 비교는 {@link StandardScoringPolicy}와 같습니다.
+ */
+public class PartialCreditScoringPolicy extends StandardScoringPolicy {
+
+    @Override
+    public float multipleChoiceCredit(long selectedMask, long answerMask) {
+        int answerCount = Long.bitCount(answerMask);
+        if (answerCount == 0) {
+            return selectedMask == 0L ? 1f : 0f;
+        }
+        int hits = Long.bitCount(selectedMask & answerMask);
+        int misses = Long.bitCount(selectedMask & ~answerMask);
+        return Math.max(0, hits - misses) / (float) answerCount;
+    }
+}
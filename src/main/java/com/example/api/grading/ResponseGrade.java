@@ -0,0 +1,10 @@
+package com.example.api.grading;
+
+import java.util.UUID;
+
+/**
+ * 풀이(QuizResponse/ExamResponse) 하나의 채점 결과로, batch update로 한 번에 반영됩니다.
+ * 부분 점수를 받은 풀이는 correct=false, score>0 입니다.
+ */
+public record ResponseGrade(UUID responseId, boolean correct, float score) {
+}
@@ -0,0 +1,24 @@
+package com.example.api.grading;
+
+import com.example.api.entity.enums.QuestionType;
+
+/**
+ * 퀴즈와 시험 채점에 공통으로 사용하는 배점/부분 점수/단답형 비교 규칙입니다.
+ * 정답 키({@link AnswerKey})를 만들 때 적용되므로, 규칙이 바뀌면 {@link GradingEngine}의 캐시를 비워야 합니다.
+ */
+public interface ScoringPolicy {
+    /**
+     * 문제 유형별 배점을 반환합니다. 지원하지 않는 유형이면 IllegalArgumentException을 던집니다.
+     */
+    float points(QuestionType questionType);
+
+    /**
+     * 객관식 풀이의 획득 비율(0~1)을 반환합니다. 선택한 보기와 정답 보기는 보기 인덱스별 비트마스크로 전달됩니다.
+     */
+    float multipleChoiceCredit(long selectedMask, long answerMask);
+
+    /**
+     * 단답형 정답과 풀이를 비교하기 전에 적용할 정규화입니다.
+     */
+    String normalizeShortAnswer(String text);
+}
@@ -0,0 +1,42 @@
+package com.example.api.grading;
+
+import com.example.api.entity.enums.QuestionType;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * 기본 채점 규칙입니다.
+ * - 배점: OX 1점, 객관식 3점, 단답형 5점, 서술형 10점
+ * - 객관식: 선택한 보기 집합이 정답 집합과 정확히 같을 때만 점수 부여
+ * - 단답형: 유니코드 정규화(NFKC), 앞뒤 공백 제거, 연속 공백 축약, 소문자 변환 후 비교
+ */
+public class StandardScoringPolicy implements ScoringPolicy {
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    @Override
+    public float points(QuestionType questionType) {
+        if (questionType == null) {
+            throw new IllegalArgumentException("Question type cannot be null");
+        }
+        return switch (questionType) {
+            case true_or_false -> 1f;
+            case multiple_choice -> 3f;
+            case short_answer -> 5f;
+            case essay -> 10f;
+            default -> throw new IllegalArgumentException("Unknown question type: " + questionType);
+        };
+    }
+
+    @Override
+    public float multipleChoiceCredit(long selectedMask, long answerMask) {
+        return selectedMask == answerMask ? 1f : 0f;
+    }
+
+    @Override
+    public String normalizeShortAnswer(String text) {
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).strip();
+        return WHITESPACE.matcher(normalized).replaceAll(" ").toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.api.grading;
+
+import java.util.UUID;
+
+/**
+ * 채점할 풀이 하나입니다. 퀴즈/시험 풀이 엔티티에서 채점에 필요한 값만 담습니다.
+ */
+public record SubmittedAnswer(UUID responseId, UUID itemId,
+                              Boolean selectedBool, Integer[] selectedIndices, String textAnswer) {
+}
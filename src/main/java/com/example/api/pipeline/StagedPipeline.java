@@ -0,0 +1,180 @@
+package com.example.api.pipeline;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 하나의 요청 흐름을 여러 단계(stage)로 나누어 실행하는 실행 엔진입니다.
+ * 서로 독립적인 단계는 {@link Execution#async}로 병렬 실행하고, 의존 관계가 있는 단계는 {@link Execution#then}으로 체이닝합니다.
+ * 각 단계와 전체 흐름의 소요시간은 Micrometer 타이머({@code pipeline.stage}, {@code pipeline.total})로 기록됩니다.
+ */
+@Component
+public class StagedPipeline {
+    private static final Logger log = LoggerFactory.getLogger(StagedPipeline.class);
+
+    private static final String STAGE_METRIC = "pipeline.stage";
+    private static final String TOTAL_METRIC = "pipeline.total";
+    private static final String SUCCESS = "success";
+    private static final String ERROR = "error";
+    private static final String CANCELLED = "cancelled";
+
+    private final Executor executor;
+    private final MeterRegistry meterRegistry;
+
+    public StagedPipeline(@Qualifier("pipelineExecutor") Executor executor, MeterRegistry meterRegistry) {
+        this.executor = executor;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 새로운 파이프라인 실행을 시작합니다. 반환된 Execution은 요청 하나에서만 사용해야 합니다.
+     *
+     * @param pipelineName 메트릭 태그로 사용될 파이프라인 이름 (e.g., qna_ask)
+     */
+    public Execution start(String pipelineName) {
+        return new Execution(pipelineName, Timer.start(meterRegistry));
+    }
+
+    public class Execution {
+        private final String pipelineName;
+        private final Timer.Sample totalSample;
+
+        private Execution(String pipelineName, Timer.Sample totalSample) {
+            this.pipelineName = pipelineName;
+            this.totalSample = totalSample;
+        }
+
+        /**
+         * 호출한 스레드에서 단계를 바로 실행합니다.
+         */
+        public <T> T run(String stage, Supplier<T> task) {
+            return record(stage, task);
+        }
+
+        /**
+         * 선행 단계가 없는 단계를 파이프라인 스레드 풀에서 비동기로 실행합니다.
+         */
+        public <T> CompletableFuture<T> async(String stage, Supplier<T> task) {
+            return CompletableFuture.supplyAsync(() -> record(stage, task), executor);
+        }
+
+        /**
+         * 선행 단계의 결과가 준비되면 이어서 실행되는 단계를 등록합니다. 선행 단계가 실패하면 이 단계는 실행되지 않습니다.
+         */
+        public <T, R> CompletableFuture<R> then(CompletableFuture<T> upstream, String stage, Function<T, R> task) {
+            return upstream.thenApplyAsync(value -> record(stage, () -> task.apply(value)), executor);
+        }
+
+        /**
+         * 두 선행 단계의 결과가 모두 준비되면 이어서 실행되는 단계를 등록합니다.
+         */
+        public <A, B, R> CompletableFuture<R> then(CompletableFuture<A> first, CompletableFuture<B> second,
+                                                   String stage, BiFunction<A, B, R> task) {
+            return first.thenCombineAsync(second, (a, b) -> record(stage, () -> task.apply(a, b)), executor);
+        }
+
+        /**
+         * 스트림 형태의 단계를 등록합니다. 구독 시점부터 스트림이 끝날 때(완료, 오류, 취소)까지를 단계 소요시간으로 기록합니다.
+         */
+        public <T> Flux<T> stream(String stage, Supplier<Flux<T>> source) {
+            return Flux.defer(() -> {
+                Timer.Sample sample = Timer.start(meterRegistry);
+                return source.get()
+                        .doOnComplete(() -> stop(stage, sample, SUCCESS))
+                        .doOnError(e -> stop(stage, sample, ERROR))
+                        .doOnCancel(() -> stop(stage, sample, CANCELLED));
+            });
+        }
+
+        /**
+         * 단계의 결과를 기다립니다. 단계에서 발생한 예외는 CompletionException으로 감싸지 않고 그대로 다시 던집니다.
+         */
+        public <T> T await(CompletableFuture<T> future) {
+            try {
+                return future.join();
+            } catch (CompletionException e) {
+                Throwable cause = unwrap(e);
+                if (cause instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                if (cause instanceof Error error) {
+                    throw error;
+                }
+                throw e;
+            }
+        }
+
+        public void succeed() {
+            finish(SUCCESS);
+        }
+
+        public void fail() {
+            finish(ERROR);
+        }
+
+        /**
+         * 클라이언트 연결 종료 등으로 실행이 중간에 취소된 경우 호출합니다.
+         */
+        public void cancel() {
+            finish(CANCELLED);
+        }
+
+        private void finish(String outcome) {
+            long elapsedNanos = totalSample.stop(Timer.builder(TOTAL_METRIC)
+                    .description("Total duration of a staged pipeline execution")
+                    .tag("pipeline", pipelineName)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+            log.debug("[Pipeline] {} 종료: outcome={}, 소요시간={}ms",
+                    pipelineName, outcome, TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+        }
+
+        private <T> T record(String stage, Supplier<T> task) {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            String outcome = SUCCESS;
+            try {
+                return task.get();
+            } catch (RuntimeException | Error e) {
+                outcome = ERROR;
+                throw e;
+            } finally {
+                stop(stage, sample, outcome);
+            }
+        }
+
+        private void stop(String stage, Timer.Sample sample, String outcome) {
+            long elapsedNanos = sample.stop(Timer.builder(STAGE_METRIC)
+                    .description("Duration of a single stage in a staged pipeline")
+                    .tag("pipeline", pipelineName)
+                    .tag("stage", stage)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+            log.debug("[Pipeline] {}.{} 완료: outcome={}, 소요시간={}ms",
+                    pipelineName, stage, outcome, TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+        }
+    }
+
+    /**
+     * 비동기 단계에서 발생한 예외를 감싸고 있는 CompletionException을 벗겨 원래 예외를 반환합니다.
+     */
+    public static Throwable unwrap(Throwable throwable) {
+        Throwable current = throwable;
+        while (current instanceof CompletionException && current.getCause() != null) {
+            current = current.getCause();
+        }
+        return current;
+    }
+}
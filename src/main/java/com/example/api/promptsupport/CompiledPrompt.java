@@ -0,0 +1,37 @@
+package com.example.api.promptsupport;
+
+import lombok.Getter;
+
+import java.util.Map;
+
+/**
+ * 애플리케이션 시작 시 한 번 파싱/컴파일된 프롬프트입니다. 요청마다 YAML을 다시 읽지 않고 그대로 재사용합니다.
+ */
+@Getter
+public class CompiledPrompt {
+    private final String name;
+    private final String version;
+    private final String model;
+    private final double temperature;
+    private final int maxTokens;
+    private final CompiledTemplate system;
+    private final CompiledTemplate user;
+
+    public CompiledPrompt(String name, String version, PromptTemplate template) {
+        this.name = name;
+        this.version = version;
+        this.model = template.getModel();
+        this.temperature = template.getTemperature();
+        this.maxTokens = template.getMax_tokens();
+        this.system = CompiledTemplate.compile(template.getSystem());
+        this.user = CompiledTemplate.compile(template.getUser());
+    }
+
+    public String renderSystem(Map<String, String> variables) {
+        return system.render(variables);
+    }
+
+    public String renderUser(Map<String, String> variables) {
+        return user.render(variables);
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.api.promptsupport;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {{placeholder}} 형식의 치환자를 포함한 템플릿 문자열을 미리 리터럴/치환자 조각으로 나누어 둔 템플릿입니다.
+ * 렌더링 시 조각을 순서대로 한 번만 이어 붙이므로 치환자마다 전체 문자열을 다시 스캔하는 String.replace 보다 저렴합니다.
+ */
+public final class CompiledTemplate {
+    private static final String OPEN = "{{";
+    private static final String CLOSE = "}}";
+
+    private final String[] segments;
+    // segments[i]가 치환자 이름이면 true, 리터럴이면 false
+    private final boolean[] placeholder;
+    private final int literalLength;
+
+    private CompiledTemplate(String[] segments, boolean[] placeholder, int literalLength) {
+        this.segments = segments;
+        this.placeholder = placeholder;
+        this.literalLength = literalLength;
+    }
+
+    public static CompiledTemplate compile(String template) {
+        List<String> segmentList = new ArrayList<>();
+        List<Boolean> placeholderList = new ArrayList<>();
+        int literalLength = 0;
+
+        if (template != null) {
+            int cursor = 0;
+            while (cursor < template.length()) {
+                int open = template.indexOf(OPEN, cursor);
+                int close = open < 0 ? -1 : template.indexOf(CLOSE, open + OPEN.length());
+                if (open < 0 || close < 0) {
+                    break;
+                }
+                if (open > cursor) {
+                    segmentList.add(template.substring(cursor, open));
+                    placeholderList.add(false);
+                    literalLength += open - cursor;
+                }
+                segmentList.add(template.substring(open + OPEN.length(), close).trim());
+                placeholderList.add(true);
+                cursor = close + CLOSE.length();
+            }
+            if (cursor < template.length()) {
+                segmentList.add(template.substring(cursor));
+                placeholderList.add(false);
+                literalLength += template.length() - cursor;
+            }
+        }
+
+        boolean[] placeholder = new boolean[placeholderList.size()];
+        for (int i = 0; i < placeholder.length; i++) {
+            placeholder[i] = placeholderList.get(i);
+        }
+        return new CompiledTemplate(segmentList.toArray(new String[0]), placeholder, literalLength);
+    }
+
+    /**
+     * 치환자를 주어진 값으로 채운 문자열을 반환합니다. 값이 없는 치환자는 {{name}} 그대로 남겨 둡니다.
+     */
+    public String render(Map<String, String> variables) {
+        int capacity = literalLength;
+        for (int i = 0; i < segments.length; i++) {
+            if (placeholder[i]) {
+                String value = variables.get(segments[i]);
+                capacity += value != null ? value.length() : segments[i].length() + OPEN.length() + CLOSE.length();
+            }
+        }
+
+        StringBuilder builder = new StringBuilder(capacity);
+        for (int i = 0; i < segments.length; i++) {
+            if (!placeholder[i]) {
+                builder.append(segments[i]);
+                continue;
+            }
+            String value = variables.get(segments[i]);
+            if (value != null) {
+                builder.append(value);
+            } else {
+                builder.append(OPEN).append(segments[i]).append(CLOSE);
+            }
+        }
+        return builder.toString();
+    }
+}
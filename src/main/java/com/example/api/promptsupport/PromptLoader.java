@@ -13,14 +13,21 @@ public class PromptLoader {
     private PromptLoader() {
     }
 
+    /**
+     * 호출할 때마다 클래스패스에서 YAML을 다시 읽습니다. 요청 처리 경로에서는 {@link PromptRegistry}를 사용하세요.
+     */
     public static com.example.api.promptsupport.PromptTemplate load(String path) {
         try (InputStream inputStream = PromptLoader.class.getClassLoader().getResourceAsStream(path)) {
             if (inputStream == null) {
                 throw new IllegalArgumentException("Prompt YAML file not found: " + path);
             }
-            return YAML_MAPPER.readValue(inputStream, PromptTemplate.class);
+            return parse(inputStream);
         } catch (IOException e) {
             throw new RuntimeException("Failed to parse prompt YAML file: " + path, e);
         }
     }
+
+    static PromptTemplate parse(InputStream inputStream) throws IOException {
+        return YAML_MAPPER.readValue(inputStream, PromptTemplate.class);
+    }
 }
@@ -2,7 +2,11 @@ package com.example.api.promptsupport;
 
 public class PromptPaths {
 
-    // TODO(jin): add version config
+    // PromptRegistry 조회용 프롬프트 이름 (prompts/{name}/{version}.yaml), 버전은 prompts.versions.{name} 설정으로 지정
+    public static final String QNA_ANSWER = "qna_answer";
+    public static final String QNA_RECOMMEND_QUESTIONS = "qna_recommend_questions";
+
+    // PromptLoader 직접 로드용 경로
     public static final String QNA_ANSWER_V1 = "prompts/qna_answer/v1.yaml";
     public static final String QNA_RECOMMEND_QUESTIONS_V1 = "prompts/qna_recommend_questions/v1.yaml";
     private PromptPaths() {
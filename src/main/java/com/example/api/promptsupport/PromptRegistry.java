@@ -0,0 +1,137 @@
+package com.example.api.promptsupport;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.env.Environment;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.core.io.support.ResourcePatternResolver;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * prompts/{name}/{version}.yaml 형식의 프롬프트 파일을 애플리케이션 시작 시 모두 읽어 컴파일해 두는 저장소입니다.
+ * 사용할 버전은 prompts.versions.{name} 설정으로 지정하며, 설정이 없으면 가장 높은 버전을 사용합니다.
+ */
+@Component
+public class PromptRegistry {
+    private static final Logger log = LoggerFactory.getLogger(PromptRegistry.class);
+
+    private static final String PROMPT_LOCATION = "classpath*:prompts/*/*.yaml";
+    private static final String VERSION_PROPERTY_PREFIX = "prompts.versions.";
+    private static final String YAML_EXTENSION = ".yaml";
+    private static final Comparator<String> VERSION_ORDER = Comparator
+            .comparingInt(PromptRegistry::versionNumber)
+            .thenComparing(Comparator.naturalOrder());
+
+    // name -> (version -> prompt), 버전은 v1 < v2 < v10 순으로 정렬
+    private final Map<String, TreeMap<String, CompiledPrompt>> prompts;
+    // name -> 현재 사용 중인 버전의 prompt
+    private final Map<String, CompiledPrompt> activePrompts;
+
+    public PromptRegistry(Environment environment) {
+        this(environment, new PathMatchingResourcePatternResolver());
+    }
+
+    PromptRegistry(Environment environment, ResourcePatternResolver resolver) {
+        this.prompts = loadAll(resolver);
+        this.activePrompts = resolveActiveVersions(environment);
+    }
+
+    /**
+     * 설정된(또는 최신) 버전의 프롬프트를 반환합니다.
+     *
+     * @param name 프롬프트 이름 (e.g., {@link PromptPaths#QNA_ANSWER})
+     */
+    public CompiledPrompt get(String name) {
+        CompiledPrompt prompt = activePrompts.get(name);
+        if (prompt == null) {
+            throw new IllegalArgumentException("Prompt not found: " + name);
+        }
+        return prompt;
+    }
+
+    /**
+     * 특정 버전의 프롬프트를 반환합니다.
+     *
+     * @param name    프롬프트 이름 (e.g., {@link PromptPaths#QNA_ANSWER})
+     * @param version 프롬프트 버전 (e.g., v1)
+     */
+    public CompiledPrompt get(String name, String version) {
+        CompiledPrompt prompt = prompts.getOrDefault(name, new TreeMap<>()).get(version);
+        if (prompt == null) {
+            throw new IllegalArgumentException("Prompt not found: " + name + "/" + version);
+        }
+        return prompt;
+    }
+
+    private static Map<String, TreeMap<String, CompiledPrompt>> loadAll(ResourcePatternResolver resolver) {
+        Map<String, TreeMap<String, CompiledPrompt>> loaded = new HashMap<>();
+        Resource[] resources;
+        try {
+            resources = resolver.getResources(PROMPT_LOCATION);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to scan prompt YAML files: " + PROMPT_LOCATION, e);
+        }
+
+        for (Resource resource : resources) {
+            String[] nameAndVersion = nameAndVersion(resource);
+            String name = nameAndVersion[0];
+            String version = nameAndVersion[1];
+            try (InputStream inputStream = resource.getInputStream()) {
+                PromptTemplate template = PromptLoader.parse(inputStream);
+                loaded.computeIfAbsent(name, key -> new TreeMap<>(VERSION_ORDER))
+                        .put(version, new CompiledPrompt(name, version, template));
+            } catch (IOException e) {
+                throw new IllegalStateException("Failed to parse prompt YAML file: " + name + "/" + version, e);
+            }
+        }
+        return Collections.unmodifiableMap(loaded);
+    }
+
+    private Map<String, CompiledPrompt> resolveActiveVersions(Environment environment) {
+        Map<String, CompiledPrompt> active = new HashMap<>();
+        prompts.forEach((name, versions) -> {
+            String configured = environment.getProperty(VERSION_PROPERTY_PREFIX + name);
+            CompiledPrompt prompt = configured != null ? get(name, configured) : versions.lastEntry().getValue();
+            active.put(name, prompt);
+            log.info("[PromptRegistry] 프롬프트 로드 완료: name={}, version={}, available={}",
+                    name, prompt.getVersion(), versions.keySet());
+        });
+        return Collections.unmodifiableMap(active);
+    }
+
+    // .../prompts/{name}/{version}.yaml 에서 name, version 추출
+    private static String[] nameAndVersion(Resource resource) {
+        String path;
+        try {
+            path = resource.getURL().getPath();
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to resolve prompt YAML path: " + resource, e);
+        }
+        int fileStart = path.lastIndexOf('/');
+        int dirStart = path.lastIndexOf('/', fileStart - 1);
+        String name = path.substring(dirStart + 1, fileStart);
+        String version = path.substring(fileStart + 1, path.length() - YAML_EXTENSION.length());
+        return new String[]{name, version};
+    }
+
+    private static int versionNumber(String version) {
+        String digits = version.replaceAll("\\D", "");
+        if (digits.isEmpty()) {
+            return 0;
+        }
+        try {
+            return Integer.parseInt(digits);
+        } catch (NumberFormatException e) {
+            return Integer.MAX_VALUE;
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.api.repository;
+
+import com.example.api.entity.CourseScoreStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.UUID;
+
+public interface CourseScoreStatsRepository extends JpaRepository<CourseScoreStats, UUID>, CourseScoreStatsRepositoryCustom {
+    void addQuizResult(UUID courseId, float score, float maxScore);
+
+    void addExamResult(UUID courseId, float score, float maxScore);
+
+    void rebuild(UUID courseId);
+
+    int rebuildAll();
+}
@@ -0,0 +1,17 @@
+package com.example.api.repository;
+
+import java.util.UUID;
+
+public interface CourseScoreStatsRepositoryCustom {
+    // 새 퀴즈 결과를 과목 집계에 반영 (집계 행이 없으면 생성)
+    void addQuizResult(UUID courseId, float score, float maxScore);
+
+    // 새 시험 결과를 과목 집계에 반영 (집계 행이 없으면 생성)
+    void addExamResult(UUID courseId, float score, float maxScore);
+
+    // 결과 테이블에서 과목 하나의 집계를 다시 계산 (삭제 등 증분 갱신이 어려운 경우)
+    void rebuild(UUID courseId);
+
+    // 모든 과목의 집계를 다시 계산
+    int rebuildAll();
+}
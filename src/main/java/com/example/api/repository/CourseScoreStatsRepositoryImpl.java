@@ -0,0 +1,125 @@
+package com.example.api.repository;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.hibernate.query.NativeQuery;
+import org.springframework.stereotype.Repository;
+
+import com.example.api.entity.CourseScoreStats;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import jakarta.transaction.Transactional;
+
+@Repository
+public class CourseScoreStatsRepositoryImpl implements CourseScoreStatsRepositoryCustom {
+    // 결과 테이블에서 course_score_stats 행 s의 집계 값을 계산 (삭제된 강의/퀴즈/시험의 결과는 제외)
+    private static final String RECALCULATE =
+            "UPDATE app.course_score_stats s SET " +
+                    "quiz_result_count = (SELECT COUNT(*) FROM app.quiz_results qr " +
+                    "JOIN app.quizzes q ON q.id = qr.quiz_id " +
+                    "JOIN app.lectures l ON l.id = q.lecture_id " +
+                    "WHERE l.course_id = s.course_id AND qr.deleted_at IS NULL " +
+                    "AND q.deleted_at IS NULL AND l.deleted_at IS NULL), " +
+                    "quiz_percentage_sum = (SELECT COALESCE(SUM(CASE WHEN qr.max_score > 0 " +
+                    "THEN qr.score * 100.0 / qr.max_score ELSE 0 END), 0) FROM app.quiz_results qr " +
+                    "JOIN app.quizzes q ON q.id = qr.quiz_id " +
+                    "JOIN app.lectures l ON l.id = q.lecture_id " +
+                    "WHERE l.course_id = s.course_id AND qr.deleted_at IS NULL " +
+                    "AND q.deleted_at IS NULL AND l.deleted_at IS NULL), " +
+                    "exam_result_count = (SELECT COUNT(*) FROM app.exam_results er " +
+                    "JOIN app.exams e ON e.id = er.exam_id " +
+                    "WHERE e.course_id = s.course_id AND er.deleted_at IS NULL AND e.deleted_at IS NULL), " +
+                    "exam_percentage_sum = (SELECT COALESCE(SUM(CASE WHEN er.max_score > 0 " +
+                    "THEN er.score * 100.0 / er.max_score ELSE 0 END), 0) FROM app.exam_results er " +
+                    "JOIN app.exams e ON e.id = er.exam_id " +
+                    "WHERE e.course_id = s.course_id AND er.deleted_at IS NULL AND e.deleted_at IS NULL), " +
+                    "updated_at = :now ";
+
+    @PersistenceContext
+    private EntityManager manager;
+
+    @Transactional
+    public void addQuizResult(UUID courseId, float score, float maxScore) {
+        LocalDateTime now = LocalDateTime.now();
+        ensureStats(courseId, now);
+        manager.createQuery(
+                        "UPDATE CourseScoreStats s " +
+                                "SET s.quizResultCount = s.quizResultCount + 1, " +
+                                "s.quizPercentageSum = s.quizPercentageSum + :percentage, " +
+                                "s.updatedAt = :now " +
+                                "WHERE s.courseId = :courseId")
+                .setParameter("percentage", toPercentage(score, maxScore))
+                .setParameter("now", now)
+                .setParameter("courseId", courseId)
+                .executeUpdate();
+    }
+
+    @Transactional
+    public void addExamResult(UUID courseId, float score, float maxScore) {
+        LocalDateTime now = LocalDateTime.now();
+        ensureStats(courseId, now);
+        manager.createQuery(
+                        "UPDATE CourseScoreStats s " +
+                                "SET s.examResultCount = s.examResultCount + 1, " +
+                                "s.examPercentageSum = s.examPercentageSum + :percentage, " +
+                                "s.updatedAt = :now " +
+                                "WHERE s.courseId = :courseId")
+                .setParameter("percentage", toPercentage(score, maxScore))
+                .setParameter("now", now)
+                .setParameter("courseId", courseId)
+                .executeUpdate();
+    }
+
+    @Transactional
+    public void rebuild(UUID courseId) {
+        LocalDateTime now = LocalDateTime.now();
+        ensureStats(courseId, now);
+        nativeStatsUpdate(RECALCULATE + "WHERE s.course_id = :courseId")
+                .setParameter("now", now)
+                .setParameter("courseId", courseId)
+                .executeUpdate();
+    }
+
+    @Transactional
+    public int rebuildAll() {
+        LocalDateTime now = LocalDateTime.now();
+        nativeStatsUpdate(
+                        "INSERT INTO app.course_score_stats " +
+                                "(course_id, quiz_result_count, quiz_percentage_sum, " +
+                                "exam_result_count, exam_percentage_sum, updated_at) " +
+                                "SELECT c.id, 0, 0, 0, 0, :now FROM app.courses c " +
+                                "WHERE NOT EXISTS (SELECT 1 FROM app.course_score_stats s WHERE s.course_id = c.id)")
+                .setParameter("now", now)
+                .executeUpdate();
+        return nativeStatsUpdate(RECALCULATE)
+                .setParameter("now", now)
+                .executeUpdate();
+    }
+
+    // 같은 과목의 첫 결과가 동시에 저장되어도 집계 행은 하나만 생성되도록 충돌 시 무시
+    private void ensureStats(UUID courseId, LocalDateTime now) {
+        nativeStatsUpdate(
+                        "INSERT INTO app.course_score_stats " +
+                                "(course_id, quiz_result_count, quiz_percentage_sum, " +
+                                "exam_result_count, exam_percentage_sum, updated_at) " +
+                                "VALUES (:courseId, 0, 0, 0, 0, :now) " +
+                                "ON CONFLICT DO NOTHING")
+                .setParameter("courseId", courseId)
+                .setParameter("now", now)
+                .executeUpdate();
+    }
+
+    // 영향받는 테이블을 지정하지 않은 native DML은 Hibernate 2차 캐시 전체를 무효화하므로 course_score_stats만 동기화 대상으로 지정
+    private Query nativeStatsUpdate(String sql) {
+        return manager.createNativeQuery(sql)
+                .unwrap(NativeQuery.class)
+                .addSynchronizedEntityClass(CourseScoreStats.class);
+    }
+
+    private double toPercentage(float score, float maxScore) {
+        return maxScore > 0 ? score * 100.0 / maxScore : 0.0;
+    }
+}
@@ -3,9 +3,12 @@ package com.example.api.repository;
 import com.example.api.entity.ExamItem;
 
 import com.example.api.entity.enums.QuestionType;
+import com.example.api.service.dto.exam.ExamItemOutput;
+import com.example.api.service.dto.qna.MessageCursor;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -14,7 +17,13 @@ public interface ExamItemRepository extends JpaRepository<ExamItem, UUID> {
     
     List<ExamItem> findByExamId(UUID examId);
 
+    List<ExamItem> findGeneratedByExamId(UUID examId);
+
+    List<ExamItemOutput> findLikedByCourseIdWithCursor(UUID courseId, MessageCursor cursor, int limit);
+
     boolean existsByExamIdAndQuestionTypeAndDeletedAtIsNull(UUID examId, QuestionType questionType);
 
     ExamItem updateExamItem(ExamItem examItem);
+
+    void updatePoints(Map<UUID, Float> pointsByItemId);
 }
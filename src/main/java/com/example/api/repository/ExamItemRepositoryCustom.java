@@ -1,18 +1,30 @@
 package com.example.api.repository;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
 import com.example.api.entity.ExamItem;
 import com.example.api.entity.enums.QuestionType;
+import com.example.api.service.dto.exam.ExamItemOutput;
+import com.example.api.service.dto.qna.MessageCursor;
 
 public interface ExamItemRepositoryCustom {
     Optional<ExamItem> findById(UUID id);
     
     List<ExamItem> findByExamId(UUID examId);
 
+    // 생성이 끝난 시험의 문항 목록 (쿼리 캐시 사용)
+    List<ExamItem> findGeneratedByExamId(UUID examId);
+
+    // 과목의 좋아요 문항을 최신순으로 cursor(마지막으로 받은 문항의 (createdAt, id)) 이후 limit + 1개까지 조회
+    List<ExamItemOutput> findLikedByCourseIdWithCursor(UUID courseId, MessageCursor cursor, int limit);
+
     boolean existsByExamIdAndQuestionTypeAndDeletedAtIsNull(UUID examId, QuestionType questionType);
 
     ExamItem updateExamItem(ExamItem examItem);
+
+    // 문제별 배점을 JDBC batch update 한 번으로 반영
+    void updatePoints(Map<UUID, Float> pointsByItemId);
 }
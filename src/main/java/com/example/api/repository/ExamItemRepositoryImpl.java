@@ -1,16 +1,24 @@
 package com.example.api.repository;
 
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
+import org.hibernate.Session;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.stereotype.Repository;
 
 import com.example.api.entity.ExamItem;
+import com.example.api.service.dto.exam.ExamItemOutput;
+import com.example.api.service.dto.qna.MessageCursor;
 
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
 import jakarta.transaction.Transactional;
 
 @Repository
@@ -18,20 +26,53 @@ public class ExamItemRepositoryImpl {
     @PersistenceContext
     private EntityManager manager;
     
+    // 2차 캐시를 사용하도록 PK로 조회한 뒤 삭제 여부를 확인
     public Optional<ExamItem> findById(UUID id) {
+        return Optional.ofNullable(manager.find(ExamItem.class, id))
+                .filter(item -> item.getDeletedAt() == null);
+    }
+
+    public List<ExamItem> findByExamId(UUID examId) {
         return manager.createQuery(
-                "SELECT ei FROM ExamItem ei WHERE ei.id = :id AND ei.deletedAt IS NULL",
+                "SELECT ei FROM ExamItem ei WHERE ei.exam.id = :examId AND ei.deletedAt IS NULL",
                 ExamItem.class)
-                .setParameter("id", id)
-                .getResultStream()
-                .findFirst();
+                .setParameter("examId", examId)
+                .getResultList();
     }
 
-    public List<ExamItem> findByExamId(UUID examId) {
+    // 생성이 끝난 뒤에는 문항 구성이 바뀌지 않으므로 쿼리 캐시를 사용 (생성 중에는 Lambda가 직접 INSERT하므로 캐싱하면 안 됨)
+    // 캐시된 결과는 문항 ID 목록이며, 좋아요/배점 변경은 SecondLevelCacheEvictions로 모든 인스턴스의 엔티티 캐시에서 제거됨
+    public List<ExamItem> findGeneratedByExamId(UUID examId) {
         return manager.createQuery(
                 "SELECT ei FROM ExamItem ei WHERE ei.exam.id = :examId AND ei.deletedAt IS NULL",
                 ExamItem.class)
                 .setParameter("examId", examId)
+                .setHint(HibernateHints.HINT_CACHEABLE, true)
+                .getResultList();
+    }
+
+    // 과목의 좋아요 문항을 exams 조인 한 번으로 최신순 조회 (엔티티 대신 출력 DTO로 바로 조회하여 영속성 컨텍스트에 올리지 않음)
+    public List<ExamItemOutput> findLikedByCourseIdWithCursor(UUID courseId, MessageCursor cursor, int limit) {
+        String jpql = "SELECT new com.example.api.service.dto.exam.ExamItemOutput(" +
+                "ei.id, e.id, ei.user.id, ei.question, ei.questionType, ei.explanation, ei.isTrueAnswer, " +
+                "ei.choices, ei.answerIndices, ei.textAnswer, ei.displayOrder, ei.points, ei.isLiked, " +
+                "ei.createdAt, ei.updatedAt) " +
+                "FROM ExamItem ei JOIN ei.exam e " +
+                "WHERE e.course.id = :courseId AND e.deletedAt IS NULL " +
+                "AND ei.isLiked = true AND ei.deletedAt IS NULL ";
+        if (cursor != null) {
+            // 같은 시각에 함께 생성된 문항이 많으므로 (createdAt, id) 행 값 비교로 cursor 이후 문항만 조회 (cursor 문항을 다시 조회하지 않음)
+            jpql += "AND (ei.createdAt, ei.id) < (:cursorCreatedAt, :cursorId) ";
+        }
+        jpql += "ORDER BY ei.createdAt DESC, ei.id DESC";
+
+        TypedQuery<ExamItemOutput> query = manager.createQuery(jpql, ExamItemOutput.class)
+                .setParameter("courseId", courseId);
+        if (cursor != null) {
+            query.setParameter("cursorCreatedAt", cursor.createdAt())
+                    .setParameter("cursorId", cursor.id());
+        }
+        return query.setMaxResults(limit + 1) // +1로 hasMore 판단
                 .getResultList();
     }
 
@@ -54,4 +95,25 @@ public class ExamItemRepositoryImpl {
             throw new RuntimeException("Failed to update ExamItem", e);
         }
     }
+
+    // 문제마다 merge하지 않고 같은 커넥션에서 JDBC batch로 한 번에 반영 (영속성 컨텍스트의 엔티티는 갱신되지 않음)
+    @Transactional
+    public void updatePoints(Map<UUID, Float> pointsByItemId) {
+        if (pointsByItemId.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        manager.unwrap(Session.class).doWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(
+                    "UPDATE app.exam_items SET points = ?, updated_at = ? WHERE id = ?")) {
+                for (Map.Entry<UUID, Float> entry : pointsByItemId.entrySet()) {
+                    statement.setFloat(1, entry.getValue());
+                    statement.setTimestamp(2, now);
+                    statement.setObject(3, entry.getKey());
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+            }
+        });
+    }
 }
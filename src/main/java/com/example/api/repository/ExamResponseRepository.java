@@ -1,6 +1,7 @@
 package com.example.api.repository;
 
 import com.example.api.entity.ExamResponse;
+import com.example.api.grading.ResponseGrade;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.util.List;
@@ -14,7 +15,11 @@ public interface ExamResponseRepository extends JpaRepository<ExamResponse, UUID
 
     ExamResponse createExamResponse(ExamResponse examResponse);
 
+    List<ExamResponse> createExamResponses(List<ExamResponse> examResponses);
+
     ExamResponse updateExamResponse(ExamResponse examResponse);
 
+    void updateGradingResults(List<ResponseGrade> grades);
+
     void deleteExamResponse(UUID examResponseId);
 }
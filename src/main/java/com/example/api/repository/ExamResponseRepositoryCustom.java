@@ -5,6 +5,7 @@ import java.util.Optional;
 import java.util.UUID;
 
 import com.example.api.entity.ExamResponse;
+import com.example.api.grading.ResponseGrade;
 
 public interface ExamResponseRepositoryCustom {
     List<ExamResponse> findByExamId(UUID examId);
@@ -13,7 +14,13 @@ public interface ExamResponseRepositoryCustom {
 
     ExamResponse createExamResponse(ExamResponse examResponse);
 
+    // 중복 검사 쿼리 한 번으로 여러 풀이를 검사한 뒤 한 번에 저장 (INSERT는 flush 시점에 JDBC batch로 전송)
+    List<ExamResponse> createExamResponses(List<ExamResponse> examResponses);
+
     ExamResponse updateExamResponse(ExamResponse examResponse);
 
+    // 채점 결과(is_correct, score)를 JDBC batch update 한 번으로 반영
+    void updateGradingResults(List<ResponseGrade> grades);
+
     void deleteExamResponse(UUID examResponseId);
 }
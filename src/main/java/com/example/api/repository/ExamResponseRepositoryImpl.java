@@ -1,14 +1,21 @@
 package com.example.api.repository;
 
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
+import org.hibernate.Session;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Repository;
 
 import com.example.api.entity.ExamResponse;
+import com.example.api.grading.ResponseGrade;
 
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
@@ -55,6 +62,56 @@ public class ExamResponseRepositoryImpl implements ExamResponseRepositoryCustom
         return examResponse;
     }
 
+    @Transactional
+    public List<ExamResponse> createExamResponses(List<ExamResponse> examResponses) {
+        if (examResponses.isEmpty()) {
+            return examResponses;
+        }
+        Set<ResponseKey> keys = new HashSet<>();
+        for (ExamResponse examResponse : examResponses) {
+            if (!keys.add(new ResponseKey(examResponse.getExam().getId(), examResponse.getExamItem().getId()))) {
+                throw new IllegalArgumentException(
+                        "Exam response with the same exam and exam item already exists"
+                );
+            }
+        }
+        if (hasDuplicates(keys)) {
+            throw new IllegalArgumentException(
+                    "Exam response with the same exam and exam item already exists"
+            );
+        }
+        // id는 persist 시점(@PrePersist)에 애플리케이션에서 생성하므로 행마다 flush할 필요 없이 INSERT가 모아서 전송됨
+        for (ExamResponse examResponse : examResponses) {
+            manager.persist(examResponse);
+        }
+        return examResponses;
+    }
+
+    // 제출된 (exam, exam item) 쌍 중 이미 저장된 풀이가 있는지 IN 조건 쿼리 한 번으로 확인
+    private boolean hasDuplicates(Set<ResponseKey> keys) {
+        Set<UUID> examIds = new HashSet<>();
+        Set<UUID> examItemIds = new HashSet<>();
+        for (ResponseKey key : keys) {
+            examIds.add(key.examId());
+            examItemIds.add(key.examItemId());
+        }
+        List<Object[]> existing = manager.createQuery(
+                        "SELECT er.exam.id, er.examItem.id FROM ExamResponse er " +
+                                "WHERE er.exam.id IN :examIds " +
+                                "AND er.examItem.id IN :examItemIds " +
+                                "AND er.deletedAt IS NULL",
+                        Object[].class)
+                .setParameter("examIds", examIds)
+                .setParameter("examItemIds", examItemIds)
+                .getResultList();
+        for (Object[] row : existing) {
+            if (keys.contains(new ResponseKey((UUID) row[0], (UUID) row[1]))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     private boolean isDuplicated(UUID examId, UUID examItemId) {
         return manager.createQuery(
                         "SELECT COUNT(er) > 0 FROM ExamResponse er " +
@@ -72,6 +129,28 @@ public class ExamResponseRepositoryImpl implements ExamResponseRepositoryCustom
         return manager.merge(examResponse);
     }
 
+    // 풀이마다 merge하지 않고 같은 커넥션에서 JDBC batch로 한 번에 반영 (영속성 컨텍스트의 엔티티는 갱신되지 않음)
+    @Transactional
+    public void updateGradingResults(List<ResponseGrade> grades) {
+        if (grades.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        manager.unwrap(Session.class).doWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(
+                    "UPDATE app.exam_responses SET is_correct = ?, score = ?, updated_at = ? WHERE id = ?")) {
+                for (ResponseGrade grade : grades) {
+                    statement.setBoolean(1, grade.correct());
+                    statement.setFloat(2, grade.score());
+                    statement.setTimestamp(3, now);
+                    statement.setObject(4, grade.responseId());
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+            }
+        });
+    }
+
     @Transactional
     public void deleteExamResponse(UUID examResponseId) {
         ExamResponse examResponse = manager.find(ExamResponse.class, examResponseId);
@@ -87,4 +166,7 @@ public class ExamResponseRepositoryImpl implements ExamResponseRepositoryCustom
             throw new RuntimeException("Error deleting exam response", e);
         }
     }
+
+    private record ResponseKey(UUID examId, UUID examItemId) {
+    }
 }
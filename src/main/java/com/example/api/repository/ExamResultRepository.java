@@ -9,6 +9,8 @@ import java.util.UUID;
 
 public interface ExamResultRepository extends JpaRepository<ExamResult, UUID>, ExamResultRepositoryCustom {
     Optional<ExamResult> findByExamId(UUID examId);
+
+    Optional<ExamResultDetail> findDetailByExamId(UUID examId);
     
     List<ExamResult> findByCourseId(UUID courseId);
 
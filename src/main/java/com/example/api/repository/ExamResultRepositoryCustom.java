@@ -8,6 +8,9 @@ import com.example.api.entity.ExamResult;
 
 public interface ExamResultRepositoryCustom {
     Optional<ExamResult> findByExamId(UUID examId);
+
+    // 결과, 문제, 풀이를 조인해 문제별 결과까지 한 번에 조회 (풀이가 없는 문제는 제외)
+    Optional<ExamResultDetail> findDetailByExamId(UUID examId);
     
     List<ExamResult> findByCourseId(UUID courseId);
 
@@ -1,12 +1,17 @@
 package com.example.api.repository;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import org.springframework.stereotype.Repository;
 
+import com.example.api.entity.ExamItem;
+import com.example.api.entity.ExamResponse;
 import com.example.api.entity.ExamResult;
+import com.example.api.entity.enums.Status;
+import com.example.api.service.dto.exam.ExamResultElement;
 
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.NoResultException;
@@ -33,12 +38,40 @@ public class ExamResultRepositoryImpl implements ExamResultRepositoryCustom {
         }
     }
 
+    public Optional<ExamResultDetail> findDetailByExamId(UUID examId) {
+        List<Object[]> rows = manager.createQuery(
+                        "SELECT eres, e.status, ei, er FROM ExamResult eres " +
+                                "JOIN eres.exam e " +
+                                "LEFT JOIN ExamItem ei ON ei.exam.id = e.id AND ei.deletedAt IS NULL " +
+                                "LEFT JOIN ExamResponse er ON er.examItem.id = ei.id AND er.deletedAt IS NULL " +
+                                "WHERE e.id = :examId " +
+                                "AND eres.deletedAt IS NULL " +
+                                "ORDER BY ei.displayOrder, ei.createdAt",
+                        Object[].class)
+                .setParameter("examId", examId)
+                .getResultList();
+        if (rows.isEmpty()) {
+            return Optional.empty();
+        }
+
+        List<ExamResultElement> elements = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            // 풀이가 없는 문제는 결과에 포함하지 않음
+            if (row[3] != null) {
+                elements.add(ExamResultElement.fromExamItemAndResponse((ExamItem) row[2], (ExamResponse) row[3]));
+            }
+        }
+        return Optional.of(new ExamResultDetail((ExamResult) rows.get(0)[0], (Status) rows.get(0)[1], elements));
+    }
+
     public List<ExamResult> findByCourseId(UUID courseId) {
         return manager.createQuery(
                         "SELECT er FROM ExamResult er " +
                                 "JOIN er.exam e " +
                                 "WHERE e.course.id = :courseId " +
-                                "AND er.deletedAt IS NULL",
+                                "AND er.deletedAt IS NULL " +
+                                "AND e.deletedAt IS NULL " +
+                                "ORDER BY e.title ASC",
                         ExamResult.class)
                 .setParameter("courseId", courseId)
                 .getResultList();
@@ -1,16 +1,34 @@
 package com.example.api.repository;
 
 import com.example.api.entity.Lecture;
+import com.example.api.entity.ParsedPage;
+import com.example.api.entity.ParsedText;
+import com.example.api.service.dto.lecture.LectureField;
+import com.example.api.service.dto.lecture.LectureOutput;
+import com.example.api.service.dto.lecture.LectureOwnershipOutput;
+import com.example.api.service.dto.lecture.LecturePreviewOutput;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 public interface LectureRepository extends JpaRepository<Lecture, UUID>, LectureRepositoryCustom {
     Optional<Lecture> findById(UUID lectureId);
     
-    List<Lecture> findByCourseId(UUID courseId);
+    List<LectureOutput> findByCourseId(UUID courseId, Set<LectureField> fields);
+
+    Optional<LectureOwnershipOutput> findOwnershipById(UUID lectureId);
+
+    Optional<LecturePreviewOutput> findPreviewById(UUID lectureId);
+
+    Optional<ParsedText> findParsedTextById(UUID lectureId);
+
+    int findTotalPages(UUID lectureId);
+
+    Stream<ParsedPage> streamPages(UUID lectureId, int fromPage, int toPage);
 
     List<Lecture> findByUserId(UUID userId);
 
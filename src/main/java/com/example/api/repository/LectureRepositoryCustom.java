@@ -1,16 +1,58 @@
 package com.example.api.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import com.example.api.entity.Lecture;
+import com.example.api.entity.ParsedPage;
+import com.example.api.entity.ParsedText;
+import com.example.api.entity.enums.EmbeddingStatus;
+import com.example.api.service.dto.lecture.LectureField;
+import com.example.api.service.dto.lecture.LectureOutput;
+import com.example.api.service.dto.lecture.LectureOwnershipOutput;
+import com.example.api.service.dto.lecture.LecturePreviewOutput;
 
 public interface LectureRepositoryCustom {
-    List<Lecture> findByCourseId(UUID courseId);
+    // 목록 조회용. 메타데이터만 조회하고 jsonb 컬럼은 fields로 요청한 것만 추가로 조회
+    List<LectureOutput> findByCourseId(UUID courseId, Set<LectureField> fields);
+
+    // 권한 확인에 필요한 컬럼만 조회 (jsonb 컬럼은 읽지 않음)
+    Optional<LectureOwnershipOutput> findOwnershipById(UUID lectureId);
+
+    // 미리보기용으로 summary의 keywords만 조회
+    Optional<LecturePreviewOutput> findPreviewById(UUID lectureId);
+
+    // parsed_text만 조회 (텍스트 추출 전이면 null). 트랜잭션 밖에서 조회한 강의 엔티티는 lazy 컬럼을 읽을 수 없으므로 이 메서드를 사용
+    Optional<ParsedText> findParsedTextById(UUID lectureId);
+
+    // parsed_text의 전체 페이지 수 (텍스트 추출 전이면 0)
+    int findTotalPages(UUID lectureId);
+
+    // parsed_text에서 [fromPage, toPage] 범위의 페이지만 DB에서 추출하여 순서대로 반환 (호출한 트랜잭션 안에서 소비하고 닫아야 함)
+    Stream<ParsedPage> streamPages(UUID lectureId, int fromPage, int toPage);
 
     Lecture createLecture(Lecture lecture);
 
     Lecture updateLecture(Lecture lecture);
 
     void deleteLecture(UUID lectureId);
+
+    // 텍스트 추출이 끝났지만 아직 벡터화 요청이 나가지 않았거나, staleBefore 이전에 요청한 뒤 완료되지 않은 강의자료
+    List<Lecture> findEmbeddingPendingLectures(int limit, LocalDateTime staleBefore);
+
+    // not_started/failed 상태이거나 staleBefore 이전에 요청된 in_progress 상태인 경우에만 in_progress로 변경하고 요청 시각을 기록하며,
+    // 변경에 성공한 경우에만 true를 반환 (중복 요청 방지)
+    boolean markEmbeddingInProgress(UUID lectureId, LocalDateTime staleBefore);
+
+    // 아래 상태 변경은 모두 해당 컬럼만 갱신하는 UPDATE 쿼리로 수행 (오래 전에 조회한 엔티티를 save하면 summary_status 등 다른 컬럼을 덮어씀)
+    void updateEmbeddingStatus(UUID lectureId, EmbeddingStatus status);
+
+    void markVectorized(UUID lectureId);
+
+    // 벡터화 완료 상태였던 경우에만 is_vectorized=false, not_started로 되돌리며, 변경된 경우 true를 반환
+    boolean resetVectorized(UUID lectureId);
 }
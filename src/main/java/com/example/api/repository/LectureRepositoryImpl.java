@@ -1,14 +1,30 @@
 package com.example.api.repository;
 
 import java.time.LocalDateTime;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Repository;
 
 import com.example.api.entity.Lecture;
+import com.example.api.entity.LectureSummary;
+import com.example.api.entity.ParsedPage;
+import com.example.api.entity.ParsedText;
+import com.example.api.entity.enums.EmbeddingStatus;
+import com.example.api.service.dto.lecture.LectureField;
+import com.example.api.service.dto.lecture.LectureOutput;
+import com.example.api.service.dto.lecture.LectureOwnershipOutput;
+import com.example.api.service.dto.lecture.LecturePreviewOutput;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
@@ -17,19 +33,158 @@ import jakarta.transaction.Transactional;
 @Repository
 public class LectureRepositoryImpl implements LectureRepositoryCustom {
     private static final Logger logger = LoggerFactory.getLogger(LectureRepositoryImpl.class);
+    private static final int PAGE_FETCH_SIZE = 10;
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final TypeReference<List<LectureSummary.Keyword>> KEYWORD_LIST_TYPE = new TypeReference<>() {
+    };
 
     @PersistenceContext
     private EntityManager manager;
 
-    public List<Lecture> findByCourseId(UUID courseId) {
-        return manager.createQuery(
-                        "SELECT l FROM Lecture l " +
+    public List<LectureOutput> findByCourseId(UUID courseId, Set<LectureField> fields) {
+        List<LectureOutput> lectures = manager.createQuery(
+                        "SELECT new com.example.api.service.dto.lecture.LectureOutput(" +
+                                "l.id, l.course.id, l.user.id, l.title, l.materialPath, l.materialType, " +
+                                "l.displayOrderLex, l.summaryStatus, l.embeddingStatus, l.createdAt, l.updatedAt) " +
+                                "FROM Lecture l " +
                                 "WHERE l.course.id = :courseId " +
                                 "AND l.deletedAt IS NULL " +
                                 "ORDER BY l.title ASC",
-                        Lecture.class)
+                        LectureOutput.class)
+                .setParameter("courseId", courseId)
+                .getResultList();
+        if (lectures.isEmpty() || fields == null || fields.isEmpty()) {
+            return lectures;
+        }
+
+        // 요청한 jsonb 컬럼만 쿼리 한 번으로 조회하여 채움
+        List<LectureField> selected = List.copyOf(fields);
+        StringBuilder select = new StringBuilder("SELECT l.id");
+        for (LectureField field : selected) {
+            select.append(", l.").append(field.name());
+        }
+        List<Object[]> rows = manager.createQuery(
+                        select + " FROM Lecture l " +
+                                "WHERE l.course.id = :courseId " +
+                                "AND l.deletedAt IS NULL",
+                        Object[].class)
                 .setParameter("courseId", courseId)
                 .getResultList();
+
+        Map<UUID, LectureOutput> lecturesById = new HashMap<>();
+        for (LectureOutput lecture : lectures) {
+            lecturesById.put(lecture.getId(), lecture);
+        }
+        for (Object[] row : rows) {
+            LectureOutput lecture = lecturesById.get((UUID) row[0]);
+            if (lecture == null) {
+                continue;
+            }
+            for (int i = 0; i < selected.size(); i++) {
+                setField(lecture, selected.get(i), row[i + 1]);
+            }
+        }
+        return lectures;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void setField(LectureOutput lecture, LectureField field, Object value) {
+        switch (field) {
+            case summary -> lecture.setSummary((LectureSummary) value);
+            case parsedText -> lecture.setParsedText((ParsedText) value);
+            case note -> lecture.setNote((Map<String, Object>) value);
+        }
+    }
+
+    // findById와 같이 삭제 여부와 관계없이 조회하며, 엔티티를 로드하지 않으므로 jsonb 컬럼을 읽지 않음
+    public Optional<LectureOwnershipOutput> findOwnershipById(UUID lectureId) {
+        return manager.createQuery(
+                        "SELECT new com.example.api.service.dto.lecture.LectureOwnershipOutput(" +
+                                "l.id, l.user.id, l.course.id, l.summaryStatus, l.isVectorized, l.embeddingStatus) " +
+                                "FROM Lecture l " +
+                                "WHERE l.id = :lectureId",
+                        LectureOwnershipOutput.class)
+                .setParameter("lectureId", lectureId)
+                .getResultStream()
+                .findFirst();
+    }
+
+    // summary 전체가 아닌 summary -> 'keywords'만 DB에서 잘라서 가져옴
+    public Optional<LecturePreviewOutput> findPreviewById(UUID lectureId) {
+        List<?> rows = manager.createNativeQuery(
+                        "SELECT l.id, l.user_id, l.title, CAST(l.summary -> 'keywords' AS TEXT) " +
+                                "FROM app.lectures l " +
+                                "WHERE l.id = :lectureId")
+                .setParameter("lectureId", lectureId)
+                .getResultList();
+        if (rows.isEmpty()) {
+            return Optional.empty();
+        }
+        Object[] row = (Object[]) rows.get(0);
+        return Optional.of(new LecturePreviewOutput(
+                (UUID) row[0],
+                (UUID) row[1],
+                (String) row[2],
+                parseKeywords((String) row[3])
+        ));
+    }
+
+    private List<LectureSummary.Keyword> parseKeywords(String json) {
+        if (json == null) {
+            return List.of();
+        }
+        try {
+            return OBJECT_MAPPER.readValue(json, KEYWORD_LIST_TYPE);
+        } catch (JsonProcessingException e) {
+            logger.error("Failed to parse lecture summary keywords", e);
+            return List.of();
+        }
+    }
+
+    // 엔티티를 로드하지 않고 parsed_text 컬럼만 조회하므로 영속성 컨텍스트(트랜잭션) 없이 호출해도 됨
+    public Optional<ParsedText> findParsedTextById(UUID lectureId) {
+        List<ParsedText> result = manager.createQuery(
+                        "SELECT l.parsedText FROM Lecture l WHERE l.id = :lectureId",
+                        ParsedText.class)
+                .setParameter("lectureId", lectureId)
+                .getResultList();
+        if (result.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(result.get(0));
+    }
+
+    public int findTotalPages(UUID lectureId) {
+        List<?> result = manager.createNativeQuery(
+                        "SELECT CAST(l.parsed_text ->> 'total_pages' AS INTEGER) " +
+                                "FROM app.lectures l " +
+                                "WHERE l.id = :lectureId")
+                .setParameter("lectureId", lectureId)
+                .getResultList();
+        if (result.isEmpty() || result.get(0) == null) {
+            return 0;
+        }
+        return ((Number) result.get(0)).intValue();
+    }
+
+    // jsonb 배열을 DB에서 펼쳐 요청한 페이지만 전송하므로 parsed_text 전체를 애플리케이션으로 가져오지 않음
+    public Stream<ParsedPage> streamPages(UUID lectureId, int fromPage, int toPage) {
+        Stream<?> rows = manager.createNativeQuery(
+                        "SELECT CAST(p.page ->> 'page_number' AS INTEGER) AS page_number, p.page ->> 'text' AS text " +
+                                "FROM app.lectures l " +
+                                "CROSS JOIN LATERAL jsonb_array_elements(l.parsed_text -> 'pages') AS p(page) " +
+                                "WHERE l.id = :lectureId " +
+                                "AND CAST(p.page ->> 'page_number' AS INTEGER) BETWEEN :fromPage AND :toPage " +
+                                "ORDER BY page_number")
+                .setParameter("lectureId", lectureId)
+                .setParameter("fromPage", fromPage)
+                .setParameter("toPage", toPage)
+                .setHint("org.hibernate.fetchSize", PAGE_FETCH_SIZE)
+                .getResultStream();
+        return rows.map(row -> {
+            Object[] columns = (Object[]) row;
+            return new ParsedPage(((Number) columns[0]).intValue(), (String) columns[1]);
+        });
     }
 
     @Transactional
@@ -83,4 +238,72 @@ public class LectureRepositoryImpl implements LectureRepositoryCustom {
             throw new RuntimeException("Failed to delete lecture", e);
         }
     }
+
+    public List<Lecture> findEmbeddingPendingLectures(int limit, LocalDateTime staleBefore) {
+        return manager.createQuery(
+                        "SELECT l FROM Lecture l " +
+                                "WHERE (l.embeddingStatus = :notStarted " +
+                                "OR (l.embeddingStatus = :inProgress " +
+                                "AND (l.embeddingRequestedAt IS NULL OR l.embeddingRequestedAt < :staleBefore))) " +
+                                "AND l.parsedText IS NOT NULL " +
+                                "AND l.deletedAt IS NULL " +
+                                "ORDER BY l.updatedAt ASC",
+                        Lecture.class)
+                .setParameter("notStarted", EmbeddingStatus.not_started)
+                .setParameter("inProgress", EmbeddingStatus.in_progress)
+                .setParameter("staleBefore", staleBefore)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Transactional
+    public boolean markEmbeddingInProgress(UUID lectureId, LocalDateTime staleBefore) {
+        int updated = manager.createQuery(
+                        "UPDATE Lecture l SET l.embeddingStatus = :inProgress, l.embeddingRequestedAt = :now " +
+                                "WHERE l.id = :lectureId " +
+                                "AND (l.embeddingStatus IN (:notStarted, :failed) " +
+                                "OR (l.embeddingStatus = :inProgress " +
+                                "AND (l.embeddingRequestedAt IS NULL OR l.embeddingRequestedAt < :staleBefore)))")
+                .setParameter("inProgress", EmbeddingStatus.in_progress)
+                .setParameter("now", LocalDateTime.now())
+                .setParameter("lectureId", lectureId)
+                .setParameter("notStarted", EmbeddingStatus.not_started)
+                .setParameter("failed", EmbeddingStatus.failed)
+                .setParameter("staleBefore", staleBefore)
+                .executeUpdate();
+        return updated > 0;
+    }
+
+    @Transactional
+    public void updateEmbeddingStatus(UUID lectureId, EmbeddingStatus status) {
+        manager.createQuery(
+                        "UPDATE Lecture l SET l.embeddingStatus = :status " +
+                                "WHERE l.id = :lectureId")
+                .setParameter("status", status)
+                .setParameter("lectureId", lectureId)
+                .executeUpdate();
+    }
+
+    @Transactional
+    public void markVectorized(UUID lectureId) {
+        manager.createQuery(
+                        "UPDATE Lecture l SET l.isVectorized = true, l.embeddingStatus = :completed " +
+                                "WHERE l.id = :lectureId")
+                .setParameter("completed", EmbeddingStatus.completed)
+                .setParameter("lectureId", lectureId)
+                .executeUpdate();
+    }
+
+    @Transactional
+    public boolean resetVectorized(UUID lectureId) {
+        int updated = manager.createQuery(
+                        "UPDATE Lecture l SET l.isVectorized = false, l.embeddingStatus = :notStarted " +
+                                "WHERE l.id = :lectureId " +
+                                "AND (l.isVectorized = true OR l.embeddingStatus = :completed)")
+                .setParameter("notStarted", EmbeddingStatus.not_started)
+                .setParameter("lectureId", lectureId)
+                .setParameter("completed", EmbeddingStatus.completed)
+                .executeUpdate();
+        return updated > 0;
+    }
 }
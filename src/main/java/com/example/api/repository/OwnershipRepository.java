@@ -0,0 +1,11 @@
+package com.example.api.repository;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import com.example.api.security.ownership.OwnedResource;
+
+public interface OwnershipRepository {
+    // 삭제되지 않은 리소스의 소유자 ID만 조회
+    Optional<UUID> findOwnerId(OwnedResource resource, UUID resourceId);
+}
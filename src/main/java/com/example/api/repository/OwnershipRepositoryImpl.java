@@ -0,0 +1,28 @@
+package com.example.api.repository;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.stereotype.Repository;
+
+import com.example.api.security.ownership.OwnedResource;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+@Repository
+public class OwnershipRepositoryImpl implements OwnershipRepository {
+    @PersistenceContext
+    private EntityManager manager;
+
+    public Optional<UUID> findOwnerId(OwnedResource resource, UUID resourceId) {
+        return manager.createQuery(
+                        "SELECT r.user.id FROM " + resource.getEntityName() + " r " +
+                                "WHERE r.id = :resourceId " +
+                                "AND r.deletedAt IS NULL",
+                        UUID.class)
+                .setParameter("resourceId", resourceId)
+                .getResultStream()
+                .findFirst();
+    }
+}
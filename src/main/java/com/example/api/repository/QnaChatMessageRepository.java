@@ -8,5 +8,4 @@ import java.util.UUID;
 
 public interface QnaChatMessageRepository extends JpaRepository<QnaChatMessage, UUID>, QnaChatMessageRepositoryCustom {
     List<QnaChatMessage> findByQnaChatId(UUID id);
-    List<QnaChatMessage> findByQnaChatIdAndIsLikedTrue(UUID chatId);
 }
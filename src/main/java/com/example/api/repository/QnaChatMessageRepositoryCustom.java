@@ -1,12 +1,17 @@
 package com.example.api.repository;
 
 import com.example.api.entity.QnaChatMessage;
+import com.example.api.service.dto.qna.MessageCursor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 public interface QnaChatMessageRepositoryCustom {
-    List<QnaChatMessage> findByQnaChatIdWithCursor(UUID chatId, UUID cursor, int limit);
+    List<QnaChatMessage> findByQnaChatIdWithCursor(UUID chatId, MessageCursor cursor, int limit);
+    List<QnaChatMessage> findLikedByQnaChatIdWithCursor(UUID chatId, MessageCursor cursor, int limit);
+    Stream<QnaChatMessage> streamByQnaChatId(UUID chatId, MessageCursor cursor);
+    void updateRecommendedQuestions(UUID messageId, List<String> recommendedQuestions);
 }
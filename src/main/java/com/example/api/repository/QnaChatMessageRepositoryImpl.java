@@ -1,42 +1,77 @@
 package com.example.api.repository;
 
 import com.example.api.entity.QnaChatMessage;
+import com.example.api.service.dto.qna.MessageCursor;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import jakarta.persistence.TypedQuery;
+import jakarta.transaction.Transactional;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 public class QnaChatMessageRepositoryImpl implements QnaChatMessageRepositoryCustom {
     @PersistenceContext
     private EntityManager manager;
 
+    private static final int STREAM_FETCH_SIZE = 100;
+
     @Override
-    public List<QnaChatMessage> findByQnaChatIdWithCursor(UUID chatId, UUID cursor, int limit) {
-        String jpql;
-        TypedQuery<QnaChatMessage> query;
-
-        if (cursor == null) {
-            // 첫 로드: 최신 메시지부터
-            jpql = "SELECT m FROM QnaChatMessage m WHERE m.qnaChat.id = :chatId " +
-                    "ORDER BY m.createdAt DESC";
-            query = manager.createQuery(jpql, QnaChatMessage.class)
-                    .setParameter("chatId", chatId);
-        } else {
-            // 이전 메시지들: cursor보다 오래된 메시지들
-            jpql = "SELECT m FROM QnaChatMessage m WHERE m.qnaChat.id = :chatId " +
-                    "AND m.createdAt < (SELECT cm.createdAt FROM QnaChatMessage cm WHERE cm.id = :cursor) " +
-                    "ORDER BY m.createdAt DESC";
-            query = manager.createQuery(jpql, QnaChatMessage.class)
-                    .setParameter("chatId", chatId)
-                    .setParameter("cursor", cursor);
-        }
+    public List<QnaChatMessage> findByQnaChatIdWithCursor(UUID chatId, MessageCursor cursor, int limit) {
+        // 첫 로드는 최신 메시지부터, 이후에는 cursor보다 오래된 메시지들
+        TypedQuery<QnaChatMessage> query = createCursorQuery(
+                "SELECT m FROM QnaChatMessage m WHERE m.qnaChat.id = :chatId ", chatId, cursor, "DESC");
+        return query.setMaxResults(limit + 1) // +1로 hasMore 판단
+                .getResultList();
+    }
 
+    @Override
+    public List<QnaChatMessage> findLikedByQnaChatIdWithCursor(UUID chatId, MessageCursor cursor, int limit) {
+        TypedQuery<QnaChatMessage> query = createCursorQuery(
+                "SELECT m FROM QnaChatMessage m WHERE m.qnaChat.id = :chatId AND m.isLiked = true ", chatId, cursor, "DESC");
         return query.setMaxResults(limit + 1) // +1로 hasMore 판단
                 .getResultList();
     }
+
+    // cursor보다 오래된 메시지를 오래된 순으로 조회 (호출한 트랜잭션 안에서 소비하고 닫아야 함)
+    @Override
+    public Stream<QnaChatMessage> streamByQnaChatId(UUID chatId, MessageCursor cursor) {
+        TypedQuery<QnaChatMessage> query = createCursorQuery(
+                "SELECT m FROM QnaChatMessage m WHERE m.qnaChat.id = :chatId ", chatId, cursor, "ASC");
+        return query.setHint(HibernateHints.HINT_FETCH_SIZE, STREAM_FETCH_SIZE)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream()
+                .peek(manager::detach); // 응답에 쓴 메시지가 영속성 컨텍스트에 계속 쌓이지 않도록 분리
+    }
+
+    // (createdAt, id) 행 값 비교로 cursor 이전 메시지를 찾으므로 cursor 메시지를 다시 조회하지 않음
+    private TypedQuery<QnaChatMessage> createCursorQuery(String select, UUID chatId, MessageCursor cursor, String direction) {
+        String jpql = select;
+        if (cursor != null) {
+            jpql += "AND (m.createdAt, m.id) < (:cursorCreatedAt, :cursorId) ";
+        }
+        jpql += "ORDER BY m.createdAt " + direction + ", m.id " + direction;
+
+        TypedQuery<QnaChatMessage> query = manager.createQuery(jpql, QnaChatMessage.class)
+                .setParameter("chatId", chatId);
+        if (cursor != null) {
+            query.setParameter("cursorCreatedAt", cursor.createdAt())
+                    .setParameter("cursorId", cursor.id());
+        }
+        return query;
+    }
+
+    @Override
+    @Transactional
+    public void updateRecommendedQuestions(UUID messageId, List<String> recommendedQuestions) {
+        QnaChatMessage message = manager.find(QnaChatMessage.class, messageId);
+        if (message != null) {
+            message.setRecommendedQuestions(recommendedQuestions);
+        }
+    }
 }
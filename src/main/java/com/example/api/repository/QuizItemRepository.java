@@ -3,10 +3,13 @@ package com.example.api.repository;
 import com.example.api.entity.QuizItem;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
 import com.example.api.entity.enums.QuestionType;
+import com.example.api.service.dto.quiz.QuizItemOutput;
+import com.example.api.service.dto.qna.MessageCursor;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 
@@ -14,8 +17,14 @@ public interface QuizItemRepository extends JpaRepository<QuizItem, UUID>, QuizI
     Optional<QuizItem> findById(UUID id);
     
     List<QuizItem> findByQuizId(UUID quizId);
+
+    List<QuizItem> findGeneratedByQuizId(UUID quizId);
+
+    List<QuizItemOutput> findLikedByLectureIdWithCursor(UUID lectureId, MessageCursor cursor, int limit);
     
     boolean existsByQuizIdAndQuestionTypeAndDeletedAtIsNull(UUID quizId, QuestionType questionType);
 
     QuizItem updateQuizItem(QuizItem quizItem);
+
+    void updatePoints(Map<UUID, Float> pointsByItemId);
 }
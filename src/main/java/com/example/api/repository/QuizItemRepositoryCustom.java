@@ -1,18 +1,30 @@
 package com.example.api.repository;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
 import com.example.api.entity.QuizItem;
 import com.example.api.entity.enums.QuestionType;
+import com.example.api.service.dto.quiz.QuizItemOutput;
+import com.example.api.service.dto.qna.MessageCursor;
 
 public interface QuizItemRepositoryCustom {
     Optional<QuizItem> findById(UUID id);
 
     List<QuizItem> findByQuizId(UUID quizId);
 
+    // 생성이 끝난 퀴즈의 문항 목록 (쿼리 캐시 사용)
+    List<QuizItem> findGeneratedByQuizId(UUID quizId);
+
+    // 강의의 좋아요 문항을 최신순으로 cursor(마지막으로 받은 문항의 (createdAt, id)) 이후 limit + 1개까지 조회
+    List<QuizItemOutput> findLikedByLectureIdWithCursor(UUID lectureId, MessageCursor cursor, int limit);
+
     boolean existsByQuizIdAndQuestionTypeAndDeletedAtIsNull(UUID quizId, QuestionType questionType);
 
     QuizItem updateQuizItem(QuizItem quizItem);
+
+    // 문제별 배점을 JDBC batch update 한 번으로 반영
+    void updatePoints(Map<UUID, Float> pointsByItemId);
 }
@@ -1,17 +1,25 @@
 package com.example.api.repository;
 
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
+import org.hibernate.Session;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.stereotype.Repository;
 
 import com.example.api.entity.QuizItem;
 import com.example.api.entity.enums.QuestionType;
+import com.example.api.service.dto.quiz.QuizItemOutput;
+import com.example.api.service.dto.qna.MessageCursor;
 
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
 import jakarta.transaction.Transactional;
 
 @Repository
@@ -19,20 +27,53 @@ public class QuizItemRepositoryImpl implements QuizItemRepositoryCustom {
     @PersistenceContext
     private EntityManager entityManager;
 
+    // 2차 캐시를 사용하도록 PK로 조회한 뒤 삭제 여부를 확인
     public Optional<QuizItem> findById(UUID id) {
+        return Optional.ofNullable(entityManager.find(QuizItem.class, id))
+                .filter(item -> item.getDeletedAt() == null);
+    }
+
+    public List<QuizItem> findByQuizId(UUID quizId) {
         return entityManager.createQuery(
-                "SELECT qi FROM QuizItem qi WHERE qi.id = :id AND qi.deletedAt IS NULL",
+                "SELECT qi FROM QuizItem qi WHERE qi.quiz.id = :quizId AND qi.deletedAt IS NULL",
                 QuizItem.class)
-                .setParameter("id", id)
-                .getResultStream()
-                .findFirst();
+                .setParameter("quizId", quizId)
+                .getResultList();
     }
 
-    public List<QuizItem> findByQuizId(UUID quizId) {
+    // 생성이 끝난 뒤에는 문항 구성이 바뀌지 않으므로 쿼리 캐시를 사용 (생성 중에는 Lambda가 직접 INSERT하므로 캐싱하면 안 됨)
+    // 캐시된 결과는 문항 ID 목록이며, 좋아요/배점 변경은 SecondLevelCacheEvictions로 모든 인스턴스의 엔티티 캐시에서 제거됨
+    public List<QuizItem> findGeneratedByQuizId(UUID quizId) {
         return entityManager.createQuery(
                 "SELECT qi FROM QuizItem qi WHERE qi.quiz.id = :quizId AND qi.deletedAt IS NULL",
                 QuizItem.class)
                 .setParameter("quizId", quizId)
+                .setHint(HibernateHints.HINT_CACHEABLE, true)
+                .getResultList();
+    }
+
+    // 강의의 좋아요 문항을 quizzes 조인 한 번으로 최신순 조회 (엔티티 대신 출력 DTO로 바로 조회하여 영속성 컨텍스트에 올리지 않음)
+    public List<QuizItemOutput> findLikedByLectureIdWithCursor(UUID lectureId, MessageCursor cursor, int limit) {
+        String jpql = "SELECT new com.example.api.service.dto.quiz.QuizItemOutput(" +
+                "qi.id, q.id, qi.user.id, qi.question, qi.questionType, qi.explanation, qi.isTrueAnswer, " +
+                "qi.choices, qi.answerIndices, qi.textAnswer, qi.displayOrder, qi.points, qi.isLiked, " +
+                "qi.createdAt, qi.updatedAt) " +
+                "FROM QuizItem qi JOIN qi.quiz q " +
+                "WHERE q.lecture.id = :lectureId AND q.deletedAt IS NULL " +
+                "AND qi.isLiked = true AND qi.deletedAt IS NULL ";
+        if (cursor != null) {
+            // 같은 시각에 함께 생성된 문항이 많으므로 (createdAt, id) 행 값 비교로 cursor 이후 문항만 조회 (cursor 문항을 다시 조회하지 않음)
+            jpql += "AND (qi.createdAt, qi.id) < (:cursorCreatedAt, :cursorId) ";
+        }
+        jpql += "ORDER BY qi.createdAt DESC, qi.id DESC";
+
+        TypedQuery<QuizItemOutput> query = entityManager.createQuery(jpql, QuizItemOutput.class)
+                .setParameter("lectureId", lectureId);
+        if (cursor != null) {
+            query.setParameter("cursorCreatedAt", cursor.createdAt())
+                    .setParameter("cursorId", cursor.id());
+        }
+        return query.setMaxResults(limit + 1) // +1로 hasMore 판단
                 .getResultList();
     }
 
@@ -52,4 +93,25 @@ public class QuizItemRepositoryImpl implements QuizItemRepositoryCustom {
         quizItem.setUpdatedAt(LocalDateTime.now());
         return entityManager.merge(quizItem);
     }
+
+    // 문제마다 merge하지 않고 같은 커넥션에서 JDBC batch로 한 번에 반영 (영속성 컨텍스트의 엔티티는 갱신되지 않음)
+    @Transactional
+    public void updatePoints(Map<UUID, Float> pointsByItemId) {
+        if (pointsByItemId.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        entityManager.unwrap(Session.class).doWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(
+                    "UPDATE app.quiz_items SET points = ?, updated_at = ? WHERE id = ?")) {
+                for (Map.Entry<UUID, Float> entry : pointsByItemId.entrySet()) {
+                    statement.setFloat(1, entry.getValue());
+                    statement.setTimestamp(2, now);
+                    statement.setObject(3, entry.getKey());
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+            }
+        });
+    }
 }
@@ -1,6 +1,7 @@
 package com.example.api.repository;
 
 import com.example.api.entity.QuizResponse;
+import com.example.api.grading.ResponseGrade;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.util.List;
@@ -14,7 +15,11 @@ public interface QuizResponseRepository extends JpaRepository<QuizResponse, UUID
 
     QuizResponse createQuizResponse(QuizResponse quizResponse);
 
+    List<QuizResponse> createQuizResponses(List<QuizResponse> quizResponses);
+
     QuizResponse updateQuizResponse(QuizResponse quizResponse);
 
+    void updateGradingResults(List<ResponseGrade> grades);
+
     void deleteQuizResponse(UUID quizResponseId);
 }
@@ -4,6 +4,7 @@ import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import com.example.api.entity.QuizResponse;
+import com.example.api.grading.ResponseGrade;
 
 public interface QuizResponseRepositoryCustom {
     List<QuizResponse> findByQuizId(UUID quizId);
@@ -12,7 +13,13 @@ public interface QuizResponseRepositoryCustom {
 
     QuizResponse createQuizResponse(QuizResponse quizResponse);
 
+    // 중복 검사 쿼리 한 번으로 여러 풀이를 검사한 뒤 한 번에 저장 (INSERT는 flush 시점에 JDBC batch로 전송)
+    List<QuizResponse> createQuizResponses(List<QuizResponse> quizResponses);
+
     QuizResponse updateQuizResponse(QuizResponse quizResponse);
 
+    // 채점 결과(is_correct, score)를 JDBC batch update 한 번으로 반영
+    void updateGradingResults(List<ResponseGrade> grades);
+
     void deleteQuizResponse(UUID quizResponseId);
 }
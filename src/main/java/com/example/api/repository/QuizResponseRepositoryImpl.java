@@ -1,14 +1,21 @@
 package com.example.api.repository;
 
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
+import org.hibernate.Session;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Repository;
 
 import com.example.api.entity.QuizResponse;
+import com.example.api.grading.ResponseGrade;
 
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
@@ -54,6 +61,56 @@ public class QuizResponseRepositoryImpl implements QuizResponseRepositoryCustom
         return quizResponse;
     }
     
+    @Transactional
+    public List<QuizResponse> createQuizResponses(List<QuizResponse> quizResponses) {
+        if (quizResponses.isEmpty()) {
+            return quizResponses;
+        }
+        Set<ResponseKey> keys = new HashSet<>();
+        for (QuizResponse quizResponse : quizResponses) {
+            if (!keys.add(new ResponseKey(quizResponse.getQuiz().getId(), quizResponse.getQuizItem().getId()))) {
+                throw new IllegalArgumentException(
+                        "Quiz response with the same quiz and quiz item already exists"
+                );
+            }
+        }
+        if (hasDuplicates(keys)) {
+            throw new IllegalArgumentException(
+                    "Quiz response with the same quiz and quiz item already exists"
+            );
+        }
+        // id는 persist 시점(@PrePersist)에 애플리케이션에서 생성하므로 행마다 flush할 필요 없이 INSERT가 모아서 전송됨
+        for (QuizResponse quizResponse : quizResponses) {
+            manager.persist(quizResponse);
+        }
+        return quizResponses;
+    }
+
+    // 제출된 (quiz, quiz item) 쌍 중 이미 저장된 풀이가 있는지 IN 조건 쿼리 한 번으로 확인
+    private boolean hasDuplicates(Set<ResponseKey> keys) {
+        Set<UUID> quizIds = new HashSet<>();
+        Set<UUID> quizItemIds = new HashSet<>();
+        for (ResponseKey key : keys) {
+            quizIds.add(key.quizId());
+            quizItemIds.add(key.quizItemId());
+        }
+        List<Object[]> existing = manager.createQuery(
+                        "SELECT qr.quiz.id, qr.quizItem.id FROM QuizResponse qr " +
+                                "WHERE qr.quiz.id IN :quizIds " +
+                                "AND qr.quizItem.id IN :quizItemIds " +
+                                "AND qr.deletedAt IS NULL",
+                        Object[].class)
+                .setParameter("quizIds", quizIds)
+                .setParameter("quizItemIds", quizItemIds)
+                .getResultList();
+        for (Object[] row : existing) {
+            if (keys.contains(new ResponseKey((UUID) row[0], (UUID) row[1]))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     private boolean isDuplicated(UUID quizId, UUID quizItemId) {
         return manager.createQuery(
                         "SELECT COUNT(qr) > 0 FROM QuizResponse qr " +
@@ -70,6 +127,28 @@ public class QuizResponseRepositoryImpl implements QuizResponseRepositoryCustom
     public QuizResponse updateQuizResponse(QuizResponse quizResponse) {
         return manager.merge(quizResponse);
     }
+
+    // 풀이마다 merge하지 않고 같은 커넥션에서 JDBC batch로 한 번에 반영 (영속성 컨텍스트의 엔티티는 갱신되지 않음)
+    @Transactional
+    public void updateGradingResults(List<ResponseGrade> grades) {
+        if (grades.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        manager.unwrap(Session.class).doWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(
+                    "UPDATE app.quiz_responses SET is_correct = ?, score = ?, updated_at = ? WHERE id = ?")) {
+                for (ResponseGrade grade : grades) {
+                    statement.setBoolean(1, grade.correct());
+                    statement.setFloat(2, grade.score());
+                    statement.setTimestamp(3, now);
+                    statement.setObject(4, grade.responseId());
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+            }
+        });
+    }
     
     @Transactional
     public void deleteQuizResponse(UUID quizResponseId) {
@@ -86,4 +165,7 @@ public class QuizResponseRepositoryImpl implements QuizResponseRepositoryCustom
             throw new RuntimeException("Failed to delete quizResponse", e);
         }
     }
+
+    private record ResponseKey(UUID quizId, UUID quizItemId) {
+    }
 }
@@ -0,0 +1,11 @@
+package com.example.api.repository;
+
+import java.util.List;
+
+import com.example.api.entity.QuizResult;
+import com.example.api.entity.enums.Status;
+import com.example.api.service.dto.quiz.QuizResultElement;
+
+// 퀴즈 결과 조회용 projection: 결과, 퀴즈 상태, 문제별 풀이를 한 번의 쿼리로 조회한 결과
+public record QuizResultDetail(QuizResult quizResult, Status quizStatus, List<QuizResultElement> quizResultElements) {
+}
@@ -10,7 +10,11 @@ import java.util.UUID;
 public interface QuizResultRepository extends JpaRepository<QuizResult, UUID>, QuizResultRepositoryCustom {
     Optional<QuizResult> findByQuizId(UUID quizId);
 
+    Optional<QuizResultDetail> findDetailByQuizId(UUID quizId);
+
     List<QuizResult> findByLectureId(UUID lectureId);
+
+    List<QuizResult> findByCourseId(UUID courseId);
     
     QuizResult createQuizResult(QuizResult quizResult);
 }
@@ -8,8 +8,14 @@ import com.example.api.entity.QuizResult;
 
 public interface QuizResultRepositoryCustom {
     Optional<QuizResult> findByQuizId(UUID quizId);
+
+    // 결과, 문제, 풀이를 조인해 문제별 결과까지 한 번에 조회 (풀이가 없는 문제는 제외)
+    Optional<QuizResultDetail> findDetailByQuizId(UUID quizId);
     
     List<QuizResult> findByLectureId(UUID lectureId);
+
+    // 과목에 속한 모든 퀴즈 결과 조회 (삭제된 강의/퀴즈의 결과는 제외)
+    List<QuizResult> findByCourseId(UUID courseId);
     
     QuizResult createQuizResult(QuizResult quizResult);
 }
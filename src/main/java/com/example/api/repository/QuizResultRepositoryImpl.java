@@ -1,12 +1,17 @@
 package com.example.api.repository;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import org.springframework.stereotype.Repository;
 
+import com.example.api.entity.QuizItem;
+import com.example.api.entity.QuizResponse;
 import com.example.api.entity.QuizResult;
+import com.example.api.entity.enums.Status;
+import com.example.api.service.dto.quiz.QuizResultElement;
 
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.NoResultException;
@@ -33,6 +38,32 @@ public class QuizResultRepositoryImpl implements QuizResultRepositoryCustom {
         }
     }
     
+    public Optional<QuizResultDetail> findDetailByQuizId(UUID quizId) {
+        List<Object[]> rows = manager.createQuery(
+                        "SELECT qres, q.status, qi, qr FROM QuizResult qres " +
+                                "JOIN qres.quiz q " +
+                                "LEFT JOIN QuizItem qi ON qi.quiz.id = q.id AND qi.deletedAt IS NULL " +
+                                "LEFT JOIN QuizResponse qr ON qr.quizItem.id = qi.id AND qr.deletedAt IS NULL " +
+                                "WHERE q.id = :quizId " +
+                                "AND qres.deletedAt IS NULL " +
+                                "ORDER BY qi.displayOrder, qi.createdAt",
+                        Object[].class)
+                .setParameter("quizId", quizId)
+                .getResultList();
+        if (rows.isEmpty()) {
+            return Optional.empty();
+        }
+
+        List<QuizResultElement> elements = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            // 풀이가 없는 문제는 결과에 포함하지 않음
+            if (row[3] != null) {
+                elements.add(QuizResultElement.fromQuizItemAndResponse((QuizItem) row[2], (QuizResponse) row[3]));
+            }
+        }
+        return Optional.of(new QuizResultDetail((QuizResult) rows.get(0)[0], (Status) rows.get(0)[1], elements));
+    }
+
     // QuizResult에는 lectureId가 없고, lectureId는 quizResult의 quiz에 있는 lectureId를 통해서 가져온다.
     // lectureId를 통해서 quizResult를 가져오는 메서드
     public List<QuizResult> findByLectureId(UUID lectureId) {
@@ -46,6 +77,21 @@ public class QuizResultRepositoryImpl implements QuizResultRepositoryCustom {
                 .getResultList();
     }
 
+    public List<QuizResult> findByCourseId(UUID courseId) {
+        return manager.createQuery(
+                        "SELECT qr FROM QuizResult qr " +
+                                "JOIN qr.quiz q " +
+                                "JOIN q.lecture l " +
+                                "WHERE l.course.id = :courseId " +
+                                "AND qr.deletedAt IS NULL " +
+                                "AND q.deletedAt IS NULL " +
+                                "AND l.deletedAt IS NULL " +
+                                "ORDER BY l.title ASC, q.title ASC",
+                        QuizResult.class)
+                .setParameter("courseId", courseId)
+                .getResultList();
+    }
+
     @Transactional
     public QuizResult createQuizResult(QuizResult quizResult) {
         if (isDuplicated(quizResult.getQuiz().getId(), quizResult.getUser().getId())) {
@@ -0,0 +1,19 @@
+package com.example.api.repository;
+
+import com.example.api.entity.SqsOutboxMessage;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface SqsOutboxMessageRepository extends JpaRepository<SqsOutboxMessage, Long>, SqsOutboxMessageRepositoryCustom {
+    SqsOutboxMessage createOutboxMessage(SqsOutboxMessage message);
+
+    List<SqsOutboxMessage> findPendingGroupHeads(LocalDateTime now, int limit);
+
+    void deleteOutboxMessages(List<Long> ids);
+
+    void markOutboxMessageFailed(Long id, String error, LocalDateTime nextAttemptAt);
+
+    void parkOutboxMessage(Long id, String error, LocalDateTime parkedAt);
+}
@@ -0,0 +1,21 @@
+package com.example.api.repository;
+
+import com.example.api.entity.SqsOutboxMessage;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface SqsOutboxMessageRepositoryCustom {
+    SqsOutboxMessage createOutboxMessage(SqsOutboxMessage message);
+
+    // (메시지 타입, 그룹)별로 가장 오래된 미발행 메시지 중 now 기준으로 재시도할 수 있는 것만 조회 (id 오름차순)
+    // 트랜잭션 안에서 호출해야 하며, 다른 트랜잭션이 잠근 메시지는 건너뛰고 조회한 메시지는 커밋/롤백까지 잠금
+    List<SqsOutboxMessage> findPendingGroupHeads(LocalDateTime now, int limit);
+
+    void deleteOutboxMessages(List<Long> ids);
+
+    void markOutboxMessageFailed(Long id, String error, LocalDateTime nextAttemptAt);
+
+    // 최대 시도 횟수를 넘긴 메시지를 격리하여 같은 그룹의 다음 메시지가 발행되도록 함
+    void parkOutboxMessage(Long id, String error, LocalDateTime parkedAt);
+}
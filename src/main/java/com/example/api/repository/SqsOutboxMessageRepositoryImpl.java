@@ -0,0 +1,91 @@
+package com.example.api.repository;
+
+import com.example.api.entity.SqsOutboxMessage;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.PersistenceContext;
+import jakarta.transaction.Transactional;
+import org.hibernate.LockOptions;
+import org.hibernate.jpa.SpecHints;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public class SqsOutboxMessageRepositoryImpl implements SqsOutboxMessageRepositoryCustom {
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    @PersistenceContext
+    private EntityManager manager;
+
+    // 호출한 서비스의 트랜잭션에 참여하므로 제출 데이터와 함께 커밋/롤백됨
+    @Transactional
+    public SqsOutboxMessage createOutboxMessage(SqsOutboxMessage message) {
+        manager.persist(message);
+        return message;
+    }
+
+    // 앞선 메시지가 발행되기 전까지 같은 그룹의 다음 메시지는 조회되지 않으므로 그룹 내 발행 순서가 유지됨
+    // 재시도 대기 중인 그룹은 건너뛰므로 실패가 계속되는 메시지가 배치를 차지하지 않으며, 격리된 메시지는 그룹의 선두에서 제외됨
+    // 조회한 메시지는 트랜잭션이 끝날 때까지 행 잠금(FOR UPDATE SKIP LOCKED)을 잡으므로, 다른 인스턴스의 릴레이는 잠긴 메시지를 건너뜀
+    // 잠긴 선두 메시지도 그룹의 MIN(id)로 계산되므로 다른 인스턴스가 같은 그룹의 다음 메시지를 먼저 발행하지 않음
+    public List<SqsOutboxMessage> findPendingGroupHeads(LocalDateTime now, int limit) {
+        return manager.createQuery(
+                        "SELECT m FROM SqsOutboxMessage m " +
+                                "WHERE m.parkedAt IS NULL " +
+                                "AND (m.nextAttemptAt IS NULL OR m.nextAttemptAt <= :now) " +
+                                "AND m.id = (" +
+                                "SELECT MIN(h.id) FROM SqsOutboxMessage h " +
+                                "WHERE h.messageType = m.messageType " +
+                                "AND h.messageGroupId = m.messageGroupId " +
+                                "AND h.parkedAt IS NULL) " +
+                                "ORDER BY m.id",
+                        SqsOutboxMessage.class)
+                .setParameter("now", now)
+                .setMaxResults(limit)
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .setHint(SpecHints.HINT_SPEC_LOCK_TIMEOUT, LockOptions.SKIP_LOCKED)
+                .getResultList();
+    }
+
+    @Transactional
+    public void deleteOutboxMessages(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        manager.createQuery("DELETE FROM SqsOutboxMessage m WHERE m.id IN :ids")
+                .setParameter("ids", ids)
+                .executeUpdate();
+    }
+
+    @Transactional
+    public void markOutboxMessageFailed(Long id, String error, LocalDateTime nextAttemptAt) {
+        manager.createQuery(
+                        "UPDATE SqsOutboxMessage m " +
+                                "SET m.attempts = m.attempts + 1, m.lastError = :lastError, m.nextAttemptAt = :nextAttemptAt " +
+                                "WHERE m.id = :id")
+                .setParameter("lastError", truncate(error))
+                .setParameter("nextAttemptAt", nextAttemptAt)
+                .setParameter("id", id)
+                .executeUpdate();
+    }
+
+    @Transactional
+    public void parkOutboxMessage(Long id, String error, LocalDateTime parkedAt) {
+        manager.createQuery(
+                        "UPDATE SqsOutboxMessage m " +
+                                "SET m.attempts = m.attempts + 1, m.lastError = :lastError, m.parkedAt = :parkedAt " +
+                                "WHERE m.id = :id")
+                .setParameter("lastError", truncate(error))
+                .setParameter("parkedAt", parkedAt)
+                .setParameter("id", id)
+                .executeUpdate();
+    }
+
+    private String truncate(String error) {
+        return error != null && error.length() > MAX_ERROR_LENGTH
+                ? error.substring(0, MAX_ERROR_LENGTH)
+                : error;
+    }
+}
@@ -7,4 +7,6 @@ import com.example.api.entity.User;
 
 public interface UserRepository extends JpaRepository<User, UUID> {
     Optional<User> findByEmail(String email);
+
+    boolean existsByIdAndIsActiveTrue(UUID id);
 }
\ No newline at end of file
@@ -0,0 +1,46 @@
+package com.example.api.security;
+
+import com.example.api.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * 인증 필터에서 요청마다 사용자 존재 여부를 DB로 확인하지 않도록 하는 캐시입니다.
+ * 활성 사용자로 확인된 경우만 저장하며 (최대 크기/만료 시간 제한), 사용자를 비활성화하거나 삭제할 때는 {@link #invalidate}를 호출해야 합니다.
+ * DB에서 직접 변경된 경우에는 만료 시간이 지나면 반영됩니다.
+ */
+@Component
+public class UserExistenceCache {
+    private final UserRepository userRepository;
+    private final Cache<UUID, Boolean> activeUsers;
+
+    public UserExistenceCache(UserRepository userRepository,
+                              @Value("${user-existence-cache.max-size:10000}") long maxSize,
+                              @Value("${user-existence-cache.ttl-minutes:5}") long ttlMinutes) {
+        this.userRepository = userRepository;
+        this.activeUsers = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .build();
+    }
+
+    public boolean isActiveUser(UUID userId) {
+        if (activeUsers.getIfPresent(userId) != null) {
+            return true;
+        }
+        if (userRepository.existsByIdAndIsActiveTrue(userId)) {
+            activeUsers.put(userId, Boolean.TRUE);
+            return true;
+        }
+        return false;
+    }
+
+    public void invalidate(UUID userId) {
+        activeUsers.invalidate(userId);
+    }
+}
@@ -1,7 +1,6 @@
 package com.example.api.security.jwt;
 
-import com.example.api.entity.User;
-import com.example.api.repository.UserRepository;
+import com.example.api.security.UserExistenceCache;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -18,6 +17,7 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Slf4j
@@ -26,7 +26,7 @@ import java.util.UUID;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtProvider jwtProvider;
-    private final UserRepository userRepository;
+    private final UserExistenceCache userExistenceCache;
 
     @Override
     protected void doFilterInternal(@NonNull HttpServletRequest request,
@@ -43,24 +43,25 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
 
         String token = authHeader.substring(7);
-        if (!jwtProvider.isValid(token)) {
+        Optional<UUID> parsedUserId = jwtProvider.parseUserId(token);
+        if (parsedUserId.isEmpty()) {
             log.warn("JWT 토큰 유효성 실패: {}", token);
             filterChain.doFilter(request, response);
             return;
         }
 
-        UUID userId = jwtProvider.extractUserId(token);
-        User user = userRepository.findById(userId).orElse(null);
+        UUID userId = parsedUserId.get();
+        boolean activeUser = userExistenceCache.isActiveUser(userId);
 
-        if (user != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+        if (activeUser && SecurityContextHolder.getContext().getAuthentication() == null) {
             List<SimpleGrantedAuthority> authorities = List.of(new SimpleGrantedAuthority("ROLE_USER"));
             UsernamePasswordAuthenticationToken authentication =
-                    new UsernamePasswordAuthenticationToken(user.getId().toString(), null, authorities);
+                    new UsernamePasswordAuthenticationToken(userId.toString(), null, authorities);
             authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
             SecurityContextHolder.getContext().setAuthentication(authentication);
 
             log.info("인증 성공: userId={}, path={}, method={}, authorities={}",
-                    user.getId(), request.getRequestURI(), request.getMethod(), authorities);
+                    userId, request.getRequestURI(), request.getMethod(), authorities);
         } else {
             log.warn("사용자 정보 없음 또는 이미 인증된 요청: userId={}, auth={}",
                     userId, SecurityContextHolder.getContext().getAuthentication());
@@ -2,27 +2,30 @@ package com.example.api.security.jwt;
 
 import java.util.Base64;
 import java.util.Date;
+import java.util.Optional;
 import java.util.UUID;
-import java.nio.charset.StandardCharsets;
 import java.security.Key;
 
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
-import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 import com.example.api.config.JwtConfig;
 
 @Component
-@RequiredArgsConstructor
 public class JwtProvider {
 
     private final JwtConfig jwtConfig;
+    // 서명 키와 파서는 불변이며 스레드 안전하므로 한 번만 만들어 재사용
+    private final Key signingKey;
+    private final JwtParser parser;
 
-    private Key getSigningKey() {
-        String secretKey = jwtConfig.getSecretKey();
-        byte[] keyBytes = Base64.getDecoder().decode(secretKey);
-        return Keys.hmacShaKeyFor(keyBytes);
+    public JwtProvider(JwtConfig jwtConfig) {
+        this.jwtConfig = jwtConfig;
+        this.signingKey = Keys.hmacShaKeyFor(Base64.getDecoder().decode(jwtConfig.getSecretKey()));
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
     }
 
     public String createAccessToken(UUID userId) {
@@ -39,29 +42,29 @@ public class JwtProvider {
                 .setIssuer(jwtConfig.getIssuer())
                 .setIssuedAt(new Date())
                 .setExpiration(new Date(System.currentTimeMillis() + ttlMs))
-                .signWith(getSigningKey(), SignatureAlgorithm.HS256)
+                .signWith(signingKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
+    /**
+     * 토큰을 한 번만 파싱(서명/만료 검증)하여 사용자 ID를 반환합니다. 유효하지 않은 토큰이면 empty를 반환합니다.
+     */
+    public Optional<UUID> parseUserId(String token) {
+        try {
+            Claims claims = parser.parseClaimsJws(token).getBody();
+            return Optional.of(UUID.fromString(claims.getSubject()));
+        } catch (JwtException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
     public UUID extractUserId(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        Claims claims = parser.parseClaimsJws(token).getBody();
 
         return UUID.fromString(claims.getSubject());
     }
 
     public boolean isValid(String token) {
-        try {
-            Jwts.parserBuilder()
-                    .setSigningKey(getSigningKey())
-                    .build()
-                    .parseClaimsJws(token);
-            return true;
-        } catch (JwtException | IllegalArgumentException e) {
-            return false;
-        }
+        return parseUserId(token).isPresent();
     }
 }
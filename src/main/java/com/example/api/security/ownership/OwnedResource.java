@@ -0,0 +1,18 @@
+package com.example.api.security.ownership;
+
+// 소유자 확인 대상 리소스 종류와 소유자(user)를 조회할 엔티티 이름
+public enum OwnedResource {
+    semester("Semester"),
+    course("Course"),
+    lecture("Lecture");
+
+    private final String entityName;
+
+    OwnedResource(String entityName) {
+        this.entityName = entityName;
+    }
+
+    public String getEntityName() {
+        return entityName;
+    }
+}
@@ -0,0 +1,127 @@
+package com.example.api.security.ownership;
+
+import com.example.api.repository.OwnershipRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 리소스(종류 + ID) → 소유자 ID 인덱스입니다. 소유자는 바뀌지 않으므로 단계적으로 캐싱합니다.
+ * 1. 애플리케이션 메모리 캐시 (near cache, 최대 크기/만료 시간 제한)
+ * 2. Redis (인스턴스 간 공유)
+ * 3. DB (삭제되지 않은 리소스만)
+ * 리소스 생성 시 {@link #register}, soft delete 시 {@link #evict}를 호출합니다.
+ * 다른 인스턴스의 near cache는 만료 시간이 지나야 삭제가 반영되지만, 이 기간에도 원래 소유자만 접근할 수 있습니다.
+ * Redis 장애 시에는 캐시 miss로 처리하여 DB에서 확인합니다.
+ */
+@Component
+public class OwnershipIndex {
+    private static final Logger log = LoggerFactory.getLogger(OwnershipIndex.class);
+
+    private static final String KEY_FORMAT = "ownership:%s:%s";
+
+    private final OwnershipRepository ownershipRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final Cache<String, UUID> owners;
+    private final Duration redisTtl;
+
+    public OwnershipIndex(OwnershipRepository ownershipRepository,
+                          StringRedisTemplate redisTemplate,
+                          @Value("${ownership-index.max-size:10000}") long maxSize,
+                          @Value("${ownership-index.ttl-minutes:10}") long ttlMinutes,
+                          @Value("${ownership-index.redis-ttl-hours:168}") long redisTtlHours) {
+        this.ownershipRepository = ownershipRepository;
+        this.redisTemplate = redisTemplate;
+        this.owners = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .build();
+        this.redisTtl = Duration.ofHours(redisTtlHours);
+    }
+
+    /**
+     * 리소스의 소유자 ID를 조회합니다. 리소스가 없거나 삭제된 경우 empty를 반환합니다.
+     */
+    public Optional<UUID> findOwner(OwnedResource resource, UUID resourceId) {
+        String key = buildKey(resource, resourceId);
+        UUID ownerId = owners.getIfPresent(key);
+        if (ownerId != null) {
+            return Optional.of(ownerId);
+        }
+
+        ownerId = readRedis(key);
+        if (ownerId == null) {
+            Optional<UUID> loaded = ownershipRepository.findOwnerId(resource, resourceId);
+            if (loaded.isEmpty()) {
+                return Optional.empty();
+            }
+            ownerId = loaded.get();
+            writeRedis(key, ownerId);
+        }
+        owners.put(key, ownerId);
+        return Optional.of(ownerId);
+    }
+
+    public void register(OwnedResource resource, UUID resourceId, UUID ownerId) {
+        String key = buildKey(resource, resourceId);
+        owners.put(key, ownerId);
+        writeRedis(key, ownerId);
+    }
+
+    /**
+     * 삭제된 리소스를 인덱스에서 제거합니다. 트랜잭션 안에서 호출된 경우 커밋 전에 다른 요청이 DB에서 다시 읽어 캐싱할 수 있으므로 커밋 후에 한 번 더 제거합니다.
+     */
+    public void evict(OwnedResource resource, UUID resourceId) {
+        String key = buildKey(resource, resourceId);
+        remove(key);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    remove(key);
+                }
+            });
+        }
+    }
+
+    private void remove(String key) {
+        owners.invalidate(key);
+        try {
+            redisTemplate.delete(key);
+        } catch (RuntimeException e) {
+            log.warn("[OwnershipIndex] Redis 삭제 실패: key={}", key, e);
+        }
+    }
+
+    private UUID readRedis(String key) {
+        try {
+            String value = redisTemplate.opsForValue().get(key);
+            return value != null ? UUID.fromString(value) : null;
+        } catch (RuntimeException e) {
+            log.warn("[OwnershipIndex] Redis 조회 실패, DB에서 확인: key={}", key, e);
+            return null;
+        }
+    }
+
+    private void writeRedis(String key, UUID ownerId) {
+        try {
+            redisTemplate.opsForValue().set(key, ownerId.toString(), redisTtl);
+        } catch (RuntimeException e) {
+            log.warn("[OwnershipIndex] Redis 저장 실패: key={}", key, e);
+        }
+    }
+
+    private String buildKey(OwnedResource resource, UUID resourceId) {
+        return String.format(KEY_FORMAT, resource.name(), resourceId);
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.api.security.ownership;
+
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.lang.NonNull;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+// @RequireOwner가 붙은 컨트롤러 메서드에 대해 OwnershipIndex로 소유자를 확인
+@Component
+public class OwnershipInterceptor implements HandlerInterceptor {
+    private final OwnershipIndex ownershipIndex;
+
+    public OwnershipInterceptor(OwnershipIndex ownershipIndex) {
+        this.ownershipIndex = ownershipIndex;
+    }
+
+    @Override
+    public boolean preHandle(@NonNull HttpServletRequest request,
+                             @NonNull HttpServletResponse response,
+                             @NonNull Object handler) {
+        // 스트리밍 응답 완료 시의 비동기 디스패치는 최초 요청에서 이미 확인됨
+        if (request.getDispatcherType() == DispatcherType.ASYNC || !(handler instanceof HandlerMethod handlerMethod)) {
+            return true;
+        }
+        RequireOwner requireOwner = handlerMethod.getMethodAnnotation(RequireOwner.class);
+        if (requireOwner == null) {
+            return true;
+        }
+
+        Optional<UUID> userId = getAuthenticatedUserId();
+        if (userId.isEmpty()) {
+            response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+            return false;
+        }
+
+        UUID resourceId;
+        try {
+            @SuppressWarnings("unchecked")
+            Map<String, String> pathVariables =
+                    (Map<String, String>) request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+            resourceId = UUID.fromString(pathVariables.get(requireOwner.pathVariable()));
+        } catch (RuntimeException e) {
+            response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+            return false;
+        }
+
+        Optional<UUID> ownerId = ownershipIndex.findOwner(requireOwner.value(), resourceId);
+        if (ownerId.isEmpty()) {
+            response.setStatus(HttpServletResponse.SC_NOT_FOUND);
+            return false;
+        }
+        if (!ownerId.get().equals(userId.get())) {
+            response.setStatus(HttpServletResponse.SC_FORBIDDEN);
+            return false;
+        }
+        return true;
+    }
+
+    private Optional<UUID> getAuthenticatedUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || !(authentication.getPrincipal() instanceof String principal)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(UUID.fromString(principal));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.api.security.ownership;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 경로 변수로 전달된 리소스의 소유자가 인증된 사용자인지 컨트롤러 메서드 실행 전에 확인합니다 ({@link OwnershipInterceptor}).
+ * 리소스가 없거나 삭제된 경우 404, 소유자가 아닌 경우 403을 응답하므로 컨트롤러에서 리소스를 다시 조회하여 확인할 필요가 없습니다.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RequireOwner {
+    OwnedResource value();
+
+    // 리소스 ID가 담긴 경로 변수 이름
+    String pathVariable() default "id";
+}
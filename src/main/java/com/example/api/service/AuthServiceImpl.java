@@ -149,11 +149,8 @@ public class AuthServiceImpl implements AuthService {
     public AuthResponse refreshToken(TokenRefreshRequest req) {
         String refreshToken = req.getRefreshToken();
 
-        if (!jwtProvider.isValid(refreshToken)) {
-            throw new InvalidRefreshTokenException();
-        }
-
-        UUID userId = jwtProvider.extractUserId(refreshToken);
+        UUID userId = jwtProvider.parseUserId(refreshToken)
+                .orElseThrow(InvalidRefreshTokenException::new);
         String storedRefreshToken = refreshTokenRepository.getRefreshToken(userId);
 
         if (storedRefreshToken == null || !storedRefreshToken.equals(refreshToken)) {
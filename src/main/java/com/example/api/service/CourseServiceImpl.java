@@ -9,6 +9,8 @@ import com.example.api.repository.CourseAssessmentRepository;
 import com.example.api.repository.CourseRepository;
 import com.example.api.repository.SemesterRepository;
 import com.example.api.repository.UserRepository;
+import com.example.api.security.ownership.OwnedResource;
+import com.example.api.security.ownership.OwnershipIndex;
 import com.example.api.service.dto.course.*;
 import jakarta.persistence.EntityNotFoundException;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -25,18 +27,21 @@ public class CourseServiceImpl implements CourseService {
     private SemesterRepository semesterRepo;
     private CourseRepository courseRepo;
     private CourseAssessmentRepository courseAssessmentRepo;
+    private OwnershipIndex ownershipIndex;
 
     @Autowired
     public void CourseService(
             UserRepository userRepo,
             SemesterRepository semesterRepo,
             CourseRepository courseRepo,
-            CourseAssessmentRepository courseAssessmentRepo
+            CourseAssessmentRepository courseAssessmentRepo,
+            OwnershipIndex ownershipIndex
     ) {
         this.userRepo = userRepo;
         this.semesterRepo = semesterRepo;
         this.courseRepo = courseRepo;
         this.courseAssessmentRepo = courseAssessmentRepo;
+        this.ownershipIndex = ownershipIndex;
     }
 
     @Override
@@ -105,6 +110,7 @@ public class CourseServiceImpl implements CourseService {
         course.setName(input.getName());
 
         Course createdCourse = courseRepo.createCourse(course);
+        ownershipIndex.register(OwnedResource.course, createdCourse.getId(), input.getUserId());
         return CourseOutput.fromEntity(createdCourse);
     }
 
@@ -144,5 +150,6 @@ public class CourseServiceImpl implements CourseService {
     @Transactional
     public void deleteCourse(UUID courseId) {
         courseRepo.deleteCourse(courseId);
+        ownershipIndex.evict(OwnedResource.course, courseId);
     }
 }
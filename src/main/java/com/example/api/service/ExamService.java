@@ -9,13 +9,13 @@ import org.springframework.transaction.annotation.Transactional;
 
 import com.example.api.service.dto.exam.CreateExamInput;
 import com.example.api.service.dto.exam.CreateExamResponseInput;
-import com.example.api.service.dto.exam.ExamItemListOutput;
 import com.example.api.service.dto.exam.ExamItemOutput;
 import com.example.api.service.dto.exam.ExamListOutput;
 import com.example.api.service.dto.exam.ExamOutput;
 import com.example.api.service.dto.exam.ExamResponseListOutput;
 import com.example.api.service.dto.exam.ExamResultListOutput;
 import com.example.api.service.dto.exam.ExamResultOutput;
+import com.example.api.service.dto.exam.LikedExamItemListOutput;
 import com.example.api.service.dto.exam.ToggleLikeExamItemInput;
 import com.example.api.service.dto.exam.UpdateExamInput;
 
@@ -49,7 +49,7 @@ public interface ExamService {
     @Transactional
     Float calculateExamAverageScore(UUID courseId);
 
-    ExamItemListOutput findLikedExamItemByCourseId(UUID courseId);
+    LikedExamItemListOutput findLikedExamItemByCourseId(UUID courseId, String cursor, int limit);
 
     @Transactional
     ExamItemOutput toggleLikeExamItem(ToggleLikeExamItemInput input);
@@ -2,12 +2,19 @@ package com.example.api.service;
 
 import com.example.api.adapters.sqs.GradeExamEssayMessage;
 import com.example.api.adapters.sqs.GenerateCourseWeaknessAnalysisMessage;
-import com.example.api.adapters.sqs.SQSClient;
+import com.example.api.adapters.sqs.SqsOutbox;
+import com.example.api.datasource.SecondLevelCacheEvictions;
 import com.example.api.entity.*;
 import com.example.api.entity.enums.QuestionType;
 import com.example.api.entity.enums.Status;
+import com.example.api.grading.AnswerKey;
+import com.example.api.grading.GradedResultCache;
+import com.example.api.grading.GradingEngine;
+import com.example.api.grading.GradingResult;
+import com.example.api.grading.SubmittedAnswer;
 import com.example.api.repository.*;
 import com.example.api.service.dto.exam.*;
+import com.example.api.service.dto.qna.MessageCursor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
@@ -25,7 +32,11 @@ public class ExamServiceImpl implements ExamService {
     private ExamItemRepository examItemRepo;
     private ExamResponseRepository examResponseRepo;
     private ExamResultRepository examResultRepo;
-    private SQSClient sqsClient;
+    private SqsOutbox sqsOutbox;
+    private GradingEngine gradingEngine;
+    private GradedResultCache gradedResultCache;
+    private CourseScoreStatsRepository courseScoreStatsRepo;
+    private SecondLevelCacheEvictions secondLevelCacheEvictions;
 
     @Autowired
     public void ExamService(
@@ -35,7 +46,11 @@ public class ExamServiceImpl implements ExamService {
             ExamItemRepository examItemRepo,
             ExamResponseRepository examResponseRepo,
             ExamResultRepository examResultRepo,
-            SQSClient sqsClient
+            SqsOutbox sqsOutbox,
+            GradingEngine gradingEngine,
+            GradedResultCache gradedResultCache,
+            CourseScoreStatsRepository courseScoreStatsRepo,
+            SecondLevelCacheEvictions secondLevelCacheEvictions
     ) {
         this.userRepo = userRepo;
         this.courseRepo = courseRepo;
@@ -43,18 +58,30 @@ public class ExamServiceImpl implements ExamService {
         this.examItemRepo = examItemRepo;
         this.examResponseRepo = examResponseRepo;
         this.examResultRepo = examResultRepo;
-        this.sqsClient = sqsClient;
+        this.sqsOutbox = sqsOutbox;
+        this.gradingEngine = gradingEngine;
+        this.gradedResultCache = gradedResultCache;
+        this.courseScoreStatsRepo = courseScoreStatsRepo;
+        this.secondLevelCacheEvictions = secondLevelCacheEvictions;
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Optional<ExamOutput> findExamById(UUID examId) {
-        Optional<Exam> exam = examRepo.findById(examId);
-        List<ExamItem> examItems = examItemRepo.findByExamId(examId);
+        return examRepo.findById(examId)
+                .map(exam -> ExamOutput.fromEntity(exam, findExamItems(exam)));
+    }
 
-        return exam.map(e -> ExamOutput.fromEntity(e, examItems));
+    // 생성 중인 시험은 Lambda가 문항을 직접 INSERT하므로 생성이 끝난 경우에만 캐시된 문항 목록을 사용
+    private List<ExamItem> findExamItems(Exam exam) {
+        if (exam.getStatus() == Status.generate_in_progress) {
+            return examItemRepo.findByExamId(exam.getId());
+        }
+        return examItemRepo.findGeneratedByExamId(exam.getId());
     }
 
     @Override
+    @Transactional(readOnly = true)
     public ExamListOutput findExamsByCourseId(UUID courseId) {
         return ExamListOutput.fromEntities(examRepo.findByCourseId(courseId));
     }
@@ -92,13 +119,20 @@ public class ExamServiceImpl implements ExamService {
     @Override
     @Transactional
     public void deleteExam(UUID examId) {
+        UUID courseId = examRepo.findById(examId)
+                .orElseThrow(() -> new RuntimeException("Exam not found: " + examId))
+                .getCourse().getId();
         examRepo.deleteExam(examId);
+        gradingEngine.evictExam(examId);
+        gradedResultCache.evictExam(examId);
+        // 삭제된 시험의 결과가 과목 평균에서 빠지도록 과목 점수 집계를 다시 계산
+        courseScoreStatsRepo.rebuild(courseId);
     }
 
     @Override
     @Transactional
     public ExamResponseListOutput submitAndGradeExamWithStatus(List<CreateExamResponseInput> inputs) {
-        List<ExamResponseOutput> examResponseOutputs = inputs.stream()
+        List<ExamResponse> examResponses = inputs.stream()
                 .map(input -> {
                     Exam exam = examRepo.getReferenceById(input.getExamId());
                     ExamItem examItem = examItemRepo.getReferenceById(input.getExamItemId());
@@ -117,17 +151,20 @@ public class ExamServiceImpl implements ExamService {
                     if (input.getTextAnswer() != null) {
                         examResponse.setTextAnswer(input.getTextAnswer());
                     }
+                    return examResponse;
+                }).toList();
 
-                    // ExamResponse(퀴즈 풀이이) 생성
-                    ExamResponse createdExamResponse = examResponseRepo.createExamResponse(examResponse);
+        // ExamResponse(시험 풀이)를 한 번에 생성 (중복 검사 1회 + batch insert)
+        List<ExamResponse> createdExamResponses = examResponseRepo.createExamResponses(examResponses);
 
-                    // ExamResponse 저장이 성공했는지 확인
-                    if (createdExamResponse == null) {
-                        throw new RuntimeException("Failed to create exam response");
-                    }
+        // ExamResponse 저장이 성공했는지 확인
+        if (createdExamResponses == null || createdExamResponses.size() != examResponses.size()) {
+            throw new RuntimeException("Failed to create exam response");
+        }
 
-                    return ExamResponseOutput.fromEntity(createdExamResponse);
-                }).toList();
+        List<ExamResponseOutput> examResponseOutputs = createdExamResponses.stream()
+                .map(ExamResponseOutput::fromEntity)
+                .toList();
 
         ExamResponseListOutput examResponseListOutput = new ExamResponseListOutput(examResponseOutputs);
 
@@ -157,7 +194,7 @@ public class ExamServiceImpl implements ExamService {
         return examItemRepo.existsByExamIdAndQuestionTypeAndDeletedAtIsNull(examId, QuestionType.essay);
     }
 
-    // 서술형 채점 위한 SQS 메세지 전송 함수
+    // 서술형 채점 위한 SQS 메시지를 outbox에 저장하는 함수 (제출 트랜잭션과 함께 커밋)
     private void sendGradeExamEssayMessage(UUID userId, UUID examId) {
         GradeExamEssayMessage message = GradeExamEssayMessage.builder()
                 .schemaVersion("1.0.0")
@@ -167,15 +204,11 @@ public class ExamServiceImpl implements ExamService {
                 .examId(examId)
                 .build();
 
-        try {
-            sqsClient.sendGradeExamEssayMessage(message);
-            log.info("Successfully sent grade exam essay message to SQS: examId={}, userId={}", examId, userId);
-        } catch (Exception e) {
-            log.error("Failed to send grade exam essay message to SQS: examId={}, userId={}, error={}", examId, userId, e.getMessage());
-        }
+        sqsOutbox.enqueueGradeExamEssayMessage(message);
+        log.info("Enqueued grade exam essay message to SQS outbox: examId={}, userId={}", examId, userId);
     }
 
-    // 과목 약점 분석 위한 SQS 메시지 전송하는 함수
+    // 과목 약점 분석 위한 SQS 메시지를 outbox에 저장하는 함수 (제출 트랜잭션과 함께 커밋)
     private void sendGenerateCourseWeaknessAnalysisMessage(UUID userId, UUID quizId, UUID examId, UUID courseId) {
         GenerateCourseWeaknessAnalysisMessage message = new GenerateCourseWeaknessAnalysisMessage(
                 "1.0.0",
@@ -187,180 +220,104 @@ public class ExamServiceImpl implements ExamService {
                 courseId
         );
 
-        try {
-            sqsClient.sendGenerateCourseWeaknessAnalysisMessage(message);
-            log.info("Successfully sent generate course weakness analysis message to SQS: courseId={}, userId={}, quizId={}, examId={}",
-                    courseId, userId, quizId, examId);
-        } catch (Exception e) {
-            log.error("Failed to send generate course weakness analysis message to SQS: courseId={}, userId={}, error={}",
-                    courseId, userId, e.getMessage());
-        }
+        sqsOutbox.enqueueGenerateCourseWeaknessAnalysisMessage(message);
+        log.info("Enqueued generate course weakness analysis message to SQS outbox: courseId={}, userId={}, quizId={}, examId={}",
+                courseId, userId, quizId, examId);
     }
 
     @Override
     @Transactional
     public void gradeNonEssayQuestions(UUID examId) {
+        // 캐싱된 정답 키로 모든 풀이를 메모리에서 채점한 뒤, 배점과 채점 결과를 각각 batch update 한 번으로 반영
+        // 재채점하는 경우 이전 채점 결과 캐시를 비움
+        gradedResultCache.evictExam(examId);
         Exam exam = examRepo.getReferenceById(examId);
         List<ExamResponse> examResponses = examResponseRepo.findByExamId(examId);
 
-        List<ExamItem> examItems = examItemRepo.findByExamId(examId);
-        Float initialMaxScore = setPointsForExamItems(examItems);
-
-        float nonEssayScore = 0;
-        for (ExamResponse examResponse : examResponses) {
-            ExamItem examItem = examItemRepo.getReferenceById(examResponse.getExamItem().getId());
-            if (examItem.getQuestionType() == null) {
-                throw new IllegalArgumentException("Exam item question type cannot be null");
-            }
-            // 서술형 문제는 이 함수에서 채점하지 않음
-            if(examItem.getQuestionType() == QuestionType.essay) {
-                continue;
-            }
-            if (examItem.getQuestionType() == QuestionType.true_or_false) {
-                // true/false 문제에 대한 채점 로직
-                if (examResponse.getSelectedBool() != null && examResponse.getSelectedBool().equals(examItem.getIsTrueAnswer())) {
-                    nonEssayScore += examItem.getPoints();
-                    examResponse.setIsCorrect(true);
-                }
-            } else if (examItem.getQuestionType() == QuestionType.multiple_choice) {
-                // 객관식 문제에 대한 채점 로직 - 순서 상관없이 선택된 항목들이 정답과 일치하는지 확인
-                if (examResponse.getSelectedIndices() != null && examItem.getAnswerIndices() != null) {
-                    Set<Integer> selectedSet = new HashSet<>(Arrays.asList(examResponse.getSelectedIndices()));
-                    Set<Integer> answerSet = new HashSet<>(Arrays.asList(examItem.getAnswerIndices()));
-
-                    if (selectedSet.equals(answerSet)) {
-                        nonEssayScore += examItem.getPoints();
-                        examResponse.setIsCorrect(true);
-                    }
-                }
-            } else if (examItem.getQuestionType() == QuestionType.short_answer) {
-                // 단답형 문제에 대한 채점 로직
-                if (examResponse.getTextAnswer() != null && examResponse.getTextAnswer().equals(examItem.getTextAnswer())) {
-                    nonEssayScore += examItem.getPoints();
-                    examResponse.setIsCorrect(true);
-                }
-            }
-            examResponseRepo.updateExamResponse(examResponse);
-        }
+        AnswerKey answerKey = gradingEngine.examAnswerKey(examId, () -> examItemRepo.findByExamId(examId));
+        examItemRepo.updatePoints(answerKey.pointsByItemId());
+        // JDBC로 직접 갱신하므로 Hibernate가 알 수 없는 배점 변경을 모든 인스턴스의 2차 캐시에서 제거
+        secondLevelCacheEvictions.evict(ExamItem.class, answerKey.pointsByItemId().keySet());
+
+        // 서술형 문제는 이 함수에서 채점하지 않음
+        List<SubmittedAnswer> answers = examResponses.stream()
+                .map(examResponse -> new SubmittedAnswer(
+                        examResponse.getId(),
+                        examResponse.getExamItem().getId(),
+                        examResponse.getSelectedBool(),
+                        examResponse.getSelectedIndices(),
+                        examResponse.getTextAnswer()))
+                .toList();
+        GradingResult gradingResult = gradingEngine.grade(answerKey, answers);
+        examResponseRepo.updateGradingResults(gradingResult.grades());
 
         ExamResult examResult = new ExamResult();
         examResult.setExam(exam);
         examResult.setUser(examResponses.get(0).getUser());
-        examResult.setScore(nonEssayScore);
-        examResult.setMaxScore(initialMaxScore);
+        examResult.setScore(gradingResult.score());
+        examResult.setMaxScore(gradingResult.maxScore());
 
         examResultRepo.createExamResult(examResult);
+        // 과목 평균 점수 조회 시 결과를 다시 순회하지 않도록 과목 점수 집계에 바로 반영
+        courseScoreStatsRepo.addExamResult(exam.getCourse().getId(), gradingResult.score(), gradingResult.maxScore());
     }
-    
-    // 각 시험 아이템에 점수를 설정하고 총점을 반환하는 함수
-    private Float setPointsForExamItems(List<ExamItem> examItems) {
-        Float initialMaxScore = 0f;
-        for (ExamItem examItem : examItems) {
-            if (examItem.getQuestionType() == QuestionType.true_or_false) {
-                examItem.setPoints(1f); // True/False 문제는 1점
-                initialMaxScore += 1f;
-            } else if (examItem.getQuestionType() == QuestionType.multiple_choice) {
-                examItem.setPoints(3f); // 객관식 문제는 3점
-                initialMaxScore += 3f;
-            } else if (examItem.getQuestionType() == QuestionType.short_answer) {
-                examItem.setPoints(5f); // 주관식 문제는 5점
-                initialMaxScore += 5f;
-            } else if (examItem.getQuestionType() == QuestionType.essay) {
-                examItem.setPoints(10f); // 서술형 문제는 10점
-                initialMaxScore += 10f;
-            } else {
-                throw new IllegalArgumentException("Unknown question type: " + examItem.getQuestionType());
-            }
-            examItemRepo.updateExamItem(examItem);
-        }
-        return initialMaxScore;
-    }
-    
+
     @Override
-    @Transactional
+    @Transactional(readOnly = true)
     public Optional<ExamResultOutput> findExamResultByExamId(UUID examId) {
-        Optional<ExamResult> examResult = examResultRepo.findByExamId(examId);
-        List<ExamItem> examItems = examItemRepo.findByExamId(examId);
-        List<UUID> examItemIds = examItems.stream().map(ExamItem::getId).toList();
-        
-        // 각 시험 아이템에 대한 시험 응답을 가져옴
-        List<ExamResultElement> examResultElements = new ArrayList<>();
-        for (UUID examItemId : examItemIds) {
-            Optional<ExamResponse> examResponses = examResponseRepo.findByExamItemId(examItemId);
-            if (examResponses.isPresent()) {
-                ExamResponse examResponse = examResponses.get();
-                ExamItem examItem = examItemRepo.getReferenceById(examItemId);
-                ExamResultElement element = ExamResultElement.fromExamItemAndResponse(examItem, examResponse);
-                examResultElements.add(element);
-            }
+        // 채점이 끝난 결과는 바뀌지 않으므로 캐시된 응답을 그대로 반환
+        Optional<ExamResultOutput> cached = gradedResultCache.getExamResult(examId);
+        if (cached.isPresent()) {
+            return cached;
         }
-        
-        return examResult.map(er -> ExamResultOutput.fromEntityAndExamResultElements(er, examResultElements));
+
+        // 결과, 문제, 풀이를 쿼리 한 번으로 조회
+        return examResultRepo.findDetailByExamId(examId).map(detail -> {
+            ExamResultOutput output = ExamResultOutput.fromEntityAndExamResultElements(
+                    detail.examResult(), detail.examResultElements());
+            // 서술형 채점이 남아 있는(partially_graded) 결과는 아직 바뀔 수 있으므로 캐싱하지 않음
+            if (detail.examStatus() == Status.graded) {
+                gradedResultCache.putExamResult(examId, output);
+            }
+            return output;
+        });
     }
 
     @Override
-    @Transactional
+    @Transactional(readOnly = true)
     public ExamResultListOutput findExamResultsByCourseId(UUID courseId) {
-        List<Exam> exams = examRepo.findByCourseId(courseId);
-        List<ExamResult> examResults = new ArrayList<>();
-        
-        for (Exam exam : exams) {
-            Optional<ExamResult> result = examResultRepo.findByExamId(exam.getId());
-            if (result.isPresent()) {
-                examResults.add(result.get());
-            }
-        }
-        
-        ExamResultListOutput examResultOutputs = ExamResultListOutput.fromEntities(examResults);
-        return examResultOutputs;
+        // 시험별로 조회하지 않고 과목의 모든 시험 결과를 쿼리 한 번으로 조회
+        return ExamResultListOutput.fromEntities(examResultRepo.findByCourseId(courseId));
     }
 
     @Override
-    @Transactional
+    @Transactional(readOnly = true)
     public Float calculateExamAverageScore(UUID courseId) {
-        List<Exam> exams = examRepo.findByCourseId(courseId);
-        float totalScore = 0;
-        int count = 0;
-
-        for (Exam exam : exams) {
-            Optional<ExamResult> result = examResultRepo.findByExamId(exam.getId());
-            if (result.isPresent()) {
-                ExamResult examResult = result.get();
-                Float eachScore = examResult.getScore() / examResult.getMaxScore() * 100; // Convert to percentage
-                totalScore += eachScore;
-                count++;
-            }
-        }
-
-        return count > 0 ? totalScore / count : 0f;
+        // 결과 생성/서술형 채점 시 갱신되는 과목 점수 집계 한 행만 조회
+        return courseScoreStatsRepo.findById(courseId)
+                .map(CourseScoreStats::getExamAverage)
+                .orElse(0f);
     }
 
     @Override
-    public ExamItemListOutput findLikedExamItemByCourseId(UUID courseId) {
-        List<Exam> exams = examRepo.findByCourseId(courseId);
-        if (exams.isEmpty()) {
-            return new ExamItemListOutput(Collections.emptyList());
+    @Transactional(readOnly = true)
+    public LikedExamItemListOutput findLikedExamItemByCourseId(UUID courseId, String cursor, int limit) {
+        // 시험별로 모든 문항을 불러와 거르지 않고, 좋아요 문항만 조인 쿼리 한 번으로 최신순 조회
+        List<ExamItemOutput> examItems = examItemRepo.findLikedByCourseIdWithCursor(
+                courseId, MessageCursor.decode(cursor), limit);
+
+        boolean hasMore = examItems.size() > limit;
+        if (hasMore) {
+            examItems = examItems.subList(0, limit); // 초과분 제거
         }
 
-        List<UUID> examIds = exams.stream()
-                .map(Exam::getId)
-                .toList();
-
-        List<ExamItemOutput> examItemOutputs = new ArrayList<>();
-        for (UUID examId : examIds) {
-            List<ExamItem> examItems = examItemRepo.findByExamId(examId);
-            if (examItems.isEmpty()) {
-                continue;
-            }
-            for (ExamItem examItem : examItems) {
-                if (examItem.getIsLiked() != null && examItem.getIsLiked()) {
-                    ExamItemOutput examItemOutput = ExamItemOutput.fromEntity(examItem);
-                    examItemOutputs.add(examItemOutput);
-                }
-            }
+        String nextCursor = null;
+        if (!examItems.isEmpty() && hasMore) {
+            ExamItemOutput last = examItems.get(examItems.size() - 1);
+            nextCursor = new MessageCursor(last.getCreatedAt(), last.getId()).encode();
         }
 
-        return new ExamItemListOutput(examItemOutputs);
+        return new LikedExamItemListOutput(examItems, hasMore, nextCursor);
     }
 
     @Override
@@ -383,6 +340,8 @@ public class ExamServiceImpl implements ExamService {
         if (updatedExamItem == null) {
             throw new RuntimeException("Failed to update exam item like status");
         }
+        // 다른 인스턴스의 2차 캐시에 남은 이전 좋아요 상태 제거
+        secondLevelCacheEvictions.evict(ExamItem.class, List.of(updatedExamItem.getId()));
         return ExamItemOutput.fromEntity(updatedExamItem);
     }
 }
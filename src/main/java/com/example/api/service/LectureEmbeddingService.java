@@ -0,0 +1,12 @@
+package com.example.api.service;
+
+import com.example.api.adapters.sqs.GenerateEmbeddingsMessage;
+import com.example.api.entity.Lecture;
+
+public interface LectureEmbeddingService {
+    boolean requestEmbeddings(Lecture lecture);
+
+    int dispatchPendingEmbeddings(int limit);
+
+    void generateEmbeddings(GenerateEmbeddingsMessage message);
+}
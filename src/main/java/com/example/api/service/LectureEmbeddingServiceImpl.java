@@ -0,0 +1,162 @@
+package com.example.api.service;
+
+import com.example.api.adapters.sqs.GenerateEmbeddingsMessage;
+import com.example.api.adapters.sqs.GenerateEmbeddingsWorker;
+import com.example.api.adapters.sqs.SQSClient;
+import com.example.api.entity.Lecture;
+import com.example.api.entity.ParsedText;
+import com.example.api.entity.enums.EmbeddingStatus;
+import com.example.api.exception.InternalServerErrorException;
+import com.example.api.external.EmbeddingStatusCache;
+import com.example.api.external.LangchainClient;
+import com.example.api.repository.LectureRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 강의자료 벡터화를 채팅방 생성 시점이 아닌 텍스트 추출 직후에 수행하기 위한 서비스입니다.
+ * 요청(발행): 텍스트 추출이 끝난 강의를 in_progress로 바꾸고 GenerateEmbeddingsMessage를 SQS로 발행합니다.
+ * 처리(소비): 메시지를 받아 Langchain 임베딩을 생성하고 is_vectorized, embedding_status를 갱신합니다.
+ */
+@Service
+public class LectureEmbeddingServiceImpl implements LectureEmbeddingService {
+    private static final Logger log = LoggerFactory.getLogger(LectureEmbeddingServiceImpl.class);
+
+    private final LectureRepository lectureRepository;
+    private final LangchainClient langchainClient;
+    private final EmbeddingStatusCache embeddingStatusCache;
+    private final SQSClient sqsClient;
+    // 메시지를 소비할 벡터화 워커가 없으면 요청을 발행하지 않음 (in_progress로 바꾼 뒤 처리되지 않는 것을 방지)
+    private final boolean workerEnabled;
+    private final Duration visibilityTimeout;
+
+    public LectureEmbeddingServiceImpl(LectureRepository lectureRepository,
+                                       LangchainClient langchainClient,
+                                       EmbeddingStatusCache embeddingStatusCache,
+                                       SQSClient sqsClient,
+                                       @Value("#{" + GenerateEmbeddingsWorker.ENABLED_EXPRESSION + "}") boolean workerEnabled,
+                                       @Value("${embedding-worker.visibility-timeout-seconds:300}") long visibilityTimeoutSeconds) {
+        this.lectureRepository = lectureRepository;
+        this.langchainClient = langchainClient;
+        this.embeddingStatusCache = embeddingStatusCache;
+        this.sqsClient = sqsClient;
+        this.workerEnabled = workerEnabled;
+        this.visibilityTimeout = Duration.ofSeconds(visibilityTimeoutSeconds);
+    }
+
+    /**
+     * 벡터화 요청을 발행합니다. 텍스트가 아직 없거나, 이미 요청/완료된 강의, 벡터화 워커가 비활성화된 경우에는 요청하지 않고 false를 반환합니다.
+     * 요청 후 visibility timeout이 지나도록 완료되지 않은 강의는 다시 요청합니다.
+     * 발행에 실패하면(재시도 후 최종 실패 포함) 상태를 not_started로 되돌려 다음 주기에 다시 요청되도록 합니다.
+     */
+    @Override
+    public boolean requestEmbeddings(Lecture lecture) {
+        if (!workerEnabled) {
+            return false;
+        }
+        // 워커에서 트랜잭션 없이 조회한 강의도 전달되므로 lazy 컬럼인 parsed_text는 엔티티가 아닌 리포지토리에서 조회
+        if (!hasText(findParsedText(lecture.getId()))) {
+            return false;
+        }
+        if (!lectureRepository.markEmbeddingInProgress(lecture.getId(), staleBefore())) {
+            return false;
+        }
+        lecture.setEmbeddingStatus(EmbeddingStatus.in_progress);
+
+        GenerateEmbeddingsMessage message = GenerateEmbeddingsMessage.builder()
+                .schemaVersion("1.0.0")
+                .requestId(UUID.randomUUID())
+                .occurredAt(OffsetDateTime.now())
+                .userId(lecture.getUser().getId())
+                .courseId(lecture.getCourse().getId())
+                .lectureId(lecture.getId())
+                .build();
+
+        try {
+            // 발행은 배치로 비동기 처리되므로, 최종 실패 시 상태를 되돌리는 처리도 콜백에서 수행
+            sqsClient.sendGenerateEmbeddingsMessage(message)
+                    .whenComplete((ignored, error) -> {
+                        if (error != null) {
+                            log.error("[LectureEmbedding] 벡터화 요청 발행 실패: lectureId={}", lecture.getId(), error);
+                            lectureRepository.updateEmbeddingStatus(lecture.getId(), EmbeddingStatus.not_started);
+                        }
+                    });
+            log.info("[LectureEmbedding] 벡터화 요청 발행: lectureId={}", lecture.getId());
+            return true;
+        } catch (Exception e) {
+            log.error("[LectureEmbedding] 벡터화 요청 발행 실패: lectureId={}", lecture.getId(), e);
+            lectureRepository.updateEmbeddingStatus(lecture.getId(), EmbeddingStatus.not_started);
+            lecture.setEmbeddingStatus(EmbeddingStatus.not_started);
+            return false;
+        }
+    }
+
+    @Override
+    public int dispatchPendingEmbeddings(int limit) {
+        List<Lecture> pendingLectures = lectureRepository.findEmbeddingPendingLectures(limit, staleBefore());
+        int requested = 0;
+        for (Lecture lecture : pendingLectures) {
+            if (requestEmbeddings(lecture)) {
+                requested++;
+            }
+        }
+        if (requested > 0) {
+            log.info("[LectureEmbedding] 벡터화 대기 강의 {}건 요청", requested);
+        }
+        return requested;
+    }
+
+    /**
+     * 벡터화 요청 메시지를 처리합니다. 같은 메시지가 중복 전달되어도 이미 완료된 강의는 다시 벡터화하지 않습니다.
+     * 실패 시 상태를 failed로 기록하고 예외를 던져 메시지가 다시 전달되도록 합니다.
+     */
+    @Override
+    public void generateEmbeddings(GenerateEmbeddingsMessage message) {
+        Lecture lecture = lectureRepository.findById(message.getLectureId()).orElse(null);
+        if (lecture == null || lecture.getDeletedAt() != null) {
+            log.warn("[LectureEmbedding] 강의 자료가 없어 벡터화를 건너뜁니다: lectureId={}", message.getLectureId());
+            return;
+        }
+        if (lecture.getEmbeddingStatus() == EmbeddingStatus.completed && Boolean.TRUE.equals(lecture.getIsVectorized())) {
+            log.info("[LectureEmbedding] 이미 벡터화된 강의 자료입니다: lectureId={}", lecture.getId());
+            return;
+        }
+        ParsedText parsedText = findParsedText(lecture.getId());
+        if (!hasText(parsedText)) {
+            log.warn("[LectureEmbedding] 강의 자료에 텍스트가 없습니다: lectureId={}", lecture.getId());
+            lectureRepository.updateEmbeddingStatus(lecture.getId(), EmbeddingStatus.failed);
+            return;
+        }
+
+        try {
+            langchainClient.generateLectureEmbeddings(lecture.getId(), parsedText);
+            embeddingStatusCache.markVectorized(lecture);
+            log.info("[LectureEmbedding] 벡터화 완료: lectureId={}", lecture.getId());
+        } catch (Exception e) {
+            log.error("[LectureEmbedding] 벡터화 실패: lectureId={}", lecture.getId(), e);
+            embeddingStatusCache.invalidate(lecture);
+            lectureRepository.updateEmbeddingStatus(lecture.getId(), EmbeddingStatus.failed);
+            throw new InternalServerErrorException("강의자료 벡터화에 실패했습니다: " + lecture.getId());
+        }
+    }
+
+    private LocalDateTime staleBefore() {
+        return LocalDateTime.now().minus(visibilityTimeout);
+    }
+
+    private ParsedText findParsedText(UUID lectureId) {
+        return lectureRepository.findParsedTextById(lectureId).orElse(null);
+    }
+
+    private boolean hasText(ParsedText parsedText) {
+        return parsedText != null && parsedText.getPages() != null && !parsedText.getPages().isEmpty();
+    }
+}
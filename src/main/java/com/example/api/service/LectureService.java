@@ -1,6 +1,8 @@
 package com.example.api.service;
 
+import java.io.IOException;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import org.springframework.stereotype.Service;
@@ -13,7 +15,17 @@ import jakarta.transaction.Transactional;
 public interface LectureService {
     Optional<LectureOutput> findLectureById(UUID lectureId);
 
-    LectureListOutput findLecturesByCourseId(UUID courseId);
+    // 소유자 확인처럼 강의 내용이 필요 없는 경우 사용 (parsed_text 등 jsonb 컬럼을 조회하지 않음)
+    Optional<LectureOwnershipOutput> findLectureOwnershipById(UUID lectureId);
+
+    // 미리보기용으로 summary 중 keywords만 조회
+    Optional<LecturePreviewOutput> findLecturePreviewById(UUID lectureId);
+
+    // parsed_text 중 [fromPage, toPage] 범위의 페이지만 DB에서 한 페이지씩 읽어 sink로 전달 (전체 parsed_text를 메모리에 올리지 않음)
+    void streamLecturePages(UUID lectureId, int fromPage, int toPage, LecturePageSink sink) throws IOException;
+
+    // 목록에는 메타데이터만 포함하며, fields로 요청한 jsonb 컬럼(summary, parsedText, note)만 추가로 포함
+    LectureListOutput findLecturesByCourseId(UUID courseId, Set<LectureField> fields);
 
     @Transactional
     LectureOutput createLecture(CreateLectureInput input);
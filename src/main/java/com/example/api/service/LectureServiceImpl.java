@@ -1,8 +1,11 @@
 package com.example.api.service;
 
-import java.util.List;
+import java.io.IOException;
+import java.util.Iterator;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
@@ -10,14 +13,22 @@ import org.springframework.transaction.annotation.Transactional;
 
 import com.example.api.entity.Course;
 import com.example.api.entity.Lecture;
+import com.example.api.entity.ParsedPage;
 import com.example.api.entity.User;
 import com.example.api.entity.enums.SummaryStatus;
 import com.example.api.repository.CourseRepository;
+import com.example.api.repository.CourseScoreStatsRepository;
 import com.example.api.repository.LectureRepository;
 import com.example.api.repository.UserRepository;
+import com.example.api.security.ownership.OwnedResource;
+import com.example.api.security.ownership.OwnershipIndex;
 import com.example.api.service.dto.lecture.CreateLectureInput;
+import com.example.api.service.dto.lecture.LectureField;
 import com.example.api.service.dto.lecture.LectureListOutput;
 import com.example.api.service.dto.lecture.LectureOutput;
+import com.example.api.service.dto.lecture.LecturePageSink;
+import com.example.api.service.dto.lecture.LecturePreviewOutput;
+import com.example.api.service.dto.lecture.LectureOwnershipOutput;
 import com.example.api.service.dto.lecture.UpdateLectureDisplayOrderLexInput;
 import com.example.api.service.dto.lecture.UpdateLectureInput;
 import com.example.api.service.dto.lecture.UpdateLectureNoteInput;
@@ -34,31 +45,59 @@ public class LectureServiceImpl implements LectureService {
     private UserRepository userRepo;
     private CourseRepository courseRepo;
     private LectureRepository lectureRepo;
+    private CourseScoreStatsRepository courseScoreStatsRepo;
+    private OwnershipIndex ownershipIndex;
 
     @Autowired
     public void LectureService(
             UserRepository userRepo,
             CourseRepository courseRepo,
-            LectureRepository lectureRepo
+            LectureRepository lectureRepo,
+            CourseScoreStatsRepository courseScoreStatsRepo,
+            OwnershipIndex ownershipIndex
     ) {
         this.userRepo = userRepo;
         this.courseRepo = courseRepo;
         this.lectureRepo = lectureRepo;
+        this.courseScoreStatsRepo = courseScoreStatsRepo;
+        this.ownershipIndex = ownershipIndex;
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Optional<LectureOutput> findLectureById(UUID lectureId) {
         return lectureRepo.findById(lectureId)
                 .map(LectureOutput::fromEntity);
     }
 
     @Override
-    public LectureListOutput findLecturesByCourseId(UUID courseId) {
-        List<LectureOutput> lectures = lectureRepo.findByCourseId(courseId)
-                .stream()
-                .map(LectureOutput::fromEntity)
-                .toList();
-        return new LectureListOutput(lectures);
+    @Transactional(readOnly = true)
+    public Optional<LectureOwnershipOutput> findLectureOwnershipById(UUID lectureId) {
+        return lectureRepo.findOwnershipById(lectureId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<LecturePreviewOutput> findLecturePreviewById(UUID lectureId) {
+        return lectureRepo.findPreviewById(lectureId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void streamLecturePages(UUID lectureId, int fromPage, int toPage, LecturePageSink sink) throws IOException {
+        sink.begin(lectureRepo.findTotalPages(lectureId));
+        try (Stream<ParsedPage> pages = lectureRepo.streamPages(lectureId, fromPage, toPage)) {
+            Iterator<ParsedPage> iterator = pages.iterator();
+            while (iterator.hasNext()) {
+                sink.page(iterator.next());
+            }
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public LectureListOutput findLecturesByCourseId(UUID courseId, Set<LectureField> fields) {
+        return new LectureListOutput(lectureRepo.findByCourseId(courseId, fields));
     }
 
     @Override
@@ -77,6 +116,7 @@ public class LectureServiceImpl implements LectureService {
         lecture.setSummaryStatus(SummaryStatus.not_started);
 
         Lecture createdLecture = lectureRepo.createLecture(lecture);
+        ownershipIndex.register(OwnedResource.lecture, createdLecture.getId(), input.getUserId());
         return LectureOutput.fromEntity(createdLecture);
     }
 
@@ -118,6 +158,12 @@ public class LectureServiceImpl implements LectureService {
     @Override
     @Transactional
     public void deleteLecture(UUID lectureId) {
+        Lecture lecture = lectureRepo.findById(lectureId)
+                .orElseThrow(() -> new IllegalArgumentException("Lecture not found with id: " + lectureId));
+        UUID courseId = lecture.getCourse().getId();
         lectureRepo.deleteLecture(lectureId);
+        ownershipIndex.evict(OwnedResource.lecture, lectureId);
+        // 삭제된 강의의 퀴즈 결과가 과목 평균에서 빠지도록 과목 점수 집계를 다시 계산
+        courseScoreStatsRepo.rebuild(courseId);
     }
 }
@@ -1,13 +1,20 @@
 package com.example.api.service;
 
 import com.example.api.service.dto.qna.*;
+import reactor.core.publisher.Flux;
+
+import java.io.IOException;
+import java.util.UUID;
 
 public interface QnaChatService {
     QnaChatMessageOutput ask(QnaChatMessageInput input);
+    Flux<QnaChatStreamEvent> askStream(QnaChatMessageInput input);
     CreateQnaChatOutput createQnaChat(CreateQnaChatInput input);
     GetQnaChatMessagesOutput getMessages(GetQnaChatMessagesInput input);
+    void streamMessages(UUID chatId, MessageCursor cursor, QnaChatMessageSink sink) throws IOException;
     GetQnaChatIdOutput getQnaChatId(GetQnaChatIdInput input);
 
     GetLikedMessagesOutput getLikedMessages(GetLikedMessagesInput input);
     ToggleLikeMessageOutput toggleLikeMessage(ToggleLikeMessageInput input);
+    GetRecommendedQuestionsOutput getRecommendedQuestions(GetRecommendedQuestionsInput input);
 }
\ No newline at end of file
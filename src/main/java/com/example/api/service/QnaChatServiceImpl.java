@@ -2,31 +2,45 @@ package com.example.api.service;
 
 import com.example.api.adapters.llm.ChatMessage;
 import com.example.api.adapters.llm.LLMAdapter;
+import com.example.api.datasource.ReadYourWritesPin;
 import com.example.api.entity.Lecture;
 import com.example.api.entity.ParsedText;
 import com.example.api.entity.enums.MessageRole;
 import com.example.api.exception.BadRequestException;
+import com.example.api.exception.BaseException;
 import com.example.api.exception.InternalServerErrorException;
 import com.example.api.exception.NotFoundException;
+import com.example.api.external.EmbeddingStatusCache;
 import com.example.api.external.LangchainClient;
+import com.example.api.external.QnaAnswerCache;
 import com.example.api.entity.QnaChat;
 import com.example.api.entity.QnaChatMessage;
 import com.example.api.entity.User;
-import com.example.api.external.dto.langchain.EmbeddingCheckResponse;
-import com.example.api.external.dto.langchain.MessageContextResponse;
 import com.example.api.external.dto.langchain.ReferenceResponse;
+import com.example.api.pipeline.StagedPipeline;
 import com.example.api.repository.*;
 import com.example.api.service.dto.qna.*;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.stereotype.Service;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
 
 @RequiredArgsConstructor
 @Service
@@ -36,6 +50,8 @@ public class QnaChatServiceImpl implements QnaChatService {
 
     private static final String USER = "user";
     private static final String ASSISTANT = "assistant";
+    private static final String ASK_PIPELINE = "qna_ask";
+    private static final String ASK_STREAM_PIPELINE = "qna_ask_stream";
 
     private final UserRepository userRepository;
     private final LectureRepository lectureRepository;
@@ -44,6 +60,15 @@ public class QnaChatServiceImpl implements QnaChatService {
     private final LangchainClient langchainClient;
     private final QnaQuestionRecommendService qnaQuestionRecommendService;
     private final LLMAdapter llmAdapter;
+    private final StagedPipeline stagedPipeline;
+    private final EmbeddingStatusCache embeddingStatusCache;
+    private final LectureEmbeddingService lectureEmbeddingService;
+    private final QnaAnswerCache qnaAnswerCache;
+    // replica를 사용하는 경우에만 존재 (DataSourceConfig)
+    private final ObjectProvider<ReadYourWritesPin> readYourWritesPin;
+
+    @Value("${spring.mvc.async.request-timeout:120s}")
+    private Duration streamTimeout;
 
     @Override
     @Transactional
@@ -61,28 +86,14 @@ public class QnaChatServiceImpl implements QnaChatService {
             return new CreateQnaChatOutput(existingChat.getId(), existingChat.getCreatedAt());
         }
 
-        ParsedText parsedText = lecture.getParsedText();
-
-        // TODO(jin): move vectorization timing from chat creation to after the lecture file uploaded, think about is_vectorized column
-        // 강의자료 벡터화(Langchain): 채팅방 생성 시 수행
-        log.info("강의 자료 {} 벡터화 여부 LangChain 서버에서 확인 중...", lecture.getId());
-        EmbeddingCheckResponse checkResponse = langchainClient.checkEmbeddingStatus(lecture.getId());
-
-        if (checkResponse != null && checkResponse.isVectorized()) {
+        // 강의자료 벡터화는 텍스트 추출 직후 벡터화 워커가 수행하므로 채팅방 생성은 벡터화를 기다리지 않습니다.
+        // 아직 요청되지 않은 강의(기존 데이터, 발행 실패 등)만 요청을 발행하며, 첫 질문 시점까지 완료되지 않으면 질문 처리 중 벡터화됩니다.
+        if (embeddingStatusCache.isVectorized(lecture)) {
             log.info("강의 자료 {} 벡터화 상태 정상", lecture.getId());
+        } else if (lectureEmbeddingService.requestEmbeddings(lecture)) {
+            log.info("강의 자료 {} 벡터화 요청 발행", lecture.getId());
         } else {
-            log.info("강의 자료 {} 벡터화 필요: 상태 비정상", lecture.getId());
-            if (parsedText == null || parsedText.getPages() == null || parsedText.getPages().isEmpty()) {
-                throw new BadRequestException("강의 자료에 텍스트가 없습니다: " + lecture.getId());
-            }
-            try {
-                langchainClient.generateLectureEmbeddings(lecture.getId(), parsedText);
-                lecture.setIsVectorized(true);
-                lectureRepository.save(lecture);
-                log.info("강의 자료 {} 벡터화 성공 및 is_vectorized 반영 완료", lecture.getId());
-            } catch (Exception ex) {
-                log.warn("강의 자료 {} 벡터화 실패. 채팅방은 생성되나, 첫 질문 시 벡터화가 재시도됩니다.", lecture.getId(), ex);
-            }
+            log.info("강의 자료 {} 벡터화 대기 중: embeddingStatus={}", lecture.getId(), lecture.getEmbeddingStatus());
         }
 
         QnaChat chat = new QnaChat();
@@ -105,82 +116,74 @@ public class QnaChatServiceImpl implements QnaChatService {
 
     @Override
     public QnaChatMessageOutput ask(QnaChatMessageInput input) {
-        long startTime = System.currentTimeMillis();
         log.info("[QnaChatService] ask 메소드 시작: lectureId={}, userId={}", input.getLectureId(), input.getUserId());
+        StagedPipeline.Execution execution = stagedPipeline.start(ASK_PIPELINE);
+        try {
+            QnaChatMessageOutput output = ask(input, execution);
+            execution.succeed();
+            return output;
+        } catch (RuntimeException | Error e) {
+            execution.fail();
+            throw e;
+        }
+    }
 
+    /**
+     * 질문 처리 단계를 의존 관계에 따라 병렬로 실행합니다.
+     * - 추천 질문 생성, 답변 캐시 조회 → 벡터화 확인 → 레퍼런스 검색, 대화 맥락 조회, 사용자 질문 저장은 서로 독립적이므로 동시에 시작
+     * - LLM 답변 생성은 레퍼런스와 대화 맥락이 모두 준비된 뒤 실행 (대화 맥락이 비어있고 캐시된 답변이 있으면 생략)
+     * - AI 답변 저장과 Langchain 대화 맥락 업데이트는 답변 생성 이후 동시에 실행
+     * - 추천 질문은 응답을 기다리게 하지 않고, 준비되면 AI 답변 메시지에 저장
+     */
+    private QnaChatMessageOutput ask(QnaChatMessageInput input, StagedPipeline.Execution execution) {
         User user = new User(input.getUserId());
+        String question = input.getQuestion();
 
-        QnaChat chat = qnaChatRepository.findByLectureIdAndUserId(input.getLectureId(), input.getUserId())
-                .orElseThrow(() -> new NotFoundException("채팅방을 찾을 수 없습니다"));
+        QnaChat chat = execution.run("chat_lookup", () ->
+                qnaChatRepository.findByLectureIdAndUserId(input.getLectureId(), input.getUserId())
+                        .orElseThrow(() -> new NotFoundException("채팅방을 찾을 수 없습니다")));
         UUID lectureId = chat.getLecture().getId();
-        log.info("[Performance] 채팅방 조회 완료: 소요시간={}ms", System.currentTimeMillis() - startTime);
 
-        Lecture lecture = lectureRepository.findById(lectureId)
-                .orElseThrow(() -> new NotFoundException("강의 자료를 찾을 수 없습니다."));
-        ParsedText parsedText = lecture.getParsedText();
-
-        // 강의자료 벡터화 확인 및 재시도(Langchain)
-        log.info("[QnaChatService] LangChain에서 벡터 스토어 상태 확인 시작: lectureId={}", lectureId);
-        EmbeddingCheckResponse checkResponse = langchainClient.checkEmbeddingStatus(lectureId);
-        if (checkResponse == null || !checkResponse.isVectorized()) {
-            log.info("[QnaChatService] 강의자료 벡터화 필요 또는 손상. 벡터화 재시도 합니다.: lectureId={}", lectureId);
-            if (parsedText == null || parsedText.getPages() == null || parsedText.getPages().isEmpty()) {
-                log.error("parsedText가 null 또는 공백입니다. 벡터화 요청 중단");
-                throw new BadRequestException("강의 자료에 텍스트가 없습니다: " + lectureId); 
-            }
-            try {
-                long vectorizationStartTime = System.currentTimeMillis();
-                langchainClient.generateLectureEmbeddings(lectureId, parsedText);
-                lecture.setIsVectorized(true); 
-                lectureRepository.save(lecture);
-                log.info("[Performance] 강의자료 벡터화 재시도 성공: lectureId={}, 소요시간={}ms", lectureId, System.currentTimeMillis() - vectorizationStartTime);
-            } catch (Exception e) {
-                log.error("강의자료 벡터화 재시도 실패", e);
-                throw new InternalServerErrorException("강의자료 분석 중입니다. 잠시 후 다시 시도해주세요."); 
-            }
-        } else {
-            log.info("[QnaChatService] 강의자료 정상 벡터화 완료: lectureId={}", lectureId);
-        }
+        // LLM 호출(Spring): 추천 질문 생성 - 질문에만 의존하므로 가장 먼저 시작하고, 답변 반환을 기다리게 하지 않음
+        CompletableFuture<List<String>> recommendFuture = execution.async("recommend_questions",
+                () -> recommendQuestions(question));
+
+        // 답변 캐시 조회(Redis) → (miss) 강의자료 벡터화 확인 및 재시도(Langchain) → 강의자료 출처 검색(Langchain)
+        CompletableFuture<AnswerLookup> lookupFuture = lookupAnswer(execution, lectureId, question);
+
+        // 대화 맥락 관리(Langchain): 이전에 저장되어있던 대화 맥락 가져오기
+        CompletableFuture<List<ChatMessage>> contextFuture = execution.async("context_fetch",
+                () -> langchainClient.getMessageContext(chat.getId()).getLangchainChatContext());
 
         // 사용자 질문 DB에 저장
-        long saveQuestionStartTime = System.currentTimeMillis();
-        QnaChatMessage userMsg = new QnaChatMessage();
-        userMsg.setQnaChat(chat);
-        userMsg.setUser(user);
-        userMsg.setRole(MessageRole.USER);
-        userMsg.setContent(input.getQuestion());
-        userMsg = qnaChatMessageRepository.save(userMsg);
-        log.info("[Performance] 사용자 질문 DB에 저장 완료: 소요시간={}ms", System.currentTimeMillis() - saveQuestionStartTime);
-
-        // 강의자료 출처 검색(Langchain): 질문에 해당하는 강의자료 출처 검색
-        long referenceSearchStartTime = System.currentTimeMillis();
-        List<ReferenceResponse.ReferenceChunkResponse> referenceChunks;
-        log.info("[QnaChatService] 강의자료 레퍼런스 검색 시작: question='{}', lectureId={}", input.getQuestion(), lectureId);
-        referenceChunks = langchainClient.findReferencesInLecture(lectureId, input.getQuestion(), 3, 0.3).getReferences();
-        if (referenceChunks == null) {
-            referenceChunks = new ArrayList<>();
-        }
-        log.info("[Performance] 강의자료 레퍼런스 검색 완료: 검색된 청크 수={}, 소요시간={}ms", referenceChunks.size(), System.currentTimeMillis() - referenceSearchStartTime);
+        CompletableFuture<QnaChatMessage> userMsgFuture = execution.async("user_message_save",
+                () -> saveMessage(chat, user, MessageRole.USER, question, null));
+
+        AnswerLookup lookup = execution.await(lookupFuture);
+        List<ReferenceResponse.ReferenceChunkResponse> referenceChunks = lookup.references();
+        List<ChatMessage> messageContextBefore = execution.await(contextFuture);
+        execution.await(userMsgFuture);
+
         List<String> referenceTexts = referenceChunks.stream()
                 .map(ReferenceResponse.ReferenceChunkResponse::getText)
                 .toList();
 
-        // 대화 맥락 관리(Langchain): 이전에 저장되어있던 대화 맥락 가져오기
-        long contextFetchStartTime = System.currentTimeMillis();
-        MessageContextResponse responseBefore = langchainClient.getMessageContext(chat.getId());
-        List<ChatMessage> messageContextBefore = responseBefore.getLangchainChatContext();
-        log.info("[Performance] 대화 맥락 가져오기 완료: 메시지 수={}, 소요시간={}ms", messageContextBefore.size(), System.currentTimeMillis() - contextFetchStartTime);
+        // 대화 맥락이 없는 첫 질문이고 캐시된 답변이 있으면 GPT 호출 생략
+        QnaAnswerCache.CachedAnswer cachedAnswer = resolveCachedAnswer(lookup, messageContextBefore);
 
         // LLM 호출(Spring): 출처, 이전 대화 맥락을 context로 GPT 호출 및 AI 답변 생성
-        log.info("[QnaChatService] GPT 호출 시작 - question='{}', referenceCount={}, contextMessageCount={}",
-                input.getQuestion(), referenceTexts.size(), messageContextBefore.size());
         String answer;
-        long llmCallStartTime = System.currentTimeMillis();
         try {
-            answer = llmAdapter.ask(input.getQuestion(), referenceTexts, messageContextBefore);
-            log.info("[Performance] GPT 호출 및 답변 생성 완료: 응답 길이={}, 소요시간={}ms", answer != null ? answer.length() : 0, System.currentTimeMillis() - llmCallStartTime);
+            if (cachedAnswer != null) {
+                log.info("[QnaChatService] 캐시된 답변 사용 - question='{}', match={}", question, cachedAnswer.getMatch());
+                answer = cachedAnswer.getAnswer();
+            } else {
+                log.info("[QnaChatService] GPT 호출 시작 - question='{}', referenceCount={}, contextMessageCount={}",
+                        question, referenceTexts.size(), messageContextBefore.size());
+                answer = execution.run("llm_answer", () -> llmAdapter.ask(question, referenceTexts, messageContextBefore));
+            }
         } catch (Exception e) {
-            log.error("[Performance] GPT 호출 오류: 소요시간={}ms, 오류={}", System.currentTimeMillis() - llmCallStartTime, e.getMessage(), e);
+            log.error("[QnaChatService] GPT 호출 오류: {}", e.getMessage(), e);
             return new QnaChatMessageOutput(
                     UUID.randomUUID(),
                     ASSISTANT,
@@ -194,36 +197,32 @@ public class QnaChatServiceImpl implements QnaChatService {
         }
         log.debug("[QnaChatService] GPT 응답 내용 일부: {}", answer != null ? answer.substring(0, Math.min(50, answer.length())) : "null");
 
+        if (cachedAnswer == null && messageContextBefore.isEmpty()) {
+            storeAnswer(execution, lectureId, question, answer, referenceChunks);
+        }
+
         // AI 답변 DB에 저장
-        long saveAnswerStartTime = System.currentTimeMillis();
-        QnaChatMessage botMsg = new QnaChatMessage();
-        botMsg.setQnaChat(chat);
-        botMsg.setUser(user);
-        botMsg.setRole(MessageRole.ASSISTANT);
-        botMsg.setContent(answer);
-        botMsg.setReferences(referenceChunks);
-        botMsg = qnaChatMessageRepository.save(botMsg);
-        log.info("[Performance] AI 답변 DB에 저장 완료: 소요시간={}ms", System.currentTimeMillis() - saveAnswerStartTime);
+        CompletableFuture<QnaChatMessage> botMsgFuture = execution.async("assistant_message_save",
+                () -> saveMessage(chat, user, MessageRole.ASSISTANT, answer, referenceChunks));
 
         // 대화 맥락 관리(Langchain): 사용자 질문, AI 답변 한꺼번에 전달하여 새로운 대화로 맥락에 저장
-        long contextUpdateStartTime = System.currentTimeMillis();
-        List<ChatMessage> newMessages = new ArrayList<>();
-        newMessages.add(new ChatMessage(USER, input.getQuestion()));
-        newMessages.add(new ChatMessage(ASSISTANT, answer));
+        CompletableFuture<List<ChatMessage>> contextAfterFuture = execution.async("context_append",
+                () -> appendContext(chat.getId(), question, answer));
 
-        MessageContextResponse responseAfter = langchainClient.appendMessages(
-                chat.getId(),
-                newMessages
-        );
-        List<ChatMessage> messageContextAfter = responseAfter.getLangchainChatContext();
-        log.info("[Performance] Langchain에 대화 맥락 업데이트 완료: chatId={}, messageCount={}, 소요시간={}ms", chat.getId(), messageContextAfter.size(), System.currentTimeMillis() - contextUpdateStartTime);
+        // 추천 질문은 준비되는 대로 AI 답변 메시지에 저장 (GET .../messages/{messageId}/recommended-questions 로 조회)
+        saveRecommendedQuestions(execution, recommendFuture, botMsgFuture);
+
+        QnaChatMessage botMsg = execution.await(botMsgFuture);
+        List<ChatMessage> messageContextAfter = execution.await(contextAfterFuture);
+        // 메세지 저장은 파이프라인 스레드에서 커밋되므로, 다른 인스턴스에서도 primary에서 읽도록 요청 스레드에서 응답에 고정 쿠키를 추가
+        readYourWritesPin.ifAvailable(pin -> pin.pin(input.getUserId()));
 
-        // LLM 호출(Spring): 추천 질문 생성
-        long recommendStartTime = System.currentTimeMillis();
-        List<String> recommendedQuestions = qnaQuestionRecommendService.recommendQuestions(input.getQuestion());
-        log.info("[Performance] 추천 질문 생성 완료: 추천 질문 수={}, 소요시간={}ms", recommendedQuestions.size(), System.currentTimeMillis() - recommendStartTime);
+        // 답변 생성 동안 추천 질문이 이미 준비되었다면 함께 반환하고, 아니면 빈 목록으로 반환
+        List<String> recommendedQuestions = recommendFuture.isDone()
+                ? recommendFuture.join()
+                : Collections.emptyList();
 
-        // 추천 질문까지 포함된 AI 최종 답변 반환
+        // AI 최종 답변 반환
         return new QnaChatMessageOutput(
                 botMsg.getId(),
                 ASSISTANT,
@@ -236,48 +235,344 @@ public class QnaChatServiceImpl implements QnaChatService {
         );
     }
 
+    /**
+     * 질문에 대한 답변을 SSE로 스트리밍합니다.
+     * 레퍼런스 검색이 끝나는 즉시 references 이벤트를 보내고, LLM 토큰을 생성되는 대로 전달한 뒤,
+     * 스트림이 끝나면 AI 답변을 저장하여 done 이벤트를 보내고, 추천 질문이 준비되면 마지막 이벤트로 전달합니다.
+     */
+    @Override
+    public Flux<QnaChatStreamEvent> askStream(QnaChatMessageInput input) {
+        log.info("[QnaChatService] askStream 메소드 시작: lectureId={}, userId={}", input.getLectureId(), input.getUserId());
+        StagedPipeline.Execution execution = stagedPipeline.start(ASK_STREAM_PIPELINE);
+        User user = new User(input.getUserId());
+        String question = input.getQuestion();
+
+        // 채팅방이 없는 경우 스트림을 열기 전에 404로 응답할 수 있도록 요청 스레드에서 조회
+        QnaChat chat;
+        try {
+            chat = execution.run("chat_lookup", () ->
+                    qnaChatRepository.findByLectureIdAndUserId(input.getLectureId(), input.getUserId())
+                            .orElseThrow(() -> new NotFoundException("채팅방을 찾을 수 없습니다")));
+        } catch (RuntimeException e) {
+            execution.fail();
+            throw e;
+        }
+        UUID lectureId = chat.getLecture().getId();
+
+        // 메세지는 응답 헤더를 보낸 뒤 저장되므로, 스트림이 끝날 때까지 primary에서 읽도록 미리 고정 쿠키를 추가
+        readYourWritesPin.ifAvailable(pin -> pin.pin(input.getUserId(), streamTimeout));
+
+        CompletableFuture<List<String>> recommendFuture = execution.async("recommend_questions",
+                () -> recommendQuestions(question));
+        CompletableFuture<AnswerLookup> lookupFuture = lookupAnswer(execution, lectureId, question);
+        CompletableFuture<List<ReferenceResponse.ReferenceChunkResponse>> referenceFuture = lookupFuture.thenApply(AnswerLookup::references);
+        CompletableFuture<List<ChatMessage>> contextFuture = execution.async("context_fetch",
+                () -> langchainClient.getMessageContext(chat.getId()).getLangchainChatContext());
+        CompletableFuture<QnaChatMessage> userMsgFuture = execution.async("user_message_save",
+                () -> saveMessage(chat, user, MessageRole.USER, question, null));
+
+        // 1. 출처 청크
+        Flux<QnaChatStreamEvent> referenceEvents = Mono.fromFuture(referenceFuture)
+                .map(QnaChatStreamEvent::references)
+                .flux();
+
+        // 2. LLM 답변 토큰: 대화 맥락 조회와 사용자 질문 저장이 끝난 뒤 시작
+        //    대화 맥락이 없는 첫 질문이고 캐시된 답변이 있으면 GPT 호출 없이 캐시된 답변을 한 번에 전달
+        StringBuilder answer = new StringBuilder();
+        AtomicBoolean storeAnswer = new AtomicBoolean(false);
+        Flux<QnaChatStreamEvent> tokenEvents = Mono.fromFuture(CompletableFuture.allOf(lookupFuture, contextFuture, userMsgFuture))
+                .thenMany(Flux.defer(() -> {
+                    List<ChatMessage> messageContextBefore = contextFuture.join();
+                    QnaAnswerCache.CachedAnswer cachedAnswer = resolveCachedAnswer(lookupFuture.join(), messageContextBefore);
+                    if (cachedAnswer != null) {
+                        log.info("[QnaChatService] 캐시된 답변 사용 - question='{}', match={}", question, cachedAnswer.getMatch());
+                        return Flux.just(cachedAnswer.getAnswer());
+                    }
+                    storeAnswer.set(messageContextBefore.isEmpty());
+                    return execution.stream("llm_answer", () -> {
+                        List<String> referenceTexts = referenceFuture.join().stream()
+                                .map(ReferenceResponse.ReferenceChunkResponse::getText)
+                                .toList();
+                        return llmAdapter.streamAsk(question, referenceTexts, messageContextBefore);
+                    });
+                }))
+                .doOnNext(answer::append)
+                .map(QnaChatStreamEvent::token);
+
+        // 3. 스트림 종료 후 AI 답변 저장 및 대화 맥락 업데이트
+        Flux<QnaChatStreamEvent> doneEvent = Mono.fromFuture(() -> {
+                    String fullAnswer = answer.toString();
+                    if (storeAnswer.get()) {
+                        storeAnswer(execution, lectureId, question, fullAnswer, referenceFuture.join());
+                    }
+                    CompletableFuture<QnaChatMessage> botMsgFuture = execution.async("assistant_message_save",
+                            () -> saveMessage(chat, user, MessageRole.ASSISTANT, fullAnswer, referenceFuture.join()));
+                    CompletableFuture<List<ChatMessage>> contextAfterFuture = execution.async("context_append",
+                            () -> appendContext(chat.getId(), question, fullAnswer));
+                    saveRecommendedQuestions(execution, recommendFuture, botMsgFuture);
+                    return CompletableFuture.allOf(botMsgFuture, contextAfterFuture)
+                            .thenApply(ignored -> botMsgFuture.join());
+                })
+                .map(botMsg -> QnaChatStreamEvent.done(botMsg.getId(), botMsg.getCreatedAt()))
+                .flux();
+
+        // 4. 추천 질문: 답변 저장 이후 준비되는 대로 마지막 이벤트로 전달
+        Flux<QnaChatStreamEvent> trailingEvents = Mono.fromFuture(recommendFuture)
+                .map(QnaChatStreamEvent::recommendations)
+                .flux();
+
+        return Flux.concat(referenceEvents, tokenEvents, doneEvent, trailingEvents)
+                .doOnComplete(execution::succeed)
+                .doOnError(e -> execution.fail())
+                .doOnCancel(() -> {
+                    log.info("[QnaChatService] 클라이언트 연결 종료로 스트리밍 중단: chatId={}", chat.getId());
+                    execution.cancel();
+                })
+                .onErrorResume(e -> {
+                    Throwable cause = StagedPipeline.unwrap(e);
+                    log.error("[QnaChatService] 스트리밍 답변 생성 오류: {}", cause.getMessage(), cause);
+                    String message = cause instanceof BaseException
+                            ? cause.getMessage()
+                            : "죄송합니다, GPT 호출 중 오류가 발생했습니다. 잠시 후 다시 시도해주세요.";
+                    return Mono.just(QnaChatStreamEvent.error(message));
+                });
+    }
+
+    /**
+     * 강의자료가 Langchain 벡터 스토어에 정상적으로 저장되어 있는지 확인하고, 아니라면 벡터화를 재시도합니다.
+     * 벡터화 상태는 EmbeddingStatusCache를 통해 확인하므로, 이미 확인된 강의는 LangChain 서버를 호출하지 않습니다.
+     */
+    private Lecture ensureLectureVectorized(UUID lectureId) {
+        Lecture lecture = lectureRepository.findById(lectureId)
+                .orElseThrow(() -> new NotFoundException("강의 자료를 찾을 수 없습니다."));
+
+        if (embeddingStatusCache.isVectorized(lecture)) {
+            log.info("[QnaChatService] 강의자료 정상 벡터화 완료: lectureId={}", lectureId);
+            return lecture;
+        }
+
+        log.info("[QnaChatService] 강의자료 벡터화 필요 또는 손상. 벡터화 재시도 합니다.: lectureId={}", lectureId);
+        revectorize(lecture);
+        return lecture;
+    }
+
+    // embedding_check 단계는 executor 스레드에서 트랜잭션 없이 실행되므로 parsed_text는 리포지토리에서 직접 조회
+    private void revectorize(Lecture lecture) {
+        ParsedText parsedText = lectureRepository.findParsedTextById(lecture.getId()).orElse(null);
+        if (parsedText == null || parsedText.getPages() == null || parsedText.getPages().isEmpty()) {
+            log.error("parsedText가 null 또는 공백입니다. 벡터화 요청 중단");
+            throw new BadRequestException("강의 자료에 텍스트가 없습니다: " + lecture.getId());
+        }
+        try {
+            langchainClient.generateLectureEmbeddings(lecture.getId(), parsedText);
+            embeddingStatusCache.markVectorized(lecture);
+            log.info("[QnaChatService] 강의자료 벡터화 재시도 성공: lectureId={}", lecture.getId());
+        } catch (Exception e) {
+            log.error("강의자료 벡터화 재시도 실패", e);
+            embeddingStatusCache.invalidate(lecture);
+            throw new InternalServerErrorException("강의자료 분석 중입니다. 잠시 후 다시 시도해주세요.");
+        }
+    }
+
+    /**
+     * 강의자료 출처를 검색합니다. 벡터 인덱스가 없다는 404 응답을 받으면 캐시된 벡터화 상태를 무효화하고 재벡터화 후 한 번 더 검색합니다.
+     */
+    private AnswerLookup findReferences(Lecture lecture, String question) {
+        log.info("[QnaChatService] 강의자료 레퍼런스 검색 시작: question='{}', lectureId={}", question, lecture.getId());
+        ReferenceResponse response;
+        try {
+            response = searchReferences(lecture, question);
+        } catch (NotFoundException e) {
+            log.warn("[QnaChatService] 벡터 인덱스 없음. 벡터화 상태 무효화 후 재시도: lectureId={}", lecture.getId());
+            embeddingStatusCache.invalidate(lecture);
+            revectorize(lecture);
+            response = searchReferences(lecture, question);
+        }
+        List<ReferenceResponse.ReferenceChunkResponse> referenceChunks = response.getReferences();
+        return new AnswerLookup(
+                referenceChunks != null ? referenceChunks : new ArrayList<>(),
+                qnaAnswerCache.findSimilar(lecture.getId(), response.getSimilarQuestions()));
+    }
+
+    private ReferenceResponse searchReferences(Lecture lecture, String question) {
+        if (qnaAnswerCache.isSimilarMatchEnabled()) {
+            return langchainClient.findReferencesInLecture(lecture.getId(), question, 3, 0.3, true);
+        }
+        return langchainClient.findReferencesInLecture(lecture.getId(), question, 3, 0.3);
+    }
+
+    /**
+     * 답변 캐시를 먼저 조회하고, 정확히 일치하는 질문의 답변이 있으면 캐시된 출처를 그대로 사용하여 벡터화 확인과 출처 검색을 생략합니다.
+     * 없으면 벡터화 확인 → 출처 검색을 수행하며, 이때 유사 질문의 캐시된 답변도 함께 찾습니다.
+     */
+    private CompletableFuture<AnswerLookup> lookupAnswer(StagedPipeline.Execution execution, UUID lectureId, String question) {
+        return execution.async("answer_cache_lookup", () -> qnaAnswerCache.findExact(lectureId, question))
+                .thenCompose(cachedAnswer -> cachedAnswer != null
+                        ? CompletableFuture.completedFuture(new AnswerLookup(
+                                cachedAnswer.getReferences() != null ? cachedAnswer.getReferences() : new ArrayList<>(),
+                                cachedAnswer))
+                        : execution.then(
+                                execution.async("embedding_check", () -> ensureLectureVectorized(lectureId)),
+                                "reference_search", lecture -> findReferences(lecture, question)));
+    }
+
+    /**
+     * 캐시된 답변은 이전 대화 맥락이 없는 질문에만 사용합니다. (맥락에 따라 답변이 달라지므로)
+     */
+    private QnaAnswerCache.CachedAnswer resolveCachedAnswer(AnswerLookup lookup, List<ChatMessage> messageContext) {
+        if (!messageContext.isEmpty()) {
+            qnaAnswerCache.recordSkip();
+            return null;
+        }
+        if (lookup.cachedAnswer() == null) {
+            qnaAnswerCache.recordMiss();
+            return null;
+        }
+        qnaAnswerCache.recordHit(lookup.cachedAnswer());
+        return lookup.cachedAnswer();
+    }
+
+    private void storeAnswer(StagedPipeline.Execution execution, UUID lectureId, String question, String answer,
+                             List<ReferenceResponse.ReferenceChunkResponse> references) {
+        execution.async("answer_cache_store", () -> {
+            qnaAnswerCache.put(lectureId, question, answer, references);
+            return null;
+        });
+    }
+
+    /**
+     * 추천 질문 생성은 부가 기능이므로 실패하더라도 답변 흐름에 영향을 주지 않도록 빈 목록으로 대체합니다.
+     */
+    private List<String> recommendQuestions(String question) {
+        try {
+            return qnaQuestionRecommendService.recommendQuestions(question);
+        } catch (Exception e) {
+            log.warn("[QnaChatService] 추천 질문 생성 실패: {}", e.getMessage(), e);
+            return Collections.emptyList();
+        }
+    }
+
+    /**
+     * 추천 질문과 AI 답변 저장이 모두 끝나면 추천 질문을 메시지에 저장합니다. 요청 흐름에서는 이 단계를 기다리지 않습니다.
+     */
+    private void saveRecommendedQuestions(StagedPipeline.Execution execution,
+                                          CompletableFuture<List<String>> recommendFuture,
+                                          CompletableFuture<QnaChatMessage> botMsgFuture) {
+        execution.then(recommendFuture, botMsgFuture, "recommend_questions_save", (questions, botMsg) -> {
+            qnaChatMessageRepository.updateRecommendedQuestions(botMsg.getId(), questions);
+            pinWriter(botMsg.getUser().getId());
+            return questions;
+        }).exceptionally(e -> {
+            log.warn("[QnaChatService] 추천 질문 저장 실패: {}", e.getMessage(), e);
+            // 답변이 저장된 경우 빈 목록을 저장하여 추천 질문 조회가 계속 생성 중(ready=false)으로 남지 않도록 함
+            QnaChatMessage botMsg = botMsgFuture.isDone() && !botMsgFuture.isCompletedExceptionally()
+                    ? botMsgFuture.join()
+                    : null;
+            if (botMsg != null) {
+                try {
+                    qnaChatMessageRepository.updateRecommendedQuestions(botMsg.getId(), Collections.emptyList());
+                } catch (Exception fallbackError) {
+                    log.warn("[QnaChatService] 추천 질문 빈 목록 저장 실패: messageId={}", botMsg.getId(), fallbackError);
+                }
+            }
+            return null;
+        });
+    }
+
+    private List<ChatMessage> appendContext(UUID chatId, String question, String answer) {
+        List<ChatMessage> newMessages = new ArrayList<>();
+        newMessages.add(new ChatMessage(USER, question));
+        newMessages.add(new ChatMessage(ASSISTANT, answer));
+        return langchainClient.appendMessages(chatId, newMessages).getLangchainChatContext();
+    }
+
+    private QnaChatMessage saveMessage(QnaChat chat, User user, MessageRole role, String content,
+                                       List<ReferenceResponse.ReferenceChunkResponse> references) {
+        QnaChatMessage message = new QnaChatMessage();
+        message.setQnaChat(chat);
+        message.setUser(user);
+        message.setRole(role);
+        message.setContent(content);
+        if (references != null) {
+            message.setReferences(references);
+        }
+        QnaChatMessage saved = qnaChatMessageRepository.save(message);
+        pinWriter(user.getId());
+        return saved;
+    }
+
+    // 파이프라인 스레드에는 SecurityContext가 없어 커밋 시 자동으로 고정되지 않으므로 사용자 ID를 직접 넘겨 고정
+    private void pinWriter(UUID userId) {
+        readYourWritesPin.ifAvailable(pin -> pin.pin(userId));
+    }
+
     @Override
     public GetQnaChatMessagesOutput getMessages(GetQnaChatMessagesInput input) {
         QnaChat chat = qnaChatRepository.findByLectureIdAndUserId(input.getLectureId(), input.getUserId())
                 .orElseThrow(() -> new NotFoundException("채팅방을 찾을 수 없습니다"));
 
         List<QnaChatMessage> messages = qnaChatMessageRepository.findByQnaChatIdWithCursor(
-                chat.getId(), input.getCursor(), input.getLimit());
+                chat.getId(), MessageCursor.decode(input.getCursor()), input.getLimit());
 
         boolean hasMore = messages.size() > input.getLimit();
         if (hasMore) {
             messages = messages.subList(0, input.getLimit()); // 초과분 제거
         }
 
-        UUID nextCursor = null;
+        String nextCursor = null;
         if (!messages.isEmpty() && hasMore) {
             // 더 가져올 메시지가 있을 때만 가져온 메세지 중 가장 오래된 메세지로 nextCursor 설정
-            nextCursor = messages.get(messages.size() - 1).getId();
+            nextCursor = MessageCursor.of(messages.get(messages.size() - 1)).encode();
         }
 
         List<GetQnaChatMessagesOutput.MessageItem> messageItems = messages.stream()
-                .map(m -> {
-                    boolean isLiked = m.getRole() == MessageRole.ASSISTANT ? m.getIsLiked() : false; // USER 메세지는 좋아요 FALSE 고정
-                    return new GetQnaChatMessagesOutput.MessageItem(
-                            m.getId(),
-                            m.getRole().getValue(),
-                            m.getContent(),
-                            m.getRole() == MessageRole.ASSISTANT ? m.getReferences() : null,
-                            m.getCreatedAt(),
-                            isLiked
-                    );
-                })
+                .map(this::toMessageItem)
                 .toList();
 
         return new GetQnaChatMessagesOutput(chat.getId(), messageItems, hasMore, nextCursor);
     }
+
+    // 채팅방 확인은 호출한 쪽에서 응답을 쓰기 전에 마치고, 여기서는 cursor 이전의 메세지를 오래된 순으로 sink에 전달
+    @Override
+    @Transactional(readOnly = true)
+    public void streamMessages(UUID chatId, MessageCursor cursor, QnaChatMessageSink sink) throws IOException {
+        try (Stream<QnaChatMessage> messages = qnaChatMessageRepository.streamByQnaChatId(chatId, cursor)) {
+            Iterator<QnaChatMessage> iterator = messages.iterator();
+            while (iterator.hasNext()) {
+                sink.message(toMessageItem(iterator.next()));
+            }
+        }
+    }
+
+    private GetQnaChatMessagesOutput.MessageItem toMessageItem(QnaChatMessage m) {
+        boolean isLiked = m.getRole() == MessageRole.ASSISTANT ? m.getIsLiked() : false; // USER 메세지는 좋아요 FALSE 고정
+        return new GetQnaChatMessagesOutput.MessageItem(
+                m.getId(),
+                m.getRole().getValue(),
+                m.getContent(),
+                m.getRole() == MessageRole.ASSISTANT ? m.getReferences() : null,
+                m.getCreatedAt(),
+                isLiked
+        );
+    }
     
     @Override
     public GetLikedMessagesOutput getLikedMessages(GetLikedMessagesInput input) {
         QnaChat chat = qnaChatRepository.findByLectureIdAndUserId(input.getLectureId(), input.getUserId())
                 .orElseThrow(() -> new NotFoundException("채팅방을 찾을 수 없습니다"));
 
-        List<QnaChatMessage> likedMessages = qnaChatMessageRepository.findByQnaChatIdAndIsLikedTrue(chat.getId());
+        List<QnaChatMessage> likedMessages = qnaChatMessageRepository.findLikedByQnaChatIdWithCursor(
+                chat.getId(), MessageCursor.decode(input.getCursor()), input.getLimit());
+
+        boolean hasMore = likedMessages.size() > input.getLimit();
+        if (hasMore) {
+            likedMessages = likedMessages.subList(0, input.getLimit()); // 초과분 제거
+        }
+
+        String nextCursor = null;
+        if (!likedMessages.isEmpty() && hasMore) {
+            nextCursor = MessageCursor.of(likedMessages.get(likedMessages.size() - 1)).encode();
+        }
 
         List<GetLikedMessagesOutput.LikedMessageItem> likedMessageItems = likedMessages.stream()
                 .map(message -> new GetLikedMessagesOutput.LikedMessageItem(
@@ -290,7 +585,31 @@ public class QnaChatServiceImpl implements QnaChatService {
                 ))
                 .toList();
 
-        return new GetLikedMessagesOutput(chat.getId(), likedMessageItems); //좋아요 메세지 조회에는 페이지네이션 미적용
+        return new GetLikedMessagesOutput(chat.getId(), likedMessageItems, hasMore, nextCursor);
+    }
+
+    @Override
+    public GetRecommendedQuestionsOutput getRecommendedQuestions(GetRecommendedQuestionsInput input) {
+        QnaChat chat = qnaChatRepository.findByLectureIdAndUserId(input.getLectureId(), input.getUserId())
+                .orElseThrow(() -> new NotFoundException("채팅방을 찾을 수 없습니다"));
+
+        QnaChatMessage message = qnaChatMessageRepository.findById(input.getMessageId())
+                .filter(m -> m.getQnaChat().getId().equals(chat.getId()))
+                .orElseThrow(() -> new NotFoundException("메시지를 찾을 수 없습니다"));
+
+        if (message.getRole() != MessageRole.ASSISTANT) {
+            throw new BadRequestException("AI 답변 메시지에 대해서만 추천 질문을 조회할 수 있습니다");
+        }
+
+        List<String> recommendedQuestions = message.getRecommendedQuestions();
+        // null이면 아직 생성 중. 단, 스트림 타임아웃이 지나도록 저장되지 않았다면 생성이 중단된 것이므로 빈 목록으로 완료 처리
+        boolean ready = recommendedQuestions != null
+                || message.getCreatedAt().isBefore(LocalDateTime.now().minus(streamTimeout));
+        return new GetRecommendedQuestionsOutput(
+                message.getId(),
+                ready,
+                recommendedQuestions != null ? recommendedQuestions : Collections.emptyList()
+        );
     }
 
     @Override
@@ -312,4 +631,9 @@ public class QnaChatServiceImpl implements QnaChatService {
         String action = newLikedStatus ? "ADDED" : "REMOVED";
         return new ToggleLikeMessageOutput(newLikedStatus, action);
     }
-}
\ No newline at end of file
+
+    // 답변 캐시 조회 결과: 출처 청크와, 사용 가능한 캐시된 답변(없으면 null)
+    private record AnswerLookup(List<ReferenceResponse.ReferenceChunkResponse> references,
+                                QnaAnswerCache.CachedAnswer cachedAnswer) {
+    }
+}
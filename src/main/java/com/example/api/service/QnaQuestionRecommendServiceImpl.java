@@ -1,9 +1,9 @@
 package com.example.api.service;
 
 import com.example.api.adapters.llm.LLMAdapter;
-import com.example.api.promptsupport.PromptLoader;
+import com.example.api.promptsupport.CompiledPrompt;
 import com.example.api.promptsupport.PromptPaths;
-import com.example.api.promptsupport.PromptTemplate;
+import com.example.api.promptsupport.PromptRegistry;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.core.type.TypeReference;
 import lombok.RequiredArgsConstructor;
@@ -11,18 +11,20 @@ import org.springframework.stereotype.Service;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
 public class QnaQuestionRecommendServiceImpl implements QnaQuestionRecommendService {
 
     private final LLMAdapter llmAdapter;
+    private final PromptRegistry promptRegistry;
     private static final Logger log = LoggerFactory.getLogger(QnaQuestionRecommendServiceImpl.class);
 
     @Override
     public List<String> recommendQuestions(String userQuestion) {
-        PromptTemplate template = PromptLoader.load(PromptPaths.QNA_RECOMMEND_QUESTIONS_V1);
-        String prompt = template.getUser().replace("{{question}}", userQuestion);
+        CompiledPrompt template = promptRegistry.get(PromptPaths.QNA_RECOMMEND_QUESTIONS);
+        String prompt = template.renderUser(Map.of("question", userQuestion));
 
         String response = llmAdapter.complete(prompt);
 
@@ -40,7 +40,7 @@ public interface QuizService {
     @Transactional
     Float calculateQuizAverageScore(UUID courseId);
     
-    QuizItemListOutput findLikedQuizItemByLectureId(UUID lectureId);
+    LikedQuizItemListOutput findLikedQuizItemByLectureId(UUID lectureId, String cursor, int limit);
 
     @Transactional
     QuizItemOutput toggleLikeQuizItem(ToggleLikeQuizItemInput input);
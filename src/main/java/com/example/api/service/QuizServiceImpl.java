@@ -2,16 +2,23 @@ package com.example.api.service;
 
 import com.example.api.adapters.sqs.GenerateCourseWeaknessAnalysisMessage;
 import com.example.api.adapters.sqs.GradeQuizEssayMessage;
-import com.example.api.adapters.sqs.SQSClient;
+import com.example.api.adapters.sqs.SqsOutbox;
+import com.example.api.datasource.SecondLevelCacheEvictions;
 import com.example.api.entity.*;
 import com.example.api.entity.enums.QuestionType;
 import com.example.api.entity.enums.Status;
+import com.example.api.grading.AnswerKey;
+import com.example.api.grading.GradedResultCache;
+import com.example.api.grading.GradingEngine;
+import com.example.api.grading.GradingResult;
+import com.example.api.grading.SubmittedAnswer;
 import com.example.api.repository.*;
+import com.example.api.service.dto.qna.MessageCursor;
 import com.example.api.service.dto.quiz.*;
-import jakarta.transaction.Transactional;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.OffsetDateTime;
 import java.util.*;
@@ -26,7 +33,11 @@ public class QuizServiceImpl implements QuizService {
 
     private QuizResponseRepository quizResponseRepo;
     private QuizResultRepository quizResultRepo;
-    private SQSClient sqsClient;
+    private SqsOutbox sqsOutbox;
+    private GradingEngine gradingEngine;
+    private GradedResultCache gradedResultCache;
+    private CourseScoreStatsRepository courseScoreStatsRepo;
+    private SecondLevelCacheEvictions secondLevelCacheEvictions;
 
     @Autowired
     public void QuizService(
@@ -36,7 +47,11 @@ public class QuizServiceImpl implements QuizService {
             LectureRepository lectureRepo,
             QuizResponseRepository quizResponseRepo,
             QuizResultRepository quizResultRepo,
-            SQSClient sqsClient
+            SqsOutbox sqsOutbox,
+            GradingEngine gradingEngine,
+            GradedResultCache gradedResultCache,
+            CourseScoreStatsRepository courseScoreStatsRepo,
+            SecondLevelCacheEvictions secondLevelCacheEvictions
     ) {
         this.userRepo = userRepo;
         this.quizRepo = quizRepo;
@@ -44,18 +59,30 @@ public class QuizServiceImpl implements QuizService {
         this.lectureRepo = lectureRepo;
         this.quizResponseRepo = quizResponseRepo;
         this.quizResultRepo = quizResultRepo;
-        this.sqsClient = sqsClient;
+        this.sqsOutbox = sqsOutbox;
+        this.gradingEngine = gradingEngine;
+        this.gradedResultCache = gradedResultCache;
+        this.courseScoreStatsRepo = courseScoreStatsRepo;
+        this.secondLevelCacheEvictions = secondLevelCacheEvictions;
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Optional<QuizOutput> findQuizById(UUID quizId) {
-        Optional<Quiz> quiz = quizRepo.findById(quizId);
-        List<QuizItem> quizItems = quizItemRepo.findByQuizId(quizId);
+        return quizRepo.findById(quizId)
+                .map(quiz -> QuizOutput.fromEntity(quiz, findQuizItems(quiz)));
+    }
 
-        return quiz.map(q -> QuizOutput.fromEntity(q, quizItems));
+    // 생성 중인 퀴즈는 Lambda가 문항을 직접 INSERT하므로 생성이 끝난 경우에만 캐시된 문항 목록을 사용
+    private List<QuizItem> findQuizItems(Quiz quiz) {
+        if (quiz.getStatus() == Status.generate_in_progress) {
+            return quizItemRepo.findByQuizId(quiz.getId());
+        }
+        return quizItemRepo.findGeneratedByQuizId(quiz.getId());
     }
 
     @Override
+    @Transactional(readOnly = true)
     public QuizListOutput findQuizzesByLectureId(UUID lectureId) {
         return QuizListOutput.fromEntities(quizRepo.findByLectureId(lectureId));
     }
@@ -92,13 +119,18 @@ public class QuizServiceImpl implements QuizService {
     @Override
     @Transactional
     public void deleteQuiz(UUID quizId) {
+        UUID courseId = getCourseIdFromQuiz(quizId);
         quizRepo.deleteQuiz(quizId);
+        gradingEngine.evictQuiz(quizId);
+        gradedResultCache.evictQuiz(quizId);
+        // 삭제된 퀴즈의 결과가 과목 평균에서 빠지도록 과목 점수 집계를 다시 계산
+        courseScoreStatsRepo.rebuild(courseId);
     }
 
     @Override
     @Transactional
     public QuizResponseListOutput submitAndGradeQuizWithStatus(List<CreateQuizResponseInput> inputs) {
-        List<QuizResponseOutput> quizResponseOutputs  = inputs.stream()
+        List<QuizResponse> quizResponses = inputs.stream()
                 .map(input -> {
                     Quiz quiz = quizRepo.getReferenceById(input.getQuizId());
                     QuizItem quizItem = quizItemRepo.getReferenceById(input.getQuizItemId());
@@ -119,17 +151,21 @@ public class QuizServiceImpl implements QuizService {
                     if (input.getTextAnswer() != null) {
                         quizResponse.setTextAnswer(input.getTextAnswer());
                     }
-                    // 퀴즈 풀이를 생성
-                    QuizResponse createdQuizResponse = quizResponseRepo.createQuizResponse(quizResponse);
+                    return quizResponse;
+                }).toList();
 
-                    // 퀴즈 풀이 저장이 성공했는지 확인
-                    if (createdQuizResponse == null) {
-                        throw new RuntimeException("Failed to create quiz response");
-                    }
+        // 퀴즈 풀이를 한 번에 생성 (중복 검사 1회 + batch insert)
+        List<QuizResponse> createdQuizResponses = quizResponseRepo.createQuizResponses(quizResponses);
+
+        // 퀴즈 풀이 저장이 성공했는지 확인
+        if (createdQuizResponses == null || createdQuizResponses.size() != quizResponses.size()) {
+            throw new RuntimeException("Failed to create quiz response");
+        }
+
+        List<QuizResponseOutput> quizResponseOutputs = createdQuizResponses.stream()
+                .map(QuizResponseOutput::fromEntity)
+                .toList();
 
-                    return QuizResponseOutput.fromEntity(createdQuizResponse);
-                }).toList();
-        
         QuizResponseListOutput quizResponseListOutput = new QuizResponseListOutput(quizResponseOutputs);
     
         UUID quizId = inputs.get(0).getQuizId();
@@ -158,7 +194,7 @@ public class QuizServiceImpl implements QuizService {
         return quizItemRepo.existsByQuizIdAndQuestionTypeAndDeletedAtIsNull(quizId, QuestionType.essay);
     }
 
-    // 서술형 문제 채점 위해 SQS 메시지 전송하는 함수
+    // 서술형 문제 채점 위한 SQS 메시지를 outbox에 저장하는 함수 (제출 트랜잭션과 함께 커밋)
     private void sendGradeQuizEssayMessage(UUID userId, UUID quizId) {
         GradeQuizEssayMessage message = GradeQuizEssayMessage.builder()
                 .schemaVersion("1.0.0")
@@ -168,12 +204,8 @@ public class QuizServiceImpl implements QuizService {
                 .quizId(quizId)
                 .build();
 
-        try {
-            sqsClient.sendGradeQuizEssayMessage(message);
-            log.info("Successfully sent grade quiz essay message to SQS: quizId={}, userId={}", quizId, userId);
-        } catch (Exception e) {
-            log.error("Failed to send grade quiz essay message to SQS: quizId={}, userId={}, error={}", quizId, userId, e.getMessage());
-        }
+        sqsOutbox.enqueueGradeQuizEssayMessage(message);
+        log.info("Enqueued grade quiz essay message to SQS outbox: quizId={}, userId={}", quizId, userId);
     }
 
     // 퀴즈로부터 과목 ID를 가져오는 함수
@@ -183,7 +215,7 @@ public class QuizServiceImpl implements QuizService {
         return quiz.getLecture().getCourse().getId();
     }
 
-    // 과목 약점 분석 위한 SQS 메시지 전송하는 함수
+    // 과목 약점 분석 위한 SQS 메시지를 outbox에 저장하는 함수 (제출 트랜잭션과 함께 커밋)
     private void sendGenerateCourseWeaknessAnalysisMessage(UUID userId, UUID quizId, UUID examId, UUID courseId) {
         GenerateCourseWeaknessAnalysisMessage message = new GenerateCourseWeaknessAnalysisMessage(
                 "1.0.0",
@@ -195,187 +227,107 @@ public class QuizServiceImpl implements QuizService {
                 courseId
         );
 
-        try {
-            sqsClient.sendGenerateCourseWeaknessAnalysisMessage(message);
-            log.info("Successfully sent generate course weakness analysis message to SQS: courseId={}, userId={}, quizId={}, examId={}",
-                    courseId, userId, quizId, examId);
-        } catch (Exception e) {
-            log.error("Failed to send generate course weakness analysis message to SQS: courseId={}, userId={}, error={}",
-                    courseId, userId, e.getMessage());
-        }
+        sqsOutbox.enqueueGenerateCourseWeaknessAnalysisMessage(message);
+        log.info("Enqueued generate course weakness analysis message to SQS outbox: courseId={}, userId={}, quizId={}, examId={}",
+                courseId, userId, quizId, examId);
     }
 
     @Override
     @Transactional
     public void gradeNonEssayQuestions(UUID quizId) {
-        // 퀴즈 풀이와 퀴즈 아이템을 가져와서 답을 비교하여 점수 부여
+        // 캐싱된 정답 키로 모든 풀이를 메모리에서 채점한 뒤, 배점과 채점 결과를 각각 batch update 한 번으로 반영
+        // 문제/풀이 수와 관계없이 DB 왕복 횟수가 일정함
+        // 재채점하는 경우 이전 채점 결과 캐시를 비움
+        gradedResultCache.evictQuiz(quizId);
         Quiz quiz = quizRepo.getReferenceById(quizId);
         List<QuizResponse> quizResponses = quizResponseRepo.findByQuizId(quizId);
 
         // 퀴즈 총점 설정 및 계산
-        List<QuizItem> quizItems = quizItemRepo.findByQuizId(quizId);
-        Float initialMaxScore = setPointsForQuizItems(quizItems);
-
-        // 퀴즈 아이템의 questionType에 문제 유형을 확인하여 점수를 부여
-        Float nonEssayScore = 0f;
-        for (QuizResponse quizResponse : quizResponses) {
-            QuizItem quizItem = quizItemRepo.getReferenceById(quizResponse.getQuizItem().getId());
-            if (quizItem.getQuestionType() == null) {
-                throw new IllegalArgumentException("Exam item question type cannot be null");
-            }
-            // 서술형 문제는 이 함수에서 채점하지 않음
-            if(quizItem.getQuestionType() == QuestionType.essay) {
-                continue;
-            }
-            if (quizItem.getQuestionType() == QuestionType.true_or_false) {
-                // true/false 문제
-                if (quizResponse.getSelectedBool() != null && quizResponse.getSelectedBool().equals(quizItem.getIsTrueAnswer())) {
-                    nonEssayScore += quizItem.getPoints();
-                    quizResponse.setIsCorrect(true);
-                }
-            } else if (quizItem.getQuestionType() == QuestionType.multiple_choice) {
-                // 객관식 문제 - 순서 상관없이 선택된 항목들이 정답과 일치하는지 확인
-                if (quizResponse.getSelectedIndices() != null && quizItem.getAnswerIndices() != null) {
-                    Set<Integer> selectedSet = new HashSet<>(Arrays.asList(quizResponse.getSelectedIndices()));
-                    Set<Integer> answerSet = new HashSet<>(Arrays.asList(quizItem.getAnswerIndices()));
-                    
-                    if (selectedSet.equals(answerSet)) {
-                        nonEssayScore += quizItem.getPoints();
-                        quizResponse.setIsCorrect(true);
-                    }
-                }
-            } else if (quizItem.getQuestionType() == QuestionType.short_answer) {
-                // 주관식 문제
-                if (quizResponse.getTextAnswer() != null && quizResponse.getTextAnswer().equals(quizItem.getTextAnswer())) {
-                    nonEssayScore += quizItem.getPoints();
-                    quizResponse.setIsCorrect(true);
-                }
-            }
-            quizResponseRepo.updateQuizResponse(quizResponse);
-        }
+        AnswerKey answerKey = gradingEngine.quizAnswerKey(quizId, () -> quizItemRepo.findByQuizId(quizId));
+        quizItemRepo.updatePoints(answerKey.pointsByItemId());
+        // JDBC로 직접 갱신하므로 Hibernate가 알 수 없는 배점 변경을 모든 인스턴스의 2차 캐시에서 제거
+        secondLevelCacheEvictions.evict(QuizItem.class, answerKey.pointsByItemId().keySet());
+
+        // 서술형 문제는 이 함수에서 채점하지 않음
+        List<SubmittedAnswer> answers = quizResponses.stream()
+                .map(quizResponse -> new SubmittedAnswer(
+                        quizResponse.getId(),
+                        quizResponse.getQuizItem().getId(),
+                        quizResponse.getSelectedBool(),
+                        quizResponse.getSelectedIndices(),
+                        quizResponse.getTextAnswer()))
+                .toList();
+        GradingResult gradingResult = gradingEngine.grade(answerKey, answers);
+        quizResponseRepo.updateGradingResults(gradingResult.grades());
 
         QuizResult quizResult = new QuizResult();
         quizResult.setQuiz(quiz);
         quizResult.setUser(quizResponses.get(0).getUser());
-        quizResult.setScore(nonEssayScore);
-        quizResult.setMaxScore(initialMaxScore);
+        quizResult.setScore(gradingResult.score());
+        quizResult.setMaxScore(gradingResult.maxScore());
 
         quizResultRepo.createQuizResult(quizResult);
-    }
-
-    // 각 퀴즈 아이템에 점수를 설정하고 총점을 반환하는 함수
-    private Float setPointsForQuizItems(List<QuizItem> quizItems) {
-        Float initialMaxScore = 0f;
-        for (QuizItem quizItem : quizItems) {
-            if (quizItem.getQuestionType() == QuestionType.true_or_false) {
-                quizItem.setPoints(1f); // True/False 문제는 1점
-                initialMaxScore += 1f;
-            } else if (quizItem.getQuestionType() == QuestionType.multiple_choice) {
-                quizItem.setPoints(3f); // 객관식 문제는 3점
-                initialMaxScore += 3f;
-            } else if (quizItem.getQuestionType() == QuestionType.short_answer) {
-                quizItem.setPoints(5f); // 주관식 문제는 5점
-                initialMaxScore += 5f;
-            } else if (quizItem.getQuestionType() == QuestionType.essay) {
-                quizItem.setPoints(10f); // 서술형 문제는 10점
-                initialMaxScore += 10f;
-            } else {
-                throw new IllegalArgumentException("Unknown question type: " + quizItem.getQuestionType());
-            }
-            quizItemRepo.updateQuizItem(quizItem);
-        }
-        return initialMaxScore;
+        // 과목 평균 점수 조회 시 결과를 다시 순회하지 않도록 과목 점수 집계에 바로 반영
+        courseScoreStatsRepo.addQuizResult(
+                quiz.getLecture().getCourse().getId(), gradingResult.score(), gradingResult.maxScore());
     }
 
     @Override
-    @Transactional
+    @Transactional(readOnly = true)
     public Optional<QuizResultOutput> findQuizResultByQuizId(UUID quizId) {
-        Optional<QuizResult> quizResult = quizResultRepo.findByQuizId(quizId);
-        List<QuizItem> quizItems = quizItemRepo.findByQuizId(quizId);
-        List<UUID> quizItemIds = quizItems.stream().map(QuizItem::getId).toList();
-        // 각 퀴즈 아이템에 대한 퀴즈 응답을 가져옴
-        List<QuizResultElement> quizResultElements = new ArrayList<>();
-        for (UUID quizItemId : quizItemIds) {
-            Optional<QuizResponse> quizResponses = quizResponseRepo.findByQuizItemId(quizItemId);
-            if (quizResponses.isPresent()) {
-                QuizResponse quizResponse = quizResponses.get();
-                QuizItem quizItem = quizItemRepo.getReferenceById(quizItemId);
-                QuizResultElement element = QuizResultElement.fromQuizItemAndResponse(quizItem, quizResponse);
-                quizResultElements.add(element);
-            }
+        // 채점이 끝난 결과는 바뀌지 않으므로 캐시된 응답을 그대로 반환
+        Optional<QuizResultOutput> cached = gradedResultCache.getQuizResult(quizId);
+        if (cached.isPresent()) {
+            return cached;
         }
 
-        return quizResult.map(qr -> QuizResultOutput.fromEntityAndQuizResultElements(qr, quizResultElements));
+        // 결과, 문제, 풀이를 쿼리 한 번으로 조회
+        return quizResultRepo.findDetailByQuizId(quizId).map(detail -> {
+            QuizResultOutput output = QuizResultOutput.fromEntityAndQuizResultElements(
+                    detail.quizResult(), detail.quizResultElements());
+            // 서술형 채점이 남아 있는(partially_graded) 결과는 아직 바뀔 수 있으므로 캐싱하지 않음
+            if (detail.quizStatus() == Status.graded) {
+                gradedResultCache.putQuizResult(quizId, output);
+            }
+            return output;
+        });
     }
 
     @Override
-    @Transactional
+    @Transactional(readOnly = true)
     public QuizResultListOutput findQuizResultsByCourseId(UUID courseId) {
-        List<Lecture> lectures = lectureRepo.findByCourseId(courseId);
-        List<QuizResult> quizResults = new ArrayList<>();
-
-        for (Lecture lecture : lectures) {
-            List<Quiz> quizzes = quizRepo.findByLectureId(lecture.getId());
-            for (Quiz quiz : quizzes) {
-                Optional<QuizResult> result = quizResultRepo.findByQuizId(quiz.getId());
-                if (result.isPresent()) {
-                    quizResults.add(result.get());
-                }
-            }
-        }
-
-        QuizResultListOutput quizResultOutputs = QuizResultListOutput.fromEntities(quizResults);
-        return quizResultOutputs;
+        // 강의, 퀴즈별로 조회하지 않고 과목의 모든 퀴즈 결과를 쿼리 한 번으로 조회
+        return QuizResultListOutput.fromEntities(quizResultRepo.findByCourseId(courseId));
     }
 
     @Override
-    @Transactional
+    @Transactional(readOnly = true)
     public Float calculateQuizAverageScore(UUID courseId) {
-        List<Lecture> lectures = lectureRepo.findByCourseId(courseId);
-        float totalScore = 0;
-        int count = 0;
-
-        for (Lecture lecture : lectures) {
-            List<Quiz> quizzes = quizRepo.findByLectureId(lecture.getId());
-            for (Quiz quiz : quizzes) {
-                Optional<QuizResult> result = quizResultRepo.findByQuizId(quiz.getId());
-                if (result.isPresent()) {
-                    QuizResult quizResult = result.get();
-                    Float eachScore = quizResult.getScore() / quizResult.getMaxScore() * 100; // Convert to percentage
-                    totalScore += eachScore;
-                    count++;
-                }
-            }
-        }
-
-        return count > 0 ? totalScore / count : 0f;
+        // 결과 생성/서술형 채점 시 갱신되는 과목 점수 집계 한 행만 조회
+        return courseScoreStatsRepo.findById(courseId)
+                .map(CourseScoreStats::getQuizAverage)
+                .orElse(0f);
     }
 
     @Override
-    public QuizItemListOutput findLikedQuizItemByLectureId(UUID lectureId) {
-        List<Quiz> quizzes = quizRepo.findByLectureId(lectureId);
-        if (quizzes.isEmpty()) {
-            return new QuizItemListOutput(new ArrayList<>());
+    @Transactional(readOnly = true)
+    public LikedQuizItemListOutput findLikedQuizItemByLectureId(UUID lectureId, String cursor, int limit) {
+        // 퀴즈별로 모든 문항을 불러와 거르지 않고, 좋아요 문항만 조인 쿼리 한 번으로 최신순 조회
+        List<QuizItemOutput> quizItems = quizItemRepo.findLikedByLectureIdWithCursor(
+                lectureId, MessageCursor.decode(cursor), limit);
+
+        boolean hasMore = quizItems.size() > limit;
+        if (hasMore) {
+            quizItems = quizItems.subList(0, limit); // 초과분 제거
         }
 
-        List<UUID> quizIds = quizzes.stream().map(Quiz::getId).toList();
-
-        List<QuizItemOutput> quizItemOutputs = new ArrayList<>();
-        for (UUID quizId : quizIds) {
-            List<QuizItem> quizItems = quizItemRepo.findByQuizId(quizId);
-            if (quizItems.isEmpty()) {
-                continue;
-            }
-            for (QuizItem quizItem : quizItems) {
-                if (quizItem.getIsLiked() != null && quizItem.getIsLiked()) {
-                    // 좋아요가 있는 퀴즈 아이템만 추가
-                    QuizItemOutput quizItemOutput = QuizItemOutput.fromEntity(quizItem);
-                    quizItemOutputs.add(quizItemOutput);
-                }
-            }
+        String nextCursor = null;
+        if (!quizItems.isEmpty() && hasMore) {
+            QuizItemOutput last = quizItems.get(quizItems.size() - 1);
+            nextCursor = new MessageCursor(last.getCreatedAt(), last.getId()).encode();
         }
-        
-        return new QuizItemListOutput(quizItemOutputs);
+
+        return new LikedQuizItemListOutput(quizItems, hasMore, nextCursor);
     }
 
     @Override
@@ -400,6 +352,8 @@ public class QuizServiceImpl implements QuizService {
         if (updatedQuizItem == null) {
             throw new RuntimeException("Failed to update quiz item like status");
         }
+        // 다른 인스턴스의 2차 캐시에 남은 이전 좋아요 상태 제거
+        secondLevelCacheEvictions.evict(QuizItem.class, List.of(updatedQuizItem.getId()));
         return QuizItemOutput.fromEntity(updatedQuizItem);
     }
 }
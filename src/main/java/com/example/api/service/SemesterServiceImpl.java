@@ -5,6 +5,8 @@ import com.example.api.entity.User;
 import com.example.api.entity.enums.Season;
 import com.example.api.repository.SemesterRepository;
 import com.example.api.repository.UserRepository;
+import com.example.api.security.ownership.OwnedResource;
+import com.example.api.security.ownership.OwnershipIndex;
 import com.example.api.service.dto.semester.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
@@ -19,11 +21,13 @@ import java.util.UUID;
 public class SemesterServiceImpl implements SemesterService {
     private UserRepository userRepo;
     private SemesterRepository semesterRepo;
+    private OwnershipIndex ownershipIndex;
 
     @Autowired
-    public void SemesterService(UserRepository userRepo, SemesterRepository semesterRepo) {
+    public void SemesterService(UserRepository userRepo, SemesterRepository semesterRepo, OwnershipIndex ownershipIndex) {
         this.userRepo = userRepo;
         this.semesterRepo = semesterRepo;
+        this.ownershipIndex = ownershipIndex;
     }
 
     @Override
@@ -60,6 +64,7 @@ public class SemesterServiceImpl implements SemesterService {
         semester.setSeason(input.getSeason());
 
         Semester createdSemester = semesterRepo.createSemester(semester);
+        ownershipIndex.register(OwnedResource.semester, createdSemester.getId(), input.getUserId());
         return SemesterOutput.fromEntity(createdSemester);
     }
 
@@ -116,6 +121,7 @@ public class SemesterServiceImpl implements SemesterService {
     @Transactional
     public void deleteSemester(UUID semesterId) {
         semesterRepo.deleteSemester(semesterId);
+        ownershipIndex.evict(OwnedResource.semester, semesterId);
     }
 
     private String defaultSemesterName(int year, Season season) {
@@ -0,0 +1,16 @@
+package com.example.api.service.dto.exam;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LikedExamItemListOutput {
+    private List<ExamItemOutput> examItems;
+    private boolean hasMore;
+    private String nextCursor;
+}
@@ -0,0 +1,8 @@
+package com.example.api.service.dto.lecture;
+
+// 강의 목록 조회 시 선택적으로 포함할 수 있는 jsonb 컬럼 (기본적으로 목록에는 메타데이터만 포함)
+public enum LectureField {
+    summary,
+    parsedText,
+    note
+}
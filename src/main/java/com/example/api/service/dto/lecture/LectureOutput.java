@@ -5,6 +5,8 @@ import java.util.Map;
 import java.util.UUID;
 
 import com.example.api.entity.Lecture;
+import com.example.api.entity.LectureSummary;
+import com.example.api.entity.enums.EmbeddingStatus;
 import com.example.api.entity.enums.SummaryStatus;
 import com.example.api.entity.ParsedText;
 
@@ -26,11 +28,20 @@ public class LectureOutput {
     private String displayOrderLex;
     private ParsedText parsedText;
     private Map<String, Object> note;
-    private Map<String, Object> summary;
+    private LectureSummary summary;
     private SummaryStatus summaryStatus;
+    private EmbeddingStatus embeddingStatus;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
+    // 목록 조회용 생성자 (JPQL constructor projection). parsedText, note, summary는 요청한 경우에만 따로 채움
+    public LectureOutput(UUID id, UUID courseId, UUID userId, String title, String materialPath,
+                         String materialType, String displayOrderLex, SummaryStatus summaryStatus,
+                         EmbeddingStatus embeddingStatus, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this(id, courseId, userId, title, materialPath, materialType, displayOrderLex,
+                null, null, null, summaryStatus, embeddingStatus, createdAt, updatedAt);
+    }
+
     public static LectureOutput fromEntity(Lecture lecture) {
         return new LectureOutput(
                 lecture.getId(),
@@ -44,6 +55,7 @@ public class LectureOutput {
                 lecture.getNote(),
                 lecture.getSummary(),
                 lecture.getSummaryStatus(),
+                lecture.getEmbeddingStatus(),
                 lecture.getCreatedAt(),
                 lecture.getUpdatedAt()
         );
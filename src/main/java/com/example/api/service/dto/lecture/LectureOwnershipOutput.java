@@ -0,0 +1,23 @@
+package com.example.api.service.dto.lecture;
+
+import java.util.UUID;
+
+import com.example.api.entity.enums.EmbeddingStatus;
+import com.example.api.entity.enums.SummaryStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// 권한 확인용 강의 메타데이터 (parsed_text, summary, note 등 jsonb 컬럼은 조회하지 않음)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LectureOwnershipOutput {
+    private UUID id;
+    private UUID userId;
+    private UUID courseId;
+    private SummaryStatus summaryStatus;
+    private Boolean isVectorized;
+    private EmbeddingStatus embeddingStatus;
+}
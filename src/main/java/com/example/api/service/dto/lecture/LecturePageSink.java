@@ -0,0 +1,12 @@
+package com.example.api.service.dto.lecture;
+
+import java.io.IOException;
+
+import com.example.api.entity.ParsedPage;
+
+// 페이지 범위 조회 결과를 응답에 바로 쓰기 위한 콜백 (전체 페이지 수 → 페이지 순서로 호출됨)
+public interface LecturePageSink {
+    void begin(int totalPages) throws IOException;
+
+    void page(ParsedPage page) throws IOException;
+}
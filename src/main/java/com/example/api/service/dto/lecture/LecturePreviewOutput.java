@@ -0,0 +1,21 @@
+package com.example.api.service.dto.lecture;
+
+import java.util.List;
+import java.util.UUID;
+
+import com.example.api.entity.LectureSummary;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// 미리보기용 조회 결과 (summary 중 keywords만 포함)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LecturePreviewOutput {
+    private UUID id;
+    private UUID userId;
+    private String title;
+    private List<LectureSummary.Keyword> keywords;
+}
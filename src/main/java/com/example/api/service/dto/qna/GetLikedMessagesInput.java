@@ -10,4 +10,6 @@ import java.util.UUID;
 public class GetLikedMessagesInput {
     private UUID lectureId;
     private UUID userId;
+    private String cursor;
+    private int limit;
 }
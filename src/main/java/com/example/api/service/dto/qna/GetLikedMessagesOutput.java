@@ -13,6 +13,13 @@ import java.util.UUID;
 public class GetLikedMessagesOutput {
     private UUID chatId;
     private List<LikedMessageItem> messages;
+    private boolean hasMore;
+    private String nextCursor;
+
+    // Lombok @Getter는 boolean hasMore의 getter를 isHasMore로 생성하므로 getter 수동 생성
+    public boolean getHasMore() {
+        return hasMore;
+    }
 
     @Getter
     @AllArgsConstructor
@@ -10,6 +10,6 @@ import java.util.UUID;
 public class GetQnaChatMessagesInput {
     private UUID lectureId;
     private UUID userId;
-    private UUID cursor;
+    private String cursor;
     private int limit;
 }
\ No newline at end of file
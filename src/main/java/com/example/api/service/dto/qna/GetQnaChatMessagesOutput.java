@@ -16,7 +16,7 @@ public class GetQnaChatMessagesOutput {
     private UUID chatId;
     private List<MessageItem> messages;
     private boolean hasMore;
-    private UUID nextCursor;
+    private String nextCursor;
 
     // Lombok @Getter 실행 시 boolean은 isLiked 처럼 is가 없다면, is Prefix가 붙어 isHasMore로 getter 메서드가 생성되므로 getter 수동 생성
     public boolean getHasMore() {
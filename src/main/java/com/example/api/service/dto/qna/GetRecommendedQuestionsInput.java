@@ -0,0 +1,14 @@
+package com.example.api.service.dto.qna;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.UUID;
+
+@Getter
+@AllArgsConstructor
+public class GetRecommendedQuestionsInput {
+    private UUID lectureId;
+    private UUID userId;
+    private UUID messageId;
+}
@@ -0,0 +1,15 @@
+package com.example.api.service.dto.qna;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.UUID;
+
+@Getter
+@AllArgsConstructor
+public class GetRecommendedQuestionsOutput {
+    private UUID messageId;
+    private boolean ready;
+    private List<String> recommendedQuestions;
+}
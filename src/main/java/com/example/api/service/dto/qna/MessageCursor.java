@@ -0,0 +1,53 @@
+package com.example.api.service.dto.qna;
+
+import com.example.api.entity.QnaChatMessage;
+import com.example.api.exception.BadRequestException;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * 메세지 목록의 페이지 경계를 나타내는 (createdAt, id) 커서입니다. 좋아요한 퀴즈/시험 문항 목록도 같은 형식의 커서를 사용합니다.
+ * 클라이언트에는 createdAt(epoch 마이크로초, 8바이트) + id(16바이트)를 base64url로 인코딩한 불투명한 문자열로 전달하며,
+ * 같은 시각에 저장된 메세지도 id로 순서가 정해지므로 페이지 사이에서 누락/중복되지 않습니다.
+ */
+public record MessageCursor(LocalDateTime createdAt, UUID id) {
+    private static final int ENCODED_BYTES = Long.BYTES * 3;
+
+    public static MessageCursor of(QnaChatMessage message) {
+        return new MessageCursor(message.getCreatedAt(), message.getId());
+    }
+
+    // cursor가 없으면 null (첫 페이지)
+    public static MessageCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            byte[] bytes = Base64.getUrlDecoder().decode(cursor);
+            if (bytes.length != ENCODED_BYTES) {
+                throw new BadRequestException("잘못된 cursor입니다");
+            }
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            LocalDateTime createdAt = LocalDateTime.ofEpochSecond(0, 0, ZoneOffset.UTC)
+                    .plus(buffer.getLong(), ChronoUnit.MICROS);
+            return new MessageCursor(createdAt, new UUID(buffer.getLong(), buffer.getLong()));
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("잘못된 cursor입니다");
+        }
+    }
+
+    // DB의 timestamp 정밀도(마이크로초)로 저장하므로 디코딩한 값으로 그대로 비교할 수 있음
+    public String encode() {
+        long epochMicros = ChronoUnit.MICROS.between(LocalDateTime.ofEpochSecond(0, 0, ZoneOffset.UTC), createdAt);
+        ByteBuffer buffer = ByteBuffer.allocate(ENCODED_BYTES)
+                .putLong(epochMicros)
+                .putLong(id.getMostSignificantBits())
+                .putLong(id.getLeastSignificantBits());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.api.service.dto.qna;
+
+import java.io.IOException;
+
+// 메세지 기록 조회 결과를 응답에 바로 쓰기 위한 콜백 (오래된 메세지부터 순서대로 호출됨)
+@FunctionalInterface
+public interface QnaChatMessageSink {
+    void message(GetQnaChatMessagesOutput.MessageItem message) throws IOException;
+}
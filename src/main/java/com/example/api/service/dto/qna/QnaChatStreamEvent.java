@@ -0,0 +1,67 @@
+package com.example.api.service.dto.qna;
+
+import com.example.api.external.dto.langchain.ReferenceResponse;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 스트리밍 질문 응답(SSE)에서 전달되는 이벤트입니다.
+ * 전달 순서: references → token (N회) → done → recommendations. 처리 중 오류 발생 시 error 이벤트로 종료됩니다.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class QnaChatStreamEvent {
+    public static final String REFERENCES = "references";
+    public static final String TOKEN = "token";
+    public static final String RECOMMENDATIONS = "recommendations";
+    public static final String DONE = "done";
+    public static final String ERROR = "error";
+
+    private String type;
+    private Object data;
+
+    public static QnaChatStreamEvent references(List<ReferenceResponse.ReferenceChunkResponse> references) {
+        return new QnaChatStreamEvent(REFERENCES, references);
+    }
+
+    public static QnaChatStreamEvent token(String content) {
+        return new QnaChatStreamEvent(TOKEN, new Token(content));
+    }
+
+    public static QnaChatStreamEvent recommendations(List<String> recommendedQuestions) {
+        return new QnaChatStreamEvent(RECOMMENDATIONS, recommendedQuestions);
+    }
+
+    public static QnaChatStreamEvent done(UUID messageId, LocalDateTime createdAt) {
+        return new QnaChatStreamEvent(DONE, new Done(messageId, createdAt));
+    }
+
+    public static QnaChatStreamEvent error(String message) {
+        return new QnaChatStreamEvent(ERROR, new Failure(message));
+    }
+
+    // 토큰 문자열을 그대로 보내면 줄바꿈이 SSE 프레임을 깨뜨리므로 JSON 객체로 감싸서 전달
+    @Getter
+    @AllArgsConstructor
+    public static class Token {
+        private String content;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Done {
+        private UUID messageId;
+        private LocalDateTime createdAt;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Failure {
+        private String message;
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.api.service.dto.quiz;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LikedQuizItemListOutput {
+    private List<QuizItemOutput> quizItems;
+    private boolean hasMore;
+    private String nextCursor;
+}
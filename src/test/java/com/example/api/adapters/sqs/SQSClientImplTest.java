@@ -8,15 +8,15 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import software.amazon.awssdk.services.sqs.SqsClient;
-import software.amazon.awssdk.services.sqs.model.SendMessageRequest;
-import software.amazon.awssdk.services.sqs.model.SendMessageResponse;
 
 import java.time.OffsetDateTime;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 import static org.junit.jupiter.api.Assertions.*;
-import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -24,7 +24,7 @@ import static org.mockito.Mockito.*;
 class SQSClientImplTest {
 
     @Mock
-    private SqsClient sqsClient;
+    private SqsBatchPublisher batchPublisher;
 
     @Mock
     private SQSMessageConfig sqsMessageConfig;
@@ -35,42 +35,39 @@ class SQSClientImplTest {
     void setUp() {
         SQSMessageConfig.GenerateSummary generateSummary = new SQSMessageConfig.GenerateSummary();
         generateSummary.setQueueUrl("http://localhost:4566/000000000000/test-queue");
-        when(sqsMessageConfig.getGenerateSummary()).thenReturn(generateSummary);
+        lenient().when(sqsMessageConfig.getGenerateSummary()).thenReturn(generateSummary);
 
-        sqsClientImpl = new SQSClientImpl(sqsClient, sqsMessageConfig);
+        sqsClientImpl = new SQSClientImpl(batchPublisher, sqsMessageConfig);
     }
 
     @Test
     @DisplayName("GenerateSummaryMessage 전송 성공")
     void sendGenerateSummaryMessage_Success() throws Exception {
         // Given
+        UUID lectureId = UUID.randomUUID();
         GenerateSummaryMessage message = GenerateSummaryMessage.builder()
                 .schemaVersion("1.0.0")
                 .requestId(UUID.randomUUID())
                 .occurredAt(OffsetDateTime.now())
                 .userId(UUID.randomUUID())
                 .courseId(UUID.randomUUID())
-                .lectureId(UUID.randomUUID())
+                .lectureId(lectureId)
                 .s3Bucket("test-bucket")
                 .s3Key("test-key.pdf")
                 .build();
 
-        SendMessageResponse mockResponse = SendMessageResponse.builder()
-                .messageId("test-message-id")
-                .build();
-
-        when(sqsClient.sendMessage(any(SendMessageRequest.class))).thenReturn(mockResponse);
+        when(batchPublisher.publish(anyString(), anyString(), anyString()))
+                .thenReturn(CompletableFuture.completedFuture("test-message-id"));
 
         // When
-        assertDoesNotThrow(() -> sqsClientImpl.sendGenerateSummaryMessage(message));
+        assertDoesNotThrow(() -> sqsClientImpl.sendGenerateSummaryMessage(message).join());
 
         // Then
-        ArgumentCaptor<SendMessageRequest> requestCaptor = ArgumentCaptor.forClass(SendMessageRequest.class);
-        verify(sqsClient, times(1)).sendMessage(requestCaptor.capture());
+        ArgumentCaptor<String> bodyCaptor = ArgumentCaptor.forClass(String.class);
+        verify(batchPublisher, times(1)).publish(
+                eq("http://localhost:4566/000000000000/test-queue"), eq(lectureId.toString()), bodyCaptor.capture());
 
-        SendMessageRequest capturedRequest = requestCaptor.getValue();
-        assertEquals("http://localhost:4566/000000000000/test-queue", capturedRequest.queueUrl());
-        assertNotNull(capturedRequest.messageBody());
+        assertTrue(bodyCaptor.getValue().contains("\"s3_key\":\"test-key.pdf\""));
     }
 
     @Test
@@ -88,13 +85,45 @@ class SQSClientImplTest {
                 .s3Key("test-key.pdf")
                 .build();
 
-        when(sqsClient.sendMessage(any(SendMessageRequest.class)))
-                .thenThrow(new RuntimeException("SQS error"));
+        when(batchPublisher.publish(anyString(), anyString(), anyString()))
+                .thenReturn(CompletableFuture.failedFuture(new RuntimeException("SQS error")));
 
         // When & Then
-        assertThrows(RuntimeException.class,
-                () -> sqsClientImpl.sendGenerateSummaryMessage(message));
+        CompletableFuture<Void> result = sqsClientImpl.sendGenerateSummaryMessage(message);
+        assertThrows(CompletionException.class, result::join);
+
+        verify(batchPublisher, times(1)).publish(anyString(), anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("GenerateEmbeddingsMessage 전송 성공")
+    void sendGenerateEmbeddingsMessage_Success() throws Exception {
+        // Given
+        SQSMessageConfig.GenerateEmbeddings generateEmbeddings = new SQSMessageConfig.GenerateEmbeddings();
+        generateEmbeddings.setQueueUrl("http://localhost:4566/000000000000/embeddings-queue");
+        when(sqsMessageConfig.getGenerateEmbeddings()).thenReturn(generateEmbeddings);
+
+        UUID lectureId = UUID.randomUUID();
+        GenerateEmbeddingsMessage message = GenerateEmbeddingsMessage.builder()
+                .schemaVersion("1.0.0")
+                .requestId(UUID.randomUUID())
+                .occurredAt(OffsetDateTime.now())
+                .userId(UUID.randomUUID())
+                .courseId(UUID.randomUUID())
+                .lectureId(lectureId)
+                .build();
+
+        when(batchPublisher.publish(anyString(), anyString(), anyString()))
+                .thenReturn(CompletableFuture.completedFuture("test-message-id"));
+
+        // When
+        assertDoesNotThrow(() -> sqsClientImpl.sendGenerateEmbeddingsMessage(message).join());
+
+        // Then
+        ArgumentCaptor<String> bodyCaptor = ArgumentCaptor.forClass(String.class);
+        verify(batchPublisher, times(1)).publish(
+                eq("http://localhost:4566/000000000000/embeddings-queue"), eq(lectureId.toString()), bodyCaptor.capture());
 
-        verify(sqsClient, times(1)).sendMessage(any(SendMessageRequest.class));
+        assertTrue(bodyCaptor.getValue().contains("\"lecture_id\""));
     }
 }
@@ -0,0 +1,177 @@
+package com.example.api.adapters.sqs;
+
+import com.example.api.config.SQSMessageConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.services.sqs.SqsClient;
+import software.amazon.awssdk.services.sqs.model.BatchResultErrorEntry;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequest;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequestEntry;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchResponse;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchResultEntry;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SqsBatchPublisher 테스트")
+class SqsBatchPublisherTest {
+
+    private static final String QUEUE_URL = "http://localhost:4566/000000000000/test-queue";
+
+    @Mock
+    private SqsClient sqsClient;
+
+    private SqsBatchPublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        SQSMessageConfig config = new SQSMessageConfig();
+        config.getBatch().setLingerMs(20);
+        config.getBatch().setMaxAttempts(3);
+        config.getBatch().setRetryBackoffMs(1);
+        publisher = new SqsBatchPublisher(sqsClient, config);
+    }
+
+    @AfterEach
+    void tearDown() {
+        publisher.shutdown();
+    }
+
+    @Test
+    @DisplayName("10개 메시지를 하나의 SendMessageBatch 요청으로 발행")
+    void publish_CoalescesIntoSingleBatch() {
+        // Given
+        when(sqsClient.sendMessageBatch(any(SendMessageBatchRequest.class)))
+                .thenAnswer(invocation -> succeedAll(invocation.getArgument(0)));
+
+        // When
+        List<CompletableFuture<String>> results = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            results.add(publisher.publish(QUEUE_URL, "group-1", "message-" + i));
+        }
+        CompletableFuture.allOf(results.toArray(new CompletableFuture[0])).join();
+
+        // Then
+        ArgumentCaptor<SendMessageBatchRequest> requestCaptor = ArgumentCaptor.forClass(SendMessageBatchRequest.class);
+        verify(sqsClient, times(1)).sendMessageBatch(requestCaptor.capture());
+        SendMessageBatchRequest request = requestCaptor.getValue();
+        assertEquals(QUEUE_URL, request.queueUrl());
+        assertEquals(10, request.entries().size());
+        assertEquals("message-0", request.entries().get(0).messageBody());
+        assertEquals("group-1", request.entries().get(0).messageGroupId());
+        assertEquals("message-id-3", results.get(3).join());
+    }
+
+    @Test
+    @DisplayName("linger 시간이 지나면 10개 미만이어도 발행")
+    void publish_FlushesAfterLinger() {
+        // Given
+        when(sqsClient.sendMessageBatch(any(SendMessageBatchRequest.class)))
+                .thenAnswer(invocation -> succeedAll(invocation.getArgument(0)));
+
+        // When
+        String messageId = publisher.publish(QUEUE_URL, "group-1", "message-0").join();
+
+        // Then
+        assertEquals("message-id-0", messageId);
+        verify(sqsClient, times(1)).sendMessageBatch(any(SendMessageBatchRequest.class));
+    }
+
+    @Test
+    @DisplayName("일부 메시지가 SQS 측 오류로 실패하면 실패한 메시지만 재시도")
+    void publish_RetriesOnlyFailedEntries() {
+        // Given
+        when(sqsClient.sendMessageBatch(any(SendMessageBatchRequest.class)))
+                .thenAnswer(invocation -> {
+                    SendMessageBatchRequest request = invocation.getArgument(0);
+                    return SendMessageBatchResponse.builder()
+                            .successful(success(request.entries().get(0)))
+                            .failed(BatchResultErrorEntry.builder()
+                                    .id(request.entries().get(1).id())
+                                    .code("ServiceUnavailable")
+                                    .senderFault(false)
+                                    .build())
+                            .build();
+                })
+                .thenAnswer(invocation -> succeedAll(invocation.getArgument(0)));
+
+        // When
+        CompletableFuture<String> first = publisher.publish(QUEUE_URL, "group-1", "message-0");
+        CompletableFuture<String> second = publisher.publish(QUEUE_URL, "group-1", "message-1");
+
+        // Then
+        assertEquals("message-id-0", first.join());
+        assertEquals("message-id-0", second.join());
+
+        ArgumentCaptor<SendMessageBatchRequest> requestCaptor = ArgumentCaptor.forClass(SendMessageBatchRequest.class);
+        verify(sqsClient, times(2)).sendMessageBatch(requestCaptor.capture());
+        List<SendMessageBatchRequestEntry> retried = requestCaptor.getAllValues().get(1).entries();
+        assertEquals(1, retried.size());
+        assertEquals("message-1", retried.get(0).messageBody());
+    }
+
+    @Test
+    @DisplayName("요청 자체가 잘못된 메시지(senderFault)는 재시도 없이 실패")
+    void publish_FailsWithoutRetryOnSenderFault() {
+        // Given
+        when(sqsClient.sendMessageBatch(any(SendMessageBatchRequest.class)))
+                .thenAnswer(invocation -> {
+                    SendMessageBatchRequest request = invocation.getArgument(0);
+                    return SendMessageBatchResponse.builder()
+                            .failed(BatchResultErrorEntry.builder()
+                                    .id(request.entries().get(0).id())
+                                    .code("InvalidMessageContents")
+                                    .senderFault(true)
+                                    .build())
+                            .build();
+                });
+
+        // When
+        CompletableFuture<String> result = publisher.publish(QUEUE_URL, "group-1", "message-0");
+
+        // Then
+        assertThrows(CompletionException.class, result::join);
+        verify(sqsClient, times(1)).sendMessageBatch(any(SendMessageBatchRequest.class));
+    }
+
+    @Test
+    @DisplayName("요청이 계속 실패하면 최대 시도 횟수 이후 실패")
+    void publish_FailsAfterMaxAttempts() {
+        // Given
+        when(sqsClient.sendMessageBatch(any(SendMessageBatchRequest.class)))
+                .thenThrow(new RuntimeException("SQS error"));
+
+        // When
+        CompletableFuture<String> result = publisher.publish(QUEUE_URL, "group-1", "message-0");
+
+        // Then
+        assertThrows(CompletionException.class, result::join);
+        verify(sqsClient, times(3)).sendMessageBatch(any(SendMessageBatchRequest.class));
+    }
+
+    private static SendMessageBatchResponse succeedAll(SendMessageBatchRequest request) {
+        return SendMessageBatchResponse.builder()
+                .successful(request.entries().stream().map(SqsBatchPublisherTest::success).toList())
+                .build();
+    }
+
+    private static SendMessageBatchResultEntry success(SendMessageBatchRequestEntry entry) {
+        return SendMessageBatchResultEntry.builder()
+                .id(entry.id())
+                .messageId("message-id-" + entry.id())
+                .build();
+    }
+}
@@ -0,0 +1,163 @@
+package com.example.api.adapters.sqs;
+
+import com.example.api.config.SQSMessageConfig;
+import com.example.api.entity.SqsOutboxMessage;
+import com.example.api.entity.enums.SqsOutboxMessageType;
+import com.example.api.repository.SqsOutboxMessageRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SqsOutboxRelay 테스트")
+class SqsOutboxRelayTest {
+
+    private static final String GRADE_QUIZ_ESSAY_QUEUE_URL = "http://localhost:4566/000000000000/grade-quiz-essay";
+    private static final String WEAKNESS_QUEUE_URL = "http://localhost:4566/000000000000/weakness";
+
+    @Mock
+    private SqsOutboxMessageRepository outboxRepo;
+
+    @Mock
+    private SqsBatchPublisher batchPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SQSMessageConfig sqsMessageConfig;
+    private SqsOutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        sqsMessageConfig = new SQSMessageConfig();
+        sqsMessageConfig.getGradeQuizEssay().setQueueUrl(GRADE_QUIZ_ESSAY_QUEUE_URL);
+        sqsMessageConfig.getGenerateCourseWeaknessAnalysis().setQueueUrl(WEAKNESS_QUEUE_URL);
+        sqsMessageConfig.getOutbox().setBatchSize(2);
+        sqsMessageConfig.getOutbox().setPublishTimeoutMs(1000);
+        relay = new SqsOutboxRelay(outboxRepo, batchPublisher, sqsMessageConfig, new TransactionTemplate(transactionManager));
+    }
+
+    @Test
+    @DisplayName("발행된 메시지는 삭제하고 실패한 메시지는 실패 기록 후 남김")
+    void relayBatch_DeletesSentAndMarksFailed() {
+        // Given
+        SqsOutboxMessage sent = message(1L, SqsOutboxMessageType.grade_quiz_essay, "quiz-1");
+        SqsOutboxMessage failed = message(2L, SqsOutboxMessageType.generate_course_weakness_analysis, "user-1");
+        when(outboxRepo.findPendingGroupHeads(any(LocalDateTime.class), eq(2))).thenReturn(List.of(sent, failed));
+        when(batchPublisher.publish(GRADE_QUIZ_ESSAY_QUEUE_URL, "quiz-1", "payload-1"))
+                .thenReturn(CompletableFuture.completedFuture("message-id"));
+        when(batchPublisher.publish(WEAKNESS_QUEUE_URL, "user-1", "payload-2"))
+                .thenReturn(CompletableFuture.failedFuture(new RuntimeException("SQS error")));
+
+        // When
+        LocalDateTime before = LocalDateTime.now();
+        boolean hasMore = relay.relayBatch();
+
+        // Then
+        assertFalse(hasMore);
+        verify(outboxRepo).deleteOutboxMessages(List.of(1L));
+        ArgumentCaptor<LocalDateTime> nextAttemptAt = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(outboxRepo).markOutboxMessageFailed(eq(2L), eq("SQS error"), nextAttemptAt.capture());
+        assertFalse(nextAttemptAt.getValue().isBefore(before.plusSeconds(1)));
+        verify(outboxRepo, never()).parkOutboxMessage(anyLong(), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("최대 시도 횟수에 도달한 메시지는 재시도하지 않고 격리")
+    void relayBatch_ParksMessageAfterMaxAttempts() {
+        // Given
+        sqsMessageConfig.getOutbox().setMaxAttempts(3);
+        SqsOutboxMessage poison = message(1L, SqsOutboxMessageType.grade_quiz_essay, "quiz-1");
+        poison.setAttempts(2);
+        when(outboxRepo.findPendingGroupHeads(any(LocalDateTime.class), eq(2))).thenReturn(List.of(poison));
+        when(batchPublisher.publish(GRADE_QUIZ_ESSAY_QUEUE_URL, "quiz-1", "payload-1"))
+                .thenReturn(CompletableFuture.failedFuture(new RuntimeException("InvalidParameterValue")));
+
+        // When
+        relay.relayBatch();
+
+        // Then
+        verify(outboxRepo).parkOutboxMessage(eq(1L), eq("InvalidParameterValue"), any(LocalDateTime.class));
+        verify(outboxRepo, never()).markOutboxMessageFailed(anyLong(), anyString(), any());
+        verify(outboxRepo).deleteOutboxMessages(List.of());
+    }
+
+    @Test
+    @DisplayName("재시도 간격은 시도마다 두 배로 늘어나고 최대 간격을 넘지 않음")
+    void retryBackoff_GrowsExponentiallyUpToMax() {
+        SQSMessageConfig.Outbox outbox = sqsMessageConfig.getOutbox();
+        outbox.setRetryBackoffMs(1000);
+        outbox.setMaxRetryBackoffMs(5000);
+
+        assertEquals(1000, SqsOutboxRelay.retryBackoff(outbox, 1));
+        assertEquals(2000, SqsOutboxRelay.retryBackoff(outbox, 2));
+        assertEquals(4000, SqsOutboxRelay.retryBackoff(outbox, 3));
+        assertEquals(5000, SqsOutboxRelay.retryBackoff(outbox, 4));
+        assertEquals(5000, SqsOutboxRelay.retryBackoff(outbox, 100));
+    }
+
+    @Test
+    @DisplayName("가득 찬 배치를 모두 발행하면 다음 배치를 이어서 처리")
+    void relay_DrainsUntilBatchIsNotFull() {
+        // Given
+        when(outboxRepo.findPendingGroupHeads(any(LocalDateTime.class), eq(2)))
+                .thenReturn(List.of(
+                        message(1L, SqsOutboxMessageType.grade_quiz_essay, "quiz-1"),
+                        message(2L, SqsOutboxMessageType.grade_quiz_essay, "quiz-2")))
+                .thenReturn(List.of());
+        when(batchPublisher.publish(anyString(), anyString(), anyString()))
+                .thenReturn(CompletableFuture.completedFuture("message-id"));
+
+        // When
+        relay.relay();
+
+        // Then
+        verify(outboxRepo, times(2)).findPendingGroupHeads(any(LocalDateTime.class), eq(2));
+        verify(outboxRepo).deleteOutboxMessages(List.of(1L, 2L));
+        verify(outboxRepo, never()).markOutboxMessageFailed(anyLong(), anyString(), any());
+        // 배치마다 별도 트랜잭션에서 조회(행 잠금)와 결과 기록을 함께 커밋
+        verify(transactionManager, times(2)).getTransaction(any());
+        verify(transactionManager, times(2)).commit(any());
+    }
+
+    @Test
+    @DisplayName("발행 결과 기록에 실패하면 트랜잭션을 롤백하여 잠근 메시지를 다음 주기에 다시 발행")
+    void relay_RollsBackWhenRecordingFails() {
+        // Given
+        when(outboxRepo.findPendingGroupHeads(any(LocalDateTime.class), eq(2)))
+                .thenReturn(List.of(message(1L, SqsOutboxMessageType.grade_quiz_essay, "quiz-1")));
+        when(batchPublisher.publish(anyString(), anyString(), anyString()))
+                .thenReturn(CompletableFuture.completedFuture("message-id"));
+        doThrow(new RuntimeException("DB error")).when(outboxRepo).deleteOutboxMessages(List.of(1L));
+
+        // When
+        relay.relay();
+
+        // Then
+        verify(transactionManager).rollback(any());
+        verify(transactionManager, never()).commit(any());
+    }
+
+    private static SqsOutboxMessage message(Long id, SqsOutboxMessageType messageType, String messageGroupId) {
+        SqsOutboxMessage message = new SqsOutboxMessage();
+        message.setId(id);
+        message.setMessageType(messageType);
+        message.setMessageGroupId(messageGroupId);
+        message.setPayload("payload-" + id);
+        return message;
+    }
+}
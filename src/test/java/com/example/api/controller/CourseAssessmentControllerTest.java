@@ -6,6 +6,7 @@ import com.example.api.controller.dto.courseAssessment.UpdateCourseAssessmentReq
 import com.example.api.repository.UserRepository;
 import com.example.api.security.jwt.JwtAuthenticationFilter;
 import com.example.api.security.jwt.JwtProvider;
+import com.example.api.security.ownership.OwnershipIndex;
 import com.example.api.service.CourseAssessmentService;
 import com.example.api.service.CourseService;
 import com.example.api.service.dto.course.CourseOutput;
@@ -62,6 +63,9 @@ class CourseAssessmentControllerTest {
     @MockBean
     private JwtAuthenticationFilter jwtAuthenticationFilter;
 
+    @MockBean
+    private OwnershipIndex ownershipIndex;
+
     private UUID userId;
     private UUID courseId;
     private UUID courseAssessmentId;
@@ -8,6 +8,8 @@ import com.example.api.entity.CourseWeaknessAnalysis;
 import com.example.api.repository.UserRepository;
 import com.example.api.security.jwt.JwtAuthenticationFilter;
 import com.example.api.security.jwt.JwtProvider;
+import com.example.api.security.ownership.OwnedResource;
+import com.example.api.security.ownership.OwnershipIndex;
 import com.example.api.service.CourseService;
 import com.example.api.service.SemesterService;
 import com.example.api.service.dto.course.*;
@@ -66,6 +68,9 @@ class CourseControllerTest {
     @MockBean
     private JwtAuthenticationFilter jwtAuthenticationFilter;
 
+    @MockBean
+    private OwnershipIndex ownershipIndex;
+
     private UUID userId;
     private UUID semesterId;
     private UUID courseId;
@@ -95,6 +100,8 @@ class CourseControllerTest {
         testCourseOutput.setCompletedCredits(3);
         testCourseOutput.setCreatedAt(LocalDateTime.now());
         testCourseOutput.setUpdatedAt(LocalDateTime.now());
+
+        when(ownershipIndex.findOwner(any(), any())).thenReturn(Optional.of(userId));
     }
 
     @Test
@@ -102,8 +109,6 @@ class CourseControllerTest {
     @WithMockUser
     void getCoursesBySemester() throws Exception {
         // Given
-        when(semesterService.findSemesterById(semesterId))
-                .thenReturn(Optional.of(testSemesterOutput));
         when(courseService.findCoursesBySemesterId(semesterId))
                 .thenReturn(new CourseListOutput(List.of(testCourseOutput)));
 
@@ -114,7 +119,7 @@ class CourseControllerTest {
                 .andExpect(jsonPath("$.courses[0].id", is(courseId.toString())))
                 .andExpect(jsonPath("$.courses[0].name", is("운영체제")));
 
-        verify(semesterService).findSemesterById(semesterId);
+        verify(ownershipIndex).findOwner(OwnedResource.semester, semesterId);
         verify(courseService).findCoursesBySemesterId(semesterId);
     }
 
@@ -123,14 +128,14 @@ class CourseControllerTest {
     @WithMockUser
     void getCoursesBySemester_SemesterNotFound() throws Exception {
         // Given
-        when(semesterService.findSemesterById(semesterId))
+        when(ownershipIndex.findOwner(OwnedResource.semester, semesterId))
                 .thenReturn(Optional.empty());
 
         // When/Then
         mockMvc.perform(get("/v1/courses/semester/{semesterId}", semesterId))
                 .andExpect(status().isNotFound());
 
-        verify(semesterService).findSemesterById(semesterId);
+        verify(ownershipIndex).findOwner(OwnedResource.semester, semesterId);
         verify(courseService, never()).findCoursesBySemesterId(any());
     }
 
@@ -140,18 +145,14 @@ class CourseControllerTest {
     void getCoursesBySemester_Forbidden() throws Exception {
         // Given
         UUID otherUserId = UUID.randomUUID();
-        SemesterOutput otherSemesterOutput = new SemesterOutput();
-        otherSemesterOutput.setId(semesterId);
-        otherSemesterOutput.setUserId(otherUserId);
-
-        when(semesterService.findSemesterById(semesterId))
-                .thenReturn(Optional.of(otherSemesterOutput));
+        when(ownershipIndex.findOwner(OwnedResource.semester, semesterId))
+                .thenReturn(Optional.of(otherUserId));
 
         // When/Then
         mockMvc.perform(get("/v1/courses/semester/{semesterId}", semesterId))
                 .andExpect(status().isForbidden());
 
-        verify(semesterService).findSemesterById(semesterId);
+        verify(ownershipIndex).findOwner(OwnedResource.semester, semesterId);
         verify(courseService, never()).findCoursesBySemesterId(any());
     }
 
@@ -586,15 +587,13 @@ class CourseControllerTest {
     @WithMockUser
     void deleteCourse() throws Exception {
         // Given
-        when(courseService.findCourseById(courseId))
-                .thenReturn(Optional.of(testCourseOutput));
         doNothing().when(courseService).deleteCourse(courseId);
 
         // When/Then
         mockMvc.perform(delete("/v1/courses/{id}", courseId))
                 .andExpect(status().isNoContent());
 
-        verify(courseService).findCourseById(courseId);
+        verify(ownershipIndex).findOwner(OwnedResource.course, courseId);
         verify(courseService).deleteCourse(courseId);
     }
 
@@ -603,14 +602,14 @@ class CourseControllerTest {
     @WithMockUser
     void deleteCourse_NotFound() throws Exception {
         // Given
-        when(courseService.findCourseById(courseId))
+        when(ownershipIndex.findOwner(OwnedResource.course, courseId))
                 .thenReturn(Optional.empty());
 
         // When/Then
         mockMvc.perform(delete("/v1/courses/{id}", courseId))
                 .andExpect(status().isNotFound());
 
-        verify(courseService).findCourseById(courseId);
+        verify(ownershipIndex).findOwner(OwnedResource.course, courseId);
         verify(courseService, never()).deleteCourse(any());
     }
 
@@ -620,20 +619,14 @@ class CourseControllerTest {
     void deleteCourse_Forbidden() throws Exception {
         // Given
         UUID otherUserId = UUID.randomUUID();
-        CourseOutput forbiddenCourseOutput = new CourseOutput();
-        forbiddenCourseOutput.setId(courseId);
-        forbiddenCourseOutput.setUserId(otherUserId); // Different user ID
-        forbiddenCourseOutput.setSemesterId(semesterId);
-        forbiddenCourseOutput.setName("운영체제");
-
-        when(courseService.findCourseById(courseId))
-                .thenReturn(Optional.of(forbiddenCourseOutput));
+        when(ownershipIndex.findOwner(OwnedResource.course, courseId))
+                .thenReturn(Optional.of(otherUserId));
 
         // When/Then
         mockMvc.perform(delete("/v1/courses/{id}", courseId))
                 .andExpect(status().isForbidden());
 
-        verify(courseService).findCourseById(courseId);
+        verify(ownershipIndex).findOwner(OwnedResource.course, courseId);
         verify(courseService, never()).deleteCourse(any());
     }
 }
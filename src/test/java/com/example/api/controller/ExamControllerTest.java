@@ -14,6 +14,7 @@ import com.example.api.entity.enums.Status;
 import com.example.api.repository.UserRepository;
 import com.example.api.security.jwt.JwtAuthenticationFilter;
 import com.example.api.security.jwt.JwtProvider;
+import com.example.api.security.ownership.OwnershipIndex;
 import com.example.api.service.CourseService;
 import com.example.api.service.ExamService;
 import com.example.api.service.StorageService;
@@ -74,6 +75,9 @@ public class ExamControllerTest {
     @MockBean
     private JwtAuthenticationFilter jwtAuthenticationFilter;
 
+    @MockBean
+    private OwnershipIndex ownershipIndex;
+
     @MockBean
     private StorageService storageService;
 
@@ -540,8 +544,8 @@ public class ExamControllerTest {
         likedExamItem2.setIsLiked(true);
 
         when(courseService.findCourseById(courseId)).thenReturn(Optional.of(testCourseOutput));
-        when(examService.findLikedExamItemByCourseId(courseId))
-                .thenReturn(new ExamItemListOutput(List.of(likedExamItem1, likedExamItem2)));
+        when(examService.findLikedExamItemByCourseId(courseId, null, 20))
+                .thenReturn(new LikedExamItemListOutput(List.of(likedExamItem1, likedExamItem2), false, null));
 
         // when, then
         mockMvc.perform(get("/v1/exams/course/{courseId}/items/liked", courseId))
@@ -554,10 +558,12 @@ public class ExamControllerTest {
                 .andExpect(jsonPath("$.examItems[1].id", is(examItemId2.toString())))
                 .andExpect(jsonPath("$.examItems[1].question", is("Is Java platform independent?")))
                 .andExpect(jsonPath("$.examItems[1].questionType", is("true_or_false")))
-                .andExpect(jsonPath("$.examItems[1].isLiked", is(true)));
+                .andExpect(jsonPath("$.examItems[1].isLiked", is(true)))
+                .andExpect(jsonPath("$.hasMore", is(false)))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
 
         verify(courseService, times(1)).findCourseById(courseId);
-        verify(examService, times(1)).findLikedExamItemByCourseId(courseId);
+        verify(examService, times(1)).findLikedExamItemByCourseId(courseId, null, 20);
     }
 
     @Test
@@ -572,7 +578,7 @@ public class ExamControllerTest {
                 .andExpect(status().isNotFound());
 
         verify(courseService, times(1)).findCourseById(courseId);
-        verify(examService, never()).findLikedExamItemByCourseId(any(UUID.class));
+        verify(examService, never()).findLikedExamItemByCourseId(any(UUID.class), any(), anyInt());
     }
 
     @Test
@@ -592,7 +598,7 @@ public class ExamControllerTest {
                 .andExpect(status().isForbidden());
 
         verify(courseService, times(1)).findCourseById(courseId);
-        verify(examService, never()).findLikedExamItemByCourseId(any(UUID.class));
+        verify(examService, never()).findLikedExamItemByCourseId(any(UUID.class), any(), anyInt());
     }
 
     @Test
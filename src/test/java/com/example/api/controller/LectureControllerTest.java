@@ -5,9 +5,12 @@ import com.example.api.config.StorageConfig;
 import com.example.api.config.TestSecurityConfig;
 import com.example.api.controller.dto.lecture.UpdateLectureNoteRequest;
 import com.example.api.controller.dto.lecture.UpdateLectureRequest;
+import com.example.api.entity.LectureSummary;
 import com.example.api.entity.ParsedPage;
 import com.example.api.entity.ParsedText;
 import com.example.api.repository.UserRepository;
+import com.example.api.security.ownership.OwnedResource;
+import com.example.api.security.ownership.OwnershipIndex;
 import com.example.api.security.jwt.JwtAuthenticationFilter;
 import com.example.api.security.jwt.JwtProvider;
 import com.example.api.service.CourseService;
@@ -16,8 +19,12 @@ import com.example.api.service.SemesterService;
 import com.example.api.service.StorageService;
 import com.example.api.service.dto.course.CourseOutput;
 import com.example.api.service.dto.lecture.CreateLectureInput;
+import com.example.api.service.dto.lecture.LectureField;
 import com.example.api.service.dto.lecture.LectureListOutput;
 import com.example.api.service.dto.lecture.LectureOutput;
+import com.example.api.service.dto.lecture.LecturePageSink;
+import com.example.api.service.dto.lecture.LecturePreviewOutput;
+import com.example.api.service.dto.lecture.LectureOwnershipOutput;
 import com.example.api.service.dto.lecture.UpdateLectureInput;
 import com.example.api.service.dto.lecture.UpdateLectureNoteInput;
 import com.example.api.service.dto.semester.SemesterOutput;
@@ -35,6 +42,7 @@ import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import java.time.LocalDateTime;
 import java.util.*;
@@ -44,6 +52,7 @@ import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(LectureController.class)
@@ -84,6 +93,9 @@ class LectureControllerTest {
     @MockBean
     private StorageConfig storageConfig;
 
+    @MockBean
+    private OwnershipIndex ownershipIndex;
+
     private UUID userId;
     private UUID semesterId;
     private UUID courseId;
@@ -93,6 +105,7 @@ class LectureControllerTest {
     private SemesterOutput testSemesterOutput;
     private CourseOutput testCourseOutput;
     private LectureOutput testLectureOutput;
+    private LectureOwnershipOutput testLectureOwnership;
 
     @BeforeEach
     void setUp() {
@@ -138,6 +151,15 @@ class LectureControllerTest {
         testLectureOutput.setMaterialType("pdf");
         testLectureOutput.setNote(Map.of("content", "Test note content"));
 
+        // 권한 확인용 강의 메타데이터
+        testLectureOwnership = new LectureOwnershipOutput();
+        testLectureOwnership.setId(lectureId);
+        testLectureOwnership.setUserId(userId);
+        testLectureOwnership.setCourseId(courseId);
+
+        // @RequireOwner 소유자 확인 (기본: 인증된 사용자가 소유자)
+        when(ownershipIndex.findOwner(any(), any())).thenReturn(Optional.of(userId));
+
         // Configure StorageConfig mock
         when(storageConfig.getFullMaterialUrl(anyString()))
                 .thenAnswer(invocation -> {
@@ -156,9 +178,7 @@ class LectureControllerTest {
     @WithMockUser
     void getLecturesByCourseIdTest() throws Exception {
         // Given
-        when(courseService.findCourseById(courseId))
-                .thenReturn(Optional.of(testCourseOutput));
-        when(lectureService.findLecturesByCourseId(courseId))
+        when(lectureService.findLecturesByCourseId(courseId, Set.of()))
                 .thenReturn(new LectureListOutput(List.of(testLectureOutput)));
 
         // When & Then
@@ -171,8 +191,40 @@ class LectureControllerTest {
                 .andExpect(jsonPath("$.lectures[0].courseId").value(courseId.toString()))
                 .andExpect(jsonPath("$.lectures[0].materialUrl").value("https://example-cloudfront.net/test-key.pdf"));
 
-        verify(courseService).findCourseById(courseId);
-        verify(lectureService).findLecturesByCourseId(courseId);
+        verify(ownershipIndex).findOwner(OwnedResource.course, courseId);
+        // 권한 확인을 위해 과목(성적 계산 포함)을 조회하지 않음
+        verify(courseService, never()).findCourseById(any());
+        verify(lectureService).findLecturesByCourseId(courseId, Set.of());
+    }
+
+    @Test
+    @DisplayName("과목 내 강의 목록 조회 테스트 - fields로 요청한 jsonb 컬럼 포함")
+    @WithMockUser
+    void getLecturesByCourseIdWithFieldsTest() throws Exception {
+        // Given
+        when(lectureService.findLecturesByCourseId(courseId, Set.of(LectureField.summary, LectureField.parsedText)))
+                .thenReturn(new LectureListOutput(List.of(testLectureOutput)));
+
+        // When & Then
+        mockMvc.perform(get("/v1/lectures/course/{courseId}", courseId)
+                        .param("fields", "summary,parsedText"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.lectures", hasSize(1)))
+                .andExpect(jsonPath("$.lectures[0].parsedText.totalPages").value(2));
+
+        verify(lectureService).findLecturesByCourseId(courseId, Set.of(LectureField.summary, LectureField.parsedText));
+    }
+
+    @Test
+    @DisplayName("과목 내 강의 목록 조회 실패 테스트 - 지원하지 않는 field")
+    @WithMockUser
+    void getLecturesByCourseIdInvalidFieldTest() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/v1/lectures/course/{courseId}", courseId)
+                        .param("fields", "materialPath"))
+                .andExpect(status().isBadRequest());
+
+        verify(lectureService, never()).findLecturesByCourseId(any(), any());
     }
 
     @Test
@@ -180,16 +232,16 @@ class LectureControllerTest {
     @WithMockUser
     void getLecturesByCourseIdNotFoundTest() throws Exception {
         // Given
-        when(courseService.findCourseById(courseId))
+        when(ownershipIndex.findOwner(OwnedResource.course, courseId))
                 .thenReturn(Optional.empty());
 
         // When & Then
         mockMvc.perform(get("/v1/lectures/course/{courseId}", courseId))
                 .andExpect(status().isNotFound());
 
-        verify(courseService).findCourseById(courseId);
+        verify(ownershipIndex).findOwner(OwnedResource.course, courseId);
         // lectureService.findLecturesByCourseId(courseId) should not be called
-        verify(lectureService, never()).findLecturesByCourseId(courseId);
+        verify(lectureService, never()).findLecturesByCourseId(any(), any());
     }
 
     @Test
@@ -198,28 +250,16 @@ class LectureControllerTest {
     void getLecturesByCourseIdForbiddenTest() throws Exception {
         // Given
         UUID otherUserId = UUID.fromString("550e8400-e29b-41d4-a716-446655440001");
-        UUID otherSemesterId = UUID.randomUUID();
-        CourseOutput otherCourseOutput = new CourseOutput();
-        otherCourseOutput.setId(courseId);
-        otherCourseOutput.setUserId(otherUserId);
-        otherCourseOutput.setSemesterId(otherSemesterId);
-        otherCourseOutput.setName("운영체제");
-        otherCourseOutput.setTargetGrade(4.0f);
-        otherCourseOutput.setEarnedGrade(0.0f);
-        otherCourseOutput.setCompletedCredits(3);
-        otherCourseOutput.setCreatedAt(LocalDateTime.now());
-        otherCourseOutput.setUpdatedAt(LocalDateTime.now());
-
-        when(courseService.findCourseById(courseId))
-                .thenReturn(Optional.of(otherCourseOutput));
+        when(ownershipIndex.findOwner(OwnedResource.course, courseId))
+                .thenReturn(Optional.of(otherUserId));
 
         // When & Then
         mockMvc.perform(get("/v1/lectures/course/{courseId}", courseId))
                 .andExpect(status().isForbidden());
 
-        verify(courseService).findCourseById(courseId);
+        verify(ownershipIndex).findOwner(OwnedResource.course, courseId);
         // lectureService.findLecturesByCourseId(courseId) should not be called
-        verify(lectureService, never()).findLecturesByCourseId(courseId);
+        verify(lectureService, never()).findLecturesByCourseId(any(), any());
     }
 
     @Test
@@ -373,8 +413,8 @@ class LectureControllerTest {
         updatedLectureOutput.setMaterialType("updated_material_type");
         updatedLectureOutput.setParsedText(testParsedText);
 
-        when(lectureService.findLectureById(lectureId))
-                .thenReturn(Optional.of(testLectureOutput));
+        when(lectureService.findLectureOwnershipById(lectureId))
+                .thenReturn(Optional.of(testLectureOwnership));
         when(lectureService.updateLecture(any(UpdateLectureInput.class)))
                 .thenReturn(updatedLectureOutput);
 
@@ -389,7 +429,8 @@ class LectureControllerTest {
                 .andExpect(jsonPath("$.courseId").value(courseId.toString()))
                 .andExpect(jsonPath("$.materialUrl").value("https://example-cloudfront.net/updated_material_path"));
 
-        verify(lectureService).findLectureById(lectureId);
+        verify(lectureService).findLectureOwnershipById(lectureId);
+        verify(lectureService, never()).findLectureById(any());
         verify(lectureService).updateLecture(argThat(input ->
                 input.getTitle().equals("Updated Lecture Title")
         ));
@@ -413,8 +454,8 @@ class LectureControllerTest {
         updatedLectureOutput.setParsedText(testParsedText);
         updatedLectureOutput.setNote(Map.of("content", "새로운 노트 내용"));
 
-        when(lectureService.findLectureById(lectureId))
-                .thenReturn(Optional.of(testLectureOutput));
+        when(lectureService.findLectureOwnershipById(lectureId))
+                .thenReturn(Optional.of(testLectureOwnership));
         when(lectureService.updateLectureNote(any(UpdateLectureNoteInput.class)))
                 .thenReturn(updatedLectureOutput);
 
@@ -427,7 +468,8 @@ class LectureControllerTest {
                 .andExpect(jsonPath("$.title").value(testLectureOutput.getTitle()))
                 .andExpect(jsonPath("$.note.content").value("새로운 노트 내용"));
 
-        verify(lectureService).findLectureById(lectureId);
+        verify(lectureService).findLectureOwnershipById(lectureId);
+        verify(lectureService, never()).findLectureById(any());
         verify(lectureService).updateLectureNote(argThat(input ->
                 input.getId().equals(lectureId) &&
                         input.getNote().equals(Map.of("content", "새로운 노트 내용"))
@@ -439,26 +481,24 @@ class LectureControllerTest {
     @DisplayName("강의 삭제")
     @WithMockUser
     void deleteLectureTest() throws Exception {
-        // Given
-        when(lectureService.findLectureById(lectureId))
-                .thenReturn(Optional.of(testLectureOutput));
-
         // When & Then
         mockMvc.perform(delete("/v1/lectures/{id}", lectureId))
                 .andExpect(status().isNoContent());
 
-        verify(lectureService).findLectureById(lectureId);
+        verify(ownershipIndex).findOwner(OwnedResource.lecture, lectureId);
+        verify(lectureService, never()).findLectureOwnershipById(any());
+        verify(lectureService, never()).findLectureById(any());
         verify(lectureService).deleteLecture(lectureId);
     }
 
-    // ===== Summary 변환 테스트 메서드들 (LectureControllerTest.java 하단에 추가) =====
+    // ===== Summary 변환 테스트 =====
 
     @Test
     @DisplayName("Summary 변환 테스트 - 완전한 데이터")
     @WithMockUser
-    void convertMapToSummaryCompleteDataTest() throws Exception {
-        // Given - Python에서 생성될 수 있는 완전한 Summary 데이터 구조
-        Map<String, Object> summaryMap = createCompleteSummaryMap();
+    void summaryCompleteDataTest() throws Exception {
+        // Given - Python에서 생성되는 완전한 Summary 데이터 구조
+        LectureSummary summary = createCompleteSummary();
 
         LectureOutput lectureWithSummary = new LectureOutput();
         lectureWithSummary.setId(lectureId);
@@ -467,7 +507,7 @@ class LectureControllerTest {
         lectureWithSummary.setTitle("운영체제 개론");
         lectureWithSummary.setMaterialPath("os-lecture.pdf");
         lectureWithSummary.setMaterialType("pdf");
-        lectureWithSummary.setSummary(summaryMap);
+        lectureWithSummary.setSummary(summary);
         lectureWithSummary.setParsedText(testParsedText);
         lectureWithSummary.setCreatedAt(LocalDateTime.now());
         lectureWithSummary.setUpdatedAt(LocalDateTime.now());
@@ -506,9 +546,9 @@ class LectureControllerTest {
     @Test
     @DisplayName("Summary 변환 테스트 - 부분 데이터")
     @WithMockUser
-    void convertMapToSummaryPartialDataTest() throws Exception {
+    void summaryPartialDataTest() throws Exception {
         // Given - 일부 필드만 있는 Summary 데이터
-        Map<String, Object> partialSummaryMap = createPartialSummaryMap();
+        LectureSummary partialSummary = createPartialSummary();
 
         LectureOutput lectureWithPartialSummary = new LectureOutput();
         lectureWithPartialSummary.setId(lectureId);
@@ -517,7 +557,7 @@ class LectureControllerTest {
         lectureWithPartialSummary.setTitle("데이터베이스 기초");
         lectureWithPartialSummary.setMaterialPath("db-lecture.pdf");
         lectureWithPartialSummary.setMaterialType("pdf");
-        lectureWithPartialSummary.setSummary(partialSummaryMap);
+        lectureWithPartialSummary.setSummary(partialSummary);
         lectureWithPartialSummary.setParsedText(testParsedText);
         lectureWithPartialSummary.setCreatedAt(LocalDateTime.now());
         lectureWithPartialSummary.setUpdatedAt(LocalDateTime.now());
@@ -539,7 +579,7 @@ class LectureControllerTest {
     @Test
     @DisplayName("Summary 변환 테스트 - null Summary")
     @WithMockUser
-    void convertMapToSummaryNullTest() throws Exception {
+    void summaryNullTest() throws Exception {
         // Given - Summary가 null인 경우
         LectureOutput lectureWithNullSummary = new LectureOutput();
         lectureWithNullSummary.setId(lectureId);
@@ -565,31 +605,36 @@ class LectureControllerTest {
     }
 
     @Test
-    @DisplayName("Summary 변환 테스트 - 잘못된 데이터 타입")
+    @DisplayName("Summary 변환 테스트 - 누락된 필드")
     @WithMockUser
-    void convertMapToSummaryInvalidDataTest() throws Exception {
-        // Given - 잘못된 타입의 데이터가 포함된 Summary
-        Map<String, Object> invalidSummaryMap = createInvalidSummaryMap();
-
-        LectureOutput lectureWithInvalidSummary = new LectureOutput();
-        lectureWithInvalidSummary.setId(lectureId);
-        lectureWithInvalidSummary.setUserId(userId);
-        lectureWithInvalidSummary.setCourseId(courseId);
-        lectureWithInvalidSummary.setTitle("잘못된 데이터 타입 테스트");
-        lectureWithInvalidSummary.setMaterialPath("invalid-data.pdf");
-        lectureWithInvalidSummary.setMaterialType("pdf");
-        lectureWithInvalidSummary.setSummary(invalidSummaryMap);
-        lectureWithInvalidSummary.setParsedText(testParsedText);
-        lectureWithInvalidSummary.setCreatedAt(LocalDateTime.now());
-        lectureWithInvalidSummary.setUpdatedAt(LocalDateTime.now());
+    void summaryMissingFieldsTest() throws Exception {
+        // Given - metadata, keywords, topics 등이 없는 Summary
+        LectureSummary summary = objectMapper.readValue(
+                "{\"overview\": \"개요만 있는 요약\", \"topics\": null}", LectureSummary.class);
+
+        LectureOutput lectureWithMissingFields = new LectureOutput();
+        lectureWithMissingFields.setId(lectureId);
+        lectureWithMissingFields.setUserId(userId);
+        lectureWithMissingFields.setCourseId(courseId);
+        lectureWithMissingFields.setTitle("누락된 필드 테스트");
+        lectureWithMissingFields.setMaterialPath("missing-fields.pdf");
+        lectureWithMissingFields.setMaterialType("pdf");
+        lectureWithMissingFields.setSummary(summary);
+        lectureWithMissingFields.setParsedText(testParsedText);
+        lectureWithMissingFields.setCreatedAt(LocalDateTime.now());
+        lectureWithMissingFields.setUpdatedAt(LocalDateTime.now());
 
         when(lectureService.findLectureById(lectureId))
-                .thenReturn(Optional.of(lectureWithInvalidSummary));
+                .thenReturn(Optional.of(lectureWithMissingFields));
 
-        // When & Then - 잘못된 데이터가 있어도 오류 없이 처리되는지 확인
+        // When & Then - 누락된 목록은 빈 배열로 반환되는지 확인
         mockMvc.perform(get("/v1/lectures/{id}", lectureId))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.summary").isEmpty()); // 변환 실패 시 null 반환
+                .andExpect(jsonPath("$.summary.overview").value("개요만 있는 요약"))
+                .andExpect(jsonPath("$.summary.metadata").isEmpty())
+                .andExpect(jsonPath("$.summary.keywords", hasSize(0)))
+                .andExpect(jsonPath("$.summary.topics", hasSize(0)))
+                .andExpect(jsonPath("$.summary.additionalReferences", hasSize(0)));
 
         verify(lectureService).findLectureById(lectureId);
     }
@@ -597,157 +642,70 @@ class LectureControllerTest {
     // ===== 테스트 헬퍼 메서드들 =====
 
     /**
-     * 완전한 Summary 데이터 맵 생성
-     */
-    private Map<String, Object> createCompleteSummaryMap() {
-        Map<String, Object> summaryMap = new HashMap<>();
-
-        // Metadata
-        Map<String, Object> metadata = new HashMap<>();
-        metadata.put("model", "gpt-4");
-        metadata.put("created_at", "2024-05-22T10:30:00Z");
-        summaryMap.put("metadata", metadata);
-
-        // Overview
-        summaryMap.put("overview", "운영체제의 기본 개념과 프로세스 관리에 대해 다룹니다.");
-
-        // Keywords
-        List<Map<String, Object>> keywords = new ArrayList<>();
-
-        Map<String, Object> keyword1 = new HashMap<>();
-        keyword1.put("keyword", "프로세스");
-        keyword1.put("description", "실행 중인 프로그램의 인스턴스");
-        keyword1.put("relevance", 0.95);
-        Map<String, Object> pageRange1 = new HashMap<>();
-        pageRange1.put("start_page", 1);
-        pageRange1.put("end_page", 3);
-        keyword1.put("page_range", pageRange1);
-        keywords.add(keyword1);
-
-        Map<String, Object> keyword2 = new HashMap<>();
-        keyword2.put("keyword", "스케줄링");
-        keyword2.put("description", "CPU 시간 할당 알고리즘");
-        keyword2.put("relevance", 0.88);
-        Map<String, Object> pageRange2 = new HashMap<>();
-        pageRange2.put("start_page", 4);
-        pageRange2.put("end_page", 6);
-        keyword2.put("page_range", pageRange2);
-        keywords.add(keyword2);
-
-        summaryMap.put("keywords", keywords);
-
-        // Topics
-        List<Map<String, Object>> topics = new ArrayList<>();
-
-        Map<String, Object> topic1 = new HashMap<>();
-        topic1.put("title", "프로세스 관리");
-        topic1.put("description", "프로세스의 생성, 종료, 상태 변화");
-        Map<String, Object> topicPageRange1 = new HashMap<>();
-        topicPageRange1.put("start_page", 1);
-        topicPageRange1.put("end_page", 5);
-        topic1.put("page_range", topicPageRange1);
-        topic1.put("additional_details", List.of("프로세스 제어 블록", "컨텍스트 스위칭"));
-
-        // Sub-topics
-        List<Map<String, Object>> subTopics = new ArrayList<>();
-        Map<String, Object> subTopic1 = new HashMap<>();
-        subTopic1.put("title", "프로세스 상태");
-        subTopic1.put("description", "Ready, Running, Waiting 상태");
-        Map<String, Object> subTopicPageRange = new HashMap<>();
-        subTopicPageRange.put("start_page", 2);
-        subTopicPageRange.put("end_page", 3);
-        subTopic1.put("page_range", subTopicPageRange);
-        subTopic1.put("additional_details", List.of());
-        subTopic1.put("sub_topics", List.of());
-        subTopics.add(subTopic1);
-
-        topic1.put("sub_topics", subTopics);
-        topics.add(topic1);
-
-        Map<String, Object> topic2 = new HashMap<>();
-        topic2.put("title", "메모리 관리");
-        topic2.put("description", "가상 메모리와 페이징");
-        Map<String, Object> topicPageRange2 = new HashMap<>();
-        topicPageRange2.put("start_page", 6);
-        topicPageRange2.put("end_page", 10);
-        topic2.put("page_range", topicPageRange2);
-        topic2.put("additional_details", List.of());
-        topic2.put("sub_topics", List.of());
-        topics.add(topic2);
-
-        summaryMap.put("topics", topics);
-
-        // Additional References
-        summaryMap.put("additional_references", List.of(
-                "Silberschatz, Operating System Concepts",
-                "Tanenbaum, Modern Operating Systems"
-        ));
-
-        return summaryMap;
-    }
-
-    /**
-     * 부분 Summary 데이터 맵 생성
+     * DB(jsonb)에 저장되는 형식(snake_case)의 완전한 Summary 생성
      */
-    private Map<String, Object> createPartialSummaryMap() {
-        Map<String, Object> summaryMap = new HashMap<>();
-
-        summaryMap.put("overview", "데이터베이스의 기본 개념");
-
-        // Keywords만 하나 있음
-        List<Map<String, Object>> keywords = new ArrayList<>();
-        Map<String, Object> keyword = new HashMap<>();
-        keyword.put("keyword", "SQL");
-        keyword.put("description", "구조화된 질의 언어");
-        keyword.put("relevance", 0.9);
-        Map<String, Object> pageRange = new HashMap<>();
-        pageRange.put("start_page", 1);
-        pageRange.put("end_page", 2);
-        keyword.put("page_range", pageRange);
-        keywords.add(keyword);
-        summaryMap.put("keywords", keywords);
-
-        // topics와 additional_references는 빈 배열
-        summaryMap.put("topics", List.of());
-        summaryMap.put("additional_references", List.of());
-
-        return summaryMap;
+    private LectureSummary createCompleteSummary() throws Exception {
+        String json = """
+                {
+                  "metadata": {
+                    "model": "gpt-4",
+                    "created_at": "2024-05-22T10:30:00Z",
+                    "chunk_info": {"chunk_id": 0, "total_chunks": 1, "start_page": 1, "end_page": 10}
+                  },
+                  "overview": "운영체제의 기본 개념과 프로세스 관리에 대해 다룹니다.",
+                  "keywords": [
+                    {"keyword": "프로세스", "description": "실행 중인 프로그램의 인스턴스", "relevance": 0.95,
+                     "page_range": {"start_page": 1, "end_page": 3}},
+                    {"keyword": "스케줄링", "description": "CPU 시간 할당 알고리즘", "relevance": 0.88,
+                     "page_range": {"start_page": 4, "end_page": 6}}
+                  ],
+                  "topics": [
+                    {"title": "프로세스 관리", "description": "프로세스의 생성, 종료, 상태 변화",
+                     "page_range": {"start_page": 1, "end_page": 5},
+                     "additional_details": ["프로세스 제어 블록", "컨텍스트 스위칭"],
+                     "sub_topics": [
+                       {"title": "프로세스 상태", "description": "Ready, Running, Waiting 상태",
+                        "page_range": {"start_page": 2, "end_page": 3},
+                        "additional_details": [], "sub_topics": []}
+                     ]},
+                    {"title": "메모리 관리", "description": "가상 메모리와 페이징",
+                     "page_range": {"start_page": 6, "end_page": 10},
+                     "additional_details": [], "sub_topics": []}
+                  ],
+                  "additional_references": [
+                    "Silberschatz, Operating System Concepts",
+                    "Tanenbaum, Modern Operating Systems"
+                  ]
+                }
+                """;
+        return objectMapper.readValue(json, LectureSummary.class);
     }
 
     /**
-     * 잘못된 타입의 데이터가 포함된 Summary 맵 생성
+     * 부분 Summary 생성
      */
-    private Map<String, Object> createInvalidSummaryMap() {
-        Map<String, Object> summaryMap = new HashMap<>();
-
-        // 잘못된 타입들
-        summaryMap.put("metadata", "잘못된 문자열"); // Map이어야 하는데 String
-        summaryMap.put("overview", 12345); // String이어야 하는데 Integer
-        summaryMap.put("keywords", "잘못된 키워드"); // List여야 하는데 String
-        summaryMap.put("topics", null); // null
-
-        return summaryMap;
+    private LectureSummary createPartialSummary() {
+        // Keywords만 하나 있고 topics와 additional_references는 빈 배열
+        return new LectureSummary(
+                null,
+                "데이터베이스의 기본 개념",
+                List.of(new LectureSummary.Keyword("SQL", "구조화된 질의 언어", 0.9f,
+                        new LectureSummary.PageRange(1, 2))),
+                List.of(),
+                List.of()
+        );
     }
 
     @Test
     @DisplayName("강의 미리보기 조회 테스트 - 키워드 포함")
     @WithMockUser
     void getLecturePreviewByIdTest() throws Exception {
-        // Given - 키워드가 포함된 Summary 데이터
-        Map<String, Object> summaryMap = createCompleteSummaryMap();
+        // Given - 키워드만 조회한 미리보기 데이터
+        LecturePreviewOutput preview = new LecturePreviewOutput(
+                lectureId, userId, "운영체제 개론", createCompleteSummary().keywords());
 
-        LectureOutput lectureWithSummary = new LectureOutput();
-        lectureWithSummary.setId(lectureId);
-        lectureWithSummary.setUserId(userId);
-        lectureWithSummary.setCourseId(courseId);
-        lectureWithSummary.setTitle("운영체제 개론");
-        lectureWithSummary.setMaterialPath("os-lecture.pdf");
-        lectureWithSummary.setMaterialType("pdf");
-        lectureWithSummary.setSummary(summaryMap);
-        lectureWithSummary.setParsedText(testParsedText);
-
-        when(lectureService.findLectureById(lectureId))
-                .thenReturn(Optional.of(lectureWithSummary));
+        when(lectureService.findLecturePreviewById(lectureId))
+                .thenReturn(Optional.of(preview));
 
         // When & Then - Preview API가 키워드를 포함해서 반환하는지 확인
         mockMvc.perform(get("/v1/lectures/{id}/preview", lectureId))
@@ -764,29 +722,19 @@ class LectureControllerTest {
                 .andExpect(jsonPath("$.keywords[1].description").value("CPU 시간 할당 알고리즘"))
                 .andExpect(jsonPath("$.keywords[1].relevance").value(0.88));
 
-        verify(lectureService).findLectureById(lectureId);
+        verify(lectureService).findLecturePreviewById(lectureId);
+        verify(lectureService, never()).findLectureById(any());
     }
 
     @Test
     @DisplayName("강의 미리보기 조회 테스트 - 키워드 없음")
     @WithMockUser
     void getLecturePreviewByIdNoKeywordsTest() throws Exception {
-        // Given - 키워드가 없는 Summary 데이터
-        Map<String, Object> summaryMap = new HashMap<>();
-        summaryMap.put("overview", "키워드가 없는 강의");
-        summaryMap.put("keywords", List.of()); // 빈 키워드 리스트
-
-        LectureOutput lectureWithoutKeywords = new LectureOutput();
-        lectureWithoutKeywords.setId(lectureId);
-        lectureWithoutKeywords.setUserId(userId);
-        lectureWithoutKeywords.setCourseId(courseId);
-        lectureWithoutKeywords.setTitle("키워드 없는 강의");
-        lectureWithoutKeywords.setSummary(summaryMap);
-        lectureWithoutKeywords.setCreatedAt(LocalDateTime.now());
-        lectureWithoutKeywords.setUpdatedAt(LocalDateTime.now());
+        // Given - 키워드가 빈 리스트인 경우
+        LecturePreviewOutput preview = new LecturePreviewOutput(lectureId, userId, "키워드 없는 강의", List.of());
 
-        when(lectureService.findLectureById(lectureId))
-                .thenReturn(Optional.of(lectureWithoutKeywords));
+        when(lectureService.findLecturePreviewById(lectureId))
+                .thenReturn(Optional.of(preview));
 
         // When & Then - 키워드가 빈 배열로 반환되는지 확인
         mockMvc.perform(get("/v1/lectures/{id}/preview", lectureId))
@@ -795,25 +743,18 @@ class LectureControllerTest {
                 .andExpect(jsonPath("$.title").value("키워드 없는 강의"))
                 .andExpect(jsonPath("$.keywords", hasSize(0))); // 빈 배열
 
-        verify(lectureService).findLectureById(lectureId);
+        verify(lectureService).findLecturePreviewById(lectureId);
     }
 
     @Test
     @DisplayName("강의 미리보기 조회 테스트 - Summary 없음")
     @WithMockUser
     void getLecturePreviewByIdNoSummaryTest() throws Exception {
-        // Given - Summary가 null인 강의
-        LectureOutput lectureWithoutSummary = new LectureOutput();
-        lectureWithoutSummary.setId(lectureId);
-        lectureWithoutSummary.setUserId(userId);
-        lectureWithoutSummary.setCourseId(courseId);
-        lectureWithoutSummary.setTitle("요약이 없는 강의");
-        lectureWithoutSummary.setSummary(null); // null summary
-        lectureWithoutSummary.setCreatedAt(LocalDateTime.now());
-        lectureWithoutSummary.setUpdatedAt(LocalDateTime.now());
+        // Given - Summary가 없어 keywords가 null인 강의
+        LecturePreviewOutput preview = new LecturePreviewOutput(lectureId, userId, "요약이 없는 강의", null);
 
-        when(lectureService.findLectureById(lectureId))
-                .thenReturn(Optional.of(lectureWithoutSummary));
+        when(lectureService.findLecturePreviewById(lectureId))
+                .thenReturn(Optional.of(preview));
 
         // When & Then - Summary가 없어도 정상 처리되는지 확인
         mockMvc.perform(get("/v1/lectures/{id}/preview", lectureId))
@@ -822,7 +763,7 @@ class LectureControllerTest {
                 .andExpect(jsonPath("$.title").value("요약이 없는 강의"))
                 .andExpect(jsonPath("$.keywords", hasSize(0))); // 빈 배열
 
-        verify(lectureService).findLectureById(lectureId);
+        verify(lectureService).findLecturePreviewById(lectureId);
     }
 
     @Test
@@ -830,14 +771,14 @@ class LectureControllerTest {
     @WithMockUser
     void getLecturePreviewByIdNotFoundTest() throws Exception {
         // Given
-        when(lectureService.findLectureById(lectureId))
+        when(lectureService.findLecturePreviewById(lectureId))
                 .thenReturn(Optional.empty());
 
         // When & Then
         mockMvc.perform(get("/v1/lectures/{id}/preview", lectureId))
                 .andExpect(status().isNotFound());
 
-        verify(lectureService).findLectureById(lectureId);
+        verify(lectureService).findLecturePreviewById(lectureId);
     }
 
     @Test
@@ -846,49 +787,84 @@ class LectureControllerTest {
     void getLecturePreviewByIdForbiddenTest() throws Exception {
         // Given
         UUID otherUserId = UUID.fromString("550e8400-e29b-41d4-a716-446655440001");
-        LectureOutput forbiddenLectureOutput = new LectureOutput();
-        forbiddenLectureOutput.setId(lectureId);
-        forbiddenLectureOutput.setUserId(otherUserId); // 다른 사용자의 강의
-        forbiddenLectureOutput.setCourseId(courseId);
-        forbiddenLectureOutput.setTitle("권한이 없는 강의");
+        LecturePreviewOutput forbiddenPreview = new LecturePreviewOutput(
+                lectureId, otherUserId, "권한이 없는 강의", List.of()); // 다른 사용자의 강의
 
-        when(lectureService.findLectureById(lectureId))
-                .thenReturn(Optional.of(forbiddenLectureOutput));
+        when(lectureService.findLecturePreviewById(lectureId))
+                .thenReturn(Optional.of(forbiddenPreview));
 
         // When & Then
         mockMvc.perform(get("/v1/lectures/{id}/preview", lectureId))
                 .andExpect(status().isForbidden());
 
-        verify(lectureService).findLectureById(lectureId);
+        verify(lectureService).findLecturePreviewById(lectureId);
     }
 
     @Test
-    @DisplayName("강의 미리보기 조회 테스트 - 잘못된 키워드 데이터 처리")
+    @DisplayName("강의 페이지 범위 조회 테스트")
     @WithMockUser
-    void getLecturePreviewByIdInvalidKeywordDataTest() throws Exception {
-        // Given - 잘못된 키워드 데이터
-        Map<String, Object> summaryMap = new HashMap<>();
-        summaryMap.put("keywords", "잘못된 키워드 데이터"); // List가 아닌 String
-
-        LectureOutput lectureWithInvalidKeywords = new LectureOutput();
-        lectureWithInvalidKeywords.setId(lectureId);
-        lectureWithInvalidKeywords.setUserId(userId);
-        lectureWithInvalidKeywords.setCourseId(courseId);
-        lectureWithInvalidKeywords.setTitle("잘못된 키워드 데이터 테스트");
-        lectureWithInvalidKeywords.setSummary(summaryMap);
-        lectureWithInvalidKeywords.setCreatedAt(LocalDateTime.now());
-        lectureWithInvalidKeywords.setUpdatedAt(LocalDateTime.now());
+    void getLecturePagesTest() throws Exception {
+        // Given
+        doAnswer(invocation -> {
+            LecturePageSink sink = invocation.getArgument(3);
+            sink.begin(10);
+            sink.page(new ParsedPage(2, "Page 2 content"));
+            sink.page(new ParsedPage(3, "Page 3 content"));
+            return null;
+        }).when(lectureService).streamLecturePages(eq(lectureId), eq(2), eq(3), any(LecturePageSink.class));
+
+        // When
+        MvcResult mvcResult = mockMvc.perform(get("/v1/lectures/{id}/pages", lectureId)
+                        .param("from", "2")
+                        .param("to", "3"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total_pages").value(10))
+                .andExpect(jsonPath("$.pages", hasSize(2)))
+                .andExpect(jsonPath("$.pages[0].page_number").value(2))
+                .andExpect(jsonPath("$.pages[1].text").value("Page 3 content"));
+
+        verify(ownershipIndex).findOwner(OwnedResource.lecture, lectureId);
+        verify(lectureService).streamLecturePages(eq(lectureId), eq(2), eq(3), any(LecturePageSink.class));
+        verify(lectureService, never()).findLectureById(any());
+    }
 
-        when(lectureService.findLectureById(lectureId))
-                .thenReturn(Optional.of(lectureWithInvalidKeywords));
+    @Test
+    @DisplayName("강의 페이지 범위 조회 실패 테스트 - 잘못된 범위")
+    @WithMockUser
+    void getLecturePagesInvalidRangeTest() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/v1/lectures/{id}/pages", lectureId)
+                        .param("from", "5")
+                        .param("to", "3"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/v1/lectures/{id}/pages", lectureId)
+                        .param("from", "0"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/v1/lectures/{id}/pages", lectureId)
+                        .param("from", "1")
+                        .param("to", "100"))
+                .andExpect(status().isBadRequest());
 
-        // When & Then - 잘못된 데이터가 있어도 오류 없이 처리되는지 확인
-        mockMvc.perform(get("/v1/lectures/{id}/preview", lectureId))
-                .andExpect(status().isOk())
-                .andExpect(jsonPath("$.id").value(lectureId.toString()))
-                .andExpect(jsonPath("$.title").value("잘못된 키워드 데이터 테스트"))
-                .andExpect(jsonPath("$.keywords", hasSize(0))); // 변환 실패 시 빈 배열
+        verify(lectureService, never()).streamLecturePages(any(), anyInt(), anyInt(), any());
+    }
 
-        verify(lectureService).findLectureById(lectureId);
+    @Test
+    @DisplayName("강의 페이지 범위 조회 실패 테스트 - 다른 사용자의 강의")
+    @WithMockUser
+    void getLecturePagesForbiddenTest() throws Exception {
+        // Given
+        UUID otherUserId = UUID.fromString("550e8400-e29b-41d4-a716-446655440001");
+        when(ownershipIndex.findOwner(OwnedResource.lecture, lectureId)).thenReturn(Optional.of(otherUserId));
+
+        // When & Then
+        mockMvc.perform(get("/v1/lectures/{id}/pages", lectureId))
+                .andExpect(status().isForbidden());
+
+        verify(lectureService, never()).streamLecturePages(any(), anyInt(), anyInt(), any());
     }
 }
@@ -6,6 +6,7 @@ import com.example.api.exception.BadRequestException;
 import com.example.api.external.dto.langchain.ReferenceResponse;
 import com.example.api.repository.UserRepository;
 import com.example.api.security.jwt.JwtProvider;
+import com.example.api.security.ownership.OwnershipIndex;
 import com.example.api.service.QnaChatService;
 import com.example.api.service.dto.qna.*;
 import com.example.api.util.WithMockUser;
@@ -21,14 +22,22 @@ import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.result.MockMvcResultHandlers;
 
+import reactor.core.publisher.Flux;
+
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -50,6 +59,8 @@ class QnaChatControllerTest {
     private UserRepository userRepository;
     @MockBean
     private JwtProvider jwtProvider;
+    @MockBean
+    private OwnershipIndex ownershipIndex;
 
     private UUID FIXED_USER_ID;
     private UUID LECTURE_ID;
@@ -116,7 +127,7 @@ class QnaChatControllerTest {
                 )
         );
 
-        UUID nextCursor = MESSAGE_ID;
+        String nextCursor = new MessageCursor(LocalDateTime.now(), MESSAGE_ID).encode();
         boolean hasMore = false;
 
         GetQnaChatMessagesOutput output = new GetQnaChatMessagesOutput(
@@ -128,7 +139,7 @@ class QnaChatControllerTest {
 
         // When & Then
         mockMvc.perform(get("/v1/lectures/{lectureId}/qna-chat/messages", LECTURE_ID)
-                        .param("cursor", "550e8400-e29b-41d4-a716-446655440000")
+                        .param("cursor", "AAYgd6G8UIBVDoQA4p1B1KcWRGZVRAAC")
                         .param("limit", "20")
                         .accept(MediaType.APPLICATION_JSON))
                 .andDo(MockMvcResultHandlers.print())
@@ -147,7 +158,60 @@ class QnaChatControllerTest {
                 .andExpect(jsonPath("$.messages[1].references[0].text").value("출처1"))
                 .andExpect(jsonPath("$.messages[1].references[0].page").value(42))
                 .andExpect(jsonPath("$.hasMore").value(false))
-                .andExpect(jsonPath("$.nextCursor").value(nextCursor.toString()));
+                .andExpect(jsonPath("$.nextCursor").value(nextCursor));
+    }
+
+    @Test
+    @DisplayName("메시지 기록 스트리밍 조회 성공 - cursor 이전 메시지를 오래된 순으로 응답")
+    @WithMockUser
+    void streamMessageHistorySuccess() throws Exception {
+        // Given
+        MessageCursor cursor = new MessageCursor(LocalDateTime.of(2025, 5, 28, 4, 15, 30, 123456000), MESSAGE_ID);
+        when(qnaChatService.getQnaChatId(any(GetQnaChatIdInput.class))).thenReturn(new GetQnaChatIdOutput(CHAT_ID));
+        doAnswer(invocation -> {
+            QnaChatMessageSink sink = invocation.getArgument(2);
+            sink.message(new GetQnaChatMessagesOutput.MessageItem(
+                    UUID.randomUUID(), "user", "재귀 함수란 무엇인가요?", null, LocalDateTime.now(), false));
+            sink.message(new GetQnaChatMessagesOutput.MessageItem(
+                    UUID.randomUUID(), "assistant", "재귀 함수는 자기 자신을 호출하는 함수입니다.",
+                    List.of(new ReferenceResponse.ReferenceChunkResponse("출처1", 42)), LocalDateTime.now(), true));
+            return null;
+        }).when(qnaChatService).streamMessages(eq(CHAT_ID), eq(cursor), any(QnaChatMessageSink.class));
+
+        // When
+        MvcResult mvcResult = mockMvc.perform(get("/v1/lectures/{lectureId}/qna-chat/messages/history", LECTURE_ID)
+                        .param("cursor", cursor.encode()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.chatId").value(CHAT_ID.toString()))
+                .andExpect(jsonPath("$.messages.length()").value(2))
+                .andExpect(jsonPath("$.messages[0].role").value("user"))
+                .andExpect(jsonPath("$.messages[0].isLiked").value(false))
+                .andExpect(jsonPath("$.messages[1].role").value("assistant"))
+                .andExpect(jsonPath("$.messages[1].isLiked").value(true))
+                .andExpect(jsonPath("$.messages[1].references[0].text").value("출처1"));
+
+        verify(qnaChatService).streamMessages(eq(CHAT_ID), eq(cursor), any(QnaChatMessageSink.class));
+    }
+
+    @Test
+    @DisplayName("메시지 기록 스트리밍 조회 실패 - 잘못된 cursor")
+    @WithMockUser
+    void streamMessageHistoryInvalidCursor() throws Exception {
+        // Given
+        when(qnaChatService.getQnaChatId(any(GetQnaChatIdInput.class))).thenReturn(new GetQnaChatIdOutput(CHAT_ID));
+
+        // When & Then
+        mockMvc.perform(get("/v1/lectures/{lectureId}/qna-chat/messages/history", LECTURE_ID)
+                        .param("cursor", MESSAGE_ID.toString()))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("잘못된 cursor입니다"));
+
+        verify(qnaChatService, never()).streamMessages(any(), any(), any());
     }
 
     @Test
@@ -163,12 +227,14 @@ class QnaChatControllerTest {
                 )
         );
 
-        GetLikedMessagesOutput output = new GetLikedMessagesOutput(CHAT_ID, likedMessages);
+        String nextCursor = new MessageCursor(LocalDateTime.now(), MESSAGE_ID).encode();
+        GetLikedMessagesOutput output = new GetLikedMessagesOutput(CHAT_ID, likedMessages, true, nextCursor);
         when(qnaChatService.getLikedMessages(any(GetLikedMessagesInput.class)))
                 .thenReturn(output);
 
         // When & Then
         mockMvc.perform(get("/v1/lectures/{lectureId}/qna-chat/messages/liked", LECTURE_ID)
+                        .param("limit", "1")
                         .accept(MediaType.APPLICATION_JSON))
                 .andDo(MockMvcResultHandlers.print())
                 .andExpect(status().isOk())
@@ -177,7 +243,9 @@ class QnaChatControllerTest {
                 .andExpect(jsonPath("$.messages[0].role").value("assistant"))
                 .andExpect(jsonPath("$.messages[0].isLiked").value(true))
                 .andExpect(jsonPath("$.messages[0].references").isArray())
-                .andExpect(jsonPath("$.messages[0].references[0].text").value("출처1"));
+                .andExpect(jsonPath("$.messages[0].references[0].text").value("출처1"))
+                .andExpect(jsonPath("$.hasMore").value(true))
+                .andExpect(jsonPath("$.nextCursor").value(nextCursor));
     }
 
     @Test
@@ -220,6 +288,72 @@ class QnaChatControllerTest {
                 .andExpect(jsonPath("$.recommendedQuestions[0]").value("재귀 함수와 반복문의 차이점은?"));
     }
 
+    @Test
+    @DisplayName("질문 전송 성공 - SSE 스트리밍")
+    @WithMockUser
+    void streamMessageSuccess() throws Exception {
+        // Given
+        QnaChatMessageRequest request = new QnaChatMessageRequest("재귀 함수란 무엇인가요?");
+
+        List<ReferenceResponse.ReferenceChunkResponse> references = List.of(
+                new ReferenceResponse.ReferenceChunkResponse("재귀 함수는 자기 자신을 호출하는 함수입니다.", 42)
+        );
+
+        when(qnaChatService.askStream(any(QnaChatMessageInput.class))).thenReturn(Flux.just(
+                QnaChatStreamEvent.references(references),
+                QnaChatStreamEvent.token("재귀 함수는 "),
+                QnaChatStreamEvent.token("자기 자신을 호출하는 함수입니다."),
+                QnaChatStreamEvent.done(MESSAGE_ID, LocalDateTime.now()),
+                QnaChatStreamEvent.recommendations(List.of("재귀 함수와 반복문의 차이점은?"))
+        ));
+
+        // When
+        MvcResult mvcResult = mockMvc.perform(post("/v1/lectures/{lectureId}/qna-chat/messages/stream", LECTURE_ID)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.TEXT_EVENT_STREAM)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        String body = mockMvc.perform(asyncDispatch(mvcResult))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        int referencesIndex = body.indexOf("event:references");
+        int tokenIndex = body.indexOf("event:token");
+        int recommendationsIndex = body.indexOf("event:recommendations");
+        int doneIndex = body.indexOf("event:done");
+        assertTrue(referencesIndex >= 0 && referencesIndex < tokenIndex);
+        assertTrue(tokenIndex < doneIndex && doneIndex < recommendationsIndex);
+        assertTrue(body.contains("\"content\":\"자기 자신을 호출하는 함수입니다.\""));
+        assertTrue(body.contains(MESSAGE_ID.toString()));
+    }
+
+    @Test
+    @DisplayName("추천 질문 조회 성공")
+    @WithMockUser
+    void getRecommendedQuestionsSuccess() throws Exception {
+        // Given
+        GetRecommendedQuestionsOutput output = new GetRecommendedQuestionsOutput(
+                MESSAGE_ID, true, List.of("재귀 함수와 반복문의 차이점은?"));
+        when(qnaChatService.getRecommendedQuestions(any(GetRecommendedQuestionsInput.class)))
+                .thenReturn(output);
+
+        // When & Then
+        mockMvc.perform(get("/v1/lectures/{lectureId}/qna-chat/messages/{messageId}/recommended-questions",
+                        LECTURE_ID, MESSAGE_ID)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.messageId").value(MESSAGE_ID.toString()))
+                .andExpect(jsonPath("$.isReady").value(true))
+                .andExpect(jsonPath("$.recommendedQuestions[0]").value("재귀 함수와 반복문의 차이점은?"));
+    }
+
     @Test
     @DisplayName("좋아요 토글 성공 - 좋아요 추가")
     @WithMockUser
@@ -15,9 +15,10 @@ import com.example.api.entity.enums.SummaryStatus;
 import com.example.api.repository.UserRepository;
 import com.example.api.security.jwt.JwtAuthenticationFilter;
 import com.example.api.security.jwt.JwtProvider;
+import com.example.api.security.ownership.OwnershipIndex;
 import com.example.api.service.*;
 import com.example.api.service.dto.course.CourseOutput;
-import com.example.api.service.dto.lecture.LectureOutput;
+import com.example.api.service.dto.lecture.LectureOwnershipOutput;
 import com.example.api.service.dto.quiz.*;
 import com.example.api.service.dto.semester.SemesterOutput;
 import com.example.api.util.WithMockUser;
@@ -81,6 +82,9 @@ public class QuizControllerTest {
     @MockBean
     private JwtAuthenticationFilter jwtAuthenticationFilter;
 
+    @MockBean
+    private OwnershipIndex ownershipIndex;
+
     @MockBean
     private StorageService storageService;
 
@@ -96,7 +100,7 @@ public class QuizControllerTest {
 
     private SemesterOutput testSemesterOutput;
     private CourseOutput testCourseOutput;
-    private LectureOutput testLectureOutput;
+    private LectureOwnershipOutput testLectureOwnership;
     private QuizOutput testQuizOutput;
     private QuizResultOutput testQuizResultOutput;
     private QuizResultListOutput testQuizResultListOutput;
@@ -126,15 +130,11 @@ public class QuizControllerTest {
         testCourseOutput.setSemesterId(semesterId);
         testCourseOutput.setName("운영체제");
 
-        testLectureOutput = new LectureOutput();
-        testLectureOutput.setId(lectureId);
-        testLectureOutput.setUserId(userId);
-        testLectureOutput.setCourseId(courseId);
-        testLectureOutput.setTitle("Introduction to Operating Systems");
-        testLectureOutput.setMaterialPath("https://example.com/lecture/1");
-        testLectureOutput.setMaterialType("pdf");
-        testLectureOutput.setDisplayOrderLex("1");
-        testLectureOutput.setSummaryStatus(SummaryStatus.not_started);
+        testLectureOwnership = new LectureOwnershipOutput();
+        testLectureOwnership.setId(lectureId);
+        testLectureOwnership.setUserId(userId);
+        testLectureOwnership.setCourseId(courseId);
+        testLectureOwnership.setSummaryStatus(SummaryStatus.not_started);
 
         testQuizOutput = new QuizOutput();
         testQuizOutput.setId(quizId);
@@ -194,7 +194,7 @@ public class QuizControllerTest {
     @WithMockUser
     void getQuizzesByLecture() throws Exception {
         // given
-        when(lectureService.findLectureById(lectureId)).thenReturn(Optional.of(testLectureOutput));
+        when(lectureService.findLectureOwnershipById(lectureId)).thenReturn(Optional.of(testLectureOwnership));
         when(quizService.findQuizzesByLectureId(lectureId))
                 .thenReturn(new QuizListOutput(List.of(testQuizOutput)));
 
@@ -208,7 +208,7 @@ public class QuizControllerTest {
                 .andExpect(jsonPath("$.quizzes[0].title", is("Quiz 1")))
                 .andExpect(jsonPath("$.quizzes[0].status", is("not_started")));
 
-        verify(lectureService, times(1)).findLectureById(lectureId);
+        verify(lectureService, times(1)).findLectureOwnershipById(lectureId);
         verify(quizService, times(1)).findQuizzesByLectureId(lectureId);
     }
 
@@ -249,7 +249,7 @@ public class QuizControllerTest {
         when(courseService.findCourseById(courseId)).thenReturn(Optional.of(testCourseOutput));
         when(semesterService.findSemesterById(semesterId)).thenReturn(Optional.of(testSemesterOutput));
 
-        when(lectureService.findLectureById(lectureId)).thenReturn(Optional.of(testLectureOutput));
+        when(lectureService.findLectureOwnershipById(lectureId)).thenReturn(Optional.of(testLectureOwnership));
         when(quizService.createQuiz(any(CreateQuizInput.class))).thenReturn(testQuizOutput);
 
         // when, then
@@ -262,7 +262,7 @@ public class QuizControllerTest {
                 .andExpect(jsonPath("$.userId", is(userId.toString())))
                 .andExpect(jsonPath("$.title", is("Quiz 1")));
 
-        verify(lectureService, times(1)).findLectureById(lectureId);
+        verify(lectureService, times(1)).findLectureOwnershipById(lectureId);
         verify(quizService, times(1)).createQuiz(any(CreateQuizInput.class));
         verify(sqsClient, times(1)).sendGenerateQuizMessage(any());
     }
@@ -360,7 +360,7 @@ public class QuizControllerTest {
         createQuizRequest.setShortAnswerCount(1);
         createQuizRequest.setEssayCount(1);
 
-        when(lectureService.findLectureById(lectureId)).thenReturn(Optional.of(testLectureOutput));
+        when(lectureService.findLectureOwnershipById(lectureId)).thenReturn(Optional.of(testLectureOwnership));
 
         // when, then
         mockMvc.perform(post("/v1/quizzes")
@@ -368,7 +368,7 @@ public class QuizControllerTest {
                 .content(objectMapper.writeValueAsString(createQuizRequest)))
                 .andExpect(status().isBadRequest());
 
-        verify(lectureService, times(1)).findLectureById(lectureId);
+        verify(lectureService, times(1)).findLectureOwnershipById(lectureId);
         verify(quizService, never()).createQuiz(any(CreateQuizInput.class));
         verify(sqsClient, never()).sendGenerateQuizMessage(any());
     }
@@ -490,9 +490,9 @@ public class QuizControllerTest {
         likedQuizItem2.setQuestionType(QuestionType.true_or_false);
         likedQuizItem2.setIsLiked(true);
 
-        when(lectureService.findLectureById(lectureId)).thenReturn(Optional.of(testLectureOutput));
-        when(quizService.findLikedQuizItemByLectureId(lectureId))
-                .thenReturn(new QuizItemListOutput(List.of(likedQuizItem1, likedQuizItem2)));
+        when(lectureService.findLectureOwnershipById(lectureId)).thenReturn(Optional.of(testLectureOwnership));
+        when(quizService.findLikedQuizItemByLectureId(lectureId, null, 20))
+                .thenReturn(new LikedQuizItemListOutput(List.of(likedQuizItem1, likedQuizItem2), false, null));
 
         // when, then
         mockMvc.perform(get("/v1/quizzes/lecture/{lectureId}/items/liked", lectureId))
@@ -505,10 +505,46 @@ public class QuizControllerTest {
                 .andExpect(jsonPath("$.quizItems[1].id", is(quizItemId2.toString())))
                 .andExpect(jsonPath("$.quizItems[1].question", is("Is Java platform independent?")))
                 .andExpect(jsonPath("$.quizItems[1].questionType", is("true_or_false")))
-                .andExpect(jsonPath("$.quizItems[1].isLiked", is(true)));
+                .andExpect(jsonPath("$.quizItems[1].isLiked", is(true)))
+                .andExpect(jsonPath("$.hasMore", is(false)))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+
+        verify(lectureService, times(1)).findLectureOwnershipById(lectureId);
+        verify(quizService, times(1)).findLikedQuizItemByLectureId(lectureId, null, 20);
+    }
+
+    @Test
+    @DisplayName("강의별 좋아요한 퀴즈 문제 조회 - cursor로 다음 페이지 조회")
+    @WithMockUser
+    void getLikedQuizItemsByLecture_WithCursor() throws Exception {
+        // given
+        String cursor = "AAYgd6G8UIBVDoQA4p1B1KcWRGZVRAAC";
+        String nextCursor = "AAYgd6G8UIBVDoQA4p1B1KcWRGZVRAAB";
+        UUID quizItemId = UUID.randomUUID();
+
+        QuizItemOutput likedQuizItem = new QuizItemOutput();
+        likedQuizItem.setId(quizItemId);
+        likedQuizItem.setQuizId(quizId);
+        likedQuizItem.setUserId(userId);
+        likedQuizItem.setQuestion("What is JVM?");
+        likedQuizItem.setQuestionType(QuestionType.short_answer);
+        likedQuizItem.setIsLiked(true);
+
+        when(lectureService.findLectureOwnershipById(lectureId)).thenReturn(Optional.of(testLectureOwnership));
+        when(quizService.findLikedQuizItemByLectureId(lectureId, cursor, 1))
+                .thenReturn(new LikedQuizItemListOutput(List.of(likedQuizItem), true, nextCursor));
+
+        // when, then
+        mockMvc.perform(get("/v1/quizzes/lecture/{lectureId}/items/liked", lectureId)
+                        .param("cursor", cursor)
+                        .param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.quizItems", hasSize(1)))
+                .andExpect(jsonPath("$.quizItems[0].id", is(quizItemId.toString())))
+                .andExpect(jsonPath("$.hasMore", is(true)))
+                .andExpect(jsonPath("$.nextCursor", is(nextCursor)));
 
-        verify(lectureService, times(1)).findLectureById(lectureId);
-        verify(quizService, times(1)).findLikedQuizItemByLectureId(lectureId);
+        verify(quizService, times(1)).findLikedQuizItemByLectureId(lectureId, cursor, 1);
     }
 
     @Test
@@ -516,14 +552,14 @@ public class QuizControllerTest {
     @WithMockUser
     void getLikedQuizItemsByLecture_LectureNotFound() throws Exception {
         // given
-        when(lectureService.findLectureById(lectureId)).thenReturn(Optional.empty());
+        when(lectureService.findLectureOwnershipById(lectureId)).thenReturn(Optional.empty());
 
         // when, then
         mockMvc.perform(get("/v1/quizzes/lecture/{lectureId}/items/liked", lectureId))
                 .andExpect(status().isNotFound());
 
-        verify(lectureService, times(1)).findLectureById(lectureId);
-        verify(quizService, never()).findLikedQuizItemByLectureId(any(UUID.class));
+        verify(lectureService, times(1)).findLectureOwnershipById(lectureId);
+        verify(quizService, never()).findLikedQuizItemByLectureId(any(UUID.class), any(), anyInt());
     }
 
     @Test
@@ -531,20 +567,19 @@ public class QuizControllerTest {
     @WithMockUser
     void getLikedQuizItemsByLecture_Forbidden() throws Exception {
         // given
-        LectureOutput otherUserLecture = new LectureOutput();
+        LectureOwnershipOutput otherUserLecture = new LectureOwnershipOutput();
         otherUserLecture.setId(lectureId);
         otherUserLecture.setUserId(UUID.randomUUID()); // 다른 사용자의 강의
         otherUserLecture.setCourseId(courseId);
-        otherUserLecture.setTitle("Other User's Lecture");
 
-        when(lectureService.findLectureById(lectureId)).thenReturn(Optional.of(otherUserLecture));
+        when(lectureService.findLectureOwnershipById(lectureId)).thenReturn(Optional.of(otherUserLecture));
 
         // when, then
         mockMvc.perform(get("/v1/quizzes/lecture/{lectureId}/items/liked", lectureId))
                 .andExpect(status().isForbidden());
 
-        verify(lectureService, times(1)).findLectureById(lectureId);
-        verify(quizService, never()).findLikedQuizItemByLectureId(any(UUID.class));
+        verify(lectureService, times(1)).findLectureOwnershipById(lectureId);
+        verify(quizService, never()).findLikedQuizItemByLectureId(any(UUID.class), any(), anyInt());
     }
 
     @Test
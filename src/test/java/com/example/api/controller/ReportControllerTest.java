@@ -6,6 +6,7 @@ import com.example.api.controller.dto.report.ReportResponse;
 import com.example.api.repository.UserRepository;
 import com.example.api.security.jwt.JwtAuthenticationFilter;
 import com.example.api.security.jwt.JwtProvider;
+import com.example.api.security.ownership.OwnershipIndex;
 import com.example.api.service.QuizQuestionReportService;
 import com.example.api.service.ExamQuestionReportService;
 import com.example.api.service.dto.report.QuizQuestionReportOutput;
@@ -66,6 +67,9 @@ public class ReportControllerTest {
     @MockBean
     private JwtAuthenticationFilter jwtAuthenticationFilter;
 
+    @MockBean
+    private OwnershipIndex ownershipIndex;
+
     private UUID userId;
     private UUID quizId;
     private UUID quizItemId;
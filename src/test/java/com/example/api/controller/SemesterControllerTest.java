@@ -9,6 +9,8 @@ import com.example.api.entity.enums.Season;
 import com.example.api.repository.UserRepository;
 import com.example.api.security.jwt.JwtAuthenticationFilter;
 import com.example.api.security.jwt.JwtProvider;
+import com.example.api.security.ownership.OwnedResource;
+import com.example.api.security.ownership.OwnershipIndex;
 import com.example.api.service.SemesterService;
 import com.example.api.service.dto.semester.*;
 import com.example.api.util.WithMockUser;
@@ -63,6 +65,9 @@ class SemesterControllerTest {
     @MockBean
     private JwtAuthenticationFilter jwtAuthenticationFilter;
 
+    @MockBean
+    private OwnershipIndex ownershipIndex;
+
     private UUID userId;
     private UUID semesterId;
     private SemesterOutput testSemesterOutput;
@@ -91,6 +96,8 @@ class SemesterControllerTest {
         testSemesterListOutput = new SemesterListOutput(
                 Arrays.asList(testSemesterOutput)
         );
+
+        when(ownershipIndex.findOwner(any(), any())).thenReturn(Optional.of(userId));
     }
 
     @Test
@@ -564,15 +571,13 @@ class SemesterControllerTest {
     @WithMockUser
     void deleteSemester() throws Exception {
         // Given
-        when(semesterService.findSemesterById(semesterId))
-                .thenReturn(Optional.of(testSemesterOutput));
         doNothing().when(semesterService).deleteSemester(semesterId);
 
         // When/Then
         mockMvc.perform(delete("/v1/semesters/{id}", semesterId))
                 .andExpect(status().isNoContent());
 
-        verify(semesterService).findSemesterById(semesterId);
+        verify(ownershipIndex).findOwner(OwnedResource.semester, semesterId);
         verify(semesterService).deleteSemester(semesterId);
     }
 
@@ -581,14 +586,14 @@ class SemesterControllerTest {
     @WithMockUser
     void deleteSemester_NotFound() throws Exception {
         // Given
-        when(semesterService.findSemesterById(semesterId))
+        when(ownershipIndex.findOwner(OwnedResource.semester, semesterId))
                 .thenReturn(Optional.empty());
 
         // When/Then
         mockMvc.perform(delete("/v1/semesters/{id}", semesterId))
                 .andExpect(status().isNotFound());
 
-        verify(semesterService).findSemesterById(semesterId);
+        verify(ownershipIndex).findOwner(OwnedResource.semester, semesterId);
         verify(semesterService, never()).deleteSemester(any());
     }
 
@@ -598,29 +603,14 @@ class SemesterControllerTest {
     void deleteSemester_Forbidden() throws Exception {
         // Given
         UUID otherUserId = UUID.randomUUID();
-        SemesterOutput forbiddenSemesterOutput = new SemesterOutput(
-                semesterId,
-                otherUserId,
-                "2025 봄학기",
-                2025,
-                Season.spring,
-                null,
-                null,
-                null,
-                null,
-                null,
-                LocalDateTime.now(),
-                LocalDateTime.now()
-        );
-
-        when(semesterService.findSemesterById(semesterId))
-                .thenReturn(Optional.of(forbiddenSemesterOutput));
+        when(ownershipIndex.findOwner(OwnedResource.semester, semesterId))
+                .thenReturn(Optional.of(otherUserId));
 
         // When/Then
         mockMvc.perform(delete("/v1/semesters/{id}", semesterId))
                 .andExpect(status().isForbidden());
 
-        verify(semesterService).findSemesterById(semesterId);
+        verify(ownershipIndex).findOwner(OwnedResource.semester, semesterId);
         verify(semesterService, never()).deleteSemester(any());
     }
 }
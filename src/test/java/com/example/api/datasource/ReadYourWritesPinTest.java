@@ -0,0 +1,106 @@
+package com.example.api.datasource;
+
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ReadYourWritesPinTest {
+    private static final String SECRET = "test-read-your-writes-secret";
+    private static final Duration WINDOW = Duration.ofSeconds(10);
+
+    private ReadYourWritesPin writerInstance;
+    private ReadYourWritesPin otherInstance;
+    private UUID userId;
+
+    @BeforeEach
+    void setUp() {
+        writerInstance = new ReadYourWritesPin(SECRET, WINDOW);
+        otherInstance = new ReadYourWritesPin(SECRET, WINDOW);
+        userId = UUID.randomUUID();
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("쓰기를 커밋한 요청의 응답 쿠키로 다른 인스턴스에서도 primary에 고정")
+    void pinnedCookieIsHonoredByOtherInstance() {
+        MockHttpServletResponse writeResponse = new MockHttpServletResponse();
+        bindRequest(new MockHttpServletRequest(), writeResponse);
+        writerInstance.pin(userId);
+        Cookie cookie = writeResponse.getCookie(ReadYourWritesPin.COOKIE_NAME);
+        assertNotNull(cookie);
+
+        MockHttpServletRequest readRequest = new MockHttpServletRequest();
+        readRequest.setCookies(cookie);
+        bindRequest(readRequest, new MockHttpServletResponse());
+
+        assertTrue(otherInstance.isPinned(userId));
+        assertFalse(otherInstance.isPinned(UUID.randomUUID()));
+    }
+
+    @Test
+    @DisplayName("서명이 맞지 않거나 만료된 쿠키는 무시")
+    void tamperedOrExpiredCookieIsIgnored() throws Exception {
+        long future = System.currentTimeMillis() + WINDOW.toMillis();
+        MockHttpServletRequest tampered = new MockHttpServletRequest();
+        tampered.setCookies(new Cookie(ReadYourWritesPin.COOKIE_NAME, userId + "." + future + ".AAAA"));
+        bindRequest(tampered, new MockHttpServletResponse());
+        assertFalse(otherInstance.isPinned(userId));
+
+        ReadYourWritesPin expiredWriter = new ReadYourWritesPin(SECRET, Duration.ofMillis(1));
+        MockHttpServletResponse expiredResponse = new MockHttpServletResponse();
+        bindRequest(new MockHttpServletRequest(), expiredResponse);
+        expiredWriter.pin(userId);
+        Thread.sleep(20);
+        MockHttpServletRequest expired = new MockHttpServletRequest();
+        expired.setCookies(new Cookie(ReadYourWritesPin.COOKIE_NAME,
+                expiredResponse.getCookie(ReadYourWritesPin.COOKIE_NAME).getValue()));
+        bindRequest(expired, new MockHttpServletResponse());
+        assertFalse(otherInstance.isPinned(userId));
+    }
+
+    @Test
+    @DisplayName("요청이 없는 비동기 단계에서 사용자 ID로 고정하면 같은 인스턴스에서만 고정")
+    void pinWithoutRequestIsLocal() {
+        writerInstance.pin(userId);
+
+        bindRequest(new MockHttpServletRequest(), new MockHttpServletResponse());
+        assertTrue(writerInstance.isPinned(userId));
+        assertFalse(otherInstance.isPinned(userId));
+    }
+
+    @Test
+    @DisplayName("이미 응답을 보내기 시작한 요청에는 쿠키를 추가하지 않음")
+    void committedResponseIsNotModified() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        response.flushBuffer();
+        bindRequest(new MockHttpServletRequest(), response);
+
+        writerInstance.pin(userId);
+
+        assertNull(response.getHeader(HttpHeaders.SET_COOKIE));
+        assertTrue(writerInstance.isPinned(userId));
+    }
+
+    private void bindRequest(MockHttpServletRequest request, MockHttpServletResponse response) {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request, response));
+    }
+}
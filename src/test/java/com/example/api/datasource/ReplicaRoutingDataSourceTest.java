@@ -0,0 +1,93 @@
+package com.example.api.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+public class ReplicaRoutingDataSourceTest {
+    private static final String SERVICE_METHOD = "com.example.api.service.QuizServiceImpl.findQuizById";
+
+    private ReadYourWritesPin readYourWritesPin;
+    private ReplicaRoutingDataSource routingDataSource;
+    private UUID userId;
+
+    @BeforeEach
+    void setUp() {
+        readYourWritesPin = mock(ReadYourWritesPin.class);
+        routingDataSource = new ReplicaRoutingDataSource(
+                mock(DataSource.class), mock(DataSource.class), readYourWritesPin);
+        userId = UUID.randomUUID();
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(userId.toString(), null, List.of()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        TransactionSynchronizationManager.setCurrentTransactionName(null);
+    }
+
+    @Test
+    @DisplayName("서비스 계층의 읽기 전용 트랜잭션은 replica로 라우팅")
+    void readOnlyServiceTransactionUsesReplica() {
+        beginTransaction(SERVICE_METHOD, true);
+
+        assertEquals(ReplicaRoutingDataSource.REPLICA, routingDataSource.determineCurrentLookupKey());
+    }
+
+    @Test
+    @DisplayName("최근에 쓰기를 커밋한 사용자의 읽기 전용 트랜잭션은 primary로 라우팅")
+    void pinnedUserUsesPrimary() {
+        when(readYourWritesPin.isPinned(userId)).thenReturn(true);
+        beginTransaction(SERVICE_METHOD, true);
+
+        assertEquals(ReplicaRoutingDataSource.PRIMARY, routingDataSource.determineCurrentLookupKey());
+    }
+
+    @Test
+    @DisplayName("Spring Data 리포지토리의 기본 읽기 전용 트랜잭션과 트랜잭션 밖의 조회는 primary로 라우팅")
+    void repositoryAndNonTransactionalReadsUsePrimary() {
+        assertEquals(ReplicaRoutingDataSource.PRIMARY, routingDataSource.determineCurrentLookupKey());
+
+        beginTransaction("org.springframework.data.jpa.repository.support.SimpleJpaRepository.findById", true);
+
+        assertEquals(ReplicaRoutingDataSource.PRIMARY, routingDataSource.determineCurrentLookupKey());
+    }
+
+    @Test
+    @DisplayName("쓰기 트랜잭션은 primary로 라우팅하고 커밋 후 사용자를 primary에 고정")
+    void writeTransactionPinsUserAfterCommit() {
+        beginTransaction("com.example.api.service.QuizServiceImpl.toggleLikeQuizItem", false);
+
+        assertEquals(ReplicaRoutingDataSource.PRIMARY, routingDataSource.determineCurrentLookupKey());
+        verify(readYourWritesPin, never()).pin(any());
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        verify(readYourWritesPin).pin(userId);
+    }
+
+    private void beginTransaction(String name, boolean readOnly) {
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(readOnly);
+        TransactionSynchronizationManager.setCurrentTransactionName(name);
+    }
+}
@@ -0,0 +1,191 @@
+package com.example.api.datasource;
+
+import com.example.api.entity.School;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 한 요청 안에서 읽기 전용 서비스 트랜잭션 뒤에 쓰기 트랜잭션이 이어질 때 쓰기가 primary로 나가는지 확인합니다.
+ * replica는 hot standby처럼 SELECT 외의 쿼리를 거부하는 커넥션으로 대신하며,
+ * 요청 범위 EntityManager는 spring.jpa.open-in-view 설정에 따라 OpenEntityManagerInViewInterceptor와 같은 방식으로 바인딩합니다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import(ReplicaRoutingIntegrationTest.StandbyReplicaConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class ReplicaRoutingIntegrationTest {
+    private static final String READ_TRANSACTION = "com.example.api.service.QuizServiceImpl.findQuizById";
+    private static final String WRITE_TRANSACTION = "com.example.api.service.QuizServiceImpl.submitAndGradeQuizWithStatus";
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${spring.jpa.open-in-view:true}")
+    private boolean openInView;
+
+    private UUID schoolId;
+
+    @BeforeEach
+    void setUp() {
+        StandbyReplicaConfig.replicaQueries.set(0);
+        schoolId = UUID.randomUUID();
+    }
+
+    @AfterEach
+    void tearDown() {
+        transaction(WRITE_TRANSACTION, false).executeWithoutResult(status ->
+                entityManager.createQuery("DELETE FROM School s WHERE s.id = :id")
+                        .setParameter("id", schoolId)
+                        .executeUpdate());
+    }
+
+    @Test
+    @DisplayName("읽기 전용 서비스 트랜잭션 뒤의 쓰기 트랜잭션은 같은 요청 안에서도 primary로 실행")
+    void readOnlyThenWriteInOneRequest() {
+        inRequest(() -> {
+            // 퀴즈 조회와 같은 읽기 전용 서비스 트랜잭션 → replica
+            Long count = transaction(READ_TRANSACTION, true).execute(status ->
+                    entityManager.createQuery("SELECT COUNT(s) FROM School s", Long.class).getSingleResult());
+            assertNotNull(count);
+            assertTrue(StandbyReplicaConfig.replicaQueries.get() > 0);
+
+            // 같은 요청에서 이어지는 채점 결과 저장과 같은 쓰기 트랜잭션 → primary (replica였다면 SQLException)
+            transaction(WRITE_TRANSACTION, false).executeWithoutResult(status -> {
+                School school = new School();
+                school.setId(schoolId);
+                school.setName("Ajou University");
+                school.setCreatedAt(LocalDateTime.now());
+                school.setUpdatedAt(LocalDateTime.now());
+                entityManager.persist(school);
+            });
+        });
+
+        Long saved = transaction(WRITE_TRANSACTION, false).execute(status ->
+                entityManager.createQuery("SELECT COUNT(s) FROM School s WHERE s.id = :id", Long.class)
+                        .setParameter("id", schoolId)
+                        .getSingleResult());
+        assertEquals(1L, saved);
+    }
+
+    private void inRequest(Runnable request) {
+        if (!openInView) {
+            request.run();
+            return;
+        }
+        EntityManager requestEntityManager = entityManagerFactory.createEntityManager();
+        TransactionSynchronizationManager.bindResource(entityManagerFactory, new EntityManagerHolder(requestEntityManager));
+        try {
+            request.run();
+        } finally {
+            TransactionSynchronizationManager.unbindResource(entityManagerFactory);
+            requestEntityManager.close();
+        }
+    }
+
+    private TransactionTemplate transaction(String name, boolean readOnly) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setName(name);
+        template.setReadOnly(readOnly);
+        return template;
+    }
+
+    @TestConfiguration
+    static class StandbyReplicaConfig {
+        static final AtomicInteger replicaQueries = new AtomicInteger();
+
+        @Bean
+        @Primary
+        public DataSource dataSource(DataSourceProperties properties) {
+            DataSource primary = properties.initializeDataSourceBuilder().build();
+            ReplicaRoutingDataSource routingDataSource =
+                    new ReplicaRoutingDataSource(primary, new StandbyDataSource(primary), mock(ReadYourWritesPin.class));
+            routingDataSource.afterPropertiesSet();
+            return new LazyConnectionDataSourceProxy(routingDataSource);
+        }
+    }
+
+    // hot standby처럼 SELECT만 허용하는 커넥션을 돌려주는 DataSource
+    static class StandbyDataSource extends DelegatingDataSource {
+        private static final Pattern SQL_COMMENT = Pattern.compile("^\\s*/\\*.*?\\*/", Pattern.DOTALL);
+
+        StandbyDataSource(DataSource target) {
+            super(target);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return standby(super.getConnection());
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return standby(super.getConnection(username, password));
+        }
+
+        private Connection standby(Connection connection) {
+            return (Connection) Proxy.newProxyInstance(
+                    Connection.class.getClassLoader(),
+                    new Class<?>[]{Connection.class},
+                    (proxy, method, args) -> {
+                        if (method.getName().equals("prepareStatement") && args[0] instanceof String sql) {
+                            // use_sql_comments로 붙는 앞쪽 주석은 제외하고 판단
+                            String statement = SQL_COMMENT.matcher(sql).replaceFirst("").trim().toLowerCase(Locale.ROOT);
+                            if (!statement.startsWith("select")) {
+                                throw new SQLException("cannot execute statement in a read-only transaction: " + sql);
+                            }
+                            StandbyReplicaConfig.replicaQueries.incrementAndGet();
+                        }
+                        try {
+                            return method.invoke(connection, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getCause();
+                        }
+                    });
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.example.api.datasource;
+
+import com.example.api.entity.ExamItem;
+import com.example.api.entity.QuizItem;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SecondLevelCacheEvictions 테스트")
+class SecondLevelCacheEvictionsTest {
+
+    @Mock
+    private EntityManagerFactory entityManagerFactory;
+
+    @Mock
+    private Cache cache;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    private SecondLevelCacheEvictions evictions;
+    private UUID itemId1;
+    private UUID itemId2;
+
+    @BeforeEach
+    void setUp() {
+        evictions = new SecondLevelCacheEvictions(entityManagerFactory, redisTemplate);
+        itemId1 = UUID.randomUUID();
+        itemId2 = UUID.randomUUID();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서 제거하면 바로 제거하고, 커밋 후에 한 번 더 제거한 뒤 제거 메시지 발행")
+    void evict_PublishesAfterCommit() {
+        // Given
+        when(entityManagerFactory.getCache()).thenReturn(cache);
+        TransactionSynchronizationManager.initSynchronization();
+
+        // When
+        evictions.evict(QuizItem.class, List.of(itemId1, itemId2));
+
+        // Then
+        verify(cache).evict(QuizItem.class, itemId1);
+        verify(cache).evict(QuizItem.class, itemId2);
+        verify(redisTemplate, never()).convertAndSend(anyString(), any());
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        verify(cache, times(2)).evict(QuizItem.class, itemId1);
+        verify(redisTemplate).convertAndSend(SecondLevelCacheEvictions.CHANNEL, "QuizItem:" + itemId1 + "," + itemId2);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖에서 제거하면 바로 발행하고, Redis 발행 실패는 무시")
+    void evict_WithoutTransaction() {
+        // Given
+        when(entityManagerFactory.getCache()).thenReturn(cache);
+        when(redisTemplate.convertAndSend(anyString(), any()))
+                .thenThrow(new RedisConnectionFailureException("Connection refused"));
+
+        // When
+        evictions.evict(ExamItem.class, List.of(itemId1));
+
+        // Then
+        verify(cache, times(1)).evict(ExamItem.class, itemId1);
+        verify(redisTemplate).convertAndSend(SecondLevelCacheEvictions.CHANNEL, "ExamItem:" + itemId1);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스의 제거 메시지를 받으면 해당 엔티티를 2차 캐시에서 제거")
+    void onMessage_EvictsEntities() {
+        // Given
+        when(entityManagerFactory.getCache()).thenReturn(cache);
+
+        // When
+        evictions.onMessage(message("ExamItem:" + itemId1 + "," + itemId2), null);
+
+        // Then
+        verify(cache).evict(ExamItem.class, itemId1);
+        verify(cache).evict(ExamItem.class, itemId2);
+    }
+
+    @Test
+    @DisplayName("알 수 없는 엔티티나 잘못된 ID가 담긴 메시지는 무시")
+    void onMessage_IgnoresInvalidMessage() {
+        // When
+        evictions.onMessage(message("Semester:" + itemId1), null);
+        evictions.onMessage(message("QuizItem:not-a-uuid"), null);
+
+        // Then
+        verify(cache, never()).evict(any(Class.class), any());
+    }
+
+    private DefaultMessage message(String body) {
+        return new DefaultMessage(SecondLevelCacheEvictions.CHANNEL.getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,184 @@
+package com.example.api.external;
+
+import com.example.api.config.LangchainClientConfig;
+import com.example.api.entity.ParsedPage;
+import com.example.api.entity.ParsedText;
+import com.example.api.exception.InternalServerErrorException;
+import com.example.api.exception.NotFoundException;
+import com.example.api.external.dto.langchain.LectureEmbeddingResponse;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * LangchainClientConfig의 WebClient로 MockWebServer를 호출하여 요청 형식과 엔드포인트별 타임아웃/오류 변환을 확인합니다.
+ */
+@ExtendWith(SpringExtension.class)
+@Import({LangchainClientConfig.class, LangchainClientImpl.class, LangchainClientImplTest.TestConfig.class})
+@TestPropertySource(properties = {
+        "langchain.client.gzip-embedding-request=true",
+        "langchain.client.timeouts.references-ms=300",
+        "langchain.client.timeouts.embeddings-check-ms=300"
+})
+@DisplayName("LangchainClientImpl 테스트")
+class LangchainClientImplTest {
+
+    private static final MockWebServer server = new MockWebServer();
+
+    @TestConfiguration
+    static class TestConfig {
+        @Bean
+        public ObjectMapper objectMapper() {
+            return new ObjectMapper();
+        }
+    }
+
+    @DynamicPropertySource
+    static void langchainServerUrl(DynamicPropertyRegistry registry) {
+        registry.add("langchain.server.url", () -> "http://" + server.getHostName() + ":" + server.getPort());
+    }
+
+    @BeforeAll
+    static void startServer() throws IOException {
+        server.start();
+    }
+
+    @AfterAll
+    static void shutdownServer() throws IOException {
+        server.shutdown();
+    }
+
+    @Autowired
+    private LangchainClientImpl langchainClient;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    @DisplayName("벡터화 요청 - parsed_text를 gzip으로 압축하고 Content-Encoding 헤더를 붙여 전송")
+    void generateLectureEmbeddings_SendsGzipBody() throws Exception {
+        // Given
+        UUID lectureId = UUID.randomUUID();
+        ParsedText parsedText = new ParsedText(2, List.of(
+                new ParsedPage(1, "Page 1 content"),
+                new ParsedPage(2, "Page 2 content")));
+        server.enqueue(jsonResponse(200, "{\"message\": \"ok\", \"lecture_id\": \"" + lectureId + "\", \"total_chunks\": 3}"));
+
+        // When
+        LectureEmbeddingResponse response = langchainClient.generateLectureEmbeddings(lectureId, parsedText);
+
+        // Then
+        assertEquals(3, response.getTotalChunks());
+
+        RecordedRequest request = server.takeRequest(1, TimeUnit.SECONDS);
+        assertNotNull(request);
+        assertEquals("POST", request.getMethod());
+        assertEquals("/lectures/" + lectureId + "/embeddings", request.getPath());
+        assertEquals("gzip", request.getHeader(HttpHeaders.CONTENT_ENCODING));
+        assertTrue(request.getHeader(HttpHeaders.CONTENT_TYPE).startsWith(MediaType.APPLICATION_JSON_VALUE));
+
+        JsonNode body;
+        try (InputStream gzip = new GZIPInputStream(request.getBody().inputStream())) {
+            body = objectMapper.readTree(gzip);
+        }
+        assertEquals(2, body.path("parsed_text").path("total_pages").asInt());
+        assertEquals("Page 2 content", body.path("parsed_text").path("pages").get(1).path("text").asText());
+    }
+
+    @Test
+    @DisplayName("출처 조회 - 404 응답은 벡터 인덱스가 없다는 NotFoundException으로 변환")
+    void findReferencesInLecture_NotFound() throws Exception {
+        // Given
+        UUID lectureId = UUID.randomUUID();
+        server.enqueue(jsonResponse(404, "{\"detail\": \"Lecture index not found\"}"));
+
+        // When, Then
+        NotFoundException exception = assertThrows(NotFoundException.class,
+                () -> langchainClient.findReferencesInLecture(lectureId, "What is a process?", 3, 0.5));
+        assertEquals("강의자료 벡터 인덱스가 존재하지 않습니다.", exception.getMessage());
+
+        RecordedRequest request = server.takeRequest(1, TimeUnit.SECONDS);
+        assertNotNull(request);
+        assertEquals("/lectures/" + lectureId + "/references", request.getPath());
+    }
+
+    @Test
+    @DisplayName("출처 조회 - 5xx 응답은 InternalServerErrorException으로 변환")
+    void findReferencesInLecture_ServerError() throws Exception {
+        // Given
+        server.enqueue(jsonResponse(500, "{\"detail\": \"Internal Server Error\"}"));
+
+        // When, Then
+        assertThrows(InternalServerErrorException.class,
+                () -> langchainClient.findReferencesInLecture(UUID.randomUUID(), "What is a process?", 3, 0.5));
+        assertNotNull(server.takeRequest(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("출처 조회 - references 타임아웃을 넘기면 응답을 기다리지 않고 InternalServerErrorException으로 변환")
+    void findReferencesInLecture_Timeout() throws Exception {
+        // Given
+        server.enqueue(jsonResponse(200, "{\"references\": []}").setHeadersDelay(3, TimeUnit.SECONDS));
+
+        // When
+        long startedAt = System.nanoTime();
+        assertThrows(InternalServerErrorException.class,
+                () -> langchainClient.findReferencesInLecture(UUID.randomUUID(), "What is a process?", 3, 0.5));
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+        // Then
+        assertTrue(elapsedMs < 2000, "references 타임아웃(300ms) 안에 실패해야 함: " + elapsedMs + "ms");
+        assertNotNull(server.takeRequest(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("벡터화 상태 확인 - embeddings-check 타임아웃을 넘기면 예외 없이 null 반환")
+    void checkEmbeddingStatus_Timeout() throws Exception {
+        // Given
+        server.enqueue(jsonResponse(200, "{\"directory_exists\": true, \"loadable\": true, \"vector_count\": 10}")
+                .setHeadersDelay(3, TimeUnit.SECONDS));
+
+        // When
+        long startedAt = System.nanoTime();
+        var response = langchainClient.checkEmbeddingStatus(UUID.randomUUID());
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+        // Then
+        assertNull(response);
+        assertTrue(elapsedMs < 2000, "embeddings-check 타임아웃(300ms) 안에 반환해야 함: " + elapsedMs + "ms");
+        assertNotNull(server.takeRequest(1, TimeUnit.SECONDS));
+    }
+
+    private static MockResponse jsonResponse(int status, String body) {
+        return new MockResponse()
+                .setResponseCode(status)
+                .setHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .setBody(body);
+    }
+}
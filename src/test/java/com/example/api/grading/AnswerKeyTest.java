@@ -0,0 +1,112 @@
+package com.example.api.grading;
+
+import com.example.api.entity.QuizItem;
+import com.example.api.entity.enums.QuestionType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AnswerKeyTest {
+    private final ScoringPolicy standard = new StandardScoringPolicy();
+
+    @Test
+    @DisplayName("객관식 - 선택 순서와 중복에 상관없이 정답 집합과 같으면 정답")
+    void multipleChoiceIgnoresOrderAndDuplicates() {
+        UUID itemId = UUID.randomUUID();
+        AnswerKey answerKey = new AnswerKey.Builder(1, standard)
+                .add(itemId, QuestionType.multiple_choice, null, new Integer[]{0, 2}, null)
+                .build();
+
+        assertTrue(answerKey.isCorrect(itemId, null, new Integer[]{2, 0}, null));
+        assertTrue(answerKey.isCorrect(itemId, null, new Integer[]{2, 0, 2}, null));
+        assertFalse(answerKey.isCorrect(itemId, null, new Integer[]{0}, null));
+        assertFalse(answerKey.isCorrect(itemId, null, new Integer[]{0, 2, 3}, null));
+        assertFalse(answerKey.isCorrect(itemId, null, new Integer[]{0, 2, 100}, null));
+        assertFalse(answerKey.isCorrect(itemId, null, null, null));
+    }
+
+    @Test
+    @DisplayName("OX - 제출한 답이 정답과 같을 때만 정답")
+    void trueOrFalse() {
+        UUID itemId = UUID.randomUUID();
+        UUID noAnswerItemId = UUID.randomUUID();
+        AnswerKey answerKey = new AnswerKey.Builder(2, standard)
+                .add(itemId, QuestionType.true_or_false, false, null, null)
+                .add(noAnswerItemId, QuestionType.true_or_false, null, null, null)
+                .build();
+
+        assertTrue(answerKey.isCorrect(itemId, false, null, null));
+        assertFalse(answerKey.isCorrect(itemId, true, null, null));
+        assertFalse(answerKey.isCorrect(itemId, null, null, null));
+        assertFalse(answerKey.isCorrect(noAnswerItemId, false, null, null));
+    }
+
+    @Test
+    @DisplayName("단답형 - 공백, 대소문자, 전각 문자 차이는 무시")
+    void shortAnswerIsNormalized() {
+        UUID itemId = UUID.randomUUID();
+        AnswerKey answerKey = new AnswerKey.Builder(1, standard)
+                .add(itemId, QuestionType.short_answer, null, null, "Java Virtual Machine")
+                .build();
+
+        assertTrue(answerKey.isCorrect(itemId, null, null, "  java   virtual machine "));
+        assertTrue(answerKey.isCorrect(itemId, null, null, "ＪＡＶＡ Virtual Machine"));
+        assertFalse(answerKey.isCorrect(itemId, null, null, "Java Machine"));
+        assertFalse(answerKey.isCorrect(itemId, null, null, null));
+    }
+
+    @Test
+    @DisplayName("문제 유형별 배점과 총점 계산")
+    void pointsAndMaxScore() {
+        QuizItem trueOrFalse = quizItem(QuestionType.true_or_false);
+        QuizItem multipleChoice = quizItem(QuestionType.multiple_choice);
+        QuizItem shortAnswer = quizItem(QuestionType.short_answer);
+        QuizItem essay = quizItem(QuestionType.essay);
+
+        AnswerKey answerKey = AnswerKey.fromQuizItems(List.of(trueOrFalse, multipleChoice, shortAnswer, essay), standard);
+
+        assertEquals(1f, answerKey.points(trueOrFalse.getId()));
+        assertEquals(3f, answerKey.points(multipleChoice.getId()));
+        assertEquals(5f, answerKey.points(shortAnswer.getId()));
+        assertEquals(10f, answerKey.points(essay.getId()));
+        assertEquals(19f, answerKey.maxScore());
+        assertEquals(List.of(trueOrFalse.getId(), multipleChoice.getId(), shortAnswer.getId(), essay.getId()),
+                List.copyOf(answerKey.pointsByItemId().keySet()));
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 문제 유형은 예외 발생")
+    void unknownQuestionTypeThrows() {
+        assertThrows(IllegalArgumentException.class,
+                () -> AnswerKey.fromQuizItems(List.of(quizItem(QuestionType.custom)), standard));
+        assertThrows(IllegalArgumentException.class,
+                () -> AnswerKey.fromQuizItems(List.of(quizItem(null)), standard));
+    }
+
+    @Test
+    @DisplayName("부분 점수 정책 - 객관식은 맞힌 보기 수에서 틀린 보기 수를 뺀 비율만큼 점수 부여")
+    void partialCreditMultipleChoice() {
+        UUID itemId = UUID.randomUUID();
+        AnswerKey answerKey = new AnswerKey.Builder(1, new PartialCreditScoringPolicy())
+                .add(itemId, QuestionType.multiple_choice, null, new Integer[]{0, 2}, null)
+                .build();
+
+        assertEquals(3f, answerKey.score(itemId, null, new Integer[]{2, 0}, null));
+        assertEquals(1.5f, answerKey.score(itemId, null, new Integer[]{0}, null));
+        assertEquals(0f, answerKey.score(itemId, null, new Integer[]{0, 1}, null));
+        assertEquals(0f, answerKey.score(itemId, null, new Integer[]{0, 100}, null));
+        assertTrue(answerKey.isCorrect(itemId, null, new Integer[]{0, 2}, null));
+        assertFalse(answerKey.isCorrect(itemId, null, new Integer[]{0}, null));
+    }
+
+    private static QuizItem quizItem(QuestionType questionType) {
+        QuizItem quizItem = new QuizItem();
+        quizItem.setId(UUID.randomUUID());
+        quizItem.setQuestionType(questionType);
+        return quizItem;
+    }
+}
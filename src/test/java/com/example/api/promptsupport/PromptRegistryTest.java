@@ -0,0 +1,57 @@
+package com.example.api.promptsupport;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PromptRegistryTest {
+
+    @Test
+    @DisplayName("템플릿 렌더링 - 기존 String.replace 결과와 동일")
+    void renderMatchesReplace() {
+        PromptRegistry promptRegistry = new PromptRegistry(new MockEnvironment());
+        PromptTemplate template = PromptLoader.load(PromptPaths.QNA_ANSWER_V1);
+        String chunks = "재귀 함수는 자기 자신을 호출하는 함수입니다.";
+        String question = "재귀 함수란 무엇인가요?";
+
+        CompiledPrompt prompt = promptRegistry.get(PromptPaths.QNA_ANSWER);
+
+        assertEquals(template.getSystem().replace("{{chunks}}", chunks), prompt.renderSystem(Map.of("chunks", chunks)));
+        assertEquals(template.getUser().replace("{{question}}", question), prompt.renderUser(Map.of("question", question)));
+        assertEquals(template.getModel(), prompt.getModel());
+        assertEquals(template.getMax_tokens(), prompt.getMaxTokens());
+    }
+
+    @Test
+    @DisplayName("버전 조회 - 설정된 버전 사용")
+    void getConfiguredVersion() {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("prompts.versions." + PromptPaths.QNA_RECOMMEND_QUESTIONS, "v1");
+        PromptRegistry promptRegistry = new PromptRegistry(environment);
+
+        assertEquals("v1", promptRegistry.get(PromptPaths.QNA_RECOMMEND_QUESTIONS).getVersion());
+        assertEquals("v1", promptRegistry.get(PromptPaths.QNA_ANSWER, "v1").getVersion());
+    }
+
+    @Test
+    @DisplayName("버전 조회 실패 - 존재하지 않는 프롬프트")
+    void getUnknownPrompt() {
+        PromptRegistry promptRegistry = new PromptRegistry(new MockEnvironment());
+
+        assertThrows(IllegalArgumentException.class, () -> promptRegistry.get("unknown"));
+        assertThrows(IllegalArgumentException.class, () -> promptRegistry.get(PromptPaths.QNA_ANSWER, "v999"));
+    }
+
+    @Test
+    @DisplayName("템플릿 렌더링 - 값이 없는 치환자는 그대로 유지")
+    void renderKeepsUnknownPlaceholder() {
+        CompiledTemplate template = CompiledTemplate.compile("A {{x}} B {{ y }} C");
+
+        assertEquals("A 1 B {{y}} C", template.render(Map.of("x", "1")));
+        assertEquals("no placeholder", CompiledTemplate.compile("no placeholder").render(Map.of()));
+    }
+}
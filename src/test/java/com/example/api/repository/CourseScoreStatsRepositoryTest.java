@@ -0,0 +1,184 @@
+package com.example.api.repository;
+
+import com.example.api.entity.*;
+import com.example.api.entity.enums.AuthType;
+import com.example.api.entity.enums.Season;
+import com.example.api.entity.enums.Status;
+import com.example.api.entity.enums.SummaryStatus;
+import jakarta.persistence.EntityManager;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+public class CourseScoreStatsRepositoryTest {
+    @Autowired
+    private CourseScoreStatsRepository courseScoreStatsRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private User testUser;
+    private Course testCourse;
+    private Lecture testLecture;
+
+    @BeforeEach
+    void setUp() {
+        School testSchool = new School();
+        testSchool.setId(UUID.randomUUID());
+        testSchool.setName("Ajou University");
+        entityManager.persist(testSchool);
+
+        testUser = new User();
+        testUser.setId(UUID.randomUUID());
+        testUser.setSchool(testSchool);
+        testUser.setName("Test User");
+        testUser.setEmail("test@example.com");
+        testUser.setAuthType(AuthType.email);
+        testUser.setCreatedAt(LocalDateTime.now());
+        testUser.setUpdatedAt(LocalDateTime.now());
+        entityManager.persist(testUser);
+
+        Semester testSemester = new Semester();
+        testSemester.setId(UUID.randomUUID());
+        testSemester.setUser(testUser);
+        testSemester.setName("2025 봄학기");
+        testSemester.setYear(2025);
+        testSemester.setSeason(Season.spring);
+        entityManager.persist(testSemester);
+
+        testCourse = new Course();
+        testCourse.setId(UUID.randomUUID());
+        testCourse.setSemester(testSemester);
+        testCourse.setUser(testUser);
+        testCourse.setName("운영체제");
+        entityManager.persist(testCourse);
+
+        testLecture = new Lecture();
+        testLecture.setId(UUID.randomUUID());
+        testLecture.setCourse(testCourse);
+        testLecture.setUser(testUser);
+        testLecture.setTitle("Intro.");
+        testLecture.setMaterialPath("");
+        testLecture.setMaterialType("pdf");
+        testLecture.setDisplayOrderLex("");
+        testLecture.setSummaryStatus(SummaryStatus.not_started);
+        entityManager.persist(testLecture);
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("결과 추가 시 집계 행이 없으면 생성하고 결과 수와 백분율 합계를 누적")
+    void testAddResults() {
+        // when
+        courseScoreStatsRepository.addQuizResult(testCourse.getId(), 8f, 10f);
+        courseScoreStatsRepository.addQuizResult(testCourse.getId(), 45f, 50f);
+        courseScoreStatsRepository.addExamResult(testCourse.getId(), 30f, 40f);
+        // 총점이 0인 결과는 0%로 집계
+        courseScoreStatsRepository.addExamResult(testCourse.getId(), 0f, 0f);
+        entityManager.clear();
+
+        // then
+        CourseScoreStats stats = courseScoreStatsRepository.findById(testCourse.getId()).orElseThrow();
+        assertThat(stats.getQuizResultCount()).isEqualTo(2);
+        assertThat(stats.getQuizPercentageSum()).isCloseTo(170.0, within(0.001));
+        assertThat(stats.getQuizAverage()).isCloseTo(85f, within(0.001f));
+        assertThat(stats.getExamResultCount()).isEqualTo(2);
+        assertThat(stats.getExamAverage()).isCloseTo(37.5f, within(0.001f));
+    }
+
+    @Test
+    @DisplayName("재계산 시 삭제된 퀴즈/시험의 결과는 제외하고 결과 테이블 기준으로 집계")
+    void testRebuild() {
+        // given
+        Quiz quiz = quiz(null);
+        Quiz deletedQuiz = quiz(LocalDateTime.now());
+        quizResult(quiz, 6f, 10f);
+        quizResult(deletedQuiz, 10f, 10f);
+
+        Exam exam = new Exam();
+        exam.setId(UUID.randomUUID());
+        exam.setCourse(testCourse);
+        exam.setUser(testUser);
+        exam.setStatus(Status.graded);
+        entityManager.persist(exam);
+
+        ExamResult examResult = new ExamResult();
+        examResult.setExam(exam);
+        examResult.setUser(testUser);
+        examResult.setScore(18f);
+        examResult.setMaxScore(20f);
+        entityManager.persist(examResult);
+
+        // 증분 갱신과 어긋난 값
+        courseScoreStatsRepository.addQuizResult(testCourse.getId(), 1f, 10f);
+        entityManager.flush();
+
+        // when
+        courseScoreStatsRepository.rebuild(testCourse.getId());
+        entityManager.clear();
+
+        // then
+        CourseScoreStats stats = courseScoreStatsRepository.findById(testCourse.getId()).orElseThrow();
+        assertThat(stats.getQuizResultCount()).isEqualTo(1);
+        assertThat(stats.getQuizAverage()).isCloseTo(60f, within(0.001f));
+        assertThat(stats.getExamResultCount()).isEqualTo(1);
+        assertThat(stats.getExamAverage()).isCloseTo(90f, within(0.001f));
+    }
+
+    @Test
+    @DisplayName("전체 재계산 시 집계 행이 없는 과목도 생성")
+    void testRebuildAll() {
+        // given
+        quizResult(quiz(null), 7f, 10f);
+        entityManager.flush();
+
+        // when
+        int rebuilt = courseScoreStatsRepository.rebuildAll();
+        entityManager.clear();
+
+        // then
+        assertThat(rebuilt).isEqualTo(1);
+        CourseScoreStats stats = courseScoreStatsRepository.findById(testCourse.getId()).orElseThrow();
+        assertThat(stats.getQuizResultCount()).isEqualTo(1);
+        assertThat(stats.getQuizAverage()).isCloseTo(70f, within(0.001f));
+        assertThat(stats.getExamResultCount()).isZero();
+    }
+
+    private Quiz quiz(LocalDateTime deletedAt) {
+        Quiz quiz = new Quiz();
+        quiz.setId(UUID.randomUUID());
+        quiz.setLecture(testLecture);
+        quiz.setUser(testUser);
+        quiz.setTitle("Quiz");
+        quiz.setStatus(Status.graded);
+        quiz.setContentsGenerateAt(LocalDateTime.now());
+        quiz.setDeletedAt(deletedAt);
+        entityManager.persist(quiz);
+        return quiz;
+    }
+
+    private void quizResult(Quiz quiz, float score, float maxScore) {
+        QuizResult quizResult = new QuizResult();
+        quizResult.setQuiz(quiz);
+        quizResult.setUser(testUser);
+        quizResult.setScore(score);
+        quizResult.setMaxScore(maxScore);
+        entityManager.persist(quizResult);
+    }
+}
@@ -4,8 +4,13 @@ import com.example.api.entity.*;
 import com.example.api.entity.enums.AuthType;
 import com.example.api.entity.enums.Season;
 import com.example.api.entity.enums.SummaryStatus;
+import com.example.api.service.dto.lecture.LectureField;
+import com.example.api.service.dto.lecture.LectureOutput;
+import com.example.api.service.dto.lecture.LectureOwnershipOutput;
 import jakarta.persistence.EntityManager;
 
+import org.hibernate.Hibernate;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -17,7 +22,9 @@ import org.springframework.test.context.ActiveProfiles;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -100,6 +107,72 @@ public class LectureRepositoryTest {
         assertEquals("Intro.", found.get().getTitle());
     }
 
+    @Test
+    @DisplayName("권한 확인용 강의 메타데이터 조회 테스트")
+    void findOwnershipByIdTest() {
+        // Given
+        lectureRepository.save(testLecture);
+        entityManager.flush();
+        entityManager.clear();
+
+        // When
+        Optional<LectureOwnershipOutput> found = lectureRepository.findOwnershipById(testLecture.getId());
+
+        // Then
+        assertTrue(found.isPresent());
+        assertEquals(testUser.getId(), found.get().getUserId());
+        assertEquals(testCourse.getId(), found.get().getCourseId());
+        assertEquals(SummaryStatus.not_started, found.get().getSummaryStatus());
+        assertThat(lectureRepository.findOwnershipById(UUID.randomUUID())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("강의 조회 시 jsonb 컬럼은 접근하기 전까지 로드하지 않음")
+    void lazyJsonColumnsTest() {
+        // Given
+        ParsedText parsedText = new ParsedText();
+        parsedText.setTotalPages(1);
+        parsedText.setPages(List.of(new ParsedPage(1, "Page 1 content")));
+        testLecture.setParsedText(parsedText);
+        testLecture.setSummary(new LectureSummary(null, "요약", List.of(), List.of(), List.of()));
+        lectureRepository.save(testLecture);
+        entityManager.flush();
+        entityManager.clear();
+
+        // When
+        Lecture found = lectureRepository.findById(testLecture.getId()).orElseThrow();
+
+        // Then
+        assertThat(Hibernate.isPropertyInitialized(found, "parsedText")).isFalse();
+        assertThat(Hibernate.isPropertyInitialized(found, "summary")).isFalse();
+        assertEquals(1, found.getParsedText().getTotalPages());
+        // 컬럼별 lazy group이므로 parsed_text를 읽어도 summary는 로드되지 않음
+        assertThat(Hibernate.isPropertyInitialized(found, "summary")).isFalse();
+    }
+
+    @Test
+    @DisplayName("parsed_text만 조회 테스트 - 텍스트 추출 전이면 빈 값")
+    void findParsedTextByIdTest() {
+        // Given
+        lectureRepository.save(testLecture);
+        entityManager.flush();
+        entityManager.clear();
+        assertThat(lectureRepository.findParsedTextById(testLecture.getId())).isEmpty();
+
+        Lecture lecture = lectureRepository.findById(testLecture.getId()).orElseThrow();
+        lecture.setParsedText(new ParsedText(1, List.of(new ParsedPage(1, "Page 1 content"))));
+        entityManager.flush();
+        entityManager.clear();
+
+        // When
+        Optional<ParsedText> found = lectureRepository.findParsedTextById(testLecture.getId());
+
+        // Then
+        assertTrue(found.isPresent());
+        assertEquals("Page 1 content", found.get().getPages().get(0).getText());
+        assertThat(lectureRepository.findParsedTextById(UUID.randomUUID())).isEmpty();
+    }
+
     @Test
     @DisplayName("과목 ID로 강의 목록 조회 테스트")
     void findByCourseIdTest() {
@@ -118,10 +191,44 @@ public class LectureRepositoryTest {
         lectureRepository.save(anotherLecture);
 
         // When
-        List<Lecture> lectures = lectureRepository.findByCourseId(testCourse.getId());
+        List<LectureOutput> lectures = lectureRepository.findByCourseId(testCourse.getId(), Set.of());
 
         // Then
         assertThat(lectures).hasSize(2);
+        assertThat(lectures).extracting(LectureOutput::getTitle).containsExactly("Intro.", "운영체제 1장");
+        assertThat(lectures.get(0).getUserId()).isEqualTo(testUser.getId());
+        assertThat(lectures.get(0).getCourseId()).isEqualTo(testCourse.getId());
+    }
+
+    @Test
+    @DisplayName("과목 ID로 강의 목록 조회 테스트 - 요청한 jsonb 컬럼만 포함")
+    void findByCourseIdWithFieldsTest() {
+        // Given
+        ParsedText parsedText = new ParsedText();
+        parsedText.setTotalPages(1);
+        parsedText.setPages(List.of(new ParsedPage(1, "Page 1 content")));
+        testLecture.setParsedText(parsedText);
+        testLecture.setSummary(new LectureSummary(null, "요약", List.of(), List.of(), List.of()));
+        testLecture.setNote(Map.of("content", "노트"));
+        lectureRepository.save(testLecture);
+        entityManager.flush();
+        entityManager.clear();
+
+        // When
+        List<LectureOutput> metadataOnly = lectureRepository.findByCourseId(testCourse.getId(), Set.of());
+        List<LectureOutput> withSummary = lectureRepository.findByCourseId(
+                testCourse.getId(), Set.of(LectureField.summary));
+
+        // Then
+        assertThat(metadataOnly).hasSize(1);
+        assertThat(metadataOnly.get(0).getParsedText()).isNull();
+        assertThat(metadataOnly.get(0).getSummary()).isNull();
+        assertThat(metadataOnly.get(0).getNote()).isNull();
+
+        assertThat(withSummary).hasSize(1);
+        assertThat(withSummary.get(0).getSummary().overview()).isEqualTo("요약");
+        assertThat(withSummary.get(0).getParsedText()).isNull();
+        assertThat(withSummary.get(0).getNote()).isNull();
     }
 
     @Test
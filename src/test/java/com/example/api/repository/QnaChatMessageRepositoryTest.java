@@ -2,9 +2,12 @@ package com.example.api.repository;
 
 import com.example.api.entity.*;
 import com.example.api.entity.enums.AuthType;
+import com.example.api.entity.enums.MessageRole;
 import com.example.api.entity.enums.Season;
 import com.example.api.entity.enums.SummaryStatus;
+import com.example.api.service.dto.qna.MessageCursor;
 import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
@@ -12,9 +15,14 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @DataJpaTest
@@ -98,4 +106,101 @@ public class QnaChatMessageRepositoryTest {
 
         assertTrue(found.isPresent());
     }
+
+    @Test
+    @DisplayName("(createdAt, id) cursor 페이지네이션 - 같은 시각에 저장된 메세지도 누락/중복 없이 조회")
+    void findByQnaChatIdWithCursorTest() {
+        QnaChat qnaChat = persistQnaChat();
+        LocalDateTime sameTime = LocalDateTime.of(2025, 5, 28, 4, 15, 30, 123456000);
+        List<UUID> messageIds = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            messageIds.add(persistMessage(qnaChat, i < 4 ? sameTime : sameTime.minusSeconds(1)).getId());
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        List<UUID> pagedIds = new ArrayList<>();
+        MessageCursor cursor = null;
+        List<QnaChatMessage> page;
+        do {
+            page = qnaChatMessageRepository.findByQnaChatIdWithCursor(qnaChat.getId(), cursor, 2);
+            List<QnaChatMessage> items = page.subList(0, Math.min(2, page.size()));
+            items.forEach(m -> pagedIds.add(m.getId()));
+            cursor = items.isEmpty() ? null : MessageCursor.of(items.get(items.size() - 1));
+        } while (page.size() > 2);
+
+        assertThat(pagedIds).containsExactlyInAnyOrderElementsOf(messageIds);
+        assertThat(pagedIds.get(pagedIds.size() - 1)).isEqualTo(messageIds.get(4)); // 가장 오래된 메세지가 마지막
+
+        // 스트리밍 조회는 cursor 이전 메세지를 오래된 순으로 반환
+        MessageCursor firstPageEnd = new MessageCursor(sameTime, pagedIds.get(1));
+        try (Stream<QnaChatMessage> older = qnaChatMessageRepository.streamByQnaChatId(qnaChat.getId(), firstPageEnd)) {
+            List<UUID> olderIds = older.map(QnaChatMessage::getId).toList();
+            List<UUID> expected = new ArrayList<>(pagedIds.subList(2, pagedIds.size()));
+            Collections.reverse(expected);
+            assertThat(olderIds).containsExactlyElementsOf(expected);
+        }
+    }
+
+    private QnaChat persistQnaChat() {
+        School school = new School();
+        school.setId(UUID.randomUUID());
+        school.setName("Ajou");
+        entityManager.persist(school);
+
+        User user = new User();
+        user.setId(UUID.randomUUID());
+        user.setSchool(school);
+        user.setName("Test User");
+        user.setEmail("cursor@example.com");
+        user.setAuthType(AuthType.email);
+        user.setCreatedAt(LocalDateTime.now());
+        user.setUpdatedAt(LocalDateTime.now());
+        entityManager.persist(user);
+
+        Semester semester = new Semester();
+        semester.setId(UUID.randomUUID());
+        semester.setUser(user);
+        semester.setName("2025 봄학기");
+        semester.setYear(2025);
+        semester.setSeason(Season.spring);
+        entityManager.persist(semester);
+
+        Course course = new Course();
+        course.setId(UUID.randomUUID());
+        course.setSemester(semester);
+        course.setUser(user);
+        course.setName("운영체제");
+        entityManager.persist(course);
+
+        Lecture lecture = new Lecture();
+        lecture.setId(UUID.randomUUID());
+        lecture.setCourse(course);
+        lecture.setUser(user);
+        lecture.setTitle("Intro.");
+        lecture.setMaterialPath("");
+        lecture.setMaterialType("pdf");
+        lecture.setDisplayOrderLex("");
+        lecture.setSummaryStatus(SummaryStatus.not_started);
+        entityManager.persist(lecture);
+
+        QnaChat qnaChat = new QnaChat();
+        qnaChat.setId(UUID.randomUUID());
+        qnaChat.setLecture(lecture);
+        qnaChat.setUser(user);
+        entityManager.persist(qnaChat);
+        return qnaChat;
+    }
+
+    private QnaChatMessage persistMessage(QnaChat qnaChat, LocalDateTime createdAt) {
+        QnaChatMessage message = new QnaChatMessage();
+        message.setId(UUID.randomUUID());
+        message.setQnaChat(qnaChat);
+        message.setUser(qnaChat.getUser());
+        message.setRole(MessageRole.USER);
+        message.setContent("운영체제가 뭐야?");
+        message.setCreatedAt(createdAt);
+        entityManager.persist(message);
+        return message;
+    }
 }
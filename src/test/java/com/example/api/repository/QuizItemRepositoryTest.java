@@ -2,6 +2,8 @@ package com.example.api.repository;
 
 import com.example.api.entity.*;
 import com.example.api.entity.enums.*;
+import com.example.api.service.dto.qna.MessageCursor;
+import com.example.api.service.dto.quiz.QuizItemOutput;
 import jakarta.persistence.EntityManager;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -13,6 +15,8 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -162,4 +166,46 @@ public class QuizItemRepositoryTest {
         assertThat(foundQuizItem).isNotNull();
         assertThat(foundQuizItem.getQuestion()).isEqualTo("오렌지는 과일입니다.");
     }
+
+    @Test
+    @DisplayName("강의별 좋아요 문항 cursor 페이지네이션 테스트 - 같은 시각에 생성된 문항도 누락/중복 없이 조회")
+    void findLikedByLectureIdWithCursorTest() {
+        LocalDateTime createdAt = LocalDateTime.now().withNano(0);
+        List<UUID> likedIds = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            likedIds.add(persistQuizItem(true, createdAt, null).getId());
+        }
+        persistQuizItem(false, createdAt, null);
+        persistQuizItem(true, createdAt, LocalDateTime.now());
+        entityManager.flush();
+        entityManager.clear();
+
+        List<QuizItemOutput> firstPage = quizItemRepository.findLikedByLectureIdWithCursor(testLecture.getId(), null, 2);
+        assertThat(firstPage).hasSize(3); // limit + 1
+
+        MessageCursor cursor = new MessageCursor(firstPage.get(1).getCreatedAt(), firstPage.get(1).getId());
+        List<QuizItemOutput> secondPage = quizItemRepository.findLikedByLectureIdWithCursor(testLecture.getId(), cursor, 2);
+        assertThat(secondPage).hasSize(1);
+
+        List<UUID> pagedIds = new ArrayList<>();
+        firstPage.subList(0, 2).forEach(item -> pagedIds.add(item.getId()));
+        secondPage.forEach(item -> pagedIds.add(item.getId()));
+        assertThat(pagedIds).containsExactlyInAnyOrderElementsOf(likedIds);
+        assertThat(secondPage.get(0).getQuizId()).isEqualTo(testQuiz.getId());
+        assertThat(secondPage.get(0).getIsLiked()).isTrue();
+    }
+
+    private QuizItem persistQuizItem(boolean isLiked, LocalDateTime createdAt, LocalDateTime deletedAt) {
+        QuizItem quizItem = new QuizItem();
+        quizItem.setId(UUID.randomUUID());
+        quizItem.setQuiz(entityManager.getReference(Quiz.class, testQuiz.getId()));
+        quizItem.setUser(entityManager.getReference(User.class, testUser.getId()));
+        quizItem.setQuestion("오렌지는");
+        quizItem.setQuestionType(QuestionType.short_answer);
+        quizItem.setIsLiked(isLiked);
+        quizItem.setCreatedAt(createdAt);
+        quizItem.setDeletedAt(deletedAt);
+        entityManager.persist(quizItem);
+        return quizItem;
+    }
 }
@@ -10,9 +10,13 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @DataJpaTest
@@ -108,4 +112,96 @@ public class QuizResponseRepositoryTest {
 
         assertTrue(found.isPresent());
     }
+
+    @Test
+    void createQuizResponsesInBatchAndRejectDuplicatesTest() {
+        User user = new User();
+        user.setId(UUID.randomUUID());
+        user.setName("Test User");
+        user.setEmail("batch@example.com");
+        user.setAuthType(AuthType.email);
+        user.setCreatedAt(LocalDateTime.now());
+        user.setUpdatedAt(LocalDateTime.now());
+        entityManager.persist(user);
+
+        Semester semester = new Semester();
+        semester.setId(UUID.randomUUID());
+        semester.setUser(user);
+        semester.setName("2025 봄학기");
+        semester.setYear(2025);
+        semester.setSeason(Season.spring);
+        entityManager.persist(semester);
+
+        Course course = new Course();
+        course.setId(UUID.randomUUID());
+        course.setSemester(semester);
+        course.setUser(user);
+        course.setName("운영체제");
+        entityManager.persist(course);
+
+        Lecture lecture = new Lecture();
+        lecture.setId(UUID.randomUUID());
+        lecture.setCourse(course);
+        lecture.setUser(user);
+        lecture.setTitle("Intro.");
+        lecture.setMaterialPath("");
+        lecture.setMaterialType("pdf");
+        lecture.setDisplayOrderLex("");
+        lecture.setSummaryStatus(SummaryStatus.not_started);
+        entityManager.persist(lecture);
+
+        Quiz quiz = new Quiz();
+        quiz.setId(UUID.randomUUID());
+        quiz.setLecture(lecture);
+        quiz.setUser(user);
+        quiz.setTitle("Quiz 1");
+        quiz.setStatus(Status.not_started);
+        entityManager.persist(quiz);
+
+        List<QuizItem> quizItems = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            QuizItem quizItem = new QuizItem();
+            quizItem.setId(UUID.randomUUID());
+            quizItem.setQuiz(quiz);
+            quizItem.setUser(user);
+            quizItem.setQuestion("문제 " + i);
+            quizItem.setQuestionType(QuestionType.short_answer);
+            entityManager.persist(quizItem);
+            quizItems.add(quizItem);
+        }
+
+        List<QuizResponse> created = quizResponseRepository.createQuizResponses(List.of(
+                quizResponse(quiz, quizItems.get(0), user),
+                quizResponse(quiz, quizItems.get(1), user)));
+        entityManager.flush();
+        entityManager.clear();
+
+        assertEquals(2, created.size());
+        assertTrue(created.stream().allMatch(response -> response.getId() != null));
+        assertEquals(2, quizResponseRepository.findByQuizId(quiz.getId()).size());
+
+        // 이미 저장된 문제에 대한 풀이가 섞여 있으면 아무것도 저장하지 않음
+        Quiz quizRef = entityManager.getReference(Quiz.class, quiz.getId());
+        User userRef = entityManager.getReference(User.class, user.getId());
+        assertThrows(IllegalArgumentException.class, () -> quizResponseRepository.createQuizResponses(List.of(
+                quizResponse(quizRef, entityManager.getReference(QuizItem.class, quizItems.get(2).getId()), userRef),
+                quizResponse(quizRef, entityManager.getReference(QuizItem.class, quizItems.get(0).getId()), userRef))));
+
+        // 같은 요청 안에서 같은 문제를 두 번 제출해도 거부
+        QuizItem thirdItem = entityManager.getReference(QuizItem.class, quizItems.get(2).getId());
+        assertThrows(IllegalArgumentException.class, () -> quizResponseRepository.createQuizResponses(List.of(
+                quizResponse(quizRef, thirdItem, userRef),
+                quizResponse(quizRef, thirdItem, userRef))));
+
+        entityManager.flush();
+        assertEquals(2, quizResponseRepository.findByQuizId(quiz.getId()).size());
+    }
+
+    private static QuizResponse quizResponse(Quiz quiz, QuizItem quizItem, User user) {
+        QuizResponse quizResponse = new QuizResponse();
+        quizResponse.setQuiz(quiz);
+        quizResponse.setQuizItem(quizItem);
+        quizResponse.setUser(user);
+        return quizResponse;
+    }
 }
@@ -2,9 +2,11 @@ package com.example.api.repository;
 
 import com.example.api.entity.*;
 import com.example.api.entity.enums.AuthType;
+import com.example.api.entity.enums.QuestionType;
 import com.example.api.entity.enums.Season;
 import com.example.api.entity.enums.Status;
 import com.example.api.entity.enums.SummaryStatus;
+import com.example.api.service.dto.quiz.QuizResultElement;
 import jakarta.persistence.EntityManager;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -150,4 +152,102 @@ public class QuizResultRepositoryTest {
         assertThat(foundQuizResult).isNotNull();
         assertThat(foundQuizResult.getId()).isEqualTo(createdQuizResult.getId());
     }
+
+    @Test
+    @DisplayName("퀴즈 결과와 문제별 풀이를 한 번에 조회 - 풀이가 없거나 삭제된 문제는 제외")
+    void testFindDetailByQuizId() {
+        // given
+        quizResultRepository.save(testQuizResult);
+
+        QuizItem answered = quizItem(QuestionType.true_or_false, 1);
+        QuizItem unanswered = quizItem(QuestionType.short_answer, 2);
+        QuizItem deleted = quizItem(QuestionType.multiple_choice, 3);
+        deleted.setDeletedAt(LocalDateTime.now());
+        entityManager.persist(answered);
+        entityManager.persist(unanswered);
+        entityManager.persist(deleted);
+
+        QuizResponse response = new QuizResponse();
+        response.setQuiz(testQuiz);
+        response.setQuizItem(answered);
+        response.setUser(testUser);
+        response.setSelectedBool(true);
+        response.setIsCorrect(true);
+        response.setScore(1f);
+        entityManager.persist(response);
+
+        QuizResponse responseOfDeletedItem = new QuizResponse();
+        responseOfDeletedItem.setQuiz(testQuiz);
+        responseOfDeletedItem.setQuizItem(deleted);
+        responseOfDeletedItem.setUser(testUser);
+        entityManager.persist(responseOfDeletedItem);
+
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        Optional<QuizResultDetail> detail = quizResultRepository.findDetailByQuizId(testQuiz.getId());
+
+        // then
+        assertTrue(detail.isPresent());
+        assertThat(detail.get().quizResult().getId()).isEqualTo(testQuizResult.getId());
+        assertThat(detail.get().quizStatus()).isEqualTo(Status.not_started);
+        assertThat(detail.get().quizResultElements()).hasSize(1);
+
+        QuizResultElement element = detail.get().quizResultElements().get(0);
+        assertThat(element.getQuizItemId()).isEqualTo(answered.getId());
+        assertThat(element.getQuizResponseId()).isEqualTo(response.getId());
+        assertThat(element.getSelectedBool()).isTrue();
+        assertThat(element.getIsCorrect()).isTrue();
+    }
+
+    @Test
+    @DisplayName("과목 ID로 퀴즈 결과 목록 조회 - 삭제된 퀴즈의 결과는 제외")
+    void testFindByCourseId() {
+        // given
+        quizResultRepository.save(testQuizResult);
+
+        Quiz deletedQuiz = new Quiz();
+        deletedQuiz.setId(UUID.randomUUID());
+        deletedQuiz.setLecture(testLecture);
+        deletedQuiz.setUser(testUser);
+        deletedQuiz.setTitle("Quiz 2");
+        deletedQuiz.setStatus(Status.graded);
+        deletedQuiz.setContentsGenerateAt(LocalDateTime.now());
+        deletedQuiz.setDeletedAt(LocalDateTime.now());
+        entityManager.persist(deletedQuiz);
+
+        QuizResult deletedQuizResult = new QuizResult();
+        deletedQuizResult.setQuiz(deletedQuiz);
+        deletedQuizResult.setUser(testUser);
+        deletedQuizResult.setScore(5.0f);
+        deletedQuizResult.setMaxScore(10.0f);
+        entityManager.persist(deletedQuizResult);
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        var foundQuizResults = quizResultRepository.findByCourseId(testCourse.getId());
+
+        // then
+        assertThat(foundQuizResults).hasSize(1);
+        assertThat(foundQuizResults.get(0).getId()).isEqualTo(testQuizResult.getId());
+    }
+
+    @Test
+    @DisplayName("결과가 없는 퀴즈는 빈 값 반환")
+    void testFindDetailByQuizIdWithoutResult() {
+        assertThat(quizResultRepository.findDetailByQuizId(testQuiz.getId())).isEmpty();
+    }
+
+    private QuizItem quizItem(QuestionType questionType, int displayOrder) {
+        QuizItem quizItem = new QuizItem();
+        quizItem.setId(UUID.randomUUID());
+        quizItem.setQuiz(testQuiz);
+        quizItem.setUser(testUser);
+        quizItem.setQuestion("문제 " + displayOrder);
+        quizItem.setQuestionType(questionType);
+        quizItem.setDisplayOrder(displayOrder);
+        return quizItem;
+    }
 }
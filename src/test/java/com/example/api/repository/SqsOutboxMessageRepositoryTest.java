@@ -0,0 +1,109 @@
+package com.example.api.repository;
+
+import com.example.api.entity.SqsOutboxMessage;
+import com.example.api.entity.enums.SqsOutboxMessageType;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+public class SqsOutboxMessageRepositoryTest {
+    @Autowired
+    private SqsOutboxMessageRepository sqsOutboxMessageRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void findPendingGroupHeadsReturnsOldestMessagePerGroupTest() {
+        SqsOutboxMessage first = create(SqsOutboxMessageType.grade_quiz_essay, "quiz-1", "first");
+        create(SqsOutboxMessageType.grade_quiz_essay, "quiz-1", "second");
+        SqsOutboxMessage otherGroup = create(SqsOutboxMessageType.grade_quiz_essay, "quiz-2", "other group");
+        SqsOutboxMessage otherType = create(SqsOutboxMessageType.generate_course_weakness_analysis, "quiz-1", "other type");
+
+        List<SqsOutboxMessage> heads = sqsOutboxMessageRepository.findPendingGroupHeads(LocalDateTime.now(), 10);
+
+        assertEquals(List.of(first.getId(), otherGroup.getId(), otherType.getId()),
+                heads.stream().map(SqsOutboxMessage::getId).toList());
+    }
+
+    @Test
+    void deleteOutboxMessagesExposesNextMessageInGroupTest() {
+        SqsOutboxMessage first = create(SqsOutboxMessageType.grade_exam_essay, "exam-1", "first");
+        SqsOutboxMessage second = create(SqsOutboxMessageType.grade_exam_essay, "exam-1", "second");
+
+        sqsOutboxMessageRepository.deleteOutboxMessages(List.of(first.getId()));
+        entityManager.clear();
+
+        List<SqsOutboxMessage> heads = sqsOutboxMessageRepository.findPendingGroupHeads(LocalDateTime.now(), 10);
+        assertEquals(1, heads.size());
+        assertEquals(second.getId(), heads.get(0).getId());
+    }
+
+    @Test
+    void markOutboxMessageFailedTest() {
+        SqsOutboxMessage message = create(SqsOutboxMessageType.grade_exam_essay, "exam-1", "payload");
+
+        LocalDateTime nextAttemptAt = LocalDateTime.now().plusSeconds(1);
+        sqsOutboxMessageRepository.markOutboxMessageFailed(message.getId(), "ServiceUnavailable", nextAttemptAt);
+        entityManager.clear();
+
+        SqsOutboxMessage found = sqsOutboxMessageRepository.findById(message.getId()).orElseThrow();
+        assertEquals(1, found.getAttempts());
+        assertEquals("ServiceUnavailable", found.getLastError());
+        assertNotNull(found.getNextAttemptAt());
+    }
+
+    @Test
+    void findPendingGroupHeadsSkipsGroupsWaitingForRetryTest() {
+        SqsOutboxMessage failing = create(SqsOutboxMessageType.grade_quiz_essay, "quiz-1", "failing");
+        create(SqsOutboxMessageType.grade_quiz_essay, "quiz-1", "blocked by failing");
+        SqsOutboxMessage otherGroup = create(SqsOutboxMessageType.grade_quiz_essay, "quiz-2", "other group");
+        LocalDateTime now = LocalDateTime.now();
+
+        sqsOutboxMessageRepository.markOutboxMessageFailed(failing.getId(), "ServiceUnavailable", now.plusMinutes(1));
+        entityManager.clear();
+
+        // 재시도 대기 중인 그룹은 배치 자리를 차지하지 않고, 같은 그룹의 다음 메시지도 순서를 지키기 위해 조회되지 않음
+        List<SqsOutboxMessage> heads = sqsOutboxMessageRepository.findPendingGroupHeads(now, 1);
+        assertEquals(List.of(otherGroup.getId()), heads.stream().map(SqsOutboxMessage::getId).toList());
+
+        // 재시도 시각이 지나면 다시 그룹의 선두로 조회됨
+        heads = sqsOutboxMessageRepository.findPendingGroupHeads(now.plusMinutes(2), 10);
+        assertEquals(List.of(failing.getId(), otherGroup.getId()), heads.stream().map(SqsOutboxMessage::getId).toList());
+    }
+
+    @Test
+    void parkOutboxMessageExposesNextMessageInGroupTest() {
+        SqsOutboxMessage poison = create(SqsOutboxMessageType.grade_exam_essay, "exam-1", "poison");
+        SqsOutboxMessage next = create(SqsOutboxMessageType.grade_exam_essay, "exam-1", "next");
+
+        sqsOutboxMessageRepository.parkOutboxMessage(poison.getId(), "InvalidParameterValue", LocalDateTime.now());
+        entityManager.clear();
+
+        List<SqsOutboxMessage> heads = sqsOutboxMessageRepository.findPendingGroupHeads(LocalDateTime.now(), 10);
+        assertEquals(List.of(next.getId()), heads.stream().map(SqsOutboxMessage::getId).toList());
+
+        SqsOutboxMessage parked = sqsOutboxMessageRepository.findById(poison.getId()).orElseThrow();
+        assertEquals(1, parked.getAttempts());
+        assertNotNull(parked.getParkedAt());
+    }
+
+    private SqsOutboxMessage create(SqsOutboxMessageType messageType, String messageGroupId, String payload) {
+        SqsOutboxMessage message = new SqsOutboxMessage();
+        message.setMessageType(messageType);
+        message.setMessageGroupId(messageGroupId);
+        message.setPayload(payload);
+        return sqsOutboxMessageRepository.createOutboxMessage(message);
+    }
+}
@@ -15,6 +15,7 @@ import java.util.Optional;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @DataJpaTest
@@ -51,6 +52,37 @@ public class UserRepositoryTest {
         assertTrue(found.isPresent());
         assertEquals("Hyunjun", found.get().getName());
     }
+
+    @Test
+    void testExistsByIdAndIsActiveTrue() {
+        UUID schoolUuid = UUID.randomUUID();
+        School school = new School();
+        school.setId(schoolUuid);
+        school.setName("Ajou");
+        entityManager.persist(school);
+
+        User activeUser = createUser(school, "active@example.com", true);
+        User inactiveUser = createUser(school, "inactive@example.com", false);
+        userRepository.save(activeUser);
+        userRepository.save(inactiveUser);
+
+        assertTrue(userRepository.existsByIdAndIsActiveTrue(activeUser.getId()));
+        assertFalse(userRepository.existsByIdAndIsActiveTrue(inactiveUser.getId()));
+        assertFalse(userRepository.existsByIdAndIsActiveTrue(UUID.randomUUID()));
+    }
+
+    private User createUser(School school, String email, boolean isActive) {
+        User user = new User();
+        user.setId(UUID.randomUUID());
+        user.setSchool(school);
+        user.setName("Hyunjun");
+        user.setEmail(email);
+        user.setAuthType(AuthType.email);
+        user.setIsActive(isActive);
+        user.setCreatedAt(LocalDateTime.now());
+        user.setUpdatedAt(LocalDateTime.now());
+        return user;
+    }
     /*
     @Test
     void testDelete() {
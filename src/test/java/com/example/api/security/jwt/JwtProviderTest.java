@@ -0,0 +1,60 @@
+package com.example.api.security.jwt;
+
+import com.example.api.config.JwtConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Base64;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JwtProviderTest {
+    private static final String SECRET_KEY = Base64.getEncoder()
+            .encodeToString("test-secret-key-for-jwt-provider-0123456789".getBytes());
+
+    private JwtProvider jwtProvider;
+
+    @BeforeEach
+    void setUp() {
+        jwtProvider = new JwtProvider(createConfig(SECRET_KEY, 60_000));
+    }
+
+    @Test
+    @DisplayName("유효한 토큰은 한 번의 파싱으로 사용자 ID 반환")
+    void parseUserIdValidToken() {
+        UUID userId = UUID.randomUUID();
+        String token = jwtProvider.createAccessToken(userId);
+
+        assertEquals(Optional.of(userId), jwtProvider.parseUserId(token));
+        assertEquals(userId, jwtProvider.extractUserId(token));
+        assertTrue(jwtProvider.isValid(token));
+    }
+
+    @Test
+    @DisplayName("만료되었거나 다른 키로 서명되었거나 형식이 잘못된 토큰은 empty 반환")
+    void parseUserIdInvalidToken() {
+        UUID userId = UUID.randomUUID();
+        String expiredToken = new JwtProvider(createConfig(SECRET_KEY, -1_000)).createAccessToken(userId);
+        String otherKey = Base64.getEncoder()
+                .encodeToString("another-secret-key-for-jwt-provider-987654".getBytes());
+        String otherKeyToken = new JwtProvider(createConfig(otherKey, 60_000)).createAccessToken(userId);
+
+        assertTrue(jwtProvider.parseUserId(expiredToken).isEmpty());
+        assertTrue(jwtProvider.parseUserId(otherKeyToken).isEmpty());
+        assertTrue(jwtProvider.parseUserId("not-a-jwt").isEmpty());
+        assertTrue(jwtProvider.parseUserId("").isEmpty());
+        assertFalse(jwtProvider.isValid(expiredToken));
+    }
+
+    private JwtConfig createConfig(String secretKey, long ttlMs) {
+        JwtConfig config = new JwtConfig();
+        config.setIssuer("studyaid");
+        config.setSecretKey(secretKey);
+        config.setAccessTokenTtlMs(ttlMs);
+        config.setRefreshTokenTtlMs(ttlMs);
+        return config;
+    }
+}
@@ -0,0 +1,178 @@
+package com.example.api.security.ownership;
+
+import com.example.api.repository.OwnershipRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OwnershipIndex 테스트")
+class OwnershipIndexTest {
+
+    private static final Duration REDIS_TTL = Duration.ofHours(168);
+
+    @Mock
+    private OwnershipRepository ownershipRepository;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private OwnershipIndex ownershipIndex;
+    private UUID lectureId;
+    private UUID ownerId;
+    private String key;
+
+    @BeforeEach
+    void setUp() {
+        ownershipIndex = new OwnershipIndex(ownershipRepository, redisTemplate, 100, 10, 168);
+        lectureId = UUID.randomUUID();
+        ownerId = UUID.randomUUID();
+        key = "ownership:lecture:" + lectureId;
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("near cache와 Redis에 없으면 DB에서 조회하여 Redis와 near cache에 저장")
+    void findOwner_LoadsFromDbAndCaches() {
+        // Given
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get(key)).thenReturn(null);
+        when(ownershipRepository.findOwnerId(OwnedResource.lecture, lectureId)).thenReturn(Optional.of(ownerId));
+
+        // When
+        Optional<UUID> first = ownershipIndex.findOwner(OwnedResource.lecture, lectureId);
+        Optional<UUID> second = ownershipIndex.findOwner(OwnedResource.lecture, lectureId);
+
+        // Then
+        assertEquals(Optional.of(ownerId), first);
+        assertEquals(Optional.of(ownerId), second);
+        verify(valueOperations).set(key, ownerId.toString(), REDIS_TTL);
+        // 두 번째 조회는 near cache에서 반환
+        verify(valueOperations, times(1)).get(key);
+        verify(ownershipRepository, times(1)).findOwnerId(OwnedResource.lecture, lectureId);
+    }
+
+    @Test
+    @DisplayName("Redis에 있으면 DB를 조회하지 않고 near cache에 저장")
+    void findOwner_RedisHit() {
+        // Given
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get(key)).thenReturn(ownerId.toString());
+
+        // When
+        Optional<UUID> first = ownershipIndex.findOwner(OwnedResource.lecture, lectureId);
+        Optional<UUID> second = ownershipIndex.findOwner(OwnedResource.lecture, lectureId);
+
+        // Then
+        assertEquals(Optional.of(ownerId), first);
+        assertEquals(Optional.of(ownerId), second);
+        verify(valueOperations, times(1)).get(key);
+        verify(ownershipRepository, never()).findOwnerId(any(), any());
+        verify(valueOperations, never()).set(anyString(), anyString(), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시 예외 없이 DB에서 확인")
+    void findOwner_RedisFailureFallsBackToDb() {
+        // Given
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get(key)).thenThrow(new RedisConnectionFailureException("Connection refused"));
+        doThrow(new RedisConnectionFailureException("Connection refused"))
+                .when(valueOperations).set(key, ownerId.toString(), REDIS_TTL);
+        when(ownershipRepository.findOwnerId(OwnedResource.lecture, lectureId)).thenReturn(Optional.of(ownerId));
+
+        // When
+        Optional<UUID> result = ownershipIndex.findOwner(OwnedResource.lecture, lectureId);
+
+        // Then
+        assertEquals(Optional.of(ownerId), result);
+        verify(ownershipRepository).findOwnerId(OwnedResource.lecture, lectureId);
+    }
+
+    @Test
+    @DisplayName("리소스가 없거나 삭제된 경우 empty를 반환하고 캐싱하지 않음")
+    void findOwner_NotFoundIsNotCached() {
+        // Given
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get(key)).thenReturn(null);
+        when(ownershipRepository.findOwnerId(OwnedResource.lecture, lectureId)).thenReturn(Optional.empty());
+
+        // When
+        Optional<UUID> first = ownershipIndex.findOwner(OwnedResource.lecture, lectureId);
+        Optional<UUID> second = ownershipIndex.findOwner(OwnedResource.lecture, lectureId);
+
+        // Then
+        assertTrue(first.isEmpty());
+        assertTrue(second.isEmpty());
+        verify(ownershipRepository, times(2)).findOwnerId(OwnedResource.lecture, lectureId);
+        verify(valueOperations, never()).set(anyString(), anyString(), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서 제거하면 커밋 전에 다시 캐싱된 소유자도 커밋 후에 제거")
+    void evict_RemovesAgainAfterCommit() {
+        // Given
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get(key)).thenReturn(null);
+        // 커밋 전에는 다른 요청이 아직 삭제되지 않은 리소스를 DB에서 읽음
+        when(ownershipRepository.findOwnerId(OwnedResource.lecture, lectureId))
+                .thenReturn(Optional.of(ownerId))
+                .thenReturn(Optional.empty());
+        TransactionSynchronizationManager.initSynchronization();
+
+        // When
+        ownershipIndex.evict(OwnedResource.lecture, lectureId);
+        assertEquals(Optional.of(ownerId), ownershipIndex.findOwner(OwnedResource.lecture, lectureId));
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        // Then
+        assertTrue(ownershipIndex.findOwner(OwnedResource.lecture, lectureId).isEmpty());
+        verify(redisTemplate, times(2)).delete(key);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖에서 제거하면 바로 한 번만 제거하고, Redis 삭제 실패는 무시")
+    void evict_WithoutTransaction() {
+        // Given
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        ownershipIndex.register(OwnedResource.lecture, lectureId, ownerId);
+        when(redisTemplate.delete(key)).thenThrow(new RedisConnectionFailureException("Connection refused"));
+        when(valueOperations.get(key)).thenReturn(null);
+        when(ownershipRepository.findOwnerId(OwnedResource.lecture, lectureId)).thenReturn(Optional.empty());
+
+        // When
+        ownershipIndex.evict(OwnedResource.lecture, lectureId);
+
+        // Then
+        assertFalse(TransactionSynchronizationManager.isSynchronizationActive());
+        assertTrue(ownershipIndex.findOwner(OwnedResource.lecture, lectureId).isEmpty());
+        verify(redisTemplate, times(1)).delete(key);
+    }
+}
@@ -7,6 +7,8 @@ import com.example.api.entity.User;
 import com.example.api.repository.CourseRepository;
 import com.example.api.repository.SemesterRepository;
 import com.example.api.repository.UserRepository;
+import com.example.api.security.ownership.OwnedResource;
+import com.example.api.security.ownership.OwnershipIndex;
 import com.example.api.service.dto.course.*;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -41,6 +43,9 @@ class CourseServiceTest {
     @Mock
     private SemesterRepository semesterRepository;
 
+    @Mock
+    private OwnershipIndex ownershipIndex;
+
     @InjectMocks
     private CourseServiceImpl courseService;
 
@@ -174,6 +179,7 @@ class CourseServiceTest {
         verify(userRepository).getReferenceById(userId);
         verify(semesterRepository).getReferenceById(semesterId);
         verify(courseRepository).createCourse(any(Course.class));
+        verify(ownershipIndex).register(OwnedResource.course, testCourseOutput.getId(), userId);
     }
 
     @Test
@@ -285,5 +291,6 @@ class CourseServiceTest {
 
         // Then
         verify(courseRepository).deleteCourse(courseId);
+        verify(ownershipIndex).evict(OwnedResource.course, courseId);
     }
 }
@@ -1,11 +1,17 @@
 package com.example.api.service;
 
-import com.example.api.adapters.sqs.SQSClient;
+import com.example.api.adapters.sqs.SqsOutbox;
+import com.example.api.datasource.SecondLevelCacheEvictions;
 import com.example.api.entity.*;
 import com.example.api.entity.enums.QuestionType;
 import com.example.api.entity.enums.Status;
+import com.example.api.grading.GradedResultCache;
+import com.example.api.grading.GradingEngine;
+import com.example.api.grading.ResponseGrade;
+import com.example.api.grading.StandardScoringPolicy;
 import com.example.api.repository.*;
 import com.example.api.service.dto.exam.*;
+import com.example.api.service.dto.qna.MessageCursor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -14,6 +20,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.context.ActiveProfiles;
 
@@ -22,6 +29,7 @@ import java.util.*;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.*;
 
@@ -47,17 +55,32 @@ public class ExamServiceTest {
     private ExamResultRepository examResultRepo;
 
     @Mock
-    private SQSClient sqsClient;
+    private CourseScoreStatsRepository courseScoreStatsRepo;
+
+    @Mock
+    private SqsOutbox sqsOutbox;
+
+    @Mock
+    private SecondLevelCacheEvictions secondLevelCacheEvictions;
+
+    @Spy
+    private GradingEngine gradingEngine = new GradingEngine(new StandardScoringPolicy(), 100, 10);
+
+    @Spy
+    private GradedResultCache gradedResultCache = new GradedResultCache(100, 10);
 
     @InjectMocks
     private ExamServiceImpl examService;
 
     @Captor
-    private ArgumentCaptor<ExamResponse> examResponseCaptor;
+    private ArgumentCaptor<List<ExamResponse>> examResponsesCaptor;
 
     @Captor
     private ArgumentCaptor<Exam> examCaptor;
 
+    @Captor
+    private ArgumentCaptor<List<ResponseGrade>> gradesCaptor;
+
     @Captor
     private ArgumentCaptor<ExamResult> examResultCaptor;
 
@@ -249,7 +272,7 @@ public class ExamServiceTest {
     @DisplayName("ID로 시험 조회")
     void findExamByIdTest() {
         when(examRepo.findById(examId)).thenReturn(Optional.of(testExam));
-        when(examItemRepo.findByExamId(examId)).thenReturn(testExamItems);
+        when(examItemRepo.findGeneratedByExamId(examId)).thenReturn(testExamItems);
 
         Optional<ExamOutput> result = examService.findExamById(examId);
 
@@ -260,6 +283,7 @@ public class ExamServiceTest {
         assertEquals(testExamOutput.getCourseId(), result.get().getCourseId());
         assertEquals(testExamOutput.getStatus(), result.get().getStatus());
         verify(examRepo, times(1)).findById(examId);
+        verify(examItemRepo, times(1)).findGeneratedByExamId(examId);
     }
 
     @Test
@@ -321,11 +345,14 @@ public class ExamServiceTest {
     @Test
     @DisplayName("시험 삭제")
     void deleteExamTest() {
+        when(examRepo.findById(examId)).thenReturn(Optional.of(testExam));
         doNothing().when(examRepo).deleteExam(examId);
 
         examService.deleteExam(examId);
 
         verify(examRepo, times(1)).deleteExam(examId);
+        // 삭제된 시험의 결과가 빠지도록 과목 점수 집계를 다시 계산
+        verify(courseScoreStatsRepo, times(1)).rebuild(courseId);
     }
 
     @Test
@@ -345,16 +372,6 @@ public class ExamServiceTest {
 
         when(examItemRepo.findByExamId(examId)).thenReturn(examItems);
 
-        // Item 1: true/false
-        when(examItemRepo.getReferenceById(examItemId1)).thenReturn(testExamResponses.get(0).getExamItem());
-
-        // Item 2: multiple choice
-        when(examItemRepo.getReferenceById(examItemId2)).thenReturn(testExamResponses.get(1).getExamItem());
-
-        // Item 3: short answer
-        when(examItemRepo.getReferenceById(examItemId3)).thenReturn(testExamResponses.get(2).getExamItem());
-
-        when(examResponseRepo.updateExamResponse(any(ExamResponse.class))).thenReturn(new ExamResponse());
         when(examResultRepo.createExamResult(any(ExamResult.class))).thenReturn(new ExamResult());
 
         // when
@@ -363,19 +380,27 @@ public class ExamServiceTest {
         // then
         verify(examRepo, times(1)).getReferenceById(examId);
         verify(examResponseRepo, times(1)).findByExamId(examId);
-        verify(examItemRepo, times(3)).getReferenceById(any(UUID.class));
+        // 문제별 엔티티 재조회 없이 배점을 한 번에 반영 (OX 1점, 객관식 3점, 단답형 5점)
+        verify(examItemRepo, never()).getReferenceById(any(UUID.class));
+        verify(examItemRepo, times(1)).updatePoints(Map.of(examItemId1, 1f, examItemId2, 3f, examItemId3, 5f));
+        // JDBC로 갱신한 배점은 모든 인스턴스의 2차 캐시에서 제거
+        verify(secondLevelCacheEvictions, times(1)).evict(ExamItem.class, Set.of(examItemId1, examItemId2, examItemId3));
 
-        // Verify each response is updated with correct isCorrect flag
-        verify(examResponseRepo, times(3)).updateExamResponse(examResponseCaptor.capture());
-        List<ExamResponse> capturedResponses = examResponseCaptor.getAllValues();
+        // Verify all responses are written in a single batch with correct isCorrect flag
+        verify(examResponseRepo, never()).updateExamResponse(any(ExamResponse.class));
+        verify(examResponseRepo, times(1)).updateGradingResults(gradesCaptor.capture());
+        List<ResponseGrade> capturedGrades = gradesCaptor.getValue();
 
         // All responses should be marked as correct by the service
-        for (ExamResponse response : capturedResponses) {
-            assertEquals(Boolean.TRUE, response.getIsCorrect());
+        assertEquals(3, capturedGrades.size());
+        for (ResponseGrade grade : capturedGrades) {
+            assertTrue(grade.correct());
         }
 
         // Verify exam result is created
         verify(examResultRepo).createExamResult(any(ExamResult.class));
+        // 과목 점수 집계에 결과가 바로 반영됨
+        verify(courseScoreStatsRepo, times(1)).addExamResult(courseId, 9f, 9f);
     }
 
     @Test
@@ -399,16 +424,6 @@ public class ExamServiceTest {
 
         when(examItemRepo.findByExamId(examId)).thenReturn(examItems);
 
-        // Item 1: true/false
-        when(examItemRepo.getReferenceById(examItemId1)).thenReturn(testExamResponses.get(0).getExamItem());
-
-        // Item 2: multiple choice
-        when(examItemRepo.getReferenceById(examItemId2)).thenReturn(testExamResponses.get(1).getExamItem());
-
-        // Item 3: short answer
-        when(examItemRepo.getReferenceById(examItemId3)).thenReturn(testExamResponses.get(2).getExamItem());
-
-        when(examResponseRepo.updateExamResponse(any(ExamResponse.class))).thenReturn(new ExamResponse());
         when(examResultRepo.createExamResult(any(ExamResult.class))).thenReturn(new ExamResult());
 
         // when
@@ -417,22 +432,26 @@ public class ExamServiceTest {
         // then
         verify(examRepo, times(1)).getReferenceById(examId);
         verify(examResponseRepo, times(1)).findByExamId(examId);
-        verify(examItemRepo, times(3)).getReferenceById(any(UUID.class));
+        // 문제별 엔티티 재조회 없이 배점을 한 번에 반영 (OX 1점, 객관식 3점, 단답형 5점)
+        verify(examItemRepo, never()).getReferenceById(any(UUID.class));
+        verify(examItemRepo, times(1)).updatePoints(Map.of(examItemId1, 1f, examItemId2, 3f, examItemId3, 5f));
 
-        // Verify each response is updated
-        verify(examResponseRepo, times(3)).updateExamResponse(examResponseCaptor.capture());
-        List<ExamResponse> capturedResponses = examResponseCaptor.getAllValues();
+        // Verify each response is graded in a single batch
+        verify(examResponseRepo, times(1)).updateGradingResults(gradesCaptor.capture());
+        List<ResponseGrade> capturedGrades = gradesCaptor.getValue();
 
         // The first two responses should NOT be marked as correct, but the third one
         // should be
-        assertEquals(testExamResponses.get(0).getId(), capturedResponses.get(0).getId());
-        assertNull(capturedResponses.get(0).getIsCorrect()); // Not correct
+        assertEquals(testExamResponses.get(0).getId(), capturedGrades.get(0).responseId());
+        assertFalse(capturedGrades.get(0).correct()); // Not correct
+        assertEquals(0f, capturedGrades.get(0).score());
 
-        assertEquals(testExamResponses.get(1).getId(), capturedResponses.get(1).getId());
-        assertNull(capturedResponses.get(1).getIsCorrect()); // Not correct
+        assertEquals(testExamResponses.get(1).getId(), capturedGrades.get(1).responseId());
+        assertFalse(capturedGrades.get(1).correct()); // Not correct
 
-        assertEquals(testExamResponses.get(2).getId(), capturedResponses.get(2).getId());
-        assertEquals(Boolean.TRUE, capturedResponses.get(2).getIsCorrect()); // Correct
+        assertEquals(testExamResponses.get(2).getId(), capturedGrades.get(2).responseId());
+        assertTrue(capturedGrades.get(2).correct()); // Correct
+        assertEquals(5f, capturedGrades.get(2).score());
 
         // Verify exam result is created
         verify(examResultRepo).createExamResult(any(ExamResult.class));
@@ -449,15 +468,19 @@ public class ExamServiceTest {
 
         when(examRepo.getReferenceById(examId)).thenReturn(testExam);
         when(examResponseRepo.findByExamId(examId)).thenReturn(testExamResponses);
-        when(examItemRepo.getReferenceById(examItemId1)).thenReturn(testExamResponses.get(0).getExamItem());
+        when(examItemRepo.findByExamId(examId)).thenReturn(Arrays.asList(
+                testExamResponses.get(0).getExamItem(),
+                testExamResponses.get(1).getExamItem(),
+                testExamResponses.get(2).getExamItem()
+        ));
 
         // when, then
         assertThrows(IllegalArgumentException.class, () -> examService.gradeNonEssayQuestions(examId));
 
         verify(examRepo, times(1)).getReferenceById(examId);
         verify(examResponseRepo, times(1)).findByExamId(examId);
-        verify(examItemRepo, times(1)).getReferenceById(examItemId1);
-        verify(examResponseRepo, never()).updateExamResponse(any(ExamResponse.class));
+        verify(examItemRepo, never()).updatePoints(any());
+        verify(examResponseRepo, never()).updateGradingResults(any());
         verify(examResultRepo, never()).createExamResult(any(ExamResult.class));
     }
 
@@ -465,24 +488,18 @@ public class ExamServiceTest {
     @DisplayName("시험 ID로 시험 결과 조회")
     void findExamResultByExamIdTest() {
         // given
-        when(examResultRepo.findByExamId(examId)).thenReturn(Optional.of(testExamResult));
-
-        // ExamItem과 ExamResponse 설정
+        // 결과, 문제, 풀이를 한 번에 조회한 projection 설정 (채점 완료 상태)
         ExamItem examItem1 = testExamResponses.get(0).getExamItem();
         ExamItem examItem2 = testExamResponses.get(1).getExamItem();
         ExamItem examItem3 = testExamResponses.get(2).getExamItem();
 
-        List<ExamItem> examItems = Arrays.asList(examItem1, examItem2, examItem3);
-        when(examItemRepo.findByExamId(examId)).thenReturn(examItems);
-
-        // 각 ExamItem에 대한 ExamResponse 설정
-        when(examResponseRepo.findByExamItemId(examItem1.getId())).thenReturn(Optional.of(testExamResponses.get(0)));
-        when(examResponseRepo.findByExamItemId(examItem2.getId())).thenReturn(Optional.of(testExamResponses.get(1)));
-        when(examResponseRepo.findByExamItemId(examItem3.getId())).thenReturn(Optional.of(testExamResponses.get(2)));
-
-        when(examItemRepo.getReferenceById(examItem1.getId())).thenReturn(examItem1);
-        when(examItemRepo.getReferenceById(examItem2.getId())).thenReturn(examItem2);
-        when(examItemRepo.getReferenceById(examItem3.getId())).thenReturn(examItem3);
+        List<ExamResultElement> elements = Arrays.asList(
+                ExamResultElement.fromExamItemAndResponse(examItem1, testExamResponses.get(0)),
+                ExamResultElement.fromExamItemAndResponse(examItem2, testExamResponses.get(1)),
+                ExamResultElement.fromExamItemAndResponse(examItem3, testExamResponses.get(2))
+        );
+        when(examResultRepo.findDetailByExamId(examId))
+                .thenReturn(Optional.of(new ExamResultDetail(testExamResult, Status.graded, elements)));
 
         // when
         Optional<ExamResultOutput> result = examService.findExamResultByExamId(examId);
@@ -534,10 +551,14 @@ public class ExamServiceTest {
         assertEquals(examItem3.getTextAnswer(), element3.getTextAnswer());
         assertEquals(testExamResponses.get(2).getTextAnswer(), element3.getTextAnswerOfUser());
 
-        verify(examResultRepo, times(1)).findByExamId(examId);
-        verify(examItemRepo, times(1)).findByExamId(examId);
-        verify(examResponseRepo, times(3)).findByExamItemId(any(UUID.class));
-        verify(examItemRepo, times(3)).getReferenceById(any(UUID.class));
+        verify(examResultRepo, times(1)).findDetailByExamId(examId);
+        verify(examResponseRepo, never()).findByExamItemId(any(UUID.class));
+        verify(examItemRepo, never()).getReferenceById(any(UUID.class));
+
+        // 채점이 끝난 결과는 두 번째 조회부터 캐시에서 반환
+        Optional<ExamResultOutput> cachedResult = examService.findExamResultByExamId(examId);
+        assertEquals(result, cachedResult);
+        verify(examResultRepo, times(1)).findDetailByExamId(examId);
     }
 
     @Test
@@ -545,64 +566,38 @@ public class ExamServiceTest {
     void findExamResultByExamIdTest_NotFound() {
         // given
         UUID nonExistentExamId = UUID.randomUUID();
-        when(examResultRepo.findByExamId(nonExistentExamId)).thenReturn(Optional.empty());
+        when(examResultRepo.findDetailByExamId(nonExistentExamId)).thenReturn(Optional.empty());
 
         // when
         Optional<ExamResultOutput> result = examService.findExamResultByExamId(nonExistentExamId);
 
         // then
         assertFalse(result.isPresent());
-        verify(examResultRepo, times(1)).findByExamId(nonExistentExamId);
+        verify(examResultRepo, times(1)).findDetailByExamId(nonExistentExamId);
     }
 
     @Test
-    @DisplayName("시험 ID로 시험 결과 조회 - ExamResponse가 없는 ExamItem이 있는 경우")
-    void findExamResultByExamIdTest_WithMissingExamResponse() {
+    @DisplayName("시험 ID로 시험 결과 조회 - 서술형 채점 전(partially_graded) 결과는 캐싱하지 않음")
+    void findExamResultByExamIdTest_PartiallyGradedIsNotCached() {
         // given
-        when(examResultRepo.findByExamId(examId)).thenReturn(Optional.of(testExamResult));
-
-        // ExamItem 설정 (답변이 없는 문제 포함)
-        ExamItem examItem1 = testExamResponses.get(0).getExamItem();
-        ExamItem examItem2 = testExamResponses.get(1).getExamItem();
-        ExamItem itemWithoutResponse = new ExamItem();
-        itemWithoutResponse.setId(UUID.randomUUID());
-        itemWithoutResponse.setExam(testExam);
-        itemWithoutResponse.setQuestionType(QuestionType.true_or_false);
-        itemWithoutResponse.setQuestion("답변이 없는 문제");
-
-        List<ExamItem> examItems = Arrays.asList(examItem1, examItem2, itemWithoutResponse);
-        when(examItemRepo.findByExamId(examId)).thenReturn(examItems);
-
-        // 첫 번째와 두 번째 ExamItem에만 ExamResponse 존재
-        when(examResponseRepo.findByExamItemId(examItem1.getId())).thenReturn(Optional.of(testExamResponses.get(0)));
-        when(examResponseRepo.findByExamItemId(examItem2.getId())).thenReturn(Optional.of(testExamResponses.get(1)));
-        when(examResponseRepo.findByExamItemId(itemWithoutResponse.getId())).thenReturn(Optional.empty());
-
-        when(examItemRepo.getReferenceById(examItem1.getId())).thenReturn(examItem1);
-        when(examItemRepo.getReferenceById(examItem2.getId())).thenReturn(examItem2);
+        List<ExamResultElement> elements = Arrays.asList(
+                ExamResultElement.fromExamItemAndResponse(testExamResponses.get(0).getExamItem(), testExamResponses.get(0)),
+                ExamResultElement.fromExamItemAndResponse(testExamResponses.get(1).getExamItem(), testExamResponses.get(1))
+        );
+        when(examResultRepo.findDetailByExamId(examId))
+                .thenReturn(Optional.of(new ExamResultDetail(testExamResult, Status.partially_graded, elements)));
 
         // when
-        Optional<ExamResultOutput> result = examService.findExamResultByExamId(examId);
+        Optional<ExamResultOutput> first = examService.findExamResultByExamId(examId);
+        Optional<ExamResultOutput> second = examService.findExamResultByExamId(examId);
 
         // then
-        assertTrue(result.isPresent());
+        assertTrue(first.isPresent());
+        assertTrue(second.isPresent());
+        assertEquals(2, first.get().getExamResultElements().size());
 
-        // ExamResultElements 검증 - 답변이 있는 2개의 문제만 포함되어야 함
-        assertNotNull(result.get().getExamResultElements());
-        assertEquals(2, result.get().getExamResultElements().size());
-
-        // 답변이 있는 문제들의 ID 확인
-        List<UUID> resultItemIds = result.get().getExamResultElements().stream()
-                .map(ExamResultElement::getExamItemId)
-                .toList();
-        assertTrue(resultItemIds.contains(examItem1.getId()));
-        assertTrue(resultItemIds.contains(examItem2.getId()));
-        assertFalse(resultItemIds.contains(itemWithoutResponse.getId()));
-
-        verify(examResultRepo, times(1)).findByExamId(examId);
-        verify(examItemRepo, times(1)).findByExamId(examId);
-        verify(examResponseRepo, times(3)).findByExamItemId(any(UUID.class));
-        verify(examItemRepo, times(2)).getReferenceById(any(UUID.class)); // 답변이 있는 2개만
+        // 서술형 채점 결과가 아직 반영되지 않았으므로 매번 DB에서 조회
+        verify(examResultRepo, times(2)).findDetailByExamId(examId);
     }
 
     @Test
@@ -641,11 +636,7 @@ public class ExamServiceTest {
         examResult2.setCreatedAt(LocalDateTime.now());
         examResult2.setUpdatedAt(LocalDateTime.now());
 
-        List<Exam> exams = List.of(exam1, exam2);
-
-        when(examRepo.findByCourseId(courseId)).thenReturn(exams);
-        when(examResultRepo.findByExamId(exam1Id)).thenReturn(Optional.of(examResult1));
-        when(examResultRepo.findByExamId(exam2Id)).thenReturn(Optional.of(examResult2));
+        when(examResultRepo.findByCourseId(courseId)).thenReturn(List.of(examResult1, examResult2));
 
         // when
         ExamResultListOutput result = examService.findExamResultsByCourseId(courseId);
@@ -664,116 +655,78 @@ public class ExamServiceTest {
         assertEquals(examResult2.getId(), secondResult.getId());
         assertEquals(90.0f, secondResult.getScore());
 
-        verify(examRepo, times(1)).findByCourseId(courseId);
-        verify(examResultRepo, times(1)).findByExamId(exam1Id);
-        verify(examResultRepo, times(1)).findByExamId(exam2Id);
+        // 시험별 결과 조회 없이 쿼리 한 번으로 조회
+        verify(examResultRepo, times(1)).findByCourseId(courseId);
+        verify(examRepo, never()).findByCourseId(any(UUID.class));
+        verify(examResultRepo, never()).findByExamId(any(UUID.class));
     }
 
-
     @Test
-    @DisplayName("코스 ID로 시험 결과 목록 조회 - 일부 시험만 결과가 있는 경우")
-    void findExamResultsByCourseIdTest_PartialResults() {
+    @DisplayName("코스 ID로 시험 결과 목록 조회 - 결과가 없는 경우")
+    void findExamResultsByCourseIdTest_NoResults() {
         // given
-        Exam examWithResult = new Exam();
-        examWithResult.setId(examId);
-        examWithResult.setCourse(testCourse);
-
-        Exam examWithoutResult = new Exam();
-        UUID examWithoutResultId = UUID.randomUUID();
-        examWithoutResult.setId(examWithoutResultId);
-        examWithoutResult.setCourse(testCourse);
-
-        List<Exam> exams = List.of(examWithResult, examWithoutResult);
-
-        when(examRepo.findByCourseId(courseId)).thenReturn(exams);
-        when(examResultRepo.findByExamId(examId)).thenReturn(Optional.of(testExamResult));
-        when(examResultRepo.findByExamId(examWithoutResultId)).thenReturn(Optional.empty());
+        when(examResultRepo.findByCourseId(courseId)).thenReturn(List.of());
 
         // when
         ExamResultListOutput result = examService.findExamResultsByCourseId(courseId);
 
         // then
         assertNotNull(result);
-        assertEquals(1, result.getExamResults().size());
-
-        ExamResultOutput resultOutput = result.getExamResults().get(0);
-        assertEquals(testExamResult.getId(), resultOutput.getId());
-        assertEquals(85.0f, resultOutput.getScore());
-
-        verify(examRepo, times(1)).findByCourseId(courseId);
-        verify(examResultRepo, times(1)).findByExamId(examId);
-        verify(examResultRepo, times(1)).findByExamId(examWithoutResultId);
+        assertTrue(result.getExamResults().isEmpty());
+        verify(examResultRepo, times(1)).findByCourseId(courseId);
     }
 
     @Test
     @DisplayName("시험 평균 점수 계산 - 성공 케이스")
     void calculateExamAverageScoreTest_Success() {
         // given
-        Exam exam1 = new Exam();
-        exam1.setId(examId);
+        CourseScoreStats stats = new CourseScoreStats();
+        stats.setCourseId(courseId);
+        stats.setExamResultCount(2);
+        stats.setExamPercentageSum(170.0); // 80% + 90%
 
-        Exam exam2 = new Exam();
-        UUID exam2Id = UUID.randomUUID();
-        exam2.setId(exam2Id);
-
-        ExamResult result1 = new ExamResult();
-        result1.setScore(80.0f);
-        result1.setMaxScore(100.0f); // 80%
-
-        ExamResult result2 = new ExamResult();
-        result2.setScore(45.0f);
-        result2.setMaxScore(50.0f); // 90%
-
-        List<Exam> exams = List.of(exam1, exam2);
-
-        when(examRepo.findByCourseId(courseId)).thenReturn(exams);
-        when(examResultRepo.findByExamId(examId)).thenReturn(Optional.of(result1));
-        when(examResultRepo.findByExamId(exam2Id)).thenReturn(Optional.of(result2));
+        when(courseScoreStatsRepo.findById(courseId)).thenReturn(Optional.of(stats));
 
         // when
         Float averageScore = examService.calculateExamAverageScore(courseId);
 
         // then
         assertEquals(85.0f, averageScore); // (80 + 90) / 2 = 85
-        verify(examRepo, times(1)).findByCourseId(courseId);
-        verify(examResultRepo, times(1)).findByExamId(examId);
-        verify(examResultRepo, times(1)).findByExamId(exam2Id);
+        // 과목 점수 집계 한 행만 조회
+        verify(courseScoreStatsRepo, times(1)).findById(courseId);
+        verify(examRepo, never()).findByCourseId(any(UUID.class));
+        verify(examResultRepo, never()).findByExamId(any(UUID.class));
     }
 
     @Test
     @DisplayName("시험 평균 점수 계산 - 결과가 없는 경우")
     void calculateExamAverageScoreTest_NoResults() {
         // given
-        Exam exam1 = new Exam();
-        exam1.setId(examId);
+        CourseScoreStats stats = new CourseScoreStats();
+        stats.setCourseId(courseId);
 
-        List<Exam> exams = List.of(exam1);
-
-        when(examRepo.findByCourseId(courseId)).thenReturn(exams);
-        when(examResultRepo.findByExamId(examId)).thenReturn(Optional.empty());
+        when(courseScoreStatsRepo.findById(courseId)).thenReturn(Optional.of(stats));
 
         // when
         Float averageScore = examService.calculateExamAverageScore(courseId);
 
         // then
         assertEquals(0.0f, averageScore);
-        verify(examRepo, times(1)).findByCourseId(courseId);
-        verify(examResultRepo, times(1)).findByExamId(examId);
+        verify(courseScoreStatsRepo, times(1)).findById(courseId);
     }
 
     @Test
-    @DisplayName("시험 평균 점수 계산 - 시험이 없는 경우")
-    void calculateExamAverageScoreTest_NoExams() {
+    @DisplayName("시험 평균 점수 계산 - 집계가 없는 경우")
+    void calculateExamAverageScoreTest_NoStats() {
         // given
-        when(examRepo.findByCourseId(courseId)).thenReturn(new ArrayList<>());
+        when(courseScoreStatsRepo.findById(courseId)).thenReturn(Optional.empty());
 
         // when
         Float averageScore = examService.calculateExamAverageScore(courseId);
 
         // then
         assertEquals(0.0f, averageScore);
-        verify(examRepo, times(1)).findByCourseId(courseId);
-        verify(examResultRepo, never()).findByExamId(any(UUID.class));
+        verify(courseScoreStatsRepo, times(1)).findById(courseId);
     }
 
     @Test
@@ -820,13 +773,15 @@ public class ExamServiceTest {
         when(examItemRepo.getReferenceById(examItemId3)).thenReturn(item3);
 
         // ExamResponse 생성 반환 설정
-        when(examResponseRepo.createExamResponse(any(ExamResponse.class)))
+        when(examResponseRepo.createExamResponses(anyList()))
                 .thenAnswer(invocation -> {
-                    ExamResponse response = invocation.getArgument(0);
-                    response.setId(UUID.randomUUID());
-                    response.setCreatedAt(LocalDateTime.now());
-                    response.setUpdatedAt(LocalDateTime.now());
-                    return response;
+                    List<ExamResponse> responses = invocation.getArgument(0);
+                    for (ExamResponse response : responses) {
+                        response.setId(UUID.randomUUID());
+                        response.setCreatedAt(LocalDateTime.now());
+                        response.setUpdatedAt(LocalDateTime.now());
+                    }
+                    return responses;
                 });
 
         // 서술형 문제 없음
@@ -836,7 +791,6 @@ public class ExamServiceTest {
         // gradeNonEssayQuestions 메서드를 위한 설정
         when(examResponseRepo.findByExamId(examId)).thenReturn(testExamResponses);
         when(examItemRepo.findByExamId(examId)).thenReturn(Arrays.asList(item1, item2, item3));
-        when(examResponseRepo.updateExamResponse(any(ExamResponse.class))).thenReturn(new ExamResponse());
         when(examResultRepo.createExamResult(any(ExamResult.class))).thenReturn(new ExamResult());
         when(examRepo.updateExam(any(Exam.class))).thenReturn(testExam);
 
@@ -848,7 +802,7 @@ public class ExamServiceTest {
         assertEquals(3, result.getExamResponseOutputs().size());
 
         // ExamResponse 생성 검증
-        verify(examResponseRepo, times(3)).createExamResponse(any(ExamResponse.class));
+        verify(examResponseRepo, times(1)).createExamResponses(argThat(responses -> responses.size() == 3));
 
         // 서술형 문제 확인
         verify(examItemRepo).existsByExamIdAndQuestionTypeAndDeletedAtIsNull(examId, QuestionType.essay);
@@ -901,13 +855,15 @@ public class ExamServiceTest {
         when(examItemRepo.getReferenceById(essayItemId)).thenReturn(essayItem);
 
         // ExamResponse 생성 반환 설정
-        when(examResponseRepo.createExamResponse(any(ExamResponse.class)))
+        when(examResponseRepo.createExamResponses(anyList()))
                 .thenAnswer(invocation -> {
-                    ExamResponse response = invocation.getArgument(0);
-                    response.setId(UUID.randomUUID());
-                    response.setCreatedAt(LocalDateTime.now());
-                    response.setUpdatedAt(LocalDateTime.now());
-                    return response;
+                    List<ExamResponse> responses = invocation.getArgument(0);
+                    for (ExamResponse response : responses) {
+                        response.setId(UUID.randomUUID());
+                        response.setCreatedAt(LocalDateTime.now());
+                        response.setUpdatedAt(LocalDateTime.now());
+                    }
+                    return responses;
                 });
 
         // 서술형 문제 있음
@@ -931,7 +887,6 @@ public class ExamServiceTest {
         when(examItemRepo.findByExamId(examId)).thenReturn(Arrays.asList(item1, essayItem));
         when(examItemRepo.getReferenceById(item1.getId())).thenReturn(item1);
         when(examItemRepo.getReferenceById(essayItem.getId())).thenReturn(essayItem);
-        when(examResponseRepo.updateExamResponse(any(ExamResponse.class))).thenReturn(new ExamResponse());
         when(examResultRepo.createExamResult(any(ExamResult.class))).thenReturn(new ExamResult());
         when(examRepo.updateExam(any(Exam.class))).thenReturn(testExam);
 
@@ -943,7 +898,7 @@ public class ExamServiceTest {
         assertEquals(2, result.getExamResponseOutputs().size());
 
         // ExamResponse 생성 검증
-        verify(examResponseRepo, times(2)).createExamResponse(any(ExamResponse.class));
+        verify(examResponseRepo, times(1)).createExamResponses(argThat(responses -> responses.size() == 2));
 
         // 서술형 문제 확인
         verify(examItemRepo).existsByExamIdAndQuestionTypeAndDeletedAtIsNull(examId, QuestionType.essay);
@@ -998,13 +953,15 @@ public class ExamServiceTest {
         when(examItemRepo.getReferenceById(examItemId3)).thenReturn(item3);
 
         // ExamResponse 생성 반환 설정
-        when(examResponseRepo.createExamResponse(any(ExamResponse.class)))
+        when(examResponseRepo.createExamResponses(anyList()))
                 .thenAnswer(invocation -> {
-                    ExamResponse response = invocation.getArgument(0);
-                    response.setId(UUID.randomUUID());
-                    response.setCreatedAt(LocalDateTime.now());
-                    response.setUpdatedAt(LocalDateTime.now());
-                    return response;
+                    List<ExamResponse> responses = invocation.getArgument(0);
+                    for (ExamResponse response : responses) {
+                        response.setId(UUID.randomUUID());
+                        response.setCreatedAt(LocalDateTime.now());
+                        response.setUpdatedAt(LocalDateTime.now());
+                    }
+                    return responses;
                 });
 
         // 서술형 문제 없음
@@ -1033,7 +990,6 @@ public class ExamServiceTest {
 
         when(examResponseRepo.findByExamId(examId)).thenReturn(nullResponses);
         when(examItemRepo.findByExamId(examId)).thenReturn(Arrays.asList(item1, item2, item3));
-        when(examResponseRepo.updateExamResponse(any(ExamResponse.class))).thenReturn(new ExamResponse());
         when(examResultRepo.createExamResult(any(ExamResult.class))).thenReturn(new ExamResult());
         when(examRepo.updateExam(any(Exam.class))).thenReturn(testExam);
 
@@ -1045,8 +1001,9 @@ public class ExamServiceTest {
         assertEquals(3, result.getExamResponseOutputs().size());
 
         // ExamResponse 생성 시 null 값은 set되지 않음을 확인
-        verify(examResponseRepo, times(3)).createExamResponse(examResponseCaptor.capture());
-        List<ExamResponse> capturedResponses = examResponseCaptor.getAllValues();
+        verify(examResponseRepo, times(1)).createExamResponses(examResponsesCaptor.capture());
+        List<ExamResponse> capturedResponses = examResponsesCaptor.getValue();
+        assertEquals(3, capturedResponses.size());
 
         // null 값들이 set되지 않았는지 확인 (기본값 또는 null 상태 유지)
         for (ExamResponse response : capturedResponses) {
@@ -1079,7 +1036,7 @@ public class ExamServiceTest {
         when(examItemRepo.getReferenceById(examItemId1)).thenReturn(testExamResponses.get(0).getExamItem());
 
         // ExamResponse 생성 실패 시뮬레이션
-        when(examResponseRepo.createExamResponse(any(ExamResponse.class))).thenReturn(null);
+        when(examResponseRepo.createExamResponses(anyList())).thenReturn(null);
 
         // when & then
         RuntimeException exception = assertThrows(RuntimeException.class,
@@ -1145,13 +1102,15 @@ public class ExamServiceTest {
         when(examItemRepo.getReferenceById(examItemId2)).thenReturn(item2);
         when(examItemRepo.getReferenceById(examItemId3)).thenReturn(item3);
 
-        when(examResponseRepo.createExamResponse(any(ExamResponse.class)))
+        when(examResponseRepo.createExamResponses(anyList()))
                 .thenAnswer(invocation -> {
-                    ExamResponse response = invocation.getArgument(0);
-                    response.setId(UUID.randomUUID());
-                    response.setCreatedAt(LocalDateTime.now());
-                    response.setUpdatedAt(LocalDateTime.now());
-                    return response;
+                    List<ExamResponse> responses = invocation.getArgument(0);
+                    for (ExamResponse response : responses) {
+                        response.setId(UUID.randomUUID());
+                        response.setCreatedAt(LocalDateTime.now());
+                        response.setUpdatedAt(LocalDateTime.now());
+                    }
+                    return responses;
                 });
 
         when(examItemRepo.existsByExamIdAndQuestionTypeAndDeletedAtIsNull(examId, QuestionType.essay))
@@ -1179,7 +1138,6 @@ public class ExamServiceTest {
 
         when(examResponseRepo.findByExamId(examId)).thenReturn(mixedResponses);
         when(examItemRepo.findByExamId(examId)).thenReturn(Arrays.asList(item1, item2, item3));
-        when(examResponseRepo.updateExamResponse(any(ExamResponse.class))).thenReturn(new ExamResponse());
         when(examResultRepo.createExamResult(any(ExamResult.class))).thenReturn(new ExamResult());
         when(examRepo.updateExam(any(Exam.class))).thenReturn(testExam);
 
@@ -1226,13 +1184,15 @@ public class ExamServiceTest {
         when(userRepo.getReferenceById(userId)).thenReturn(testUser);
         when(examItemRepo.getReferenceById(essayItemId)).thenReturn(essayItem);
 
-        when(examResponseRepo.createExamResponse(any(ExamResponse.class)))
+        when(examResponseRepo.createExamResponses(anyList()))
                 .thenAnswer(invocation -> {
-                    ExamResponse response = invocation.getArgument(0);
-                    response.setId(UUID.randomUUID());
-                    response.setCreatedAt(LocalDateTime.now());
-                    response.setUpdatedAt(LocalDateTime.now());
-                    return response;
+                    List<ExamResponse> responses = invocation.getArgument(0);
+                    for (ExamResponse response : responses) {
+                        response.setId(UUID.randomUUID());
+                        response.setCreatedAt(LocalDateTime.now());
+                        response.setUpdatedAt(LocalDateTime.now());
+                    }
+                    return responses;
                 });
 
         // 서술형 문제만 있음
@@ -1275,62 +1235,72 @@ public class ExamServiceTest {
     @DisplayName("코스별 좋아요한 시험 문제 조회 - 좋아요한 문제가 있는 경우")
     void findLikedExamItemByCourseId_WithLikedItems() {
         // given
-        when(examRepo.findByCourseId(courseId)).thenReturn(Arrays.asList(testExam, anotherExam));
-        when(examItemRepo.findByExamId(examId)).thenReturn(Arrays.asList(likedExamItem1, notLikedExamItem));
-        when(examItemRepo.findByExamId(anotherExamId)).thenReturn(Arrays.asList(likedExamItem2));
+        when(examItemRepo.findLikedByCourseIdWithCursor(courseId, null, 20))
+                .thenReturn(new ArrayList<>(List.of(
+                        ExamItemOutput.fromEntity(likedExamItem1), ExamItemOutput.fromEntity(likedExamItem2))));
 
         // when
-        ExamItemListOutput result = examService.findLikedExamItemByCourseId(courseId);
+        LikedExamItemListOutput result = examService.findLikedExamItemByCourseId(courseId, null, 20);
 
         // then
         assertEquals(2, result.getExamItems().size());
+        assertFalse(result.isHasMore());
+        assertNull(result.getNextCursor());
 
         ExamItemOutput firstLikedItem = result.getExamItems().get(0);
         assertEquals(likedExamItemId1, firstLikedItem.getId());
+        assertEquals(examId, firstLikedItem.getExamId());
         assertEquals("What is inheritance?", firstLikedItem.getQuestion());
         assertEquals(QuestionType.short_answer, firstLikedItem.getQuestionType());
         assertEquals(Boolean.TRUE, firstLikedItem.getIsLiked());
 
         ExamItemOutput secondLikedItem = result.getExamItems().get(1);
         assertEquals(likedExamItemId2, secondLikedItem.getId());
+        assertEquals(anotherExamId, secondLikedItem.getExamId());
         assertEquals("Is Java object-oriented?", secondLikedItem.getQuestion());
         assertEquals(QuestionType.true_or_false, secondLikedItem.getQuestionType());
         assertEquals(Boolean.TRUE, secondLikedItem.getIsLiked());
 
-        verify(examRepo, times(1)).findByCourseId(courseId);
-        verify(examItemRepo, times(1)).findByExamId(examId);
-        verify(examItemRepo, times(1)).findByExamId(anotherExamId);
+        // 시험별로 문항을 불러오지 않고 조인 쿼리 한 번으로 조회
+        verify(examItemRepo, times(1)).findLikedByCourseIdWithCursor(courseId, null, 20);
+        verify(examRepo, never()).findByCourseId(any(UUID.class));
+        verify(examItemRepo, never()).findByExamId(any(UUID.class));
     }
 
     @Test
-    @DisplayName("코스별 좋아요한 시험 문제 조회 - 시험이 없는 경우")
-    void findLikedExamItemByCourseId_NoExams() {
+    @DisplayName("코스별 좋아요한 시험 문제 조회 - 다음 페이지가 있는 경우")
+    void findLikedExamItemByCourseId_HasMore() {
         // given
-        when(examRepo.findByCourseId(courseId)).thenReturn(Arrays.asList());
+        String cursor = new MessageCursor(LocalDateTime.of(2025, 3, 1, 12, 0), UUID.randomUUID()).encode();
+        LocalDateTime likedAt = LocalDateTime.of(2025, 3, 1, 11, 0, 0, 123_456_000);
+        likedExamItem1.setCreatedAt(likedAt);
+        when(examItemRepo.findLikedByCourseIdWithCursor(courseId, MessageCursor.decode(cursor), 1))
+                .thenReturn(new ArrayList<>(List.of(
+                        ExamItemOutput.fromEntity(likedExamItem1), ExamItemOutput.fromEntity(likedExamItem2))));
 
         // when
-        ExamItemListOutput result = examService.findLikedExamItemByCourseId(courseId);
+        LikedExamItemListOutput result = examService.findLikedExamItemByCourseId(courseId, cursor, 1);
 
         // then
-        assertEquals(0, result.getExamItems().size());
-        verify(examRepo, times(1)).findByCourseId(courseId);
-        verify(examItemRepo, never()).findByExamId(any(UUID.class));
+        assertEquals(1, result.getExamItems().size());
+        assertEquals(likedExamItemId1, result.getExamItems().get(0).getId());
+        assertTrue(result.isHasMore());
+        assertEquals(new MessageCursor(likedAt, likedExamItemId1).encode(), result.getNextCursor());
     }
 
     @Test
     @DisplayName("코스별 좋아요한 시험 문제 조회 - 좋아요한 문제가 없는 경우")
     void findLikedExamItemByCourseId_NoLikedItems() {
         // given
-        when(examRepo.findByCourseId(courseId)).thenReturn(Arrays.asList(testExam));
-        when(examItemRepo.findByExamId(examId)).thenReturn(Arrays.asList(notLikedExamItem));
+        when(examItemRepo.findLikedByCourseIdWithCursor(courseId, null, 20)).thenReturn(new ArrayList<>());
 
         // when
-        ExamItemListOutput result = examService.findLikedExamItemByCourseId(courseId);
+        LikedExamItemListOutput result = examService.findLikedExamItemByCourseId(courseId, null, 20);
 
         // then
         assertEquals(0, result.getExamItems().size());
-        verify(examRepo, times(1)).findByCourseId(courseId);
-        verify(examItemRepo, times(1)).findByExamId(examId);
+        assertFalse(result.isHasMore());
+        assertNull(result.getNextCursor());
     }
 
     @Test
@@ -1369,6 +1339,7 @@ public class ExamServiceTest {
         verify(examItemRepo, times(1)).findById(examItemId4);
         verify(examItemRepo, times(1)).updateExamItem(argThat(item ->
                 item.getId().equals(examItemId4) && Boolean.TRUE.equals(item.getIsLiked())));
+        verify(secondLevelCacheEvictions, times(1)).evict(ExamItem.class, List.of(examItemId4));
     }
 
     @Test
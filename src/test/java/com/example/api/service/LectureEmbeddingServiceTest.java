@@ -0,0 +1,255 @@
+package com.example.api.service;
+
+import com.example.api.adapters.sqs.GenerateEmbeddingsMessage;
+import com.example.api.adapters.sqs.SQSClient;
+import com.example.api.entity.*;
+import com.example.api.entity.enums.AuthType;
+import com.example.api.entity.enums.EmbeddingStatus;
+import com.example.api.entity.enums.Season;
+import com.example.api.entity.enums.SummaryStatus;
+import com.example.api.external.EmbeddingStatusCache;
+import com.example.api.external.LangchainClient;
+import com.example.api.repository.LectureRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * 벡터화 워커(GenerateEmbeddingsWorker)는 요청 스레드가 아닌 스케줄러/SQS 폴링 스레드에서 트랜잭션 없이 서비스를 호출합니다.
+ * 같은 조건에서 lazy 컬럼인 parsed_text를 읽을 수 있는지 확인하기 위해 테스트 트랜잭션 없이 커밋된 데이터로 실행합니다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class LectureEmbeddingServiceTest {
+    @Autowired
+    private LectureRepository lectureRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private LangchainClient langchainClient;
+    private EmbeddingStatusCache embeddingStatusCache;
+    private SQSClient sqsClient;
+    private LectureEmbeddingServiceImpl lectureEmbeddingService;
+
+    private TransactionTemplate transactionTemplate;
+    private School school;
+    private User user;
+    private Semester semester;
+    private Course course;
+    private Lecture lecture;
+
+    @BeforeEach
+    void setUp() {
+        langchainClient = mock(LangchainClient.class);
+        embeddingStatusCache = mock(EmbeddingStatusCache.class);
+        sqsClient = mock(SQSClient.class);
+        lectureEmbeddingService = new LectureEmbeddingServiceImpl(
+                lectureRepository, langchainClient, embeddingStatusCache, sqsClient, true, 300);
+        transactionTemplate = new TransactionTemplate(transactionManager);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            school = new School();
+            school.setId(UUID.randomUUID());
+            school.setName("Ajou University");
+            entityManager.persist(school);
+
+            user = new User();
+            user.setId(UUID.randomUUID());
+            user.setSchool(school);
+            user.setName("Test User");
+            user.setEmail("embedding-worker@example.com");
+            user.setAuthType(AuthType.email);
+            user.setCreatedAt(LocalDateTime.now());
+            user.setUpdatedAt(LocalDateTime.now());
+            entityManager.persist(user);
+
+            semester = new Semester();
+            semester.setId(UUID.randomUUID());
+            semester.setUser(user);
+            semester.setName("2025 봄학기");
+            semester.setYear(2025);
+            semester.setSeason(Season.spring);
+            entityManager.persist(semester);
+
+            course = new Course();
+            course.setId(UUID.randomUUID());
+            course.setSemester(semester);
+            course.setUser(user);
+            course.setName("운영체제");
+            entityManager.persist(course);
+
+            lecture = new Lecture();
+            lecture.setId(UUID.randomUUID());
+            lecture.setCourse(course);
+            lecture.setUser(user);
+            lecture.setTitle("Intro.");
+            lecture.setMaterialPath("");
+            lecture.setMaterialType("pdf");
+            lecture.setDisplayOrderLex("");
+            lecture.setSummaryStatus(SummaryStatus.not_started);
+            lecture.setParsedText(new ParsedText(1, List.of(new ParsedPage(1, "Page 1 content"))));
+            entityManager.persist(lecture);
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        transactionTemplate.executeWithoutResult(status -> {
+            entityManager.createQuery("DELETE FROM Lecture l WHERE l.id = :id").setParameter("id", lecture.getId()).executeUpdate();
+            entityManager.createQuery("DELETE FROM Course c WHERE c.id = :id").setParameter("id", course.getId()).executeUpdate();
+            entityManager.createQuery("DELETE FROM Semester s WHERE s.id = :id").setParameter("id", semester.getId()).executeUpdate();
+            entityManager.createQuery("DELETE FROM User u WHERE u.id = :id").setParameter("id", user.getId()).executeUpdate();
+            entityManager.createQuery("DELETE FROM School s WHERE s.id = :id").setParameter("id", school.getId()).executeUpdate();
+        });
+    }
+
+    @Test
+    @DisplayName("벡터화 메시지 처리 - 트랜잭션 밖에서도 parsed_text를 조회하여 벡터화")
+    void generateEmbeddingsOutsideTransactionTest() {
+        // Given
+        GenerateEmbeddingsMessage message = GenerateEmbeddingsMessage.builder()
+                .lectureId(lecture.getId())
+                .build();
+
+        // When
+        lectureEmbeddingService.generateEmbeddings(message);
+
+        // Then
+        verify(langchainClient).generateLectureEmbeddings(eq(lecture.getId()),
+                argThat(parsedText -> parsedText.getPages().size() == 1));
+        verify(embeddingStatusCache).markVectorized(any(Lecture.class));
+    }
+
+    @Test
+    @DisplayName("벡터화 메시지 처리 - 벡터화 중에 변경된 summary_status를 완료 처리가 덮어쓰지 않음")
+    void generateEmbeddingsKeepsConcurrentSummaryStatusTest() {
+        // Given
+        EmbeddingStatusCache realCache = new EmbeddingStatusCache(langchainClient, lectureRepository, 100, 60);
+        LectureEmbeddingServiceImpl service = new LectureEmbeddingServiceImpl(
+                lectureRepository, langchainClient, realCache, sqsClient, true, 300);
+        // LangChain 호출 중에 요약 워커가 summary_status를 completed로 변경
+        when(langchainClient.generateLectureEmbeddings(eq(lecture.getId()), any(ParsedText.class)))
+                .thenAnswer(invocation -> {
+                    transactionTemplate.executeWithoutResult(status -> entityManager
+                            .createQuery("UPDATE Lecture l SET l.summaryStatus = :completed WHERE l.id = :id")
+                            .setParameter("completed", SummaryStatus.completed)
+                            .setParameter("id", lecture.getId())
+                            .executeUpdate());
+                    return null;
+                });
+        GenerateEmbeddingsMessage message = GenerateEmbeddingsMessage.builder()
+                .lectureId(lecture.getId())
+                .build();
+
+        // When
+        service.generateEmbeddings(message);
+
+        // Then
+        var saved = lectureRepository.findOwnershipById(lecture.getId()).orElseThrow();
+        assertEquals(SummaryStatus.completed, saved.getSummaryStatus());
+        assertEquals(EmbeddingStatus.completed, saved.getEmbeddingStatus());
+        assertEquals(Boolean.TRUE, saved.getIsVectorized());
+    }
+
+    @Test
+    @DisplayName("벡터화 대기 강의 요청 - 트랜잭션 밖에서 조회한 강의도 텍스트 확인 후 요청 발행")
+    void dispatchPendingEmbeddingsOutsideTransactionTest() {
+        // Given
+        when(sqsClient.sendGenerateEmbeddingsMessage(any(GenerateEmbeddingsMessage.class)))
+                .thenReturn(CompletableFuture.completedFuture(null));
+
+        // When
+        int requested = lectureEmbeddingService.dispatchPendingEmbeddings(10);
+
+        // Then
+        assertEquals(1, requested);
+        verify(sqsClient).sendGenerateEmbeddingsMessage(argThat(message -> lecture.getId().equals(message.getLectureId())));
+        assertEquals(EmbeddingStatus.in_progress,
+                lectureRepository.findOwnershipById(lecture.getId()).orElseThrow().getEmbeddingStatus());
+    }
+
+    @Test
+    @DisplayName("벡터화 대기 강의 요청 - visibility timeout이 지나도록 in_progress인 강의는 다시 요청")
+    void dispatchPendingEmbeddingsRetriesStaleInProgressTest() {
+        // Given
+        setEmbeddingRequested(LocalDateTime.now().minusMinutes(10));
+        when(sqsClient.sendGenerateEmbeddingsMessage(any(GenerateEmbeddingsMessage.class)))
+                .thenReturn(CompletableFuture.completedFuture(null));
+
+        // When
+        int requested = lectureEmbeddingService.dispatchPendingEmbeddings(10);
+
+        // Then
+        assertEquals(1, requested);
+        verify(sqsClient).sendGenerateEmbeddingsMessage(argThat(message -> lecture.getId().equals(message.getLectureId())));
+    }
+
+    @Test
+    @DisplayName("벡터화 대기 강의 요청 - visibility timeout 안에 요청된 in_progress 강의는 다시 요청하지 않음")
+    void dispatchPendingEmbeddingsSkipsRecentInProgressTest() {
+        // Given
+        setEmbeddingRequested(LocalDateTime.now().minusMinutes(1));
+
+        // When
+        int requested = lectureEmbeddingService.dispatchPendingEmbeddings(10);
+
+        // Then
+        assertEquals(0, requested);
+        verify(sqsClient, never()).sendGenerateEmbeddingsMessage(any());
+    }
+
+    @Test
+    @DisplayName("벡터화 요청 - 벡터화 워커가 비활성화되어 있으면 상태를 바꾸지 않고 요청하지 않음")
+    void requestEmbeddingsWithoutWorkerTest() {
+        // Given
+        LectureEmbeddingServiceImpl service = new LectureEmbeddingServiceImpl(
+                lectureRepository, langchainClient, embeddingStatusCache, sqsClient, false, 300);
+
+        // When
+        boolean requested = service.requestEmbeddings(lecture);
+
+        // Then
+        assertFalse(requested);
+        verify(sqsClient, never()).sendGenerateEmbeddingsMessage(any());
+        assertEquals(EmbeddingStatus.not_started,
+                lectureRepository.findOwnershipById(lecture.getId()).orElseThrow().getEmbeddingStatus());
+    }
+
+    private void setEmbeddingRequested(LocalDateTime requestedAt) {
+        transactionTemplate.executeWithoutResult(status -> entityManager
+                .createQuery("UPDATE Lecture l SET l.embeddingStatus = :inProgress, l.embeddingRequestedAt = :requestedAt " +
+                        "WHERE l.id = :id")
+                .setParameter("inProgress", EmbeddingStatus.in_progress)
+                .setParameter("requestedAt", requestedAt)
+                .setParameter("id", lecture.getId())
+                .executeUpdate());
+    }
+}
@@ -3,8 +3,11 @@ package com.example.api.service;
 import com.example.api.entity.*;
 import com.example.api.entity.enums.SummaryStatus;
 import com.example.api.repository.CourseRepository;
+import com.example.api.repository.CourseScoreStatsRepository;
 import com.example.api.repository.LectureRepository;
 import com.example.api.repository.UserRepository;
+import com.example.api.security.ownership.OwnedResource;
+import com.example.api.security.ownership.OwnershipIndex;
 import com.example.api.service.dto.lecture.*;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -16,10 +19,14 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -37,6 +44,12 @@ public class LectureServiceTest {
     @Mock
     private CourseRepository courseRepository;
 
+    @Mock
+    private CourseScoreStatsRepository courseScoreStatsRepository;
+
+    @Mock
+    private OwnershipIndex ownershipIndex;
+
     @InjectMocks
     private LectureServiceImpl lectureService;
 
@@ -87,7 +100,7 @@ public class LectureServiceTest {
         testLecture.setMaterialType("pdf");
         testLecture.setDisplayOrderLex("1");
         testLecture.setNote(Map.of("key", "value"));
-        testLecture.setSummary(Map.of("summaryKey", "summaryValue"));
+        testLecture.setSummary(new LectureSummary(null, "summaryValue", List.of(), List.of(), List.of()));
         testLecture.setSummaryStatus(SummaryStatus.not_started);
         testLecture.setCreatedAt(LocalDateTime.now());
         testLecture.setUpdatedAt(LocalDateTime.now());
@@ -134,25 +147,26 @@ public class LectureServiceTest {
     @DisplayName("과목 ID로 강의 목록 조회")
     void findLecturesByCourseId() {
         // Given
-        when(lectureRepository.findByCourseId(courseId)).thenReturn(Arrays.asList(testLecture));
+        LectureOutput listItem = new LectureOutput(lectureId, courseId, userId, testLecture.getTitle(),
+                testLecture.getMaterialPath(), testLecture.getMaterialType(), testLecture.getDisplayOrderLex(),
+                SummaryStatus.not_started, null, null, null);
+        when(lectureRepository.findByCourseId(courseId, Set.of())).thenReturn(List.of(listItem));
 
         // When
-        LectureListOutput output = lectureService.findLecturesByCourseId(courseId);
+        LectureListOutput output = lectureService.findLecturesByCourseId(courseId, Set.of());
 
         // Then
         assertNotNull(output);
         assertEquals(1, output.getLectures().size());
         assertEquals(testLectureOutput.getId(), output.getLectures().get(0).getId());
 
-        // Verify parsedText in the list
+        // 목록에는 요청하지 않은 jsonb 컬럼이 포함되지 않음
         LectureOutput lecture = output.getLectures().get(0);
-        assertNotNull(lecture.getParsedText());
-        assertEquals(2, lecture.getParsedText().getTotalPages());
-        assertEquals(2, lecture.getParsedText().getPages().size());
-        assertEquals("Page 1 content", lecture.getParsedText().getPages().get(0).getText());
-        assertEquals("Page 2 content", lecture.getParsedText().getPages().get(1).getText());
+        assertNull(lecture.getParsedText());
+        assertNull(lecture.getSummary());
 
-        verify(lectureRepository).findByCourseId(courseId);
+        verify(lectureRepository).findByCourseId(courseId, Set.of());
+        verify(lectureRepository, never()).findById(any());
     }
 
     @Test
@@ -181,6 +195,7 @@ public class LectureServiceTest {
         verify(userRepository).getReferenceById(userId);
         verify(courseRepository).getReferenceById(courseId);
         verify(lectureRepository).createLecture(any(Lecture.class));
+        verify(ownershipIndex).register(OwnedResource.lecture, testLectureOutput.getId(), userId);
     }
 
     @Test
@@ -245,10 +260,83 @@ public class LectureServiceTest {
         assertEquals(testLectureOutput.getMaterialType(), output.getMaterialType());
     }
 
+    @Test
+    @DisplayName("권한 확인용 강의 메타데이터 조회")
+    void findLectureOwnershipById() {
+        // Given
+        LectureOwnershipOutput ownership = new LectureOwnershipOutput(
+                lectureId, userId, courseId, SummaryStatus.not_started, false, null);
+        when(lectureRepository.findOwnershipById(lectureId)).thenReturn(Optional.of(ownership));
+
+        // When
+        Optional<LectureOwnershipOutput> result = lectureService.findLectureOwnershipById(lectureId);
+
+        // Then
+        assertTrue(result.isPresent());
+        assertEquals(userId, result.get().getUserId());
+        assertEquals(courseId, result.get().getCourseId());
+        // 전체 엔티티(parsed_text 포함)는 조회하지 않음
+        verify(lectureRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("미리보기용 강의 키워드 조회")
+    void findLecturePreviewById() {
+        // Given
+        List<LectureSummary.Keyword> keywords = List.of(
+                new LectureSummary.Keyword("프로세스", "실행 중인 프로그램", 0.9f, new LectureSummary.PageRange(1, 2)));
+        when(lectureRepository.findPreviewById(lectureId))
+                .thenReturn(Optional.of(new LecturePreviewOutput(lectureId, userId, "강의", keywords)));
+
+        // When
+        Optional<LecturePreviewOutput> result = lectureService.findLecturePreviewById(lectureId);
+
+        // Then
+        assertTrue(result.isPresent());
+        assertEquals(userId, result.get().getUserId());
+        assertEquals("프로세스", result.get().getKeywords().get(0).keyword());
+        // summary 전체를 포함한 엔티티는 조회하지 않음
+        verify(lectureRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("강의 페이지 범위 스트리밍")
+    void streamLecturePages() throws Exception {
+        // Given
+        when(lectureRepository.findTotalPages(lectureId)).thenReturn(10);
+        when(lectureRepository.streamPages(lectureId, 2, 3)).thenReturn(Stream.of(
+                new ParsedPage(2, "Page 2 content"),
+                new ParsedPage(3, "Page 3 content")
+        ));
+        List<Integer> totalPages = new ArrayList<>();
+        List<ParsedPage> pages = new ArrayList<>();
+
+        // When
+        lectureService.streamLecturePages(lectureId, 2, 3, new LecturePageSink() {
+            @Override
+            public void begin(int total) {
+                totalPages.add(total);
+            }
+
+            @Override
+            public void page(ParsedPage page) {
+                pages.add(page);
+            }
+        });
+
+        // Then
+        assertEquals(List.of(10), totalPages);
+        assertEquals(2, pages.size());
+        assertEquals(2, pages.get(0).getPageNumber());
+        assertEquals("Page 3 content", pages.get(1).getText());
+        verify(lectureRepository, never()).findById(any());
+    }
+
     @Test
     @DisplayName("강의 삭제")
     void deleteLecture() {
         // Given
+        when(lectureRepository.findById(lectureId)).thenReturn(Optional.of(testLecture));
         doNothing().when(lectureRepository).deleteLecture(lectureId);
 
         // When
@@ -256,6 +344,8 @@ public class LectureServiceTest {
 
         // Then
         verify(lectureRepository).deleteLecture(lectureId);
+        verify(courseScoreStatsRepository).rebuild(courseId);
+        verify(ownershipIndex).evict(OwnedResource.lecture, lectureId);
     }
 }
 
@@ -2,33 +2,46 @@ package com.example.api.service;
 
 import com.example.api.adapters.llm.ChatMessage;
 import com.example.api.adapters.llm.LLMAdapter;
+import com.example.api.datasource.ReadYourWritesPin;
 import com.example.api.entity.*;
 import com.example.api.entity.enums.MessageRole;
 import com.example.api.exception.BadRequestException;
 import com.example.api.exception.NotFoundException;
+import com.example.api.external.EmbeddingStatusCache;
 import com.example.api.external.LangchainClient;
-import com.example.api.external.dto.langchain.EmbeddingCheckResponse;
+import com.example.api.external.QnaAnswerCache;
 import com.example.api.external.dto.langchain.MessageContextResponse;
 import com.example.api.external.dto.langchain.ReferenceResponse;
+import com.example.api.pipeline.StagedPipeline;
 import com.example.api.repository.*;
 import com.example.api.service.dto.qna.*;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 public class QnaChatServiceTest {
@@ -47,6 +60,16 @@ public class QnaChatServiceTest {
     private QnaQuestionRecommendService qnaQuestionRecommendService;
     @Mock
     private LLMAdapter llmAdapter;
+    @Mock
+    private EmbeddingStatusCache embeddingStatusCache;
+    @Mock
+    private LectureEmbeddingService lectureEmbeddingService;
+    @Mock
+    private QnaAnswerCache qnaAnswerCache;
+    @Mock
+    private ObjectProvider<ReadYourWritesPin> readYourWritesPin;
+    @Spy
+    private StagedPipeline stagedPipeline = new StagedPipeline(Runnable::run, new SimpleMeterRegistry());
 
     @InjectMocks
     private QnaChatServiceImpl qnaChatService;
@@ -62,6 +85,8 @@ public class QnaChatServiceTest {
 
     @BeforeEach
     public void setup() {
+        ReflectionTestUtils.setField(qnaChatService, "streamTimeout", Duration.ofSeconds(120));
+
         testUser = new User(TEST_USER_ID);
         testUser.setName("테스트사용자");
         testUser.setEmail("test@example.com");
@@ -95,9 +120,8 @@ public class QnaChatServiceTest {
             return savedChat;
         });
 
-        EmbeddingCheckResponse mockResponse = new EmbeddingCheckResponse();
-        when(langchainClient.checkEmbeddingStatus(TEST_LECTURE_ID))
-                .thenReturn(mockResponse);
+        when(embeddingStatusCache.isVectorized(testLecture)).thenReturn(false);
+        when(lectureEmbeddingService.requestEmbeddings(testLecture)).thenReturn(true);
 
         // When
         CreateQnaChatInput input = new CreateQnaChatInput(TEST_USER_ID, TEST_LECTURE_ID);
@@ -107,6 +131,9 @@ public class QnaChatServiceTest {
         assertNotNull(output);
         assertEquals(TEST_CHAT_ID, output.getChatId());
         assertNotNull(output.getCreatedAt());
+        // 벡터화는 워커에게 요청만 하고 채팅방 생성 중에 직접 수행하지 않음
+        verify(lectureEmbeddingService).requestEmbeddings(testLecture);
+        verify(langchainClient, never()).generateLectureEmbeddings(any(), any());
     }
 
     @Test
@@ -167,11 +194,12 @@ public class QnaChatServiceTest {
         message2.setIsLiked(true);
         message2.setReferences(List.of(new ReferenceResponse.ReferenceChunkResponse("출처1", 42)));
 
-        when(qnaChatMessageRepository.findByQnaChatIdWithCursor(eq(TEST_CHAT_ID), eq(TEST_MESSAGE_ID), eq(20)))
+        MessageCursor cursor = new MessageCursor(LocalDateTime.of(2025, 5, 28, 4, 15, 30, 123456000), UUID.randomUUID());
+        when(qnaChatMessageRepository.findByQnaChatIdWithCursor(eq(TEST_CHAT_ID), eq(cursor), eq(20)))
                 .thenReturn(List.of(message1, message2));
 
         // When
-        GetQnaChatMessagesInput input = new GetQnaChatMessagesInput(TEST_LECTURE_ID, TEST_USER_ID, TEST_MESSAGE_ID, 20);
+        GetQnaChatMessagesInput input = new GetQnaChatMessagesInput(TEST_LECTURE_ID, TEST_USER_ID, cursor.encode(), 20);
         GetQnaChatMessagesOutput output = qnaChatService.getMessages(input);
 
         // Then
@@ -192,6 +220,90 @@ public class QnaChatServiceTest {
         assertEquals("출처1", output.getMessages().get(1).getReferences().get(0).getText());
     }
 
+    @Test
+    @DisplayName("메세지 조회 - 다음 페이지가 있는 경우 마지막 메세지의 (createdAt, id)를 nextCursor로 반환")
+    public void getMessagesHasMoreTest() {
+        // Given
+        LocalDateTime sameTime = LocalDateTime.of(2025, 5, 28, 4, 15, 30, 123456000);
+        QnaChatMessage newer = new QnaChatMessage();
+        newer.setId(UUID.randomUUID());
+        newer.setRole(MessageRole.ASSISTANT);
+        newer.setContent("재귀 함수는 자기 자신을 호출하는 함수입니다.");
+        newer.setCreatedAt(sameTime);
+        newer.setIsLiked(false);
+
+        QnaChatMessage older = new QnaChatMessage();
+        older.setId(UUID.randomUUID());
+        older.setRole(MessageRole.USER);
+        older.setContent("재귀 함수란 무엇인가요?");
+        older.setCreatedAt(sameTime);
+        older.setIsLiked(false);
+
+        when(qnaChatRepository.findByLectureIdAndUserId(TEST_LECTURE_ID, TEST_USER_ID))
+                .thenReturn(Optional.of(testQnaChat));
+        when(qnaChatMessageRepository.findByQnaChatIdWithCursor(TEST_CHAT_ID, null, 1))
+                .thenReturn(new ArrayList<>(List.of(newer, older)));
+
+        // When
+        GetQnaChatMessagesOutput output = qnaChatService.getMessages(
+                new GetQnaChatMessagesInput(TEST_LECTURE_ID, TEST_USER_ID, null, 1));
+
+        // Then
+        assertEquals(1, output.getMessages().size());
+        assertTrue(output.getHasMore());
+        assertEquals(new MessageCursor(sameTime, newer.getId()), MessageCursor.decode(output.getNextCursor()));
+    }
+
+    @Test
+    @DisplayName("메세지 조회 실패 - 잘못된 cursor")
+    public void getMessagesInvalidCursorTest() {
+        // Given
+        when(qnaChatRepository.findByLectureIdAndUserId(TEST_LECTURE_ID, TEST_USER_ID))
+                .thenReturn(Optional.of(testQnaChat));
+
+        // When & Then
+        GetQnaChatMessagesInput input = new GetQnaChatMessagesInput(TEST_LECTURE_ID, TEST_USER_ID, "not-a-cursor", 20);
+        BadRequestException exception = assertThrows(BadRequestException.class, () -> qnaChatService.getMessages(input));
+        assertEquals("잘못된 cursor입니다", exception.getMessage());
+        verify(qnaChatMessageRepository, never()).findByQnaChatIdWithCursor(any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("메세지 기록 스트리밍 조회 - 오래된 메세지부터 sink에 전달하고 스트림을 닫음")
+    public void streamMessagesTest() throws Exception {
+        // Given
+        QnaChatMessage question = new QnaChatMessage();
+        question.setId(UUID.randomUUID());
+        question.setRole(MessageRole.USER);
+        question.setContent("재귀 함수란 무엇인가요?");
+        question.setCreatedAt(LocalDateTime.now().minusMinutes(1));
+        question.setIsLiked(false);
+        question.setReferences(List.of(new ReferenceResponse.ReferenceChunkResponse("출처1", 42)));
+
+        QnaChatMessage answer = new QnaChatMessage();
+        answer.setId(TEST_MESSAGE_ID);
+        answer.setRole(MessageRole.ASSISTANT);
+        answer.setContent("재귀 함수는 자기 자신을 호출하는 함수입니다.");
+        answer.setCreatedAt(LocalDateTime.now());
+        answer.setIsLiked(true);
+
+        AtomicBoolean closed = new AtomicBoolean(false);
+        when(qnaChatMessageRepository.streamByQnaChatId(TEST_CHAT_ID, null))
+                .thenReturn(Stream.of(question, answer).onClose(() -> closed.set(true)));
+
+        // When
+        List<GetQnaChatMessagesOutput.MessageItem> received = new ArrayList<>();
+        qnaChatService.streamMessages(TEST_CHAT_ID, null, received::add);
+
+        // Then
+        assertEquals(2, received.size());
+        assertEquals("user", received.get(0).getRole());
+        assertNull(received.get(0).getReferences()); // USER 메세지는 references를 내려주지 않음
+        assertEquals(TEST_MESSAGE_ID, received.get(1).getMessageId());
+        assertTrue(received.get(1).isLiked());
+        assertTrue(closed.get());
+    }
+
     @Test
     @DisplayName("질문 요청 성공 테스트")
     public void askSuccessTest() {
@@ -209,9 +321,7 @@ public class QnaChatServiceTest {
             return msg;
         });
 
-        EmbeddingCheckResponse mockResponse = new EmbeddingCheckResponse();
-        when(langchainClient.checkEmbeddingStatus(TEST_LECTURE_ID))
-                .thenReturn(mockResponse);
+        when(embeddingStatusCache.isVectorized(testLecture)).thenReturn(false);
 
         // 출처 모의
         ReferenceResponse referenceResponse = new ReferenceResponse();
@@ -258,6 +368,244 @@ public class QnaChatServiceTest {
         assertEquals("재귀 함수의 장단점은 무엇인가요?", output.getRecommendedQuestions().get(0));
     }
 
+    @Test
+    @DisplayName("질문 성공 테스트 - 대화 맥락이 없고 캐시된 답변이 있으면 출처 검색과 GPT 호출 생략")
+    public void askSuccessTest_CachedAnswer() {
+        // Given
+        String question = "재귀 함수란 무엇인가요?";
+        List<ReferenceResponse.ReferenceChunkResponse> references = List.of(
+                new ReferenceResponse.ReferenceChunkResponse("재귀 함수는 자기 자신을 호출하는 함수입니다.", 42));
+        QnaAnswerCache.CachedAnswer cachedAnswer = new QnaAnswerCache.CachedAnswer(
+                question, "캐시된 답변", references, LocalDateTime.now(), QnaAnswerCache.MATCH_EXACT);
+
+        when(qnaChatRepository.findByLectureIdAndUserId(TEST_LECTURE_ID, TEST_USER_ID))
+                .thenReturn(Optional.of(testQnaChat));
+        when(qnaChatMessageRepository.save(any(QnaChatMessage.class))).thenAnswer(invocation -> {
+            QnaChatMessage msg = invocation.getArgument(0);
+            msg.setId(TEST_MESSAGE_ID);
+            msg.setCreatedAt(LocalDateTime.now());
+            return msg;
+        });
+        when(qnaAnswerCache.findExact(TEST_LECTURE_ID, question)).thenReturn(cachedAnswer);
+        when(langchainClient.getMessageContext(TEST_CHAT_ID)).thenReturn(new MessageContextResponse(new ArrayList<>()));
+        when(langchainClient.appendMessages(any(UUID.class), anyList()))
+                .thenReturn(new MessageContextResponse(new ArrayList<>()));
+        when(qnaQuestionRecommendService.recommendQuestions(eq(question))).thenReturn(List.of());
+
+        // When
+        QnaChatMessageInput input = new QnaChatMessageInput(TEST_LECTURE_ID, TEST_USER_ID, question);
+        QnaChatMessageOutput output = qnaChatService.ask(input);
+
+        // Then
+        assertEquals("캐시된 답변", output.getContent());
+        assertEquals(1, output.getReferences().size());
+        verify(qnaAnswerCache).recordHit(cachedAnswer);
+        verify(langchainClient, never()).findReferencesInLecture(any(), anyString(), anyInt(), anyDouble());
+        verify(llmAdapter, never()).ask(anyString(), anyList(), anyList());
+        verify(qnaAnswerCache, never()).put(any(), anyString(), anyString(), anyList());
+    }
+
+    @Test
+    @DisplayName("질문 성공 테스트 - 추천 질문 저장에 실패하면 빈 목록을 저장하여 생성 중으로 남지 않음")
+    public void askSuccessTest_RecommendedQuestionsSaveFailed() {
+        // Given
+        String question = "재귀 함수란 무엇인가요?";
+        List<ReferenceResponse.ReferenceChunkResponse> references = List.of(
+                new ReferenceResponse.ReferenceChunkResponse("재귀 함수는 자기 자신을 호출하는 함수입니다.", 42));
+        QnaAnswerCache.CachedAnswer cachedAnswer = new QnaAnswerCache.CachedAnswer(
+                question, "캐시된 답변", references, LocalDateTime.now(), QnaAnswerCache.MATCH_EXACT);
+
+        when(qnaChatRepository.findByLectureIdAndUserId(TEST_LECTURE_ID, TEST_USER_ID))
+                .thenReturn(Optional.of(testQnaChat));
+        when(qnaChatMessageRepository.save(any(QnaChatMessage.class))).thenAnswer(invocation -> {
+            QnaChatMessage msg = invocation.getArgument(0);
+            msg.setId(TEST_MESSAGE_ID);
+            msg.setCreatedAt(LocalDateTime.now());
+            return msg;
+        });
+        when(qnaAnswerCache.findExact(TEST_LECTURE_ID, question)).thenReturn(cachedAnswer);
+        when(langchainClient.getMessageContext(TEST_CHAT_ID)).thenReturn(new MessageContextResponse(new ArrayList<>()));
+        when(langchainClient.appendMessages(any(UUID.class), anyList()))
+                .thenReturn(new MessageContextResponse(new ArrayList<>()));
+        when(qnaQuestionRecommendService.recommendQuestions(eq(question)))
+                .thenReturn(List.of("재귀 함수의 장단점은 무엇인가요?"));
+        doThrow(new RuntimeException("DB 오류"))
+                .doNothing()
+                .when(qnaChatMessageRepository).updateRecommendedQuestions(eq(TEST_MESSAGE_ID), anyList());
+
+        // When
+        QnaChatMessageInput input = new QnaChatMessageInput(TEST_LECTURE_ID, TEST_USER_ID, question);
+        qnaChatService.ask(input);
+
+        // Then
+        verify(qnaChatMessageRepository).updateRecommendedQuestions(TEST_MESSAGE_ID, List.of("재귀 함수의 장단점은 무엇인가요?"));
+        verify(qnaChatMessageRepository).updateRecommendedQuestions(TEST_MESSAGE_ID, List.of());
+    }
+
+    @Test
+    @DisplayName("질문 성공 테스트 - 이전 대화 맥락이 있으면 캐시된 답변을 사용하지 않음")
+    public void askSuccessTest_CacheSkippedWithContext() {
+        // Given
+        String question = "재귀 함수란 무엇인가요?";
+        List<ReferenceResponse.ReferenceChunkResponse> references = List.of(
+                new ReferenceResponse.ReferenceChunkResponse("재귀 함수는 자기 자신을 호출하는 함수입니다.", 42));
+        QnaAnswerCache.CachedAnswer cachedAnswer = new QnaAnswerCache.CachedAnswer(
+                question, "캐시된 답변", references, LocalDateTime.now(), QnaAnswerCache.MATCH_EXACT);
+        List<ChatMessage> messageHistory = List.of(
+                new ChatMessage("user", "재귀 함수란?"),
+                new ChatMessage("assistant", "자기 자신을 호출하는 함수입니다."));
+
+        when(qnaChatRepository.findByLectureIdAndUserId(TEST_LECTURE_ID, TEST_USER_ID))
+                .thenReturn(Optional.of(testQnaChat));
+        when(qnaChatMessageRepository.save(any(QnaChatMessage.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(qnaAnswerCache.findExact(TEST_LECTURE_ID, question)).thenReturn(cachedAnswer);
+        when(langchainClient.getMessageContext(TEST_CHAT_ID)).thenReturn(new MessageContextResponse(messageHistory));
+        when(llmAdapter.ask(eq(question), anyList(), eq(messageHistory))).thenReturn("맥락을 반영한 답변");
+        when(langchainClient.appendMessages(any(UUID.class), anyList()))
+                .thenReturn(new MessageContextResponse(messageHistory));
+        when(qnaQuestionRecommendService.recommendQuestions(eq(question))).thenReturn(List.of());
+
+        // When
+        QnaChatMessageInput input = new QnaChatMessageInput(TEST_LECTURE_ID, TEST_USER_ID, question);
+        QnaChatMessageOutput output = qnaChatService.ask(input);
+
+        // Then
+        assertEquals("맥락을 반영한 답변", output.getContent());
+        verify(qnaAnswerCache).recordSkip();
+        verify(qnaAnswerCache, never()).put(any(), anyString(), anyString(), anyList());
+    }
+
+    @Test
+    @DisplayName("질문 성공 테스트 - 레퍼런스 검색 404 시 벡터화 상태 무효화 후 재벡터화")
+    public void askSuccessTest_ReferenceNotFound() {
+        // Given
+        String question = "재귀 함수란 무엇인가요?";
+
+        when(qnaChatRepository.findByLectureIdAndUserId(TEST_LECTURE_ID, TEST_USER_ID))
+                .thenReturn(Optional.of(testQnaChat));
+        when(lectureRepository.findById(TEST_LECTURE_ID)).thenReturn(Optional.of(testLecture));
+        when(qnaChatMessageRepository.save(any(QnaChatMessage.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(embeddingStatusCache.isVectorized(testLecture)).thenReturn(true);
+        when(lectureRepository.findParsedTextById(TEST_LECTURE_ID)).thenReturn(Optional.of(testLecture.getParsedText()));
+
+        ReferenceResponse referenceResponse = new ReferenceResponse();
+        referenceResponse.setReferences(new ArrayList<>());
+        when(langchainClient.findReferencesInLecture(eq(TEST_LECTURE_ID), eq(question), eq(3), eq(0.3)))
+                .thenThrow(new NotFoundException("강의자료 벡터 인덱스가 존재하지 않습니다."))
+                .thenReturn(referenceResponse);
+        when(langchainClient.getMessageContext(TEST_CHAT_ID)).thenReturn(new MessageContextResponse(new ArrayList<>()));
+        when(llmAdapter.ask(eq(question), anyList(), anyList())).thenReturn("답변");
+        when(langchainClient.appendMessages(any(UUID.class), anyList()))
+                .thenReturn(new MessageContextResponse(new ArrayList<>()));
+        when(qnaQuestionRecommendService.recommendQuestions(eq(question))).thenReturn(List.of());
+
+        // When
+        QnaChatMessageInput input = new QnaChatMessageInput(TEST_LECTURE_ID, TEST_USER_ID, question);
+        QnaChatMessageOutput output = qnaChatService.ask(input);
+
+        // Then
+        assertEquals("답변", output.getContent());
+        verify(embeddingStatusCache).invalidate(testLecture);
+        verify(langchainClient).generateLectureEmbeddings(eq(TEST_LECTURE_ID), any(ParsedText.class));
+        verify(embeddingStatusCache).markVectorized(testLecture);
+    }
+
+    @Test
+    @DisplayName("질문 스트리밍 성공 테스트 - references, token, done, recommendations 순서로 전달")
+    public void askStreamSuccessTest() {
+        // Given
+        String question = "재귀 함수란 무엇인가요?";
+
+        when(qnaChatRepository.findByLectureIdAndUserId(TEST_LECTURE_ID, TEST_USER_ID))
+                .thenReturn(Optional.of(testQnaChat));
+        when(lectureRepository.findById(TEST_LECTURE_ID)).thenReturn(Optional.of(testLecture));
+        when(qnaChatMessageRepository.save(any(QnaChatMessage.class))).thenAnswer(invocation -> {
+            QnaChatMessage msg = invocation.getArgument(0);
+            msg.setId(TEST_MESSAGE_ID);
+            msg.setCreatedAt(LocalDateTime.now());
+            return msg;
+        });
+
+        when(embeddingStatusCache.isVectorized(testLecture)).thenReturn(true);
+
+        ReferenceResponse referenceResponse = new ReferenceResponse();
+        List<ReferenceResponse.ReferenceChunkResponse> references = new ArrayList<>();
+        references.add(new ReferenceResponse.ReferenceChunkResponse("재귀 함수는 자기 자신을 호출하는 함수입니다.", 42));
+        referenceResponse.setReferences(references);
+        when(langchainClient.findReferencesInLecture(eq(TEST_LECTURE_ID), eq(question), eq(3), eq(0.3)))
+                .thenReturn(referenceResponse);
+
+        List<ChatMessage> messageHistory = new ArrayList<>();
+        when(langchainClient.getMessageContext(TEST_CHAT_ID)).thenReturn(new MessageContextResponse(messageHistory));
+
+        List<String> referenceTexts = references.stream().map(ReferenceResponse.ReferenceChunkResponse::getText).toList();
+        when(llmAdapter.streamAsk(eq(question), eq(referenceTexts), eq(messageHistory)))
+                .thenReturn(Flux.just("재귀 함수는 ", "자기 자신을 호출하는 함수입니다."));
+
+        when(langchainClient.appendMessages(any(UUID.class), anyList()))
+                .thenReturn(new MessageContextResponse(messageHistory));
+        when(qnaQuestionRecommendService.recommendQuestions(eq(question)))
+                .thenReturn(List.of("재귀 함수의 장단점은 무엇인가요?"));
+
+        // When
+        QnaChatMessageInput input = new QnaChatMessageInput(TEST_LECTURE_ID, TEST_USER_ID, question);
+        List<QnaChatStreamEvent> events = qnaChatService.askStream(input).collectList().block();
+
+        // Then
+        assertNotNull(events);
+        assertEquals(List.of(
+                        QnaChatStreamEvent.REFERENCES,
+                        QnaChatStreamEvent.TOKEN,
+                        QnaChatStreamEvent.TOKEN,
+                        QnaChatStreamEvent.DONE,
+                        QnaChatStreamEvent.RECOMMENDATIONS),
+                events.stream().map(QnaChatStreamEvent::getType).toList());
+
+        QnaChatStreamEvent.Done done = (QnaChatStreamEvent.Done) events.get(3).getData();
+        assertEquals(TEST_MESSAGE_ID, done.getMessageId());
+
+        // 스트림이 끝난 뒤 전체 답변이 AI 메시지로 저장되었는지 확인
+        ArgumentCaptor<QnaChatMessage> messageCaptor = ArgumentCaptor.forClass(QnaChatMessage.class);
+        verify(qnaChatMessageRepository, times(2)).save(messageCaptor.capture());
+        QnaChatMessage botMsg = messageCaptor.getAllValues().get(1);
+        assertEquals(MessageRole.ASSISTANT, botMsg.getRole());
+        assertEquals("재귀 함수는 자기 자신을 호출하는 함수입니다.", botMsg.getContent());
+    }
+
+    @Test
+    @DisplayName("질문 스트리밍 실패 테스트 - LLM 오류 시 error 이벤트로 종료")
+    public void askStreamFailTest_LlmError() {
+        // Given
+        String question = "재귀 함수란 무엇인가요?";
+
+        when(qnaChatRepository.findByLectureIdAndUserId(TEST_LECTURE_ID, TEST_USER_ID))
+                .thenReturn(Optional.of(testQnaChat));
+        when(lectureRepository.findById(TEST_LECTURE_ID)).thenReturn(Optional.of(testLecture));
+        when(qnaChatMessageRepository.save(any(QnaChatMessage.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        when(embeddingStatusCache.isVectorized(testLecture)).thenReturn(true);
+
+        ReferenceResponse referenceResponse = new ReferenceResponse();
+        referenceResponse.setReferences(new ArrayList<>());
+        when(langchainClient.findReferencesInLecture(eq(TEST_LECTURE_ID), eq(question), eq(3), eq(0.3)))
+                .thenReturn(referenceResponse);
+        when(langchainClient.getMessageContext(TEST_CHAT_ID)).thenReturn(new MessageContextResponse(new ArrayList<>()));
+        when(llmAdapter.streamAsk(eq(question), anyList(), anyList()))
+                .thenReturn(Flux.error(new RuntimeException("OpenAI API 호출 중 오류 발생")));
+        when(qnaQuestionRecommendService.recommendQuestions(eq(question)))
+                .thenReturn(List.of());
+
+        // When
+        QnaChatMessageInput input = new QnaChatMessageInput(TEST_LECTURE_ID, TEST_USER_ID, question);
+        List<QnaChatStreamEvent> events = qnaChatService.askStream(input).collectList().block();
+
+        // Then
+        assertNotNull(events);
+        assertEquals(QnaChatStreamEvent.REFERENCES, events.get(0).getType());
+        assertEquals(QnaChatStreamEvent.ERROR, events.get(events.size() - 1).getType());
+        verify(langchainClient, never()).appendMessages(any(UUID.class), anyList());
+    }
+
     @Test
     @DisplayName("좋아요 토글 성공 테스트 - 좋아요 추가")
     public void toggleLikeMessageSuccess_AddLike() {
@@ -346,11 +694,11 @@ public class QnaChatServiceTest {
 
         when(qnaChatRepository.findByLectureIdAndUserId(TEST_LECTURE_ID, TEST_USER_ID))
                 .thenReturn(Optional.of(testQnaChat));
-        when(qnaChatMessageRepository.findByQnaChatIdAndIsLikedTrue(TEST_CHAT_ID))
-                .thenReturn(List.of(likedMessage));
+        when(qnaChatMessageRepository.findLikedByQnaChatIdWithCursor(TEST_CHAT_ID, null, 20))
+                .thenReturn(new ArrayList<>(List.of(likedMessage)));
 
         // When
-        GetLikedMessagesInput input = new GetLikedMessagesInput(TEST_LECTURE_ID, TEST_USER_ID);
+        GetLikedMessagesInput input = new GetLikedMessagesInput(TEST_LECTURE_ID, TEST_USER_ID, null, 20);
         GetLikedMessagesOutput output = qnaChatService.getLikedMessages(input);
 
         // Then
@@ -364,5 +712,134 @@ public class QnaChatServiceTest {
         assertNotNull(output.getMessages().get(0).getReferences());
         assertEquals(1, output.getMessages().get(0).getReferences().size());
         assertEquals("출처1", output.getMessages().get(0).getReferences().get(0).getText());
+        assertFalse(output.getHasMore());
+        assertNull(output.getNextCursor());
+    }
+
+    @Test
+    @DisplayName("좋아요한 메시지 조회 - 다음 페이지가 있는 경우 마지막 메세지를 nextCursor로 반환")
+    public void getLikedMessagesHasMoreTest() {
+        // Given
+        MessageCursor cursor = new MessageCursor(LocalDateTime.of(2025, 5, 28, 4, 15, 30), UUID.randomUUID());
+        UUID olderMessageId = UUID.randomUUID();
+
+        QnaChatMessage likedMessage = new QnaChatMessage();
+        likedMessage.setId(TEST_MESSAGE_ID);
+        likedMessage.setRole(MessageRole.ASSISTANT);
+        likedMessage.setContent("재귀 함수는 자기 자신을 호출하는 함수입니다.");
+        likedMessage.setCreatedAt(LocalDateTime.now());
+        likedMessage.setIsLiked(true);
+
+        QnaChatMessage olderLikedMessage = new QnaChatMessage();
+        olderLikedMessage.setId(olderMessageId);
+        olderLikedMessage.setRole(MessageRole.ASSISTANT);
+        olderLikedMessage.setContent("스택은 후입선출 구조입니다.");
+        olderLikedMessage.setCreatedAt(LocalDateTime.now().minusMinutes(1));
+        olderLikedMessage.setIsLiked(true);
+
+        when(qnaChatRepository.findByLectureIdAndUserId(TEST_LECTURE_ID, TEST_USER_ID))
+                .thenReturn(Optional.of(testQnaChat));
+        when(qnaChatMessageRepository.findLikedByQnaChatIdWithCursor(TEST_CHAT_ID, cursor, 1))
+                .thenReturn(new ArrayList<>(List.of(likedMessage, olderLikedMessage)));
+
+        // When
+        GetLikedMessagesOutput output = qnaChatService.getLikedMessages(
+                new GetLikedMessagesInput(TEST_LECTURE_ID, TEST_USER_ID, cursor.encode(), 1));
+
+        // Then
+        assertEquals(1, output.getMessages().size());
+        assertEquals(TEST_MESSAGE_ID, output.getMessages().get(0).getMessageId());
+        assertTrue(output.getHasMore());
+        assertEquals(MessageCursor.of(likedMessage), MessageCursor.decode(output.getNextCursor()));
+    }
+
+    @Test
+    @DisplayName("추천 질문 조회 성공 테스트 - 생성 완료")
+    public void getRecommendedQuestionsSuccessTest_Ready() {
+        // Given
+        QnaChatMessage botMessage = new QnaChatMessage();
+        botMessage.setId(TEST_MESSAGE_ID);
+        botMessage.setQnaChat(testQnaChat);
+        botMessage.setRole(MessageRole.ASSISTANT);
+        botMessage.setRecommendedQuestions(List.of("재귀 함수의 장단점은 무엇인가요?"));
+
+        when(qnaChatRepository.findByLectureIdAndUserId(TEST_LECTURE_ID, TEST_USER_ID))
+                .thenReturn(Optional.of(testQnaChat));
+        when(qnaChatMessageRepository.findById(TEST_MESSAGE_ID)).thenReturn(Optional.of(botMessage));
+
+        // When
+        GetRecommendedQuestionsInput input = new GetRecommendedQuestionsInput(TEST_LECTURE_ID, TEST_USER_ID, TEST_MESSAGE_ID);
+        GetRecommendedQuestionsOutput output = qnaChatService.getRecommendedQuestions(input);
+
+        // Then
+        assertEquals(TEST_MESSAGE_ID, output.getMessageId());
+        assertTrue(output.isReady());
+        assertEquals("재귀 함수의 장단점은 무엇인가요?", output.getRecommendedQuestions().get(0));
+    }
+
+    @Test
+    @DisplayName("추천 질문 조회 성공 테스트 - 생성 중")
+    public void getRecommendedQuestionsSuccessTest_Pending() {
+        // Given
+        QnaChatMessage botMessage = new QnaChatMessage();
+        botMessage.setId(TEST_MESSAGE_ID);
+        botMessage.setQnaChat(testQnaChat);
+        botMessage.setRole(MessageRole.ASSISTANT);
+        botMessage.setCreatedAt(LocalDateTime.now());
+
+        when(qnaChatRepository.findByLectureIdAndUserId(TEST_LECTURE_ID, TEST_USER_ID))
+                .thenReturn(Optional.of(testQnaChat));
+        when(qnaChatMessageRepository.findById(TEST_MESSAGE_ID)).thenReturn(Optional.of(botMessage));
+
+        // When
+        GetRecommendedQuestionsInput input = new GetRecommendedQuestionsInput(TEST_LECTURE_ID, TEST_USER_ID, TEST_MESSAGE_ID);
+        GetRecommendedQuestionsOutput output = qnaChatService.getRecommendedQuestions(input);
+
+        // Then
+        assertFalse(output.isReady());
+        assertTrue(output.getRecommendedQuestions().isEmpty());
+    }
+
+    @Test
+    @DisplayName("추천 질문 조회 성공 테스트 - 스트림 타임아웃이 지나도록 저장되지 않았으면 빈 목록으로 완료 처리")
+    public void getRecommendedQuestionsSuccessTest_Expired() {
+        // Given
+        QnaChatMessage botMessage = new QnaChatMessage();
+        botMessage.setId(TEST_MESSAGE_ID);
+        botMessage.setQnaChat(testQnaChat);
+        botMessage.setRole(MessageRole.ASSISTANT);
+        botMessage.setCreatedAt(LocalDateTime.now().minusMinutes(10));
+
+        when(qnaChatRepository.findByLectureIdAndUserId(TEST_LECTURE_ID, TEST_USER_ID))
+                .thenReturn(Optional.of(testQnaChat));
+        when(qnaChatMessageRepository.findById(TEST_MESSAGE_ID)).thenReturn(Optional.of(botMessage));
+
+        // When
+        GetRecommendedQuestionsInput input = new GetRecommendedQuestionsInput(TEST_LECTURE_ID, TEST_USER_ID, TEST_MESSAGE_ID);
+        GetRecommendedQuestionsOutput output = qnaChatService.getRecommendedQuestions(input);
+
+        // Then
+        assertTrue(output.isReady());
+        assertTrue(output.getRecommendedQuestions().isEmpty());
+    }
+
+    @Test
+    @DisplayName("추천 질문 조회 실패 테스트 - 다른 채팅방의 메시지")
+    public void getRecommendedQuestionsFailTest_OtherChat() {
+        // Given
+        QnaChat otherChat = new QnaChat();
+        otherChat.setId(UUID.randomUUID());
+        QnaChatMessage otherMessage = new QnaChatMessage();
+        otherMessage.setId(TEST_MESSAGE_ID);
+        otherMessage.setQnaChat(otherChat);
+        otherMessage.setRole(MessageRole.ASSISTANT);
+
+        when(qnaChatRepository.findByLectureIdAndUserId(TEST_LECTURE_ID, TEST_USER_ID))
+                .thenReturn(Optional.of(testQnaChat));
+        when(qnaChatMessageRepository.findById(TEST_MESSAGE_ID)).thenReturn(Optional.of(otherMessage));
+
+        // When & Then
+        GetRecommendedQuestionsInput input = new GetRecommendedQuestionsInput(TEST_LECTURE_ID, TEST_USER_ID, TEST_MESSAGE_ID);
+        assertThrows(NotFoundException.class, () -> qnaChatService.getRecommendedQuestions(input));
     }
-}
\ No newline at end of file
+}
@@ -1,13 +1,20 @@
 package com.example.api.service;
 
 import com.example.api.adapters.sqs.GradeQuizEssayMessage;
-import com.example.api.adapters.sqs.SQSClient;
+import com.example.api.adapters.sqs.SqsOutbox;
+import com.example.api.datasource.SecondLevelCacheEvictions;
 import com.example.api.entity.*;
 import com.example.api.entity.enums.QuestionType;
 import com.example.api.entity.enums.Status;
 import com.example.api.entity.enums.SummaryStatus;
+import com.example.api.exception.BadRequestException;
+import com.example.api.grading.GradedResultCache;
+import com.example.api.grading.GradingEngine;
+import com.example.api.grading.ResponseGrade;
+import com.example.api.grading.StandardScoringPolicy;
 import com.example.api.repository.*;
 import com.example.api.service.dto.quiz.*;
+import com.example.api.service.dto.qna.MessageCursor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -16,6 +23,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.context.ActiveProfiles;
 
@@ -24,6 +32,7 @@ import java.util.*;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.*;
 
@@ -49,13 +58,25 @@ public class QuizServiceTest {
     private LectureRepository lectureRepository;
 
     @Mock
-    private SQSClient sqsClient;
+    private CourseScoreStatsRepository courseScoreStatsRepository;
+
+    @Mock
+    private SqsOutbox sqsOutbox;
+
+    @Mock
+    private SecondLevelCacheEvictions secondLevelCacheEvictions;
+
+    @Spy
+    private GradingEngine gradingEngine = new GradingEngine(new StandardScoringPolicy(), 100, 10);
+
+    @Spy
+    private GradedResultCache gradedResultCache = new GradedResultCache(100, 10);
 
     @InjectMocks
     private QuizServiceImpl quizService;
 
     @Captor
-    private ArgumentCaptor<QuizResponse> quizResponseCaptor;
+    private ArgumentCaptor<List<QuizResponse>> quizResponsesCaptor;
 
     @Captor
     private ArgumentCaptor<Quiz> quizCaptor;
@@ -63,6 +84,9 @@ public class QuizServiceTest {
     @Captor
     private ArgumentCaptor<QuizResult> quizResultCaptor;
 
+    @Captor
+    private ArgumentCaptor<List<ResponseGrade>> gradesCaptor;
+
     private UUID userId;
     private UUID courseId;
     private UUID semesterId;
@@ -136,7 +160,7 @@ public class QuizServiceTest {
         testLecture.setMaterialType("pdf");
         testLecture.setDisplayOrderLex("1");
         testLecture.setNote(Map.of("key", "value"));
-        testLecture.setSummary(Map.of("summaryKey", "summaryValue"));
+        testLecture.setSummary(new LectureSummary(null, "summaryValue", List.of(), List.of(), List.of()));
         testLecture.setSummaryStatus(SummaryStatus.not_started);
         testLecture.setCreatedAt(LocalDateTime.now());
         testLecture.setUpdatedAt(LocalDateTime.now());
@@ -271,7 +295,7 @@ public class QuizServiceTest {
     @DisplayName("ID로 퀴즈 조회")
     void findQuizByIdTest() {
         when(quizRepository.findById(quizId)).thenReturn(Optional.of(testQuiz));
-        when(quizItemRepository.findByQuizId(quizId)).thenReturn(testQuizItems);
+        when(quizItemRepository.findGeneratedByQuizId(quizId)).thenReturn(testQuizItems);
 
         Optional<QuizOutput> result = quizService.findQuizById(quizId);
 
@@ -279,6 +303,22 @@ public class QuizServiceTest {
         assertEquals(testQuizOutput, result.get());
         assertEquals(result.get().getQuizItems().get(0).getQuiz(), testQuiz);
         verify(quizRepository, times(1)).findById(quizId);
+        verify(quizItemRepository, times(1)).findGeneratedByQuizId(quizId);
+    }
+
+    @Test
+    @DisplayName("ID로 퀴즈 조회 - 생성 중인 퀴즈는 캐시하지 않은 문항 목록 사용")
+    void findQuizByIdTest_GenerateInProgress() {
+        testQuiz.setStatus(Status.generate_in_progress);
+        when(quizRepository.findById(quizId)).thenReturn(Optional.of(testQuiz));
+        when(quizItemRepository.findByQuizId(quizId)).thenReturn(List.of());
+
+        Optional<QuizOutput> result = quizService.findQuizById(quizId);
+
+        assertTrue(result.isPresent());
+        assertTrue(result.get().getQuizItems().isEmpty());
+        verify(quizItemRepository, times(1)).findByQuizId(quizId);
+        verify(quizItemRepository, never()).findGeneratedByQuizId(any());
     }
 
     @Test
@@ -339,11 +379,14 @@ public class QuizServiceTest {
     @Test
     @DisplayName("퀴즈 삭제")
     void deleteQuizTest() {
+        when(quizRepository.findById(quizId)).thenReturn(Optional.of(testQuiz));
         doNothing().when(quizRepository).deleteQuiz(quizId);
 
         quizService.deleteQuiz(quizId);
 
         verify(quizRepository, times(1)).deleteQuiz(quizId);
+        // 삭제된 퀴즈의 결과가 빠지도록 과목 점수 집계를 다시 계산
+        verify(courseScoreStatsRepository, times(1)).rebuild(courseId);
     }
 
     @Test
@@ -361,16 +404,7 @@ public class QuizServiceTest {
                 testQuizResponses.get(2).getQuizItem()
         );
         when(quizItemRepository.findByQuizId(quizId)).thenReturn(quizItems);
-        // Item 1: true/false
-        when(quizItemRepository.getReferenceById(quizItemId1)).thenReturn(testQuizResponses.get(0).getQuizItem());
-
-        // Item 2: multiple choice
-        when(quizItemRepository.getReferenceById(quizItemId2)).thenReturn(testQuizResponses.get(1).getQuizItem());
-
-        // Item 3: short answer
-        when(quizItemRepository.getReferenceById(quizItemId3)).thenReturn(testQuizResponses.get(2).getQuizItem());
         // 변경: updateQuiz 제거 (gradeNonEssayQuestions는 퀴즈 상태를 직접 업데이트하지 않음)
-        when(quizResponseRepository.updateQuizResponse(any(QuizResponse.class))).thenReturn(new QuizResponse());
         when(quizResultRepository.createQuizResult(any(QuizResult.class))).thenReturn(new QuizResult());
 
         // when
@@ -380,21 +414,29 @@ public class QuizServiceTest {
         verify(quizRepository, times(1)).getReferenceById(quizId);
         verify(quizResponseRepository, times(1)).findByQuizId(quizId);
         verify(quizItemRepository, times(1)).findByQuizId(quizId);
-        verify(quizItemRepository, times(3)).getReferenceById(any(UUID.class));
+        // 문제별 엔티티 재조회 없이 배점을 한 번에 반영 (OX 1점, 객관식 3점, 단답형 5점)
+        verify(quizItemRepository, never()).getReferenceById(any(UUID.class));
+        verify(quizItemRepository, times(1)).updatePoints(Map.of(quizItemId1, 1f, quizItemId2, 3f, quizItemId3, 5f));
+        // JDBC로 갱신한 배점은 모든 인스턴스의 2차 캐시에서 제거
+        verify(secondLevelCacheEvictions, times(1)).evict(QuizItem.class, Set.of(quizItemId1, quizItemId2, quizItemId3));
 
         // 변경: 퀴즈 상태 업데이트 검증 제거 (gradeNonEssayQuestions는 퀴즈 상태를 직접 업데이트하지 않음)
 
-        // Verify each response is updated with correct isCorrect flag
-        verify(quizResponseRepository, times(3)).updateQuizResponse(quizResponseCaptor.capture());
-        List<QuizResponse> capturedResponses = quizResponseCaptor.getAllValues();
+        // Verify all responses are written in a single batch with correct isCorrect flag
+        verify(quizResponseRepository, never()).updateQuizResponse(any(QuizResponse.class));
+        verify(quizResponseRepository, times(1)).updateGradingResults(gradesCaptor.capture());
+        List<ResponseGrade> capturedGrades = gradesCaptor.getValue();
 
         // All responses should be marked as correct by the service
-        for (QuizResponse response : capturedResponses) {
-            assertEquals(Boolean.TRUE, response.getIsCorrect());
+        assertEquals(3, capturedGrades.size());
+        for (ResponseGrade grade : capturedGrades) {
+            assertTrue(grade.correct());
         }
 
         // Verify quiz result is created
         verify(quizResultRepository).createQuizResult(any(QuizResult.class));
+        // 과목 점수 집계에 결과가 바로 반영됨
+        verify(courseScoreStatsRepository, times(1)).addQuizResult(courseId, 9f, 9f);
     }
 
     @Test
@@ -415,16 +457,6 @@ public class QuizServiceTest {
             testQuizResponses.get(2).getQuizItem()
         );
         when(quizItemRepository.findByQuizId(quizId)).thenReturn(quizItems);
-        // Item 1: true/false
-        when(quizItemRepository.getReferenceById(quizItemId1)).thenReturn(testQuizResponses.get(0).getQuizItem());
-
-        // Item 2: multiple choice
-        when(quizItemRepository.getReferenceById(quizItemId2)).thenReturn(testQuizResponses.get(1).getQuizItem());
-
-        // Item 3: short answer
-        when(quizItemRepository.getReferenceById(quizItemId3)).thenReturn(testQuizResponses.get(2).getQuizItem());
-
-        when(quizResponseRepository.updateQuizResponse(any(QuizResponse.class))).thenReturn(new QuizResponse());
         when(quizResultRepository.createQuizResult(any(QuizResult.class))).thenReturn(new QuizResult());
 
         // when
@@ -434,17 +466,20 @@ public class QuizServiceTest {
         verify(quizRepository, times(1)).getReferenceById(quizId);
         verify(quizResponseRepository, times(1)).findByQuizId(quizId);
         verify(quizItemRepository, times(1)).findByQuizId(quizId);
-        verify(quizItemRepository, times(3)).getReferenceById(any(UUID.class));
+        // 문제별 엔티티 재조회 없이 배점을 한 번에 반영 (OX 1점, 객관식 3점, 단답형 5점)
+        verify(quizItemRepository, never()).getReferenceById(any(UUID.class));
+        verify(quizItemRepository, times(1)).updatePoints(Map.of(quizItemId1, 1f, quizItemId2, 3f, quizItemId3, 5f));
 
         // 변경: 퀴즈 상태 업데이트 검증 제거 (gradeNonEssayQuestions는 퀴즈 상태를 직접 업데이트하지 않음)
 
-        // Verify each response is updated
-        verify(quizResponseRepository, times(3)).updateQuizResponse(quizResponseCaptor.capture());
-        List<QuizResponse> capturedResponses = quizResponseCaptor.getAllValues();
+        // Verify each response is graded in a single batch
+        verify(quizResponseRepository, times(1)).updateGradingResults(gradesCaptor.capture());
+        List<ResponseGrade> capturedGrades = gradesCaptor.getValue();
 
-        assertEquals(Boolean.FALSE, capturedResponses.get(0).getIsCorrect()); // Wrong answer - set to false
-        assertEquals(Boolean.FALSE, capturedResponses.get(1).getIsCorrect()); // Wrong answer - set to false
-        assertEquals(Boolean.TRUE, capturedResponses.get(2).getIsCorrect()); // Correct
+        assertEquals(testQuizResponses.get(0).getId(), capturedGrades.get(0).responseId());
+        assertFalse(capturedGrades.get(0).correct()); // Wrong answer - set to false
+        assertFalse(capturedGrades.get(1).correct()); // Wrong answer - set to false
+        assertTrue(capturedGrades.get(2).correct()); // Correct
 
         // Verify quiz result is created
         verify(quizResultRepository).createQuizResult(any(QuizResult.class));
@@ -454,24 +489,18 @@ public class QuizServiceTest {
     @DisplayName("퀴즈 ID로 퀴즈 결과 조회")
     void findQuizResultByQuizIdTest() {
         // given
-        when(quizResultRepository.findByQuizId(quizId)).thenReturn(Optional.of(testQuizResult));
-
-        // QuizItem과 QuizResponse 설정
+        // 결과, 문제, 풀이를 한 번에 조회한 projection 설정 (채점 완료 상태)
         QuizItem quizItem1 = testQuizResponses.get(0).getQuizItem();
         QuizItem quizItem2 = testQuizResponses.get(1).getQuizItem();
         QuizItem quizItem3 = testQuizResponses.get(2).getQuizItem();
 
-        List<QuizItem> quizItems = Arrays.asList(quizItem1, quizItem2, quizItem3);
-        when(quizItemRepository.findByQuizId(quizId)).thenReturn(quizItems);
-
-        // 각 QuizItem에 대한 QuizResponse 설정
-        when(quizResponseRepository.findByQuizItemId(quizItem1.getId())).thenReturn(Optional.of(testQuizResponses.get(0)));
-        when(quizResponseRepository.findByQuizItemId(quizItem2.getId())).thenReturn(Optional.of(testQuizResponses.get(1)));
-        when(quizResponseRepository.findByQuizItemId(quizItem3.getId())).thenReturn(Optional.of(testQuizResponses.get(2)));
-
-        when(quizItemRepository.getReferenceById(quizItem1.getId())).thenReturn(quizItem1);
-        when(quizItemRepository.getReferenceById(quizItem2.getId())).thenReturn(quizItem2);
-        when(quizItemRepository.getReferenceById(quizItem3.getId())).thenReturn(quizItem3);
+        List<QuizResultElement> elements = Arrays.asList(
+                QuizResultElement.fromQuizItemAndResponse(quizItem1, testQuizResponses.get(0)),
+                QuizResultElement.fromQuizItemAndResponse(quizItem2, testQuizResponses.get(1)),
+                QuizResultElement.fromQuizItemAndResponse(quizItem3, testQuizResponses.get(2))
+        );
+        when(quizResultRepository.findDetailByQuizId(quizId))
+                .thenReturn(Optional.of(new QuizResultDetail(testQuizResult, Status.graded, elements)));
 
         // when
         Optional<QuizResultOutput> result = quizService.findQuizResultByQuizId(quizId);
@@ -523,10 +552,14 @@ public class QuizServiceTest {
         assertEquals(quizItem3.getTextAnswer(), element3.getTextAnswer());
         assertEquals(testQuizResponses.get(2).getTextAnswer(), element3.getTextAnswerOfUser());
 
-        verify(quizResultRepository, times(1)).findByQuizId(quizId);
-        verify(quizItemRepository, times(1)).findByQuizId(quizId);
-        verify(quizResponseRepository, times(3)).findByQuizItemId(any(UUID.class));
-        verify(quizItemRepository, times(3)).getReferenceById(any(UUID.class));
+        verify(quizResultRepository, times(1)).findDetailByQuizId(quizId);
+        verify(quizResponseRepository, never()).findByQuizItemId(any(UUID.class));
+        verify(quizItemRepository, never()).getReferenceById(any(UUID.class));
+
+        // 채점이 끝난 결과는 두 번째 조회부터 캐시에서 반환
+        Optional<QuizResultOutput> cachedResult = quizService.findQuizResultByQuizId(quizId);
+        assertEquals(result, cachedResult);
+        verify(quizResultRepository, times(1)).findDetailByQuizId(quizId);
     }
 
     @Test
@@ -534,64 +567,38 @@ public class QuizServiceTest {
     void findQuizResultByQuizIdTest_NotFound() {
         // given
         UUID nonExistentQuizId = UUID.randomUUID();
-        when(quizResultRepository.findByQuizId(nonExistentQuizId)).thenReturn(Optional.empty());
+        when(quizResultRepository.findDetailByQuizId(nonExistentQuizId)).thenReturn(Optional.empty());
 
         // when
         Optional<QuizResultOutput> result = quizService.findQuizResultByQuizId(nonExistentQuizId);
 
         // then
         assertFalse(result.isPresent());
-        verify(quizResultRepository, times(1)).findByQuizId(nonExistentQuizId);
+        verify(quizResultRepository, times(1)).findDetailByQuizId(nonExistentQuizId);
     }
 
     @Test
-    @DisplayName("퀴즈 ID로 퀴즈 결과 조회 - QuizResponse가 없는 QuizItem이 있는 경우")
-    void findQuizResultByQuizIdTest_WithMissingQuizResponse() {
+    @DisplayName("퀴즈 ID로 퀴즈 결과 조회 - 서술형 채점 전(partially_graded) 결과는 캐싱하지 않음")
+    void findQuizResultByQuizIdTest_PartiallyGradedIsNotCached() {
         // given
-        when(quizResultRepository.findByQuizId(quizId)).thenReturn(Optional.of(testQuizResult));
-
-        // QuizItem 설정 (답변이 없는 문제 포함)
-        QuizItem quizItem1 = testQuizResponses.get(0).getQuizItem();
-        QuizItem quizItem2 = testQuizResponses.get(1).getQuizItem();
-        QuizItem itemWithoutResponse = new QuizItem();
-        itemWithoutResponse.setId(UUID.randomUUID());
-        itemWithoutResponse.setQuiz(testQuiz);
-        itemWithoutResponse.setQuestionType(QuestionType.true_or_false);
-        itemWithoutResponse.setQuestion("답변이 없는 문제");
-
-        List<QuizItem> quizItems = Arrays.asList(quizItem1, quizItem2, itemWithoutResponse);
-        when(quizItemRepository.findByQuizId(quizId)).thenReturn(quizItems);
-
-        // 첫 번째와 두 번째 QuizItem에만 QuizResponse 존재
-        when(quizResponseRepository.findByQuizItemId(quizItem1.getId())).thenReturn(Optional.of(testQuizResponses.get(0)));
-        when(quizResponseRepository.findByQuizItemId(quizItem2.getId())).thenReturn(Optional.of(testQuizResponses.get(1)));
-        when(quizResponseRepository.findByQuizItemId(itemWithoutResponse.getId())).thenReturn(Optional.empty());
-
-        when(quizItemRepository.getReferenceById(quizItem1.getId())).thenReturn(quizItem1);
-        when(quizItemRepository.getReferenceById(quizItem2.getId())).thenReturn(quizItem2);
+        List<QuizResultElement> elements = Arrays.asList(
+                QuizResultElement.fromQuizItemAndResponse(testQuizResponses.get(0).getQuizItem(), testQuizResponses.get(0)),
+                QuizResultElement.fromQuizItemAndResponse(testQuizResponses.get(1).getQuizItem(), testQuizResponses.get(1))
+        );
+        when(quizResultRepository.findDetailByQuizId(quizId))
+                .thenReturn(Optional.of(new QuizResultDetail(testQuizResult, Status.partially_graded, elements)));
 
         // when
-        Optional<QuizResultOutput> result = quizService.findQuizResultByQuizId(quizId);
+        Optional<QuizResultOutput> first = quizService.findQuizResultByQuizId(quizId);
+        Optional<QuizResultOutput> second = quizService.findQuizResultByQuizId(quizId);
 
         // then
-        assertTrue(result.isPresent());
-
-        // QuizResultElements 검증 - 답변이 있는 2개의 문제만 포함되어야 함
-        assertNotNull(result.get().getQuizResultElements());
-        assertEquals(2, result.get().getQuizResultElements().size());
-
-        // 답변이 있는 문제들의 ID 확인
-        List<UUID> resultItemIds = result.get().getQuizResultElements().stream()
-                .map(QuizResultElement::getQuizItemId)
-                .toList();
-        assertTrue(resultItemIds.contains(quizItem1.getId()));
-        assertTrue(resultItemIds.contains(quizItem2.getId()));
-        assertFalse(resultItemIds.contains(itemWithoutResponse.getId()));
+        assertTrue(first.isPresent());
+        assertTrue(second.isPresent());
+        assertEquals(2, first.get().getQuizResultElements().size());
 
-        verify(quizResultRepository, times(1)).findByQuizId(quizId);
-        verify(quizItemRepository, times(1)).findByQuizId(quizId);
-        verify(quizResponseRepository, times(3)).findByQuizItemId(any(UUID.class));
-        verify(quizItemRepository, times(2)).getReferenceById(any(UUID.class)); // 답변이 있는 2개만
+        // 서술형 채점 결과가 아직 반영되지 않았으므로 매번 DB에서 조회
+        verify(quizResultRepository, times(2)).findDetailByQuizId(quizId);
     }
 
     @Test
@@ -636,23 +643,18 @@ public class QuizServiceTest {
                 essayItem
         );
 
-        when(quizResultRepository.findByQuizId(quizId)).thenReturn(Optional.of(testQuizResult));
-        when(quizItemRepository.findByQuizId(quizId)).thenReturn(allItems);
-
-        // 각 QuizItem에 대한 QuizResponse 반환 설정
-        when(quizResponseRepository.findByQuizItemId(testQuizResponses.get(0).getQuizItem().getId()))
-                .thenReturn(Optional.of(testQuizResponses.get(0)));
-        when(quizResponseRepository.findByQuizItemId(testQuizResponses.get(1).getQuizItem().getId()))
-                .thenReturn(Optional.of(testQuizResponses.get(1)));
-        when(quizResponseRepository.findByQuizItemId(testQuizResponses.get(2).getQuizItem().getId()))
-                .thenReturn(Optional.of(testQuizResponses.get(2)));
-        when(quizResponseRepository.findByQuizItemId(essayQuizItemId))
-                .thenReturn(Optional.of(essayResponse));
-
-        when(quizItemRepository.getReferenceById(any(UUID.class))).thenAnswer(invocation -> {
-            UUID id = invocation.getArgument(0);
-            return allItems.stream().filter(item -> item.getId().equals(id)).findFirst().orElse(null);
-        });
+        List<QuizResponse> allResponses = Arrays.asList(
+                testQuizResponses.get(0),
+                testQuizResponses.get(1),
+                testQuizResponses.get(2),
+                essayResponse
+        );
+        List<QuizResultElement> elements = new ArrayList<>();
+        for (int i = 0; i < allItems.size(); i++) {
+            elements.add(QuizResultElement.fromQuizItemAndResponse(allItems.get(i), allResponses.get(i)));
+        }
+        when(quizResultRepository.findDetailByQuizId(quizId))
+                .thenReturn(Optional.of(new QuizResultDetail(testQuizResult, Status.graded, elements)));
 
         // when
         Optional<QuizResultOutput> result = quizService.findQuizResultByQuizId(quizId);
@@ -680,9 +682,7 @@ public class QuizServiceTest {
         assertEquals(5.0, firstCriterion.getMaxPoints());
         assertEquals(4.0, firstCriterion.getEarnedPoints());
 
-        verify(quizResultRepository, times(1)).findByQuizId(quizId);
-        verify(quizItemRepository, times(1)).findByQuizId(quizId);
-        verify(quizResponseRepository, times(4)).findByQuizItemId(any(UUID.class));
+        verify(quizResultRepository, times(1)).findDetailByQuizId(quizId);
     }
 
     @Test
@@ -729,13 +729,15 @@ public class QuizServiceTest {
         when(quizItemRepository.getReferenceById(quizItemId3)).thenReturn(item3);
         
         // QuizResponse 생성 반환 설정
-        when(quizResponseRepository.createQuizResponse(any(QuizResponse.class)))
+        when(quizResponseRepository.createQuizResponses(anyList()))
             .thenAnswer(invocation -> {
-                QuizResponse response = invocation.getArgument(0);
-                response.setId(UUID.randomUUID());
-                response.setCreatedAt(LocalDateTime.now());
-                response.setUpdatedAt(LocalDateTime.now());
-                return response;
+                List<QuizResponse> responses = invocation.getArgument(0);
+                for (QuizResponse response : responses) {
+                    response.setId(UUID.randomUUID());
+                    response.setCreatedAt(LocalDateTime.now());
+                    response.setUpdatedAt(LocalDateTime.now());
+                }
+                return responses;
             });
         
         // 서술형 문제 없음
@@ -745,7 +747,6 @@ public class QuizServiceTest {
         // gradeNonEssayQuestions 메서드를 위한 설정
         when(quizResponseRepository.findByQuizId(quizId)).thenReturn(testQuizResponses);
         when(quizItemRepository.findByQuizId(quizId)).thenReturn(Arrays.asList(item1, item2, item3));
-        when(quizResponseRepository.updateQuizResponse(any(QuizResponse.class))).thenReturn(new QuizResponse());
         when(quizResultRepository.createQuizResult(any(QuizResult.class))).thenReturn(new QuizResult());
         when(quizRepository.updateQuiz(any(Quiz.class))).thenReturn(testQuiz);
         when(quizRepository.findById(quizId)).thenReturn(Optional.of(testQuiz));
@@ -758,7 +759,7 @@ public class QuizServiceTest {
         assertEquals(3, result.getQuizResponseOutputs().size());
         
         // QuizResponse 생성 검증
-        verify(quizResponseRepository, times(3)).createQuizResponse(any(QuizResponse.class));
+        verify(quizResponseRepository, times(1)).createQuizResponses(argThat(responses -> responses.size() == 3));
         
         // 서술형 문제 확인
         verify(quizItemRepository).existsByQuizIdAndQuestionTypeAndDeletedAtIsNull(quizId, QuestionType.essay);
@@ -772,7 +773,7 @@ public class QuizServiceTest {
         assertEquals(Status.graded, quizCaptor.getValue().getStatus());
         
         // SQS 메시지 전송되지 않았는지 확인
-        verify(sqsClient, never()).sendGradeQuizEssayMessage(any());
+        verify(sqsOutbox, never()).enqueueGradeQuizEssayMessage(any());
     }
 
     @Test
@@ -814,13 +815,15 @@ public class QuizServiceTest {
         when(quizItemRepository.getReferenceById(essayItemId)).thenReturn(essayItem);
         
         // QuizResponse 생성 반환 설정
-        when(quizResponseRepository.createQuizResponse(any(QuizResponse.class)))
+        when(quizResponseRepository.createQuizResponses(anyList()))
             .thenAnswer(invocation -> {
-                QuizResponse response = invocation.getArgument(0);
-                response.setId(UUID.randomUUID());
-                response.setCreatedAt(LocalDateTime.now());
-                response.setUpdatedAt(LocalDateTime.now());
-                return response;
+                List<QuizResponse> responses = invocation.getArgument(0);
+                for (QuizResponse response : responses) {
+                    response.setId(UUID.randomUUID());
+                    response.setCreatedAt(LocalDateTime.now());
+                    response.setUpdatedAt(LocalDateTime.now());
+                }
+                return responses;
             });
         
         // 서술형 문제 있음
@@ -844,7 +847,6 @@ public class QuizServiceTest {
         when(quizItemRepository.findByQuizId(quizId)).thenReturn(Arrays.asList(item1, essayItem));
         when(quizItemRepository.getReferenceById(item1.getId())).thenReturn(item1);
         when(quizItemRepository.getReferenceById(essayItem.getId())).thenReturn(essayItem);
-        when(quizResponseRepository.updateQuizResponse(any(QuizResponse.class))).thenReturn(new QuizResponse());
         when(quizResultRepository.createQuizResult(any(QuizResult.class))).thenReturn(new QuizResult());
         when(quizRepository.updateQuiz(any(Quiz.class))).thenReturn(testQuiz);
         when(quizRepository.findById(quizId)).thenReturn(Optional.of(testQuiz));
@@ -857,7 +859,7 @@ public class QuizServiceTest {
         assertEquals(2, result.getQuizResponseOutputs().size());
         
         // QuizResponse 생성 검증
-        verify(quizResponseRepository, times(2)).createQuizResponse(any(QuizResponse.class));
+        verify(quizResponseRepository, times(1)).createQuizResponses(argThat(responses -> responses.size() == 2));
         
         // 서술형 문제 확인
         verify(quizItemRepository).existsByQuizIdAndQuestionTypeAndDeletedAtIsNull(quizId, QuestionType.essay);
@@ -867,7 +869,7 @@ public class QuizServiceTest {
         assertEquals(Status.partially_graded, quizCaptor.getValue().getStatus());
         
         // SQS 메시지 전송 확인
-        verify(sqsClient).sendGradeQuizEssayMessage(any(GradeQuizEssayMessage.class));
+        verify(sqsOutbox).enqueueGradeQuizEssayMessage(any(GradeQuizEssayMessage.class));
     }
 
     @Test
@@ -913,13 +915,15 @@ public class QuizServiceTest {
         when(quizItemRepository.getReferenceById(quizItemId3)).thenReturn(item3);
         
         // QuizResponse 생성 반환 설정
-        when(quizResponseRepository.createQuizResponse(any(QuizResponse.class)))
+        when(quizResponseRepository.createQuizResponses(anyList()))
             .thenAnswer(invocation -> {
-                QuizResponse response = invocation.getArgument(0);
-                response.setId(UUID.randomUUID());
-                response.setCreatedAt(LocalDateTime.now());
-                response.setUpdatedAt(LocalDateTime.now());
-                return response;
+                List<QuizResponse> responses = invocation.getArgument(0);
+                for (QuizResponse response : responses) {
+                    response.setId(UUID.randomUUID());
+                    response.setCreatedAt(LocalDateTime.now());
+                    response.setUpdatedAt(LocalDateTime.now());
+                }
+                return responses;
             });
         
         // 서술형 문제 없음
@@ -948,7 +952,6 @@ public class QuizServiceTest {
         
         when(quizResponseRepository.findByQuizId(quizId)).thenReturn(nullResponses);
         when(quizItemRepository.findByQuizId(quizId)).thenReturn(Arrays.asList(item1, item2, item3));
-        when(quizResponseRepository.updateQuizResponse(any(QuizResponse.class))).thenReturn(new QuizResponse());
         when(quizResultRepository.createQuizResult(any(QuizResult.class))).thenReturn(new QuizResult());
         when(quizRepository.updateQuiz(any(Quiz.class))).thenReturn(testQuiz);
         when(quizRepository.findById(quizId)).thenReturn(Optional.of(testQuiz));
@@ -961,8 +964,9 @@ public class QuizServiceTest {
         assertEquals(3, result.getQuizResponseOutputs().size());
         
         // QuizResponse 생성 시 null 값은 set되지 않음을 확인
-        verify(quizResponseRepository, times(3)).createQuizResponse(quizResponseCaptor.capture());
-        List<QuizResponse> capturedResponses = quizResponseCaptor.getAllValues();
+        verify(quizResponseRepository, times(1)).createQuizResponses(quizResponsesCaptor.capture());
+        List<QuizResponse> capturedResponses = quizResponsesCaptor.getValue();
+        assertEquals(3, capturedResponses.size());
         
         // null 값들이 set되지 않았는지 확인 (기본값 또는 null 상태 유지)
         for (QuizResponse response : capturedResponses) {
@@ -995,7 +999,7 @@ public class QuizServiceTest {
         when(quizItemRepository.getReferenceById(quizItemId1)).thenReturn(testQuizResponses.get(0).getQuizItem());
         
         // QuizResponse 생성 실패 시뮬레이션
-        when(quizResponseRepository.createQuizResponse(any(QuizResponse.class))).thenReturn(null);
+        when(quizResponseRepository.createQuizResponses(anyList())).thenReturn(null);
 
         // when & then
         RuntimeException exception = assertThrows(RuntimeException.class, 
@@ -1007,7 +1011,7 @@ public class QuizServiceTest {
         verify(quizResponseRepository, never()).findByQuizId(any());
         verify(quizResultRepository, never()).createQuizResult(any());
         verify(quizRepository, never()).updateQuiz(any());
-        verify(sqsClient, never()).sendGradeQuizEssayMessage(any());
+        verify(sqsOutbox, never()).enqueueGradeQuizEssayMessage(any());
     }
 
     @Test
@@ -1063,13 +1067,15 @@ public class QuizServiceTest {
         when(quizItemRepository.getReferenceById(quizItemId3)).thenReturn(item3);
         when(quizRepository.findById(quizId)).thenReturn(Optional.of(testQuiz));
         
-        when(quizResponseRepository.createQuizResponse(any(QuizResponse.class)))
+        when(quizResponseRepository.createQuizResponses(anyList()))
             .thenAnswer(invocation -> {
-                QuizResponse response = invocation.getArgument(0);
-                response.setId(UUID.randomUUID());
-                response.setCreatedAt(LocalDateTime.now());
-                response.setUpdatedAt(LocalDateTime.now());
-                return response;
+                List<QuizResponse> responses = invocation.getArgument(0);
+                for (QuizResponse response : responses) {
+                    response.setId(UUID.randomUUID());
+                    response.setCreatedAt(LocalDateTime.now());
+                    response.setUpdatedAt(LocalDateTime.now());
+                }
+                return responses;
             });
         
         when(quizItemRepository.existsByQuizIdAndQuestionTypeAndDeletedAtIsNull(quizId, QuestionType.essay))
@@ -1097,7 +1103,6 @@ public class QuizServiceTest {
         
         when(quizResponseRepository.findByQuizId(quizId)).thenReturn(mixedResponses);
         when(quizItemRepository.findByQuizId(quizId)).thenReturn(Arrays.asList(item1, item2, item3));
-        when(quizResponseRepository.updateQuizResponse(any(QuizResponse.class))).thenReturn(new QuizResponse());
         when(quizResultRepository.createQuizResult(any(QuizResult.class))).thenReturn(new QuizResult());
         when(quizRepository.updateQuiz(any(Quiz.class))).thenReturn(testQuiz);
 
@@ -1121,62 +1126,81 @@ public class QuizServiceTest {
     @DisplayName("강의별 좋아요한 퀴즈 문제 조회 - 좋아요한 문제가 있는 경우")
     void findLikedQuizItemByLectureId_WithLikedItems() {
         // given
-        when(quizRepository.findByLectureId(lectureId)).thenReturn(Arrays.asList(testQuiz, anotherQuiz));
-        when(quizItemRepository.findByQuizId(quizId)).thenReturn(Arrays.asList(likedQuizItem1, notLikedQuizItem));
-        when(quizItemRepository.findByQuizId(anotherQuizId)).thenReturn(Arrays.asList(likedQuizItem2));
+        when(quizItemRepository.findLikedByLectureIdWithCursor(lectureId, null, 20))
+                .thenReturn(new ArrayList<>(List.of(
+                        QuizItemOutput.fromEntity(likedQuizItem1), QuizItemOutput.fromEntity(likedQuizItem2))));
 
         // when
-        QuizItemListOutput result = quizService.findLikedQuizItemByLectureId(lectureId);
+        LikedQuizItemListOutput result = quizService.findLikedQuizItemByLectureId(lectureId, null, 20);
 
         // then
         assertEquals(2, result.getQuizItems().size());
-        
+        assertFalse(result.isHasMore());
+        assertNull(result.getNextCursor());
+
         QuizItemOutput firstLikedItem = result.getQuizItems().get(0);
         assertEquals(likedQuizItemId1, firstLikedItem.getId());
+        assertEquals(quizId, firstLikedItem.getQuizId());
         assertEquals("What is inheritance?", firstLikedItem.getQuestion());
         assertEquals(QuestionType.short_answer, firstLikedItem.getQuestionType());
         assertEquals(Boolean.TRUE, firstLikedItem.getIsLiked());
 
         QuizItemOutput secondLikedItem = result.getQuizItems().get(1);
         assertEquals(likedQuizItemId2, secondLikedItem.getId());
+        assertEquals(anotherQuizId, secondLikedItem.getQuizId());
         assertEquals("Is Java object-oriented?", secondLikedItem.getQuestion());
         assertEquals(QuestionType.true_or_false, secondLikedItem.getQuestionType());
         assertEquals(Boolean.TRUE, secondLikedItem.getIsLiked());
 
-        verify(quizRepository, times(1)).findByLectureId(lectureId);
-        verify(quizItemRepository, times(1)).findByQuizId(quizId);
-        verify(quizItemRepository, times(1)).findByQuizId(anotherQuizId);
+        // 퀴즈별로 문항을 불러오지 않고 조인 쿼리 한 번으로 조회
+        verify(quizItemRepository, times(1)).findLikedByLectureIdWithCursor(lectureId, null, 20);
+        verify(quizRepository, never()).findByLectureId(any(UUID.class));
+        verify(quizItemRepository, never()).findByQuizId(any(UUID.class));
     }
 
     @Test
-    @DisplayName("강의별 좋아요한 퀴즈 문제 조회 - 퀴즈가 없는 경우")
-    void findLikedQuizItemByLectureId_NoQuizzes() {
+    @DisplayName("강의별 좋아요한 퀴즈 문제 조회 - 다음 페이지가 있는 경우")
+    void findLikedQuizItemByLectureId_HasMore() {
         // given
-        when(quizRepository.findByLectureId(lectureId)).thenReturn(Arrays.asList());
+        String cursor = new MessageCursor(LocalDateTime.of(2025, 3, 1, 12, 0), UUID.randomUUID()).encode();
+        LocalDateTime likedAt = LocalDateTime.of(2025, 3, 1, 11, 0, 0, 123_456_000);
+        likedQuizItem1.setCreatedAt(likedAt);
+        when(quizItemRepository.findLikedByLectureIdWithCursor(lectureId, MessageCursor.decode(cursor), 1))
+                .thenReturn(new ArrayList<>(List.of(
+                        QuizItemOutput.fromEntity(likedQuizItem1), QuizItemOutput.fromEntity(likedQuizItem2))));
 
         // when
-        QuizItemListOutput result = quizService.findLikedQuizItemByLectureId(lectureId);
+        LikedQuizItemListOutput result = quizService.findLikedQuizItemByLectureId(lectureId, cursor, 1);
 
         // then
-        assertEquals(0, result.getQuizItems().size());
-        verify(quizRepository, times(1)).findByLectureId(lectureId);
-        verify(quizItemRepository, never()).findByQuizId(any(UUID.class));
+        assertEquals(1, result.getQuizItems().size());
+        assertEquals(likedQuizItemId1, result.getQuizItems().get(0).getId());
+        assertTrue(result.isHasMore());
+        assertEquals(new MessageCursor(likedAt, likedQuizItemId1).encode(), result.getNextCursor());
     }
 
     @Test
     @DisplayName("강의별 좋아요한 퀴즈 문제 조회 - 좋아요한 문제가 없는 경우")
     void findLikedQuizItemByLectureId_NoLikedItems() {
         // given
-        when(quizRepository.findByLectureId(lectureId)).thenReturn(Arrays.asList(testQuiz));
-        when(quizItemRepository.findByQuizId(quizId)).thenReturn(Arrays.asList(notLikedQuizItem));
+        when(quizItemRepository.findLikedByLectureIdWithCursor(lectureId, null, 20)).thenReturn(new ArrayList<>());
 
         // when
-        QuizItemListOutput result = quizService.findLikedQuizItemByLectureId(lectureId);
+        LikedQuizItemListOutput result = quizService.findLikedQuizItemByLectureId(lectureId, null, 20);
 
         // then
         assertEquals(0, result.getQuizItems().size());
-        verify(quizRepository, times(1)).findByLectureId(lectureId);
-        verify(quizItemRepository, times(1)).findByQuizId(quizId);
+        assertFalse(result.isHasMore());
+        assertNull(result.getNextCursor());
+    }
+
+    @Test
+    @DisplayName("강의별 좋아요한 퀴즈 문제 조회 - 잘못된 cursor")
+    void findLikedQuizItemByLectureId_InvalidCursor() {
+        // when, then
+        assertThrows(BadRequestException.class,
+                () -> quizService.findLikedQuizItemByLectureId(lectureId, "not-a-cursor", 20));
+        verify(quizItemRepository, never()).findLikedByLectureIdWithCursor(any(), any(), anyInt());
     }
 
     @Test
@@ -1215,6 +1239,7 @@ public class QuizServiceTest {
         verify(quizItemRepository, times(1)).findById(quizItemId4);
         verify(quizItemRepository, times(1)).updateQuizItem(argThat(item -> 
                 item.getId().equals(quizItemId4) && Boolean.TRUE.equals(item.getIsLiked())));
+        verify(secondLevelCacheEvictions, times(1)).evict(QuizItem.class, List.of(quizItemId4));
     }
 
     @Test
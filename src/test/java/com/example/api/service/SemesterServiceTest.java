@@ -6,6 +6,8 @@ import com.example.api.entity.User;
 import com.example.api.entity.enums.Season;
 import com.example.api.repository.SemesterRepository;
 import com.example.api.repository.UserRepository;
+import com.example.api.security.ownership.OwnedResource;
+import com.example.api.security.ownership.OwnershipIndex;
 import com.example.api.service.dto.semester.*;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -36,6 +38,9 @@ class SemesterServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private OwnershipIndex ownershipIndex;
+
     @InjectMocks
     private SemesterServiceImpl semesterService;
 
@@ -136,6 +141,7 @@ class SemesterServiceTest {
         assertEquals(userId, createdSemester.getUserId());
         verify(userRepository).getReferenceById(userId);
         verify(semesterRepository).createSemester(any(Semester.class));
+        verify(ownershipIndex).register(OwnedResource.semester, semesterId, userId);
     }
 
     @Test
@@ -285,5 +291,6 @@ class SemesterServiceTest {
 
         // Then
         verify(semesterRepository).deleteSemester(semesterId);
+        verify(ownershipIndex).evict(OwnedResource.semester, semesterId);
     }
 }